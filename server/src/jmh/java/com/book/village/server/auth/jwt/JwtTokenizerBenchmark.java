@@ -0,0 +1,49 @@
+package com.book.village.server.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 JwtVerificationFilter 에서 검증, 로그인/재발급 시 발급
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenizerBenchmark {
+    private JwtTokenizer jwtTokenizer;
+    private String base64EncodedSecretKey;
+    private Map<String, Object> claims;
+    private Date expiration;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenizer = new JwtTokenizer();
+        base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey("book-village-benchmark-secret-key-0123456789");
+        claims = Map.of("username", "bookvillage@gmail.com", "roles", List.of("USER"));
+        expiration = jwtTokenizer.getTokenExpiration(30);
+        accessToken = jwtTokenizer.generateAccessToken(claims, "bookvillage@gmail.com", expiration, base64EncodedSecretKey);
+    }
+
+    @Benchmark
+    public String issueAccessToken() {
+        return jwtTokenizer.generateAccessToken(claims, "bookvillage@gmail.com", expiration, base64EncodedSecretKey);
+    }
+
+    @Benchmark
+    public String issueRefreshToken() {
+        return jwtTokenizer.generateRefreshToken("bookvillage@gmail.com", expiration, base64EncodedSecretKey);
+    }
+
+    @Benchmark
+    public Jws<Claims> verifyAccessToken() {
+        return jwtTokenizer.getClaims(accessToken, base64EncodedSecretKey);
+    }
+}
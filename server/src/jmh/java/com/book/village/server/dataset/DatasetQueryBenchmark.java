@@ -0,0 +1,87 @@
+package com.book.village.server.dataset;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+// DatasetGenerator 로 만든 H2 데이터에서 검색, 랭킹, 페이지 조회 SQL (JPA 가 만드는 것과 같은 형태) 을 잰다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DatasetQueryBenchmark {
+    @Param({"0.005"})
+    private double scale;
+
+    private HikariDataSource dataSource;
+    private Connection connection;
+    private PreparedStatement searchByTitle;
+    private PreparedStatement countByTitle;
+    private PreparedStatement page;
+    private PreparedStatement rankByBookTitle;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = new HikariDataSource();
+        // 같은 쿼리의 이전 결과를 그대로 돌려주지 않도록 H2 의 결과 재사용을 끈다.
+        dataSource.setJdbcUrl("jdbc:h2:mem:dataset-benchmark;OPTIMIZE_REUSE_RESULTS=FALSE");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        new DatasetGenerator(dataSource, DatasetSpec.scaled(scale), 42L).generate().print();
+
+        connection = dataSource.getConnection();
+        searchByTitle = connection.prepareStatement(
+                "select borrow_id, title, book_title, display_name, view from borrow where title like ? order by borrow_id desc limit 10 offset ?");
+        countByTitle = connection.prepareStatement("select count(borrow_id) from borrow where title like ?");
+        page = connection.prepareStatement(
+                "select borrow_id, title, book_title, display_name, view from borrow order by borrow_id desc limit 10 offset ?");
+        rankByBookTitle = connection.prepareStatement(
+                "select book_title, author, publisher, count(book_title) from borrow group by book_title, author, publisher order by count(book_title) desc limit 5");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public long searchBorrowsByTitle() throws SQLException {
+        searchByTitle.setString(1, "%정원%");
+        searchByTitle.setInt(2, 20);
+        countByTitle.setString(1, "%정원%");
+        return consume(searchByTitle) + consume(countByTitle);
+    }
+
+    @Benchmark
+    public long firstPage() throws SQLException {
+        page.setInt(1, 0);
+        return consume(page);
+    }
+
+    @Benchmark
+    public long deepPage() throws SQLException {
+        page.setInt(1, 5_000);
+        return consume(page);
+    }
+
+    @Benchmark
+    public long borrowRank() throws SQLException {
+        return consume(rankByBookTitle);
+    }
+
+    private static long consume(PreparedStatement statement) throws SQLException {
+        long rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) rows += resultSet.getLong(resultSet.getMetaData().getColumnCount());
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,68 @@
+package com.book.village.server.domain.borrow.mapper;
+
+import com.book.village.server.domain.borrow.dto.BorrowDto;
+import com.book.village.server.domain.borrow.entity.Borrow;
+import com.book.village.server.domain.borrowcomment.entity.BorrowComment;
+import com.book.village.server.domain.member.entity.Member;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 손으로 작성한 default 매퍼 메서드 (상세 조회 1건, 목록 조회 1페이지)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BorrowMapperBenchmark {
+    @Param({"0", "10"})
+    private int comments;
+
+    private final BorrowMapper borrowMapper = new BorrowMapperImpl();
+    private Borrow borrow;
+    private List<Borrow> page;
+
+    @Setup
+    public void setUp() {
+        Member member = new Member("bookvillage@gmail.com");
+        member.setDisplayName("책마을");
+        borrow = borrow(1L, member, comments);
+        page = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) page.add(borrow(i, member, comments));
+    }
+
+    @Benchmark
+    public BorrowDto.Response borrowToBorrowDtoResponse() {
+        return borrowMapper.borrowToBorrowDtoResponse(borrow);
+    }
+
+    @Benchmark
+    public List<BorrowDto.Response> borrowsToBorrowResponseDtos() {
+        return borrowMapper.borrowsToBorrowResponseDtos(page);
+    }
+
+    public static Borrow borrow(long id, Member member, int comments) {
+        Borrow borrow = new Borrow();
+        borrow.setBorrowId(id);
+        borrow.setTitle("아몬드 나눔합니다");
+        borrow.setContent("상태 좋은 책입니다. 직거래 원해요.");
+        borrow.setBookTitle("아몬드");
+        borrow.setAuthor("손원평");
+        borrow.setPublisher("창비");
+        borrow.setTalkUrl("https://open.kakao.com/o/bookvillage");
+        borrow.setMember(member);
+        for (long i = 1; i <= comments; i++) {
+            BorrowComment comment = new BorrowComment();
+            comment.setBorrowCommentId(id * 100 + i);
+            comment.setContent("저 받고 싶어요!");
+            comment.setDisplayName(member.getDisplayName());
+            comment.setBorrow(borrow);
+            comment.setMember(member);
+            borrow.getBorrowComments().add(comment);
+        }
+        return borrow;
+    }
+}
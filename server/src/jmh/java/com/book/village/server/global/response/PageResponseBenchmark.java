@@ -0,0 +1,61 @@
+package com.book.village.server.global.response;
+
+import com.book.village.server.domain.borrow.dto.BorrowDto;
+import com.book.village.server.domain.borrow.mapper.BorrowMapper;
+import com.book.village.server.domain.borrow.mapper.BorrowMapperBenchmark;
+import com.book.village.server.domain.borrow.mapper.BorrowMapperImpl;
+import com.book.village.server.domain.borrow.entity.Borrow;
+import com.book.village.server.domain.member.entity.Member;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 API 응답 (PageInfo 생성 + PageResponseDto 직렬화)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageResponseBenchmark {
+    @Param({"10", "50"})
+    private int size;
+
+    // 스프링 MVC 의 메시지 컨버터와 같은 설정
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private PageRequest pageRequest;
+    private PageResponseDto<BorrowDto.Response> pageResponse;
+
+    @Setup
+    public void setUp() {
+        Member member = new Member("bookvillage@gmail.com");
+        member.setDisplayName("책마을");
+        BorrowMapper borrowMapper = new BorrowMapperImpl();
+        List<Borrow> borrows = new ArrayList<>();
+        for (long i = 1; i <= size; i++) borrows.add(BorrowMapperBenchmark.borrow(i, member, 0));
+        List<BorrowDto.Response> responses = borrowMapper.borrowsToBorrowResponseDtos(borrows);
+        responses.forEach(response -> {
+            response.setCreatedAt(LocalDateTime.of(2023, 1, 1, 12, 0));
+            response.setModifiedAt(LocalDateTime.of(2023, 1, 2, 12, 0));
+        });
+        pageRequest = PageRequest.of(3, size);
+        pageResponse = new PageResponseDto<>(responses, new PageInfo(pageRequest, 12_345L));
+    }
+
+    @Benchmark
+    public PageInfo pageInfo() {
+        return new PageInfo(pageRequest, 12_345L);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pageResponse);
+    }
+}
@@ -0,0 +1,50 @@
+package com.book.village.server.global.utils;
+
+import com.book.village.server.domain.book.entity.Book;
+import com.book.village.server.domain.member.entity.Member;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// PATCH 요청마다 BeanWrapper 로 null 이 아닌 필드를 복사한다.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomBeanUtilsBenchmark {
+    private final CustomBeanUtils<Book> bookBeanUtils = new CustomBeanUtils<>();
+    private final CustomBeanUtils<Member> memberBeanUtils = new CustomBeanUtils<>();
+    private Book patchBook;
+    private Member patchMember;
+
+    @Setup
+    public void setUp() {
+        patchBook = new Book();
+        patchBook.setBookTitle("아몬드");
+        patchBook.setAuthor("손원평");
+        patchBook.setThumbnail(null);
+
+        patchMember = new Member();
+        patchMember.setDisplayName("책마을");
+        patchMember.setAddress("서울특별시 마포구");
+        patchMember.setImgUrl(null);
+        patchMember.setMemberStatus(null);
+    }
+
+    @Benchmark
+    public Book copyBook() {
+        Book book = new Book();
+        book.setBookId(1L);
+        book.setIsbn("9788936434595");
+        return bookBeanUtils.copyNonNullProperties(patchBook, book);
+    }
+
+    @Benchmark
+    public Member copyMember() {
+        Member member = new Member("bookvillage@gmail.com");
+        member.setMemberId(1L);
+        return memberBeanUtils.copyNonNullProperties(patchMember, member);
+    }
+}
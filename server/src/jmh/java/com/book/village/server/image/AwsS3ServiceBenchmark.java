@@ -0,0 +1,173 @@
+package com.book.village.server.image;
+
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.book.village.server.config.ImageUploadConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 요청 하나에 이미지 여러 장을 올릴 때의 응답 시간. S3 왕복은 InMemoryAmazonS3 의 latency 로 흉내낸다.
+// sequential 은 변경 전 uploadImgs 처럼 putObject 를 차례로 부르는 기준선.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AwsS3ServiceBenchmark {
+    private static final String BUCKET = "benchmark";
+
+    @Param({"1", "5"})
+    private int images;
+
+    @Param({"20"})
+    private long latencyMillis;
+
+    @Param({"1048576"})
+    private int imageBytes;
+
+    private InMemoryAmazonS3 amazonS3;
+    private ThreadPoolTaskExecutor executor;
+    private TransferManager transferManager;
+    private AwsS3Service awsS3Service;
+    private List<MultipartFile> files;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        amazonS3 = new InMemoryAmazonS3("http://localhost/s3", Duration.ofMillis(latencyMillis));
+        ImageUploadConfig config = new ImageUploadConfig();
+        executor = config.imageUploadExecutor(8, 64);
+        executor.initialize();
+        transferManager = config.imageTransferManager(amazonS3, executor, "8MB", "5MB");
+        // 변형 이미지 생성은 응답 뒤 별도 풀에서 돌므로 업로드 측정에서는 뺀다.
+        ImageUrls imageUrls = new ImageUrls(amazonS3, BUCKET, "");
+        ImageProcessingService imageProcessingService = new ImageProcessingService(amazonS3, null, imageUrls, null, executor, 0.82f, 0) {
+            @Override
+            public void submit(String key) {
+            }
+        };
+        // 중복 제거가 일어나지 않는 (매번 새 내용) 경우를 잰다.
+        ImageBlobRepository imageBlobRepository = new ImageBlobRepository(null) {
+            @Override
+            public String acquire(String sha256) {
+                return null;
+            }
+
+            @Override
+            public boolean register(String sha256, String objectKey, long contentLength) {
+                return true;
+            }
+        };
+        awsS3Service = new AwsS3Service(amazonS3, transferManager, imageProcessingService, imageBlobRepository, null, imageUrls);
+        Field bucket = ReflectionUtils.findField(AwsS3Service.class, "bucket");
+        ReflectionUtils.makeAccessible(bucket);
+        ReflectionUtils.setField(bucket, awsS3Service, BUCKET);
+
+        files = new ArrayList<>();
+        for (int i = 0; i < images; i++) {
+            byte[] content = new byte[imageBytes];
+            ThreadLocalRandom.current().nextBytes(content);
+            files.add(new BytesMultipartFile("image" + i + ".jpg", content));
+        }
+    }
+
+    // 한 번 호출이 수 ms 이상이라 Invocation 단위로 비워도 측정에 영향이 작다.
+    @TearDown(Level.Invocation)
+    public void clear() {
+        amazonS3.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        transferManager.shutdownNow(false);
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public List<String> uploadImgs() {
+        return awsS3Service.uploadImgs(files);
+    }
+
+    @Benchmark
+    public List<String> sequential() throws IOException {
+        List<String> urlList = new ArrayList<>();
+        for (MultipartFile file : files) {
+            String s3FileName = UUID.randomUUID() + "-" + file.getOriginalFilename();
+            ObjectMetadata objMeta = new ObjectMetadata();
+            objMeta.setContentLength(file.getSize());
+            objMeta.setContentType(file.getContentType());
+            try (InputStream inputStream = file.getInputStream()) {
+                amazonS3.putObject(new PutObjectRequest(BUCKET, s3FileName, inputStream, objMeta)
+                        .withCannedAcl(CannedAccessControlList.PublicRead));
+            }
+            urlList.add(amazonS3.getUrl(BUCKET, s3FileName).toString());
+        }
+        return urlList;
+    }
+
+    private static class BytesMultipartFile implements MultipartFile {
+        private final String name;
+        private final byte[] content;
+
+        private BytesMultipartFile(String name, byte[] content) {
+            this.name = name;
+            this.content = content;
+        }
+
+        @Override
+        public String getName() {
+            return "images";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return name;
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/jpeg";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return content.length == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return content.length;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return content;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public void transferTo(File dest) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.book.village.server.image;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// 업로드 한 장당 ImageProcessingService 가 쓰는 CPU (디코딩 + 변형 3개 인코딩).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ImageResizerBenchmark {
+    @Param({"1200x1800", "3000x4000"})
+    private String size;
+
+    private byte[] jpeg;
+    private BufferedImage decoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] dimension = size.split("x");
+        BufferedImage image = new BufferedImage(Integer.parseInt(dimension[0]), Integer.parseInt(dimension[1]), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.ORANGE, image.getWidth(), image.getHeight(), Color.DARK_GRAY));
+        graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+        graphics.setColor(Color.WHITE);
+        graphics.setFont(new Font(Font.SERIF, Font.BOLD, image.getWidth() / 6));
+        graphics.drawString("책마을", image.getWidth() / 8, image.getHeight() / 2);
+        graphics.dispose();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", outputStream);
+        jpeg = outputStream.toByteArray();
+        decoded = ImageResizer.read(new ByteArrayInputStream(jpeg), Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    public BufferedImage decode() throws IOException {
+        return ImageResizer.read(new ByteArrayInputStream(jpeg), Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    public byte[] card() throws IOException {
+        return ImageResizer.writeJpeg(ImageResizer.resize(decoded, ImageVariant.CARD), 0.82f);
+    }
+
+    @Benchmark
+    public int allVariants() throws IOException {
+        BufferedImage image = ImageResizer.read(new ByteArrayInputStream(jpeg), Long.MAX_VALUE);
+        int bytes = 0;
+        for (BufferedImage variant : ImageResizer.resizeAll(image).values()) {
+            bytes += ImageResizer.writeJpeg(variant, 0.82f).length;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,371 @@
+package com.book.village.server.loadtest;
+
+import com.book.village.server.ServerApplication;
+import com.book.village.server.auth.jwt.JwtTokenizer;
+import com.book.village.server.domain.member.entity.Member;
+import com.book.village.server.domain.member.repository.MemberRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fppt.jedismock.RedisServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 나눔 신청 대기열 동시성 검증. 수천 명이 한 나눔글에 동시에 신청/중복 신청/취소하고, 작성자가 여러 번 동시에 수락한다.
+ * ./gradlew claimStressTest -Dclaimstress.users=2000 -Dclaimstress.threads=64
+ * 기본은 loadtest 프로필의 H2 라서 API 흐름을 빠르게 확인하는 용도다. H2 는 행 잠금과 격리 수준이 MySQL (InnoDB) 과 다르므로
+ * 운영 DB 에서의 동시성 보장을 확인하려면 빈 MySQL 스키마를 지정해 돌린다 (ddl-auto create 로 테이블을 다시 만든다).
+ * ./gradlew claimStressTest -Dclaimstress.jdbc-url=jdbc:mysql://localhost:3306/claimstress -Dclaimstress.username=... -Dclaimstress.password=...
+ * 검사하는 것
+ * - 신청은 회원당 정확히 하나만 들어가고 (중복은 409), 잃어버린 신청이 없다.
+ * - 대기열은 신청 순 (id 오름차순) 이고 순번이 1..n 으로 빈틈없이 이어진다.
+ * - 동시 수락 중 하나만 성공하고, 그때 취소되지 않은 신청 중 가장 먼저 온 신청이 수락된다.
+ * - 수락으로 닫힌 글은 나눔 완료 토글로 다시 열리지 않는다.
+ * - 나눔 완료 토글을 동시에 눌러도 성공한 횟수만큼만 상태가 바뀐다.
+ * - 신청과 수락이 겹쳐도 수락 뒤에 만들어진 신청이 없다 (claimstress.accept-rounds 번, 매번 claimstress.racers 명이 신청).
+ * 위반이 하나라도 있으면 exit 1
+ */
+public class ClaimStressTest {
+    private static final List<String> violations = Collections.synchronizedList(new ArrayList<>());
+
+    public static void main(String[] args) {
+        int exit = 0;
+        try {
+            run(args);
+            if (!violations.isEmpty()) {
+                violations.forEach(v -> System.out.println("VIOLATION " + v));
+                exit = 1;
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            exit = 1;
+        }
+        System.out.println(exit == 0 ? "claim stress test: OK" : "claim stress test: FAILED");
+        // jedis-mock 내부 executor 가 non-daemon 스레드라 stop() 후에도 JVM 이 끝나지 않는다.
+        System.exit(exit);
+    }
+
+    private static void run(String[] args) throws Exception {
+        int users = Integer.getInteger("claimstress.users", 2000);
+        int threads = Integer.getInteger("claimstress.threads", 64);
+        double duplicateRate = Double.parseDouble(System.getProperty("claimstress.duplicate-rate", "0.2"));
+        int cancels = Integer.getInteger("claimstress.cancels", 20);
+        int acceptors = Integer.getInteger("claimstress.acceptors", 16);
+        int toggles = Integer.getInteger("claimstress.toggles", 200);
+        int acceptRounds = Integer.getInteger("claimstress.accept-rounds", 20);
+        int racers = Integer.getInteger("claimstress.racers", 100);
+
+        RedisServer redisServer = RedisServer.newRedisServer();
+        redisServer.start();
+        ConfigurableApplicationContext context = null;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            System.setProperty("spring.redis.port", String.valueOf(redisServer.getBindPort()));
+            System.setProperty("server.port", "0");
+            System.setProperty("management.server.port", "0");
+            String jdbcUrl = System.getProperty("claimstress.jdbc-url");
+            if (jdbcUrl != null) {
+                System.setProperty("spring.datasource.url", jdbcUrl);
+                System.setProperty("spring.datasource.username", System.getProperty("claimstress.username", ""));
+                System.setProperty("spring.datasource.password", System.getProperty("claimstress.password", ""));
+            }
+            context = new SpringApplicationBuilder(ServerApplication.class, LoadTestConfig.class)
+                    .profiles("loadtest")
+                    .run(args);
+            Client client = new Client(
+                    URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")),
+                    context.getBean(ObjectMapper.class));
+            List<String> tokens = createUsers(context, users + 1);
+            String owner = tokens.get(users);
+            List<String> claimers = tokens.subList(0, users);
+
+            long borrowId = client.postBorrow(owner);
+            System.out.printf("claim stress test: users=%d threads=%d duplicate-rate=%.2f borrow=%d db=%s%n",
+                    users, threads, duplicateRate, borrowId, jdbcUrl == null ? "h2" : jdbcUrl);
+
+            // 1. 동시 신청. 일부 회원은 같은 신청을 동시에 두 번 보낸다.
+            List<String> attempts = new ArrayList<>(claimers);
+            Random random = new Random(42);
+            int duplicates = 0;
+            for (String token : claimers) {
+                if (random.nextDouble() < duplicateRate) {
+                    attempts.add(token);
+                    duplicates++;
+                }
+            }
+            Collections.shuffle(attempts, random);
+            Map<String, Long> claimIdByToken = new ConcurrentHashMap<>();
+            Map<Integer, AtomicInteger> claimStatuses = new ConcurrentHashMap<>();
+            long started = System.nanoTime();
+            runAll(pool, attempts, token -> {
+                HttpResponse<String> response = client.send("POST", "/v1/borrows/" + borrowId + "/claims", token);
+                count(claimStatuses, response.statusCode());
+                if (response.statusCode() == 201) {
+                    JsonNode data = client.data(response);
+                    Long previous = claimIdByToken.putIfAbsent(token, data.get("borrowClaimId").asLong());
+                    if (previous != null) violations.add("same member claimed twice: " + previous + ", " + data);
+                    if (data.get("position").asLong() < 1) violations.add("position < 1: " + data);
+                }
+            });
+            System.out.printf("claims: %d requests in %dms %s%n", attempts.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), claimStatuses);
+            expect(claimStatuses, 201, users, "claims accepted");
+            expect(claimStatuses, 409, duplicates, "duplicate claims rejected");
+            if (new HashSet<>(claimIdByToken.values()).size() != claimIdByToken.size()) {
+                violations.add("claim ids are not unique");
+            }
+
+            // 2. 대기열: 회원마다 하나, 신청 순, 순번 1..n
+            List<JsonNode> queue = client.queue(owner, borrowId);
+            checkQueue(queue, new TreeSet<>(claimIdByToken.values()));
+
+            // 작성자가 아니면 대기열을 보거나 수락할 수 없다.
+            int status = client.send("GET", "/v1/borrows/" + borrowId + "/claims", claimers.get(0)).statusCode();
+            if (status != 403) violations.add("non-owner queue lookup -> " + status);
+            status = client.send("POST", "/v1/borrows/" + borrowId + "/claims/accept", claimers.get(0)).statusCode();
+            if (status != 403) violations.add("non-owner accept -> " + status);
+
+            // 3. 대기열 앞쪽 회원들의 취소와 작성자의 수락을 동시에 보낸다.
+            List<Map.Entry<String, Long>> byId = new ArrayList<>(claimIdByToken.entrySet());
+            byId.sort(Map.Entry.comparingByValue());
+            Set<Long> cancelled = ConcurrentHashMap.newKeySet();
+            List<Long> accepted = Collections.synchronizedList(new ArrayList<>());
+            Map<Integer, AtomicInteger> cancelStatuses = new ConcurrentHashMap<>();
+            Map<Integer, AtomicInteger> acceptStatuses = new ConcurrentHashMap<>();
+            List<Task<Void>> race = new ArrayList<>();
+            for (Map.Entry<String, Long> entry : byId.subList(0, Math.min(cancels, byId.size()))) {
+                race.add(ignored -> {
+                    HttpResponse<String> response = client.send("DELETE", "/v1/borrows/" + borrowId + "/claims", entry.getKey());
+                    count(cancelStatuses, response.statusCode());
+                    if (response.statusCode() == 204) cancelled.add(entry.getValue());
+                });
+            }
+            for (int i = 0; i < acceptors; i++) {
+                race.add(ignored -> {
+                    HttpResponse<String> response = client.send("POST", "/v1/borrows/" + borrowId + "/claims/accept", owner);
+                    count(acceptStatuses, response.statusCode());
+                    if (response.statusCode() == 200) accepted.add(client.data(response).get("borrowClaimId").asLong());
+                });
+            }
+            Collections.shuffle(race, random);
+            runAll(pool, race, task -> task.run(null));
+            System.out.printf("accept race: accepts %s cancels %s%n", acceptStatuses, cancelStatuses);
+            expect(acceptStatuses, 200, 1, "accepts succeeded");
+            expect(acceptStatuses, 409, acceptors - 1, "late accepts rejected");
+            if (accepted.size() == 1) {
+                long expectedHead = byId.stream().map(Map.Entry::getValue)
+                        .filter(id -> !cancelled.contains(id)).findFirst().orElse(-1L);
+                if (accepted.get(0) != expectedHead) {
+                    violations.add("accepted " + accepted.get(0) + " but head was " + expectedHead);
+                }
+            }
+            if (client.borrow(owner, borrowId).get("borrowWhthr").asBoolean()) {
+                violations.add("borrow still open after accept");
+            }
+            Set<Long> waiting = new TreeSet<>(claimIdByToken.values());
+            waiting.removeAll(cancelled);
+            waiting.removeAll(accepted);
+            checkQueue(client.queue(owner, borrowId), waiting);
+            status = client.send("POST", "/v1/borrows/" + borrowId + "/claims", owner).statusCode();
+            if (status != 409) violations.add("claim on own borrow -> " + status);
+            status = client.send("POST", "/v1/borrows/" + borrowId + "/claims", claimers.get(claimers.size() - 1)).statusCode();
+            if (status != 409) violations.add("claim on completed borrow -> " + status);
+            status = client.send("PATCH", "/v1/borrows/completion/" + borrowId, owner).statusCode();
+            if (status != 409) violations.add("reopen after accept -> " + status);
+            if (client.borrow(owner, borrowId).get("borrowWhthr").asBoolean()) violations.add("borrow reopened after accept");
+
+            // 4. 나눔 완료 토글을 동시에 누른다. 성공 횟수가 홀수면 닫히고 짝수면 열려 있어야 한다.
+            long toggleBorrowId = client.postBorrow(owner);
+            Map<Integer, AtomicInteger> toggleStatuses = new ConcurrentHashMap<>();
+            runAll(pool, Collections.nCopies(toggles, owner), token -> count(toggleStatuses,
+                    client.send("PATCH", "/v1/borrows/completion/" + toggleBorrowId, token).statusCode()));
+            System.out.printf("completion toggles: %s%n", toggleStatuses);
+            int toggled = toggleStatuses.getOrDefault(200, new AtomicInteger()).get();
+            int conflicts = toggleStatuses.getOrDefault(409, new AtomicInteger()).get();
+            if (toggled + conflicts != toggles) violations.add("toggle statuses " + toggleStatuses);
+            boolean open = client.borrow(owner, toggleBorrowId).get("borrowWhthr").asBoolean();
+            if (open != (toggled % 2 == 0)) {
+                violations.add("toggled " + toggled + " times but borrowWhthr=" + open);
+            }
+
+            // 5. 신청과 수락을 동시에 보낸다. 성공한 신청은 모두 수락 전에 커밋되어야 한다.
+            // 수락된 신청의 modified_at 은 나눔글을 닫은 뒤에 찍히므로 그보다 늦게 만들어진 신청이 있으면 닫힌 글에 들어간 것이다.
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            List<String> racing = claimers.subList(1, Math.min(racers, claimers.size() - 1) + 1);
+            Map<Integer, AtomicInteger> racingStatuses = new ConcurrentHashMap<>();
+            for (int round = 0; round < acceptRounds; round++) {
+                long raceBorrowId = client.postBorrow(owner);
+                status = client.send("POST", "/v1/borrows/" + raceBorrowId + "/claims", claimers.get(0)).statusCode();
+                if (status != 201) violations.add("seed claim -> " + status);
+                List<Task<Void>> createRace = new ArrayList<>();
+                for (String token : racing) {
+                    createRace.add(ignored -> count(racingStatuses,
+                            client.send("POST", "/v1/borrows/" + raceBorrowId + "/claims", token).statusCode()));
+                }
+                createRace.add(createRace.size() / 2, ignored -> {
+                    int acceptStatus = client.send("POST", "/v1/borrows/" + raceBorrowId + "/claims/accept", owner).statusCode();
+                    if (acceptStatus != 200) violations.add("round accept -> " + acceptStatus);
+                });
+                runAll(pool, createRace, task -> task.run(null));
+                Timestamp acceptedAt = jdbcTemplate.queryForObject(
+                        "select modified_at from borrow_claim where borrow_id = ? and claim_status = 'CLAIM_ACCEPTED'",
+                        Timestamp.class, raceBorrowId);
+                Integer late = jdbcTemplate.queryForObject(
+                        "select count(*) from borrow_claim where borrow_id = ? and created_at > ?",
+                        Integer.class, raceBorrowId, acceptedAt);
+                if (late != null && late > 0) violations.add(late + " claims created after accept on borrow " + raceBorrowId);
+            }
+            System.out.printf("claims racing accept: %d rounds x %d claims %s%n", acceptRounds, racing.size(), racingStatuses);
+            int racingCreated = racingStatuses.getOrDefault(201, new AtomicInteger()).get();
+            int racingRejected = racingStatuses.getOrDefault(409, new AtomicInteger()).get();
+            if (racingCreated + racingRejected != acceptRounds * racing.size()) violations.add("racing claim statuses " + racingStatuses);
+        } finally {
+            pool.shutdownNow();
+            if (context != null) context.close();
+            redisServer.stop();
+        }
+    }
+
+    private static void checkQueue(List<JsonNode> queue, Set<Long> expectedIds) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < queue.size(); i++) {
+            JsonNode claim = queue.get(i);
+            ids.add(claim.get("borrowClaimId").asLong());
+            if (claim.get("position").asLong() != i + 1) {
+                violations.add("queue position " + claim.get("position") + " at index " + i);
+                break;
+            }
+        }
+        if (!ids.equals(new ArrayList<>(expectedIds))) {
+            violations.add("queue has " + ids.size() + " claims, expected " + expectedIds.size() + " in id order");
+        }
+    }
+
+    private static void expect(Map<Integer, AtomicInteger> statuses, int status, int expected, String what) {
+        int actual = statuses.getOrDefault(status, new AtomicInteger()).get();
+        if (actual != expected) violations.add(what + ": " + actual + " (expected " + expected + ") " + statuses);
+    }
+
+    private static void count(Map<Integer, AtomicInteger> statuses, int status) {
+        statuses.computeIfAbsent(status, key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    // 모든 작업을 준비시킨 뒤 한꺼번에 출발시킨다.
+    private static <T> void runAll(ExecutorService pool, List<T> items, Task<T> task) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (T item : items) {
+            futures.add(pool.submit(() -> {
+                ready.await();
+                task.run(item);
+                return null;
+            }));
+        }
+        ready.countDown();
+        for (Future<?> future : futures) {
+            try {
+                future.get(60, TimeUnit.SECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                violations.add("request failed: " + e);
+            }
+        }
+    }
+
+    private interface Task<T> {
+        void run(T item) throws Exception;
+    }
+
+    private static List<String> createUsers(ConfigurableApplicationContext context, int users) {
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        JwtTokenizer jwtTokenizer = context.getBean(JwtTokenizer.class);
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            Member member = new Member("claimstress" + i + "@bookvillage.kr");
+            member.setName("신청" + i);
+            member.setDisplayName("claimer" + i);
+            member.setRoles(List.of("USER"));
+            members.add(member);
+        }
+        memberRepository.saveAll(members);
+        List<String> tokens = new ArrayList<>();
+        for (Member member : members) {
+            tokens.add(LoadTestTokens.createAccessToken(jwtTokenizer, member.getEmail(), member.getRoles()));
+        }
+        return tokens;
+    }
+
+    private static class Client {
+        private final URI baseUri;
+        private final ObjectMapper objectMapper;
+        private final HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        private Client(URI baseUri, ObjectMapper objectMapper) {
+            this.baseUri = baseUri;
+            this.objectMapper = objectMapper;
+        }
+
+        private HttpResponse<String> send(String method, String path, String token) throws Exception {
+            return send(method, path, token, HttpRequest.BodyPublishers.noBody());
+        }
+
+        private HttpResponse<String> send(String method, String path, String token, HttpRequest.BodyPublisher body) throws Exception {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", token)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "application/json")
+                    .method(method, body)
+                    .build();
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        }
+
+        private JsonNode data(HttpResponse<String> response) throws Exception {
+            return objectMapper.readTree(response.body()).get("data");
+        }
+
+        private long postBorrow(String token) throws Exception {
+            byte[] body = objectMapper.writeValueAsBytes(Map.of(
+                    "title", "아몬드 나눔합니다",
+                    "content", "먼저 신청하신 분께 드려요.",
+                    "bookTitle", "아몬드",
+                    "author", "손원평",
+                    "publisher", "창비",
+                    "thumbnail", "https://dimg.donga.com/wps/NEWS/IMAGE/2011/11/17/41939226.1.jpg",
+                    "talkUrl", "https://open.kakao.com/o/bookvillage"));
+            HttpResponse<String> response = send("POST", "/v1/borrows", token, HttpRequest.BodyPublishers.ofByteArray(body));
+            if (response.statusCode() != 201) throw new IllegalStateException("post borrow -> " + response.statusCode() + " " + response.body());
+            return data(response).get("borrowId").asLong();
+        }
+
+        private JsonNode borrow(String token, long borrowId) throws Exception {
+            return data(send("GET", "/v1/borrows/" + borrowId, token));
+        }
+
+        // 대기열 전체 (페이지를 이어 붙인다)
+        private List<JsonNode> queue(String token, long borrowId) throws Exception {
+            List<JsonNode> claims = new ArrayList<>();
+            for (int page = 0; ; page++) {
+                HttpResponse<String> response = send("GET",
+                        "/v1/borrows/" + borrowId + "/claims?page=" + page + "&size=500", token);
+                if (response.statusCode() != 200) throw new IllegalStateException("queue -> " + response.statusCode() + " " + response.body());
+                JsonNode root = objectMapper.readTree(response.body());
+                root.get("data").forEach(claims::add);
+                if (root.get("pageInfo").get("last").asBoolean()) return claims;
+            }
+        }
+    }
+}
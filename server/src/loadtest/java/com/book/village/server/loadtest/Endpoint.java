@@ -0,0 +1,105 @@
+package com.book.village.server.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 부하 테스트가 호출하는 API. path 에 들어가는 id 는 지금까지 생성된 글 범위에서 고른다.
+public enum Endpoint {
+    LIST_BORROWS("GET /v1/borrows", false),
+    GET_BORROW("GET /v1/borrows/{id}", false),
+    SEARCH_BORROWS("GET /v1/borrows/search", false),
+    POST_BORROW("POST /v1/borrows", true),
+    POST_BORROW_COMMENT("POST /v1/borrows/comments/{id}", true),
+    LIST_COMMUNITIES("GET /v1/communities", false),
+    GET_COMMUNITY("GET /v1/communities/{id}", false),
+    SEARCH_COMMUNITIES("GET /v1/communities/search", false),
+    POST_COMMUNITY("POST /v1/communities", true),
+    POST_COMMUNITY_COMMENT("POST /v1/communities/comments/{id}", true);
+
+    private static final String[] KEYWORDS = {"아몬드", "소설", "나눔", "경제", "역사", "에세이", "자바", "스프링"};
+    private static final String[] COMMUNITY_TYPES = {"free", "study", "recommend"};
+
+    private final String label;
+    private final boolean write;
+
+    Endpoint(String label, boolean write) {
+        this.label = label;
+        this.write = write;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public boolean isWrite() {
+        return write;
+    }
+
+    public HttpRequest request(URI baseUri, String token, LoadTestTarget target) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String keyword = KEYWORDS[random.nextInt(KEYWORDS.length)];
+        String type = COMMUNITY_TYPES[random.nextInt(COMMUNITY_TYPES.length)];
+        switch (this) {
+            case LIST_BORROWS:
+                return get(baseUri, "/v1/borrows?page=" + random.nextInt(5) + "&size=10", token);
+            case GET_BORROW:
+                return get(baseUri, "/v1/borrows/" + target.randomBorrowId(), token);
+            case SEARCH_BORROWS:
+                return get(baseUri, "/v1/borrows/search?field=title&keyword=" + encode(keyword), token);
+            case POST_BORROW:
+                return post(baseUri, "/v1/borrows", token, Map.of(
+                        "title", keyword + " 나눔합니다",
+                        "content", "상태 좋은 책입니다. 직거래 원해요.",
+                        "bookTitle", keyword,
+                        "author", "손원평",
+                        "publisher", "창비",
+                        "thumbnail", "https://dimg.donga.com/wps/NEWS/IMAGE/2011/11/17/41939226.1.jpg",
+                        "talkUrl", "https://open.kakao.com/o/bookvillage"), target);
+            case POST_BORROW_COMMENT:
+                return post(baseUri, "/v1/borrows/comments/" + target.randomBorrowId(), token,
+                        Map.of("content", "저 받고 싶어요!"), target);
+            case LIST_COMMUNITIES:
+                return get(baseUri, "/v1/communities?page=" + random.nextInt(5) + "&size=10", token);
+            case GET_COMMUNITY:
+                return get(baseUri, "/v1/communities/" + target.randomCommunityId(), token);
+            case SEARCH_COMMUNITIES:
+                return get(baseUri, "/v1/communities/search?field=title&type=" + type + "&keyword=" + encode(keyword), token);
+            case POST_COMMUNITY:
+                return post(baseUri, "/v1/communities", token, Map.of(
+                        "type", type,
+                        "title", keyword + " 같이 읽어요",
+                        "content", "이번 주 독서 모임에서 " + keyword + " 이야기를 나눠요."), target);
+            case POST_COMMUNITY_COMMENT:
+                return post(baseUri, "/v1/communities/comments/" + target.randomCommunityId(), token,
+                        Map.of("content", "좋은 글 감사합니다."), target);
+            default:
+                throw new IllegalStateException(name());
+        }
+    }
+
+    private static HttpRequest get(URI baseUri, String path, String token) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Authorization", token)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest post(URI baseUri, String path, String token, Map<String, String> body,
+                                    LoadTestTarget target) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Authorization", token)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(target.toJson(body)))
+                .build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,117 @@
+package com.book.village.server.loadtest;
+
+import com.book.village.server.ServerApplication;
+import com.book.village.server.auth.jwt.JwtTokenizer;
+import com.book.village.server.dataset.DatasetGenerator;
+import com.book.village.server.dataset.DatasetSpec;
+import com.book.village.server.domain.member.entity.Member;
+import com.book.village.server.domain.member.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fppt.jedismock.RedisServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 Redis/S3/OAuth 없이 서버를 띄우고 가상 사용자 트래픽을 흘려 엔드포인트별 처리량과 p50/p95/p99 를 측정한다.
+ * ./gradlew loadTest -Dloadtest.users=50 -Dloadtest.duration=60 -Dloadtest.mix=read-heavy
+ * -Dloadtest.dataset-scale=0.05 를 주면 DatasetGenerator 로 실제 규모에 가까운 데이터를 먼저 적재한다.
+ */
+public class LoadTestApplication {
+    public static void main(String[] args) {
+        try {
+            run(args);
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+        // jedis-mock 내부 executor 가 non-daemon 스레드라 stop() 후에도 JVM 이 끝나지 않는다.
+        System.exit(0);
+    }
+
+    private static void run(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 50);
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 60));
+        int seedPosts = Integer.getInteger("loadtest.seed-posts", 200);
+        double datasetScale = Double.parseDouble(System.getProperty("loadtest.dataset-scale", "0"));
+        long datasetSeed = Long.getLong("loadtest.dataset-seed", 42);
+        long thinkMillis = Long.getLong("loadtest.think-millis", 0);
+        TrafficMix mix = TrafficMix.of(System.getProperty("loadtest.mix", "read-heavy"));
+        Path reportPath = Path.of(System.getProperty("loadtest.report",
+                "build/reports/loadtest/" + mix.name().toLowerCase() + ".json"));
+
+        // Redis 프로토콜을 구현한 내장 서버 (로그아웃 토큰, refresh token 저장용)
+        RedisServer redisServer = RedisServer.newRedisServer();
+        redisServer.start();
+        ConfigurableApplicationContext context = null;
+        try {
+            // application.yml 의 ${REDIS_PORT} 보다 우선하도록 system property 로 넘긴다.
+            System.setProperty("spring.redis.port", String.valueOf(redisServer.getBindPort()));
+            System.setProperty("server.port", "0");
+            System.setProperty("management.server.port", "0");
+            context = new SpringApplicationBuilder(ServerApplication.class, LoadTestConfig.class)
+                    .profiles("loadtest")
+                    .run(args);
+            URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            LoadTestTarget target = new LoadTestTarget(context.getBean(ObjectMapper.class));
+            if (datasetScale > 0) {
+                DatasetSpec spec = DatasetSpec.scaled(datasetScale);
+                new DatasetGenerator(context.getBean(DataSource.class), spec, datasetSeed).generate().print();
+                target.preload(spec.getBorrows(), spec.getCommunities());
+            }
+            List<String> tokens = createUsers(context, users);
+
+            VirtualUserRunner runner = new VirtualUserRunner(baseUri, tokens, target);
+            runner.seed(seedPosts);
+
+            LoadTestReport report = new LoadTestReport();
+            System.out.printf("load test: mix=%s users=%d warmup=%ds duration=%ds%n",
+                    mix, users, warmup.getSeconds(), duration.getSeconds());
+            runner.run(mix, report, warmup, duration, thinkMillis);
+
+            report.print(duration);
+            Map<String, Object> meta = new LinkedHashMap<>();
+            meta.put("mix", mix.name());
+            meta.put("users", users);
+            meta.put("thinkMillis", thinkMillis);
+            meta.put("datasetScale", datasetScale);
+            meta.put("borrows", target.getMaxBorrowId());
+            meta.put("communities", target.getMaxCommunityId());
+            report.write(reportPath, meta, duration);
+            System.out.println("report: " + reportPath.toAbsolutePath());
+        } finally {
+            if (context != null) context.close();
+            redisServer.stop();
+        }
+    }
+
+    // OAuth 로그인 대신 회원을 직접 저장하고 실제 서명 키로 토큰을 발급한다.
+    private static List<String> createUsers(ConfigurableApplicationContext context, int users) {
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        JwtTokenizer jwtTokenizer = context.getBean(JwtTokenizer.class);
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            Member member = new Member("loadtest" + i + "@bookvillage.kr");
+            member.setName("부하테스트" + i);
+            member.setDisplayName("vu" + i);
+            member.setRoles(List.of("USER"));
+            members.add(member);
+        }
+        memberRepository.saveAll(members);
+
+        List<String> tokens = new ArrayList<>();
+        for (Member member : members) {
+            tokens.add(LoadTestTokens.createAccessToken(jwtTokenizer, member.getEmail(), member.getRoles()));
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,23 @@
+package com.book.village.server.loadtest;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.book.village.server.image.InMemoryAmazonS3;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+// loadtest 프로필에서는 AwsS3Config 대신 메모리 S3 를 쓴다.
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+    @Bean
+    @Primary
+    public AmazonS3 inMemoryAmazonS3(@Value("${loadtest.s3.base-url:http://localhost/s3}") String baseUrl,
+                                     @Value("${loadtest.s3.latency:0ms}") Duration latency) {
+        return new InMemoryAmazonS3(baseUrl, latency);
+    }
+}
@@ -0,0 +1,96 @@
+package com.book.village.server.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 엔드포인트별 latency histogram (1us ~ 60s, 유효숫자 3자리) 과 오류 수
+public class LoadTestReport {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+
+    public LoadTestReport() {
+        for (Endpoint endpoint : Endpoint.values()) stats.put(endpoint, new EndpointStats());
+    }
+
+    public void record(Endpoint endpoint, long elapsedNanos, boolean success) {
+        EndpointStats endpointStats = stats.get(endpoint);
+        endpointStats.histogram.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1, elapsedNanos / 1_000)));
+        if (!success) endpointStats.errors.increment();
+    }
+
+    public Map<String, Object> summarize(Duration duration) {
+        double seconds = duration.toMillis() / 1000.0;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            Histogram histogram = entry.getValue().histogram;
+            if (histogram.getTotalCount() == 0) continue;
+            long errors = entry.getValue().errors.sum();
+            total.add(histogram);
+            totalErrors += errors;
+            endpoints.put(entry.getKey().getLabel(), summary(histogram, errors, seconds));
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("durationSeconds", seconds);
+        result.put("total", summary(total, totalErrors, seconds));
+        result.put("endpoints", endpoints);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void print(Duration duration) {
+        Map<String, Object> summary = summarize(duration);
+        System.out.printf("%-36s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        ((Map<String, Map<String, Object>>) summary.get("endpoints")).forEach(LoadTestReport::printRow);
+        printRow("TOTAL", (Map<String, Object>) summary.get("total"));
+    }
+
+    public void write(Path path, Map<String, Object> meta, Duration duration) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>(meta);
+        report.putAll(summarize(duration));
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+    }
+
+    private static void printRow(String label, Map<String, Object> row) {
+        System.out.printf("%-36s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", label,
+                row.get("requests"), row.get("errors"), row.get("throughput"),
+                row.get("p50Millis"), row.get("p95Millis"), row.get("p99Millis"), row.get("maxMillis"));
+    }
+
+    private static Map<String, Object> summary(Histogram histogram, long errors, double seconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", histogram.getTotalCount());
+        summary.put("errors", errors);
+        summary.put("throughput", Math.round(histogram.getTotalCount() / seconds * 10) / 10.0);
+        summary.put("p50Millis", millis(histogram.getValueAtPercentile(50)));
+        summary.put("p95Millis", millis(histogram.getValueAtPercentile(95)));
+        summary.put("p99Millis", millis(histogram.getValueAtPercentile(99)));
+        summary.put("maxMillis", millis(histogram.getMaxValue()));
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return Math.round(micros / 10.0) / 100.0;
+    }
+
+    private static class EndpointStats {
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
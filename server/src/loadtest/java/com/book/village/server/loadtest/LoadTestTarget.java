@@ -0,0 +1,66 @@
+package com.book.village.server.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 지금까지 생성된 나눔글/커뮤니티 글의 최대 id. 글은 삭제하지 않으므로 1..max 가 모두 존재한다.
+public class LoadTestTarget {
+    private final ObjectMapper objectMapper;
+    private final AtomicLong maxBorrowId = new AtomicLong();
+    private final AtomicLong maxCommunityId = new AtomicLong();
+
+    public LoadTestTarget(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public long randomBorrowId() {
+        return 1 + ThreadLocalRandom.current().nextLong(Math.max(1, maxBorrowId.get()));
+    }
+
+    public long randomCommunityId() {
+        return 1 + ThreadLocalRandom.current().nextLong(Math.max(1, maxCommunityId.get()));
+    }
+
+    public long getMaxBorrowId() {
+        return maxBorrowId.get();
+    }
+
+    public long getMaxCommunityId() {
+        return maxCommunityId.get();
+    }
+
+    // 미리 적재한 dataset 의 id 범위를 읽기 대상에 포함한다.
+    public void preload(long borrows, long communities) {
+        maxBorrowId.accumulateAndGet(borrows, Math::max);
+        maxCommunityId.accumulateAndGet(communities, Math::max);
+    }
+
+    // 글 작성 응답에서 id 를 읽어 범위를 넓힌다.
+    public void onCreated(Endpoint endpoint, byte[] body) {
+        if (endpoint != Endpoint.POST_BORROW && endpoint != Endpoint.POST_COMMUNITY) return;
+        try {
+            JsonNode data = objectMapper.readTree(body).path("data");
+            if (endpoint == Endpoint.POST_BORROW) {
+                maxBorrowId.accumulateAndGet(data.path("borrowId").asLong(), Math::max);
+            } else {
+                maxCommunityId.accumulateAndGet(data.path("communityId").asLong(), Math::max);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
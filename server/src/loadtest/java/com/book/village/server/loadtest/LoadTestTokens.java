@@ -0,0 +1,23 @@
+package com.book.village.server.loadtest;
+
+import com.book.village.server.auth.jwt.JwtTokenizer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 부하 테스트 가상 사용자용 access token. 실제 서명 키로 발급해 JwtVerificationFilter 를 통과한다.
+// 운영 코드에서 임의의 토큰을 발급하지 못하도록 loadtest source set 에만 둔다.
+final class LoadTestTokens {
+    private LoadTestTokens() {
+    }
+
+    static String createAccessToken(JwtTokenizer jwtTokenizer, String email, List<String> roles) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("username", email);
+        claims.put("roles", roles);
+        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
+        return "Bearer " + jwtTokenizer.generateAccessToken(claims, email,
+                jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes()), base64EncodedSecretKey);
+    }
+}
@@ -0,0 +1,48 @@
+package com.book.village.server.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.book.village.server.loadtest.Endpoint.*;
+
+// 가상 사용자가 요청을 고르는 비율 (-Dloadtest.mix=read-heavy | write-heavy | search)
+public enum TrafficMix {
+    READ_HEAVY(Map.of(
+            LIST_BORROWS, 30, GET_BORROW, 25, SEARCH_BORROWS, 8,
+            LIST_COMMUNITIES, 12, GET_COMMUNITY, 10, SEARCH_COMMUNITIES, 5,
+            POST_BORROW, 3, POST_BORROW_COMMENT, 3, POST_COMMUNITY, 2, POST_COMMUNITY_COMMENT, 2)),
+    WRITE_HEAVY(Map.of(
+            LIST_BORROWS, 10, GET_BORROW, 10, SEARCH_BORROWS, 5,
+            LIST_COMMUNITIES, 5, GET_COMMUNITY, 5, SEARCH_COMMUNITIES, 5,
+            POST_BORROW, 20, POST_BORROW_COMMENT, 15, POST_COMMUNITY, 10, POST_COMMUNITY_COMMENT, 15)),
+    SEARCH(Map.of(
+            LIST_BORROWS, 10, SEARCH_BORROWS, 45,
+            LIST_COMMUNITIES, 5, SEARCH_COMMUNITIES, 40));
+
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+
+    TrafficMix(Map<Endpoint, Integer> weights) {
+        Map<Endpoint, Integer> ordered = new EnumMap<>(weights);
+        endpoints = ordered.keySet().toArray(new Endpoint[0]);
+        cumulativeWeights = new int[endpoints.length];
+        int sum = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            sum += ordered.get(endpoints[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    public static TrafficMix of(String name) {
+        return valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+
+    public Endpoint next() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) return endpoints[i];
+        }
+        return endpoints[endpoints.length - 1];
+    }
+}
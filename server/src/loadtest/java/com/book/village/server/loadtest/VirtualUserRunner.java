@@ -0,0 +1,92 @@
+package com.book.village.server.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 폐쇄형(closed-loop) 가상 사용자. 각 사용자는 자신의 토큰으로 응답을 받은 뒤 다음 요청을 보낸다.
+public class VirtualUserRunner {
+    private final URI baseUri;
+    private final List<String> tokens;
+    private final LoadTestTarget target;
+    private final Map<Endpoint, Boolean> reportedFailures = new ConcurrentHashMap<>();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public VirtualUserRunner(URI baseUri, List<String> tokens, LoadTestTarget target) {
+        this.baseUri = baseUri;
+        this.tokens = tokens;
+        this.target = target;
+    }
+
+    // 조회/댓글 대상이 있도록 측정 전에 글을 만들어 둔다.
+    public void seed(int posts) throws IOException, InterruptedException {
+        for (int i = 0; i < posts; i++) {
+            String token = tokens.get(i % tokens.size());
+            send(i % 2 == 0 ? Endpoint.POST_BORROW : Endpoint.POST_COMMUNITY, token);
+        }
+    }
+
+    public void run(TrafficMix mix, LoadTestReport report, Duration warmup, Duration duration, long thinkMillis)
+            throws InterruptedException {
+        long recordFrom = System.nanoTime() + warmup.toNanos();
+        long stopAt = recordFrom + duration.toNanos();
+        List<Thread> users = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            Thread user = new Thread(() -> {
+                while (System.nanoTime() < stopAt) {
+                    Endpoint endpoint = mix.next();
+                    long start = System.nanoTime();
+                    boolean success;
+                    try {
+                        success = send(endpoint, token);
+                    } catch (IOException e) {
+                        success = false;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (start >= recordFrom) report.record(endpoint, System.nanoTime() - start, success);
+                    if (thinkMillis > 0) {
+                        try {
+                            Thread.sleep(ThreadLocalRandom.current().nextLong(thinkMillis * 2 + 1));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                }
+            }, "virtual-user-" + i);
+            user.start();
+            users.add(user);
+        }
+        for (Thread user : users) user.join();
+    }
+
+    private boolean send(Endpoint endpoint, String token) throws IOException, InterruptedException {
+        HttpRequest request = endpoint.request(baseUri, token, target);
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        boolean success = response.statusCode() / 100 == 2;
+        if (success) {
+            target.onCreated(endpoint, response.body());
+        } else if (reportedFailures.putIfAbsent(endpoint, true) == null) {
+            // 엔드포인트별 첫 실패만 출력한다.
+            String body = new String(response.body(), StandardCharsets.UTF_8);
+            System.out.printf("first failure %s -> %d %s%n", endpoint.getLabel(), response.statusCode(),
+                    body.length() > 300 ? body.substring(0, 300) : body);
+        }
+        return success;
+    }
+}
@@ -1,6 +1,7 @@
 package com.book.village.server.auth.filter;
 
 import com.book.village.server.auth.jwt.JwtTokenizer;
+import com.book.village.server.auth.jwt.service.TokenGenerationService;
 import com.book.village.server.auth.utils.CustomAuthorityUtils;
 import com.book.village.server.domain.member.entity.Member;
 import com.book.village.server.domain.member.service.MemberService;
@@ -31,12 +32,15 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
     private final CustomAuthorityUtils authorityUtils;
     private final RedisTemplate redisTemplate;
     private final MemberService memberService;
+    private final TokenGenerationService tokenGenerationService;
 
-    public JwtVerificationFilter(JwtTokenizer jwtTokenizer, CustomAuthorityUtils authorityUtils, RedisTemplate redisTemplate,MemberService memberService) {
+    public JwtVerificationFilter(JwtTokenizer jwtTokenizer, CustomAuthorityUtils authorityUtils, RedisTemplate redisTemplate,MemberService memberService,
+                                 TokenGenerationService tokenGenerationService) {
         this.jwtTokenizer = jwtTokenizer;
         this.authorityUtils = authorityUtils;
         this.redisTemplate = redisTemplate;
         this.memberService = memberService;
+        this.tokenGenerationService = tokenGenerationService;
     }
 
     @Override
@@ -81,6 +85,15 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         }
     }
     private void verifyActiveMember(Map<String, Object> claims){
+        // gen 이 있는 토큰은 메모리의 gen 과 비교만 한다 (탈퇴하면 gen 이 올라간다).
+        Object memberId = claims.get("memberId");
+        Object gen = claims.get("gen");
+        if (memberId instanceof Number && gen instanceof Number) {
+            if (tokenGenerationService.isRevoked(((Number) memberId).longValue(), ((Number) gen).longValue())) {
+                throw new CustomLogicException(ExceptionCode.TOKEN_INVALID);
+            }
+            return;
+        }
         String username = (String) claims.get("username");
         if(memberService.findMember(username).getMemberStatus()== Member.MemberStatus.MEMBER_QUIT){
             throw new CustomLogicException(ExceptionCode.MEMBER_STATUS_QUIT);
@@ -1,8 +1,7 @@
 package com.book.village.server.auth.handler;
 
 import com.book.village.server.auth.jwt.JwtTokenizer;
-import com.book.village.server.auth.jwt.entity.RefreshToken;
-import com.book.village.server.auth.jwt.repository.RefreshTokenRepository;
+import com.book.village.server.auth.jwt.service.RefreshTokenService;
 import com.book.village.server.auth.utils.CustomAuthorityUtils;
 import com.book.village.server.domain.member.entity.Member;
 import com.book.village.server.domain.member.repository.MemberRepository;
@@ -22,25 +21,22 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.net.URI;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 public class OAuth2MemberSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
     private final JwtTokenizer jwtTokenizer;
     private final CustomAuthorityUtils authorityUtils;
     private final MemberService memberService;
     private final MemberRepository memberRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final RedirectType redirectType;
 
-    public OAuth2MemberSuccessHandler(JwtTokenizer jwtTokenizer, CustomAuthorityUtils authorityUtils, MemberService memberService, MemberRepository memberRepository, RefreshTokenRepository refreshTokenRepository, RedirectType redirectType) {
+    public OAuth2MemberSuccessHandler(JwtTokenizer jwtTokenizer, CustomAuthorityUtils authorityUtils, MemberService memberService, MemberRepository memberRepository, RefreshTokenService refreshTokenService, RedirectType redirectType) {
         this.jwtTokenizer = jwtTokenizer;
         this.authorityUtils = authorityUtils;
         this.memberService = memberService;
         this.memberRepository = memberRepository;
-        this.refreshTokenRepository=refreshTokenRepository;
+        this.refreshTokenService = refreshTokenService;
         this.redirectType = redirectType;
     }
 
@@ -48,58 +44,34 @@ public class OAuth2MemberSuccessHandler extends SimpleUrlAuthenticationSuccessHa
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
         var oAuth2User = (OAuth2User)authentication.getPrincipal();
         String email = String.valueOf(oAuth2User.getAttributes().get("email"));
-        List<String> authorities = authorityUtils.createRoles(email);
-        if(!memberRepository.findByEmail(email).isPresent()){
-            Member member = new Member(email);
-            memberService.createMember(member);
-            redirect(request,response,email, authorities, true);
+        // 회원 조회는 한 번만 한다.
+        Optional<Member> findMember = memberRepository.findByEmail(email);
+        if(!findMember.isPresent()){
+            Member member = memberService.createMember(new Member(email));
+            redirect(request,response,member, true);
             return;
         }
-        verifyActiveMember(email);
-        redirect(request,response,email, authorities, false);
+        verifyActiveMember(findMember.get());
+        redirect(request,response,findMember.get(), false);
     }
-    private void verifyActiveMember(String email){
-        if(memberService.findMember(email).getMemberStatus()== Member.MemberStatus.MEMBER_QUIT){
+    private void verifyActiveMember(Member member){
+        if(member.getMemberStatus()== Member.MemberStatus.MEMBER_QUIT){
             throw new CustomLogicException(ExceptionCode.MEMBER_STATUS_QUIT);
         }
     }
-    private String delegateAccessToken(String username, List<String> authorities) {
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("username", username);
-        claims.put("roles", authorities);
-
-        String subject = username;
-        Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes());
-
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-
-        String accessToken = jwtTokenizer.generateAccessToken(claims, subject, expiration, base64EncodedSecretKey);
-
-        return accessToken;
+    // 재발급과 같은 claim (memberId, gen 포함) 으로 만든다.
+    private String delegateAccessToken(Member member) {
+        return refreshTokenService.getAccessToken(member.getEmail(), member.getMemberId());
     }
 
-    private String delegateRefreshToken(String username) {
-        String subject = username;
-        Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMinutes());
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-
-        String refreshToken = jwtTokenizer.generateRefreshToken(subject, expiration, base64EncodedSecretKey);
-        RefreshToken token = RefreshToken.builder()
-                .refreshToken(refreshToken)
-                .member(memberService.findMember(username))
-                .build();
-        if(refreshTokenRepository.findByMember(memberService.findMember(username)).isPresent()){
-            refreshTokenRepository.delete(refreshTokenRepository.findByMember(memberService.findMember(username)).get());
-            refreshTokenRepository.save(token);
-            return refreshToken;
-        }
-        refreshTokenRepository.save(token);
-        return refreshToken;
+    // Redis 에 한 번 저장 (이전 refresh token 은 덮어써진다)
+    private String delegateRefreshToken(Member member) {
+        return refreshTokenService.issueToken(member);
     }
 
-    private void redirect(HttpServletRequest request, HttpServletResponse response, String username, List<String> authorities, boolean newbie) throws IOException {
-        String accessToken = delegateAccessToken(username, authorities);
-        String refreshToken = delegateRefreshToken(username);
+    private void redirect(HttpServletRequest request, HttpServletResponse response, Member member, boolean newbie) throws IOException {
+        String accessToken = delegateAccessToken(member);
+        String refreshToken = delegateRefreshToken(member);
 
         String uri = createURI(accessToken, refreshToken, newbie).toString();
         getRedirectStrategy().sendRedirect(request, response, uri);
@@ -18,6 +18,7 @@ import java.security.Key;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Map;
+import java.util.UUID;
 
 @Component
 public class JwtTokenizer {
@@ -66,6 +67,20 @@ public class JwtTokenizer {
                 .compact();
     }
 
+    //rotation 용 refresh token 반환. memberId 로 Redis 의 rt:<memberId> 를 찾고, jti 로 같은 초에 발급해도 토큰이 달라진다.
+    public String generateRefreshToken(String subject, Long memberId, Date expiration, String base64EncodedSecretKey) {
+        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
+
+        return Jwts.builder()
+                .setSubject(subject)
+                .claim("memberId", memberId)
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(Calendar.getInstance().getTime())
+                .setExpiration(expiration)
+                .signWith(key)
+                .compact();
+    }
+
     // 검증 후 Claims 반환
     public Jws<Claims> getClaims(String jws, String base64EncodedSecretKey) {
         Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
@@ -104,6 +119,21 @@ public class JwtTokenizer {
     }
 
 
+    // refresh token 검증 후 Claims 반환 (subject: email, memberId)
+    public Claims getRefreshTokenClaims(String token, String encodedBase64SecretKey) {
+        Key key = getKeyFromBase64EncodedKey(encodedBase64SecretKey);
+        try {
+            return Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token).getBody();
+        } catch (ExpiredJwtException ee) {
+            throw new CustomLogicException(ExceptionCode.EXPIRED_REFRESH_TOKEN);
+        } catch (Exception e) {
+            throw new CustomLogicException(ExceptionCode.TOKEN_INVALID);
+        }
+    }
+
     public String getEmailFromToken(String token, String encodedBase64SecretKey) {
         Key key = getKeyFromBase64EncodedKey(encodedBase64SecretKey);
         try {
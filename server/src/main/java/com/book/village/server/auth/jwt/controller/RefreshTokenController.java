@@ -1,12 +1,10 @@
 package com.book.village.server.auth.jwt.controller;
 
-import com.book.village.server.auth.jwt.JwtTokenizer;
+import com.book.village.server.auth.jwt.dto.RefreshTokenDto;
 import com.book.village.server.auth.jwt.service.RefreshTokenService;
 import com.book.village.server.global.response.MessageResponseDto;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -20,11 +18,7 @@ import javax.servlet.http.HttpServletResponse;
 @Slf4j
 @Validated
 public class RefreshTokenController {
-    private final JwtTokenizer jwtTokenizer;
     private final RefreshTokenService tokenService;
-    @Getter
-    @Value("${jwt.key.secret}")
-    private String secretKey;
 
 
     @PostMapping("/auth/token")
@@ -32,15 +26,11 @@ public class RefreshTokenController {
 
         String token = request.getHeader("Authorization");
 
-        String encodedBase64SecretKey = jwtTokenizer.encodeBase64SecretKey(secretKey);
+        // refresh token 도 새로 발급된다. 받은 refresh token 은 더 이상 쓸 수 없다.
+        RefreshTokenDto tokens = tokenService.rotateToken(token);
 
-        String email = jwtTokenizer.getEmailFromToken(token, encodedBase64SecretKey);
-
-        tokenService.verifyToken(email, token);
-        String accessToken= tokenService.getAccessToken(email);
-
-        log.info("accessToken = {}", accessToken);
-        response.addHeader("Authorization", accessToken);
+        response.addHeader("Authorization", tokens.getAccessToken());
+        response.addHeader("RefreshToken", tokens.getRefreshToken());
 
         return ResponseEntity.ok(new MessageResponseDto("access token created!"));
     }
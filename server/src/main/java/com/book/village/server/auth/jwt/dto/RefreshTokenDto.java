@@ -3,10 +3,12 @@ package com.book.village.server.auth.jwt.dto;
 import lombok.*;
 
 
+// 재발급 결과. 둘 다 응답 헤더로 내려간다 (Authorization, RefreshToken).
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
 public class RefreshTokenDto {
+    private String accessToken;
     private String refreshToken;
 }
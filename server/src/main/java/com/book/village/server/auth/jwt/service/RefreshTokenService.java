@@ -1,49 +1,92 @@
 package com.book.village.server.auth.jwt.service;
 
 import com.book.village.server.auth.jwt.JwtTokenizer;
-import com.book.village.server.auth.jwt.entity.RefreshToken;
-import com.book.village.server.auth.jwt.repository.RefreshTokenRepository;
+import com.book.village.server.auth.jwt.dto.RefreshTokenDto;
 import com.book.village.server.auth.utils.CustomAuthorityUtils;
 import com.book.village.server.domain.member.entity.Member;
-import com.book.village.server.domain.member.service.MemberService;
 import com.book.village.server.global.exception.CustomLogicException;
 import com.book.village.server.global.exception.ExceptionCode;
+import com.book.village.server.global.utils.Hashes;
+import io.jsonwebtoken.Claims;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
 
+// refresh token 은 Redis 의 rt:<memberId> 에 토큰의 sha256 만 저장한다. TTL 은 refresh token 만료 시간과 같다.
+// 재발급마다 새 refresh token 으로 교체하고, 이미 교체된 토큰이 다시 오면 탈취로 보고 저장된 토큰까지 폐기한다.
+// 단, 방금 교체된 토큰은 REUSE_GRACE 동안 rt:<memberId>:prev 에 남겨 두고, 이 토큰이 오면 폐기하지 않고 409 로 거절한다
+// (탭 두 개가 같은 토큰으로 동시에 재발급하는 경우. 클라이언트는 먼저 받은 새 토큰으로 다시 요청한다).
 @Service
 public class RefreshTokenService {
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final MemberService memberService;
+    private static final String KEY_PREFIX = "rt:";
+    private static final String PREVIOUS_SUFFIX = ":prev";
+    private static final Duration REUSE_GRACE = Duration.ofSeconds(10);
+
+    // KEYS[1] rt:<memberId>, KEYS[2] rt:<memberId>:prev, ARGV[1] 받은 토큰 hash, ARGV[2] 새 토큰 hash,
+    // ARGV[3] TTL(초), ARGV[4] grace(초)
+    // 1: 교체, 0: 저장된 토큰 없음 (만료/로그아웃), 2: 방금 교체된 토큰, -1: 재사용 (저장된 토큰 삭제)
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then " +
+            "  if redis.call('GET', KEYS[2]) == ARGV[1] then return 2 end " +
+            "  redis.call('DEL', KEYS[1], KEYS[2]) return -1 " +
+            "end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', tonumber(ARGV[3])) " +
+            "redis.call('SET', KEYS[2], ARGV[1], 'EX', tonumber(ARGV[4])) " +
+            "return 1", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
     private final CustomAuthorityUtils authorityUtils;
     private final JwtTokenizer jwtTokenizer;
+    private final TokenGenerationService tokenGenerationService;
 
-    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, MemberService memberService, CustomAuthorityUtils authorityUtils, JwtTokenizer jwtTokenizer) {
-        this.refreshTokenRepository = refreshTokenRepository;
-        this.memberService = memberService;
+    public RefreshTokenService(RedisTemplate<String, Object> redisTemplate, CustomAuthorityUtils authorityUtils, JwtTokenizer jwtTokenizer,
+                               TokenGenerationService tokenGenerationService) {
+        this.redisTemplate = redisTemplate;
         this.authorityUtils = authorityUtils;
         this.jwtTokenizer = jwtTokenizer;
+        this.tokenGenerationService = tokenGenerationService;
     }
 
-    public void verifyToken(String email, String token) {
-        RefreshToken refreshToken = findVerifiedToken(email);
-        if (!refreshToken.getRefreshToken().equals(token)) throw new CustomLogicException(ExceptionCode.TOKEN_INVALID);
+    // 로그인. 이전 refresh token 은 덮어써져 더 쓸 수 없다.
+    public String issueToken(Member member) {
+        String refreshToken = createRefreshToken(member.getEmail(), member.getMemberId());
+        redisTemplate.opsForValue().set(key(member.getMemberId()), Hashes.sha256Hex(refreshToken), ttl());
+        return refreshToken;
     }
 
-    public RefreshToken findVerifiedToken(String email) {
-        Optional<RefreshToken> optional =
-                refreshTokenRepository.findByMember(memberService.findMember(email));
-        RefreshToken findRefreshToken = optional.orElseThrow(() -> new CustomLogicException(ExceptionCode.REFRESH_TOKEN_NOT_FOUND));
-        return findRefreshToken;
+    // 재발급. 받은 토큰이 저장된 토큰일 때만 새 토큰으로 바꾼다 (Lua 스크립트 한 번).
+    public RefreshTokenDto rotateToken(String refreshToken) {
+        Claims claims = jwtTokenizer.getRefreshTokenClaims(refreshToken,
+                jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey()));
+        Number memberId = claims.get("memberId", Number.class);
+        if (memberId == null) throw new CustomLogicException(ExceptionCode.TOKEN_INVALID);
+        String email = claims.getSubject();
+
+        String newRefreshToken = createRefreshToken(email, memberId.longValue());
+        Long result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(key(memberId.longValue()), key(memberId.longValue()) + PREVIOUS_SUFFIX),
+                Hashes.sha256Hex(refreshToken), Hashes.sha256Hex(newRefreshToken), String.valueOf(ttl().getSeconds()),
+                String.valueOf(REUSE_GRACE.getSeconds()));
+        if (result == null || result == 0) throw new CustomLogicException(ExceptionCode.REFRESH_TOKEN_NOT_FOUND);
+        if (result == 2) throw new CustomLogicException(ExceptionCode.REFRESH_TOKEN_ROTATED);
+        if (result < 0) throw new CustomLogicException(ExceptionCode.REFRESH_TOKEN_REUSED);
+        return new RefreshTokenDto(getAccessToken(email, memberId.longValue()), newRefreshToken);
     }
-    public String getAccessToken(String email){
-        Member member = memberService.findMember(email);
+
+    // 발급 시점의 gen 을 담는다. revokeAll 이후에는 이 토큰이 거절된다.
+    public String getAccessToken(String email, Long memberId){
         List<String> authorities = authorityUtils.createRoles(email);
 
         Map<String, Object> claims = new HashMap<>();
         claims.put("username", email);
         claims.put("roles", authorities);
+        claims.put("memberId", memberId);
+        claims.put("gen", tokenGenerationService.currentGen(memberId));
 
         String subject = email;
         Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes());
@@ -54,8 +97,22 @@ public class RefreshTokenService {
         return accessToken;
     }
 
-    public void deleteToken(String memberId) {
-        RefreshToken findRefreshToken = findVerifiedToken(memberId);
-        refreshTokenRepository.delete(findRefreshToken);
+    // 로그아웃/탈퇴
+    public void deleteToken(Long memberId) {
+        redisTemplate.delete(List.of(key(memberId), key(memberId) + PREVIOUS_SUFFIX));
+    }
+
+    private String createRefreshToken(String email, Long memberId) {
+        Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMinutes());
+        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
+        return jwtTokenizer.generateRefreshToken(email, memberId, expiration, base64EncodedSecretKey);
+    }
+
+    private Duration ttl() {
+        return Duration.ofMinutes(jwtTokenizer.getRefreshTokenExpirationMinutes());
+    }
+
+    private static String key(Long memberId) {
+        return KEY_PREFIX + memberId;
     }
 }
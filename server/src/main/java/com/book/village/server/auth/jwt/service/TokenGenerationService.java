@@ -0,0 +1,117 @@
+package com.book.village.server.auth.jwt.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 회원별 토큰 세대 (gen). access token 은 발급 시점의 gen 을 담고, gen 이 올라가면 그 전에 발급된 토큰은 모두 거절된다.
+// 모든 기기 로그아웃/탈퇴는 Redis INCR 한 번이고, 폐기된 토큰을 하나하나 저장하지 않는다.
+// 서버마다 memberId -> gen 을 메모리에 들고 있고, 다른 서버에서 올린 gen 은 Redis channel 로 받는다.
+// 메시지를 놓쳐도 cache-ttl 이 지나면 Redis 에서 다시 읽고, 구독 전에는 캐시를 쓰지 않는다.
+@Slf4j
+@Service
+public class TokenGenerationService implements MessageListener {
+    private static final String KEY_PREFIX = "gen:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String channel;
+    private final long cacheTtlNanos;
+    private final Map<Long, CachedGen> cache;
+    private volatile boolean subscribed;
+
+    public TokenGenerationService(RedisTemplate<String, Object> redisTemplate,
+                                  @Value("${token-generation.channel:token-generation}") String channel,
+                                  @Value("${token-generation.cache-size:10000}") int cacheSize,
+                                  @Value("${token-generation.cache-ttl:60s}") Duration cacheTtl) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.cacheTtlNanos = cacheTtl.toNanos();
+        // 오래 안 쓴 회원부터 밀어낸다.
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<Long, CachedGen>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedGen> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    // 새 access token 에 넣을 gen
+    public long currentGen(Long memberId) {
+        if (subscribed) {
+            CachedGen cached = cache.get(memberId);
+            if (cached != null && System.nanoTime() - cached.loadedAt < cacheTtlNanos) return cached.gen;
+        }
+        Object value = redisTemplate.opsForValue().get(key(memberId));
+        long gen = value == null ? 0L : Long.parseLong(value.toString());
+        remember(memberId, gen);
+        return gen;
+    }
+
+    // 토큰의 gen 이 지금 gen 보다 작으면 폐기된 토큰
+    public boolean isRevoked(Long memberId, long tokenGen) {
+        return tokenGen < currentGen(memberId);
+    }
+
+    // 지금까지 발급된 이 회원의 access token 을 모두 폐기한다.
+    public long revokeAll(Long memberId) {
+        Long gen = redisTemplate.opsForValue().increment(key(memberId));
+        remember(memberId, gen);
+        try {
+            redisTemplate.convertAndSend(channel, memberId + ":" + gen);
+        } catch (RuntimeException e) {
+            // 다른 서버는 cache-ttl 안에 Redis 에서 다시 읽는다.
+            log.warn("token generation publish failed: {} ({})", memberId, e.toString());
+        }
+        return gen;
+    }
+
+    // 구독한 뒤부터 캐시를 믿는다.
+    void markSubscribed() {
+        cache.clear();
+        this.subscribed = true;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        try {
+            remember(Long.parseLong(body.substring(0, separator)), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("token generation message dropped: {} ({})", body, e.toString());
+        }
+    }
+
+    // gen 은 줄어들지 않으므로 늦게 도착한 작은 값은 무시한다.
+    private void remember(Long memberId, long gen) {
+        CachedGen loaded = new CachedGen(gen, System.nanoTime());
+        cache.merge(memberId, loaded, (old, now) -> old.gen > now.gen ? old : now);
+    }
+
+    private static String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    private static class CachedGen {
+        private final long gen;
+        private final long loadedAt;
+
+        private CachedGen(long gen, long loadedAt) {
+            this.gen = gen;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
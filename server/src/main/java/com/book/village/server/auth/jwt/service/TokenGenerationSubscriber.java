@@ -0,0 +1,36 @@
+package com.book.village.server.auth.jwt.service;
+
+import com.book.village.server.global.utils.RedisChannelSubscriber;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+
+// 토큰 세대 채널을 구독한다. 실패하면 다음 주기에 다시 시도한다.
+// 구독하기 전까지 TokenGenerationService 는 매번 Redis 에서 gen 을 읽는다.
+@Component
+public class TokenGenerationSubscriber {
+    private final RedisChannelSubscriber subscriber;
+    private final TokenGenerationService tokenGenerationService;
+
+    public TokenGenerationSubscriber(RedisConnectionFactory redisConnectionFactory,
+                                     @Qualifier("redisListenerExecutor") ThreadPoolTaskExecutor executor,
+                                     TokenGenerationService tokenGenerationService) {
+        this.tokenGenerationService = tokenGenerationService;
+        this.subscriber = new RedisChannelSubscriber(redisConnectionFactory, executor,
+                tokenGenerationService.getChannel(), tokenGenerationService);
+    }
+
+    @Scheduled(fixedDelayString = "${token-generation.subscribe-retry-interval:5000}")
+    public void subscribe() {
+        if (subscriber.subscribe()) tokenGenerationService.markSubscribed();
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        subscriber.close();
+    }
+}
@@ -1,14 +1,18 @@
 package com.book.village.server.auth.redis;
 
+import io.lettuce.core.resource.ClientResources;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @RequiredArgsConstructor
 @Configuration
@@ -21,18 +25,34 @@ public class RedisRepositoryConfig {
     @Value("${spring.redis.port}")
     private int port;
 
-    // lettuce
+    // lettuce. 자동 구성된 ClientResources 를 써야 actuator 의 redis command latency 지표가 잡힌다.
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(host, port);
+    public RedisConnectionFactory redisConnectionFactory(ClientResources clientResources) {
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .clientResources(clientResources)
+                .build();
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port), clientConfiguration);
     }
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate() {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
-        redisTemplate.setConnectionFactory(redisConnectionFactory());
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(new StringRedisSerializer());
         return redisTemplate;
     }
+
+    // pub/sub 메시지 처리 (알림, 토큰 세대, 캐시 비우기 채널의 listener container). SSE 쓰기와 스레드를 나눠
+    // 느린 연결로 notificationExecutor 가 밀려도 로그아웃/캐시 비우기 메시지는 늦지 않는다.
+    @Bean
+    public ThreadPoolTaskExecutor redisListenerExecutor(@Value("${redis-listener.pool-size:2}") int poolSize,
+                                                        @Value("${redis-listener.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("redis-listener-");
+        return executor;
+    }
 }
\ No newline at end of file
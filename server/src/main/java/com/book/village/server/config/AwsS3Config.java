@@ -7,8 +7,11 @@ import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
+// loadtest 프로필은 InMemoryAmazonS3 (src/loadtest) 를 쓴다.
 @Configuration
+@Profile("!loadtest")
 public class AwsS3Config {
     @Value("${cloud.aws.credentials.access-key}")
     private String accessKey;
@@ -0,0 +1,64 @@
+package com.book.village.server.config;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 이미지 업로드/처리 전용 스레드 풀. 요청 스레드나 다른 비동기 작업과 풀을 나눠 쓰지 않는다.
+@Configuration
+public class ImageUploadConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor imageUploadExecutor(@Value("${image.upload.pool-size:8}") int poolSize,
+                                                      @Value("${image.upload.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-upload-");
+        // 큐가 차면 요청 스레드가 직접 올린다 (업로드를 버리지 않고 속도만 늦춘다).
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 업로드 뒤 변형 이미지 생성 (ImageProcessingService). 디코딩/리사이즈가 CPU 를 쓰므로 업로드 풀과 나눈다.
+    @Bean
+    public ThreadPoolTaskExecutor imageProcessingExecutor(@Value("${image.processing.pool-size:2}") int poolSize,
+                                                          @Value("${image.processing.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-processing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // multipart-threshold 보다 큰 파일은 multipart upload 로 나눠 올린다. S3 part 최소 크기는 5MB.
+    // 풀과 s3 client 는 각자 스프링 빈으로 정리되므로 TransferManager 는 따로 종료하지 않는다.
+    @Bean(destroyMethod = "")
+    public TransferManager imageTransferManager(AmazonS3 amazonS3,
+                                                @Qualifier("imageUploadExecutor") ThreadPoolTaskExecutor executor,
+                                                @Value("${image.upload.multipart-threshold:8MB}") String threshold,
+                                                @Value("${image.upload.part-size:5MB}") String partSize) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withExecutorFactory(executor::getThreadPoolExecutor)
+                .withShutDownThreadPools(false)
+                .withMultipartUploadThreshold(DataSize.parse(threshold).toBytes())
+                .withMinimumUploadPartSize(DataSize.parse(partSize).toBytes())
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.book.village.server.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// SSE 알림. 서버끼리는 Redis pub/sub 로 알림을 나눠 받는다 (NotificationSubscriber).
+@Configuration
+public class NotificationConfig {
+
+    // SSE 쓰기 전용. 큐가 차면 TaskRejectedException 으로 그 연결을 끊는다 (NotificationStreams).
+    @Bean
+    public ThreadPoolTaskExecutor notificationExecutor(@Value("${notification.pool-size:4}") int poolSize,
+                                                       @Value("${notification.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-");
+        return executor;
+    }
+}
@@ -0,0 +1,52 @@
+package com.book.village.server.config;
+
+import com.book.village.server.global.query.QueryInspectionFilter;
+import com.book.village.server.global.query.QueryInspectionProxy;
+import com.book.village.server.global.query.QueryStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+// query-inspection.enabled=false 로 끌 수 있다. 수집 결과는 /v1/admin/queries 에서 조회.
+@Configuration
+@ConditionalOnProperty(prefix = "query-inspection", name = "enabled", matchIfMissing = true)
+public class QueryInspectionConfig {
+
+    @Bean
+    public QueryStatistics queryStatistics(@Value("${query-inspection.slow-query-millis:200}") long slowQueryMillis,
+                                           @Value("${query-inspection.slow-query-buffer-size:100}") int bufferSize) {
+        return new QueryStatistics(slowQueryMillis, bufferSize);
+    }
+
+    // DataSource 가 만들어지는 즉시 감싸야 JPA, Flyway, JdbcTemplate 모두 프록시를 거친다.
+    @Bean
+    public static BeanPostProcessor queryInspectionDataSourcePostProcessor(ObjectProvider<QueryStatistics> statistics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !QueryInspectionProxy.isProxy(bean)) {
+                    return QueryInspectionProxy.wrap((DataSource) bean, statistics.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryInspectionFilter> queryInspectionFilter(
+            @Value("${query-inspection.request-statement-warn-threshold:30}") int warnThreshold,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        FilterRegistrationBean<QueryInspectionFilter> registration =
+                new FilterRegistrationBean<>(new QueryInspectionFilter(warnThreshold, meterRegistry.getIfAvailable()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,24 @@
+package com.book.village.server.config;
+
+import com.book.village.server.global.ratelimit.RateLimitProperties;
+import com.book.village.server.global.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+// rate-limit.enabled=false 로 끌 수 있다. 필터는 SecurityConfiguration 이 JwtVerificationFilter 앞뒤에 붙인다.
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "rate-limit", name = "enabled", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties properties, RedisTemplate<String, Object> redisTemplate,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RateLimiter(properties, redisTemplate, meterRegistry.getIfAvailable());
+    }
+}
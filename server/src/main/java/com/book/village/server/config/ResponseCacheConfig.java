@@ -0,0 +1,23 @@
+package com.book.village.server.config;
+
+import com.book.village.server.global.cache.ResponseCache;
+import com.book.village.server.global.cache.ResponseCacheFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// response-cache.enabled=false 로 끌 수 있다 (캐시는 비워지기만 하고 쓰이지 않는다).
+@Configuration
+@ConditionalOnProperty(prefix = "response-cache", name = "enabled", matchIfMissing = true)
+public class ResponseCacheConfig {
+
+    // Security filter chain 바로 뒤, DispatcherServlet (OSIV, 컨트롤러) 앞
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(ResponseCache responseCache) {
+        FilterRegistrationBean<ResponseCacheFilter> registration = new FilterRegistrationBean<>(new ResponseCacheFilter(responseCache));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -6,12 +6,16 @@ import com.book.village.server.auth.handler.MemberAccessDeniedHandler;
 import com.book.village.server.auth.handler.MemberAuthenticationEntryPoint;
 import com.book.village.server.auth.handler.OAuth2MemberSuccessHandler;
 import com.book.village.server.auth.jwt.JwtTokenizer;
-import com.book.village.server.auth.jwt.repository.RefreshTokenRepository;
+import com.book.village.server.auth.jwt.service.RefreshTokenService;
+import com.book.village.server.auth.jwt.service.TokenGenerationService;
 import com.book.village.server.auth.service.CustomOAuth2MemberService;
 import com.book.village.server.auth.utils.CustomAuthorityUtils;
 import com.book.village.server.domain.member.repository.MemberRepository;
 import com.book.village.server.domain.member.service.MemberService;
+import com.book.village.server.global.ratelimit.RateLimitFilter;
+import com.book.village.server.global.ratelimit.RateLimiter;
 import com.book.village.server.global.utils.RedirectType;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -33,12 +37,15 @@ public class SecurityConfiguration {
     private final MemberRepository memberRepository;
     private final CustomOAuth2MemberService customOAuth2MemberService;
     private final RedisTemplate redisTemplate;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenGenerationService tokenGenerationService;
     private final RedirectType redirectType;
+    private final ObjectProvider<RateLimiter> rateLimiter;
 
 
     public SecurityConfiguration(JwtTokenizer jwtTokenizer, CustomAuthorityUtils authorityUtils,
-                                 MemberService memberService, MemberRepository memberRepository, CustomOAuth2MemberService customOAuth2MemberService, RedisTemplate redisTemplate, RefreshTokenRepository refreshTokenRepository, RedirectType redirectType) {
+                                 MemberService memberService, MemberRepository memberRepository, CustomOAuth2MemberService customOAuth2MemberService, RedisTemplate redisTemplate, RefreshTokenService refreshTokenService,
+                                 TokenGenerationService tokenGenerationService, RedirectType redirectType, ObjectProvider<RateLimiter> rateLimiter) {
         this.jwtTokenizer = jwtTokenizer;
         this.authorityUtils = authorityUtils;
         this.memberService = memberService;
@@ -46,8 +53,10 @@ public class SecurityConfiguration {
         this.customOAuth2MemberService = customOAuth2MemberService;
         this.redisTemplate = redisTemplate;
 
-        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenGenerationService = tokenGenerationService;
         this.redirectType = redirectType;
+        this.rateLimiter = rateLimiter;
     }
 
     @Bean
@@ -68,9 +77,10 @@ public class SecurityConfiguration {
                 .apply(new CustomFilterConfigurer())
                 .and()
                 .authorizeHttpRequests(authorize -> authorize
+                        .antMatchers("/v1/admin/**").hasRole("ADMIN")
                         .anyRequest().permitAll())
                 .oauth2Login()
-                .successHandler(new OAuth2MemberSuccessHandler(jwtTokenizer, authorityUtils, memberService, memberRepository, refreshTokenRepository, redirectType))
+                .successHandler(new OAuth2MemberSuccessHandler(jwtTokenizer, authorityUtils, memberService, memberRepository, refreshTokenService, redirectType))
                 .userInfoEndpoint() // OAuth2 로그인 성공 이후 사용자 정보를 가져올 때 설정을 저장
                 .userService(customOAuth2MemberService); // OAuth2 로그인 성공 시, 후작업을 진행할 UserService 인터페이스 구현체 등록
 
@@ -82,8 +92,13 @@ public class SecurityConfiguration {
         public void configure(HttpSecurity builder) throws Exception {
             AuthExceptionHandlerFilter authExceptionHandlerFilter = new AuthExceptionHandlerFilter();
             builder.addFilterBefore(authExceptionHandlerFilter, LogoutFilter.class);
-            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenizer, authorityUtils,redisTemplate, memberService);
+            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenizer, authorityUtils,redisTemplate, memberService, tokenGenerationService);
             builder.addFilterAfter(jwtVerificationFilter, OAuth2LoginAuthenticationFilter.class);
+            // IP/전체 한도는 토큰 검증 전에, 회원 한도는 로그인한 회원을 알아야 하므로 토큰 검증 뒤에서 제한한다.
+            rateLimiter.ifAvailable(limiter -> {
+                builder.addFilterBefore(RateLimitFilter.client(limiter), JwtVerificationFilter.class);
+                builder.addFilterAfter(RateLimitFilter.member(limiter), JwtVerificationFilter.class);
+            });
         }
     }
 }
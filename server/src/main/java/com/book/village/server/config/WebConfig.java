@@ -2,11 +2,20 @@ package com.book.village.server.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+    // StreamingResponseBody 응답(회원 데이터 내보내기 등)이 컨테이너 기본 30초에 끊기지 않도록
+    private static final long ASYNC_REQUEST_TIMEOUT_MILLIS = 10 * 60 * 1000L;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(ASYNC_REQUEST_TIMEOUT_MILLIS);
+    }
+
     @Bean
     public WebMvcConfigurer corsConfigurer() {
         return new WebMvcConfigurer() {
@@ -4,6 +4,7 @@ import com.book.village.server.domain.book.dto.BookDto;
 import com.book.village.server.domain.book.entity.Book;
 import com.book.village.server.domain.book.mapper.BookMapper;
 import com.book.village.server.domain.book.service.BookService;
+import com.book.village.server.global.response.ListResponse;
 import com.book.village.server.global.response.PageInfo;
 import com.book.village.server.global.response.PageResponseDto;
 import com.book.village.server.global.response.SingleResponse;
@@ -16,7 +17,10 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Size;
 import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
 
 @RestController
 @Validated
@@ -41,8 +45,18 @@ public class BookController {
 
     @GetMapping("/{book-id}")
     public ResponseEntity getBook(@PathVariable("book-id") long bookId){
-        Book book=bookService.findBook(bookId);
-        return ResponseEntity.ok(new SingleResponse<>(mapper.bookToBookResponseDto(book)));
+        return ResponseEntity.ok(new SingleResponse<>(bookService.findBookResponse(bookId)));
+    }
+
+    // 여러 권을 한 번에 (GET /v1/books?ids=1,2,3). 요청한 순서대로, 없는 id 는 빠진다.
+    @GetMapping(params = "ids")
+    public ResponseEntity getBooksByIds(@RequestParam @Size(max = 100) List<Long> ids){
+        List<Book> books = bookService.findBooks(ids);
+        List<BookDto.Response> responses = new ArrayList<>(books.size());
+        for (Book book : books) {
+            responses.add(mapper.bookToBookResponseDto(book));
+        }
+        return ResponseEntity.ok(new ListResponse<>(responses));
     }
 
     @GetMapping
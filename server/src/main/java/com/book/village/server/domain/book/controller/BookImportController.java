@@ -0,0 +1,43 @@
+package com.book.village.server.domain.book.controller;
+
+import com.book.village.server.domain.book.dto.BookImportDto;
+import com.book.village.server.domain.book.service.BookImportService;
+import com.book.village.server.global.response.ListResponse;
+import com.book.village.server.global.response.SingleResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// 관리자 전용 (SecurityConfiguration 의 /v1/admin/** 참고)
+@RestController
+@RequestMapping("/v1/admin/books")
+public class BookImportController {
+    private final BookImportService bookImportService;
+
+    public BookImportController(BookImportService bookImportService) {
+        this.bookImportService = bookImportService;
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity importBooks(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                      InputStream inputStream) throws IOException {
+        BookImportDto.Progress progress =
+                bookImportService.importBooks(bookImportService.resolveFormat(contentType), inputStream);
+        return new ResponseEntity<>(new SingleResponse<>(progress), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/imports")
+    public ResponseEntity getImports() {
+        return ResponseEntity.ok(new ListResponse<>(bookImportService.findImports()));
+    }
+
+    @GetMapping("/imports/{job-id}")
+    public ResponseEntity getImport(@PathVariable("job-id") String jobId) {
+        return ResponseEntity.ok(new SingleResponse<>(bookImportService.findImport(jobId)));
+    }
+}
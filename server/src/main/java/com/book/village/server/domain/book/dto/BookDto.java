@@ -2,6 +2,8 @@ package com.book.village.server.domain.book.dto;
 
 
 import com.book.village.server.domain.rate.dto.RateDto;
+import com.book.village.server.image.ImageUrlSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.*;
 
 import javax.persistence.Column;
@@ -40,6 +42,7 @@ public class BookDto {
         private String author;
         private String publisher;
         @Lob
+        @JsonSerialize(using = ImageUrlSerializer.class)
         private String thumbnail;
         private Double avgRate;
         private List<RateDto.Response> rates;
@@ -0,0 +1,50 @@
+package com.book.village.server.domain.book.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+public class BookImportDto {
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    @ToString
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Row {
+        private String isbn;
+        @JsonAlias("title")
+        private String bookTitle;
+        private String author;
+        private String publisher;
+        private String thumbnail;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    @ToString
+    public static class Progress {
+        private String jobId;
+        private Format format;
+        private Status status;
+        private Long totalRows;
+        private Long upsertedRows;
+        private Long duplicateRows;
+        private Long invalidRows;
+        private Long elapsedMillis;
+        private Long rowsPerSecond;
+        private LocalDateTime startedAt;
+    }
+}
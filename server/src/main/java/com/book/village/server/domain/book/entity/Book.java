@@ -2,6 +2,7 @@ package com.book.village.server.domain.book.entity;
 
 import com.book.village.server.domain.rate.entity.Rate;
 import com.book.village.server.global.audit.Auditable;
+import com.book.village.server.image.ImageVariantListener;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,11 +14,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(ImageVariantListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Book extends Auditable {
+    public static final String DEFAULT_THUMBNAIL = "https://dimg.donga.com/wps/NEWS/IMAGE/2011/11/17/41939226.1.jpg";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long bookId;
@@ -34,9 +38,9 @@ public class Book extends Auditable {
     @Column
     private String publisher;
 
-    @Column
-    @Lob
-    private String thumbnail="https://dimg.donga.com/wps/NEWS/IMAGE/2011/11/17/41939226.1.jpg";
+    // 이 버킷에 올린 이미지는 object key, 외부 이미지는 url 그대로 (응답 url 은 ImageUrls 가 만든다)
+    @Column(name = "thumbnail_key", length = 512)
+    private String thumbnail=DEFAULT_THUMBNAIL;
 
     @Column
     private Long totalRate=0L;
@@ -0,0 +1,78 @@
+package com.book.village.server.domain.book.repository;
+
+import com.book.village.server.domain.book.dto.BookImportDto;
+import com.book.village.server.domain.book.entity.Book;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class BookJdbcRepository {
+    // isbn 기준 upsert. 기존 도서의 평점 집계와 생성일은 유지한다.
+    private static final String MYSQL_UPSERT =
+            "insert into book (isbn, book_title, author, publisher, thumbnail_key, total_rate, rate_count, avg_rate, created_at, modified_at) " +
+            "values (?, ?, ?, ?, coalesce(?, '" + Book.DEFAULT_THUMBNAIL + "'), 0, 0, 0, ?, ?) " +
+            "on duplicate key update book_title = values(book_title), author = values(author), publisher = values(publisher), " +
+            "thumbnail_key = if(? is null, thumbnail_key, values(thumbnail_key)), modified_at = values(modified_at)";
+
+    private static final String H2_UPSERT =
+            "merge into book b using (values (cast(? as varchar(50)), cast(? as varchar(255)), cast(? as varchar(255)), " +
+            "cast(? as varchar(255)), cast(? as varchar(512)), cast(? as timestamp))) " +
+            "s(isbn, book_title, author, publisher, thumbnail, ts) on b.isbn = s.isbn " +
+            "when matched then update set b.book_title = s.book_title, b.author = s.author, b.publisher = s.publisher, " +
+            "b.thumbnail_key = coalesce(s.thumbnail, b.thumbnail_key), b.modified_at = s.ts " +
+            "when not matched then insert (isbn, book_title, author, publisher, thumbnail_key, total_rate, rate_count, avg_rate, created_at, modified_at) " +
+            "values (s.isbn, s.book_title, s.author, s.publisher, coalesce(s.thumbnail, '" + Book.DEFAULT_THUMBNAIL + "'), 0, 0, 0, s.ts, s.ts)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean mysql;
+
+    public BookJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // chunk 단위 batch upsert. isbn 은 정규화/중복 제거된 상태로 넘어와야 한다.
+    public void upsertAll(List<BookImportDto.Row> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (isMysql()) {
+            jdbcTemplate.batchUpdate(MYSQL_UPSERT, rows, rows.size(), (ps, row) -> {
+                ps.setString(1, row.getIsbn());
+                ps.setString(2, row.getBookTitle());
+                ps.setString(3, row.getAuthor());
+                ps.setString(4, row.getPublisher());
+                ps.setString(5, row.getThumbnail());
+                ps.setTimestamp(6, now);
+                ps.setTimestamp(7, now);
+                ps.setString(8, row.getThumbnail());
+            });
+        } else {
+            jdbcTemplate.batchUpdate(H2_UPSERT, rows, rows.size(), (ps, row) -> {
+                ps.setString(1, row.getIsbn());
+                ps.setString(2, row.getBookTitle());
+                ps.setString(3, row.getAuthor());
+                ps.setString(4, row.getPublisher());
+                ps.setString(5, row.getThumbnail());
+                ps.setTimestamp(6, now);
+            });
+        }
+    }
+
+    private boolean isMysql() {
+        if (mysql == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                        DatabaseMetaData::getDatabaseProductName);
+                mysql = product.toLowerCase().contains("mysql") || product.toLowerCase().contains("mariadb");
+            } catch (MetaDataAccessException e) {
+                mysql = false;
+            }
+        }
+        return mysql;
+    }
+}
@@ -3,9 +3,12 @@ package com.book.village.server.domain.book.repository;
 import com.book.village.server.domain.book.entity.Book;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,4 +23,8 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     Page<Book> findAllByAuthorContaining(String keyword, Pageable pageable);
 
     Page<Book> findAllByPublisherContaining(String keyword, Pageable pageable);
+
+    // 여러 권을 한 번에. 상세 응답에 들어가는 평점과 평점 작성자까지 join 해서 가져온다.
+    @EntityGraph(attributePaths = {"rates", "rates.member"})
+    List<Book> findDistinctByBookIdIn(Collection<Long> bookIds);
 }
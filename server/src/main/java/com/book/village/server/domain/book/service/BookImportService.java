@@ -0,0 +1,248 @@
+package com.book.village.server.domain.book.service;
+
+import com.book.village.server.domain.book.dto.BookImportDto;
+import com.book.village.server.domain.book.repository.BookJdbcRepository;
+import com.book.village.server.domain.book.utils.IsbnUtils;
+import com.book.village.server.global.cache.ResponseCache;
+import com.book.village.server.global.exception.CustomLogicException;
+import com.book.village.server.global.exception.ExceptionCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class BookImportService {
+    private static final int CHUNK_SIZE = 1000;
+    private static final int PROGRESS_LOG_CHUNKS = 50;
+    private static final int MAX_JOB_HISTORY = 20;
+    private static final int MAX_COLUMN_LENGTH = 255;
+    private static final int MAX_THUMBNAIL_LENGTH = 512;
+
+    private final BookJdbcRepository bookJdbcRepository;
+    private final ResponseCache responseCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader rowReader;
+    private final Deque<ImportJob> jobs = new ConcurrentLinkedDeque<>();
+
+    public BookImportService(BookJdbcRepository bookJdbcRepository, ResponseCache responseCache,
+                             PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.bookJdbcRepository = bookJdbcRepository;
+        this.responseCache = responseCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rowReader = objectMapper.readerFor(BookImportDto.Row.class);
+    }
+
+    public BookImportDto.Format resolveFormat(String contentType) {
+        if (contentType != null) {
+            String type = contentType.toLowerCase();
+            if (type.contains("csv")) return BookImportDto.Format.CSV;
+            if (type.contains("ndjson") || type.contains("x-json-stream") || type.contains("jsonl"))
+                return BookImportDto.Format.NDJSON;
+        }
+        throw new CustomLogicException(ExceptionCode.BOOK_IMPORT_FORMAT_UNSUPPORTED);
+    }
+
+    // 업로드 본문을 한 줄씩 읽으며 chunk 단위로 upsert 한다. 본문 전체를 메모리에 올리지 않는다.
+    public BookImportDto.Progress importBooks(BookImportDto.Format format, InputStream inputStream) throws IOException {
+        ImportJob job = register(format);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 1 << 16)) {
+            RowParser parser = format == BookImportDto.Format.CSV ? csvParser(reader) : rowReader::readValue;
+            // isbn-13 은 long 에 들어가므로 문자열 대신 long 으로 중복 체크
+            Set<Long> seen = new HashSet<>();
+            List<BookImportDto.Row> chunk = new ArrayList<>(CHUNK_SIZE);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                job.total.incrementAndGet();
+                BookImportDto.Row row = parse(parser, line);
+                String isbn = row == null ? null : IsbnUtils.normalize(row.getIsbn());
+                if (isbn == null || !StringUtils.hasText(row.getBookTitle())) {
+                    job.invalid.incrementAndGet();
+                    continue;
+                }
+                if (!seen.add(Long.parseLong(isbn))) {
+                    job.duplicate.incrementAndGet();
+                    continue;
+                }
+                chunk.add(clean(row, isbn));
+                if (chunk.size() == CHUNK_SIZE) {
+                    flush(job, chunk);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) flush(job, chunk);
+            job.status = BookImportDto.Status.COMPLETED;
+        } catch (IOException | RuntimeException e) {
+            job.status = BookImportDto.Status.FAILED;
+            log.warn("book import {} failed after {} rows: {}", job.id, job.total.get(), e.getMessage());
+            throw e;
+        } finally {
+            job.finishedAt = System.nanoTime();
+        }
+        BookImportDto.Progress progress = job.toProgress();
+        log.info("book import {} finished: {}", job.id, progress);
+        return progress;
+    }
+
+    public List<BookImportDto.Progress> findImports() {
+        return jobs.stream().map(ImportJob::toProgress).collect(Collectors.toList());
+    }
+
+    public BookImportDto.Progress findImport(String jobId) {
+        return jobs.stream()
+                .filter(job -> job.id.equals(jobId))
+                .findFirst()
+                .map(ImportJob::toProgress)
+                .orElseThrow(() -> new CustomLogicException(ExceptionCode.BOOK_IMPORT_NOT_FOUND));
+    }
+
+    private void flush(ImportJob job, List<BookImportDto.Row> chunk) {
+        transactionTemplate.executeWithoutResult(status -> bookJdbcRepository.upsertAll(chunk));
+        // upsert 는 어떤 book_id 가 바뀌었는지 돌려주지 않으므로 커밋된 chunk 마다 도서 캐시를 모두 비운다.
+        responseCache.evict(ResponseCache.BOOKS);
+        job.upserted.addAndGet(chunk.size());
+        if (job.chunks.incrementAndGet() % PROGRESS_LOG_CHUNKS == 0) {
+            log.info("book import {} progress: {}", job.id, job.toProgress());
+        }
+    }
+
+    private ImportJob register(BookImportDto.Format format) {
+        ImportJob job = new ImportJob(format);
+        jobs.addFirst(job);
+        while (jobs.size() > MAX_JOB_HISTORY) jobs.pollLast();
+        return job;
+    }
+
+    private BookImportDto.Row parse(RowParser parser, String line) {
+        try {
+            return parser.parse(line);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private BookImportDto.Row clean(BookImportDto.Row row, String isbn) {
+        row.setIsbn(isbn);
+        row.setBookTitle(truncate(row.getBookTitle()));
+        row.setAuthor(truncate(row.getAuthor()));
+        row.setPublisher(truncate(row.getPublisher()));
+        // 잘린 url 은 쓸 수 없으므로 thumbnail_key 보다 길면 버리고 기존 (기본) 이미지를 쓴다.
+        String thumbnail = StringUtils.hasText(row.getThumbnail()) ? row.getThumbnail().trim() : null;
+        row.setThumbnail(thumbnail != null && thumbnail.length() <= MAX_THUMBNAIL_LENGTH ? thumbnail : null);
+        return row;
+    }
+
+    private String truncate(String value) {
+        if (value == null) return null;
+        String trimmed = value.trim();
+        return trimmed.length() > MAX_COLUMN_LENGTH ? trimmed.substring(0, MAX_COLUMN_LENGTH) : trimmed;
+    }
+
+    // 첫 줄의 header 로 컬럼 위치를 정한다. (isbn 필수, bookTitle|title, author, publisher, thumbnail)
+    private RowParser csvParser(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        while (header != null && header.isBlank()) header = reader.readLine();
+        if (header == null) return line -> null;
+        if (header.startsWith("\uFEFF")) header = header.substring(1);
+
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = splitCsv(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase().replace("_", ""), i);
+        }
+        Integer isbn = columns.get("isbn");
+        if (isbn == null) throw new CustomLogicException(ExceptionCode.BOOK_IMPORT_HEADER_INVALID);
+        Integer title = columns.getOrDefault("booktitle", columns.get("title"));
+        Integer author = columns.get("author");
+        Integer publisher = columns.get("publisher");
+        Integer thumbnail = columns.get("thumbnail");
+
+        return line -> {
+            List<String> values = splitCsv(line);
+            return new BookImportDto.Row(column(values, isbn), column(values, title), column(values, author),
+                    column(values, publisher), column(values, thumbnail));
+        };
+    }
+
+    private static String column(List<String> values, Integer index) {
+        return index == null || index >= values.size() ? null : values.get(index);
+    }
+
+    // RFC 4180 형식의 한 줄 분리 (따옴표, "" 이스케이프 지원. 필드 내 줄바꿈은 지원하지 않음)
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        sb.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    sb.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(sb.toString());
+                sb.setLength(0);
+            } else {
+                sb.append(c);
+            }
+        }
+        values.add(sb.toString());
+        return values;
+    }
+
+    @FunctionalInterface
+    private interface RowParser {
+        BookImportDto.Row parse(String line) throws IOException;
+    }
+
+    private static class ImportJob {
+        private final String id = UUID.randomUUID().toString();
+        private final BookImportDto.Format format;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong upserted = new AtomicLong();
+        private final AtomicLong duplicate = new AtomicLong();
+        private final AtomicLong invalid = new AtomicLong();
+        private final AtomicLong chunks = new AtomicLong();
+        private volatile BookImportDto.Status status = BookImportDto.Status.RUNNING;
+        private volatile long finishedAt;
+
+        private ImportJob(BookImportDto.Format format) {
+            this.format = format;
+        }
+
+        private BookImportDto.Progress toProgress() {
+            long end = finishedAt == 0 ? System.nanoTime() : finishedAt;
+            long elapsedMillis = Math.max(1, (end - startedNanos) / 1_000_000);
+            long rows = total.get();
+            return new BookImportDto.Progress(id, format, status, rows, upserted.get(), duplicate.get(),
+                    invalid.get(), elapsedMillis, rows * 1000 / elapsedMillis, startedAt);
+        }
+    }
+}
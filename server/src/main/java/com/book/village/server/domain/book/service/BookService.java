@@ -1,29 +1,49 @@
 package com.book.village.server.domain.book.service;
 
+import com.book.village.server.domain.book.dto.BookDto;
 import com.book.village.server.domain.book.entity.Book;
+import com.book.village.server.domain.book.mapper.BookMapper;
 import com.book.village.server.domain.book.repository.BookRepository;
 import com.book.village.server.domain.member.service.MemberService;
 import com.book.village.server.global.exception.CustomLogicException;
 import com.book.village.server.global.exception.ExceptionCode;
 import com.book.village.server.global.utils.CustomBeanUtils;
+import com.book.village.server.global.utils.RequestCoalescer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class BookService {
     private final BookRepository repository;
     private final CustomBeanUtils<Book> beanUtils;
+    private final BookMapper mapper;
+    private final RequestCoalescer<Long, BookDto.Response> bookLookups;
 
-    public BookService(BookRepository repository, CustomBeanUtils<Book> beanUtils) {
+    public BookService(BookRepository repository, CustomBeanUtils<Book> beanUtils, BookMapper mapper,
+                       @Value("${batch-lookup.window:2ms}") Duration window,
+                       @Value("${batch-lookup.max-size:100}") int maxSize) {
         this.repository = repository;
         this.beanUtils = beanUtils;
+        this.mapper = mapper;
+        this.bookLookups = new RequestCoalescer<>(this::loadBookResponses, window, maxSize);
     }
 
     public Book createBook(Book book){
@@ -39,6 +59,24 @@ public class BookService {
     public Book findBook(long bookId){
         return findVerifiedBook(bookId);
     }
+    // 동시에 들어온 상세 조회는 한 번의 IN 조회로 모은다.
+    // 모으는 동안 커넥션을 잡지 않도록 트랜잭션 없이 (조회는 repository 트랜잭션에서)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BookDto.Response findBookResponse(long bookId){
+        BookDto.Response response = bookLookups.get(bookId);
+        if (response == null) throw new CustomLogicException(ExceptionCode.BOOK_NOT_FOUND);
+        return response;
+    }
+
+    // 요청한 순서대로. 중복은 한 번만, 없는 id 는 빠진다.
+    @Transactional(readOnly = true)
+    public List<Book> findBooks(List<Long> bookIds){
+        Set<Long> ids = new LinkedHashSet<>(bookIds);
+        Map<Long, Book> books = repository.findDistinctByBookIdIn(ids).stream()
+                .collect(Collectors.toMap(Book::getBookId, Function.identity()));
+        return ids.stream().map(books::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     public Page<Book> findBooks(Pageable pageable){
         return repository.findAll(pageable);
     }
@@ -70,6 +108,12 @@ public class BookService {
         return book;
     }
 
+    // leader 스레드의 영속성 컨텍스트 안에서 dto 로 바꿔 넘긴다 (엔티티는 다른 요청 스레드에 넘기지 않는다).
+    private Map<Long, BookDto.Response> loadBookResponses(Collection<Long> bookIds){
+        return repository.findDistinctByBookIdIn(bookIds).stream()
+                .collect(Collectors.toMap(Book::getBookId, mapper::bookToBookResponseDto));
+    }
+
     public void verifyExistsIsbn(String isbn){
         Optional<Book> book = repository.findByIsbn(isbn);
         if(book.isPresent()) throw new CustomLogicException(ExceptionCode.BOOK_EXISTS);
@@ -0,0 +1,67 @@
+package com.book.village.server.domain.book.utils;
+
+public class IsbnUtils {
+    private IsbnUtils() {
+    }
+
+    // ISBN-10, ISBN-13, 하이픈 포함, "ISBN10 ISBN13" 형태를 모두 ISBN-13 으로 정규화. 유효하지 않으면 null
+    public static String normalize(String raw) {
+        if (raw == null) return null;
+        String isbn10 = null;
+        for (String token : raw.trim().split("[\\s,]+")) {
+            String cleaned = clean(token);
+            if (cleaned.length() == 13 && isValidIsbn13(cleaned)) return cleaned;
+            if (isbn10 == null && cleaned.length() == 10 && isValidIsbn10(cleaned)) isbn10 = cleaned;
+        }
+        return isbn10 == null ? null : toIsbn13(isbn10);
+    }
+
+    public static boolean isValidIsbn13(String isbn) {
+        if (isbn.length() != 13) return false;
+        int sum = 0;
+        for (int i = 0; i < 13; i++) {
+            char c = isbn.charAt(i);
+            if (c < '0' || c > '9') return false;
+            sum += (c - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return sum % 10 == 0;
+    }
+
+    public static boolean isValidIsbn10(String isbn) {
+        if (isbn.length() != 10) return false;
+        int sum = 0;
+        for (int i = 0; i < 10; i++) {
+            char c = isbn.charAt(i);
+            int digit;
+            if (c >= '0' && c <= '9') digit = c - '0';
+            else if (c == 'X' && i == 9) digit = 10;
+            else return false;
+            sum += digit * (10 - i);
+        }
+        return sum % 11 == 0;
+    }
+
+    // 앞 12자리로 ISBN-13 체크 디지트 계산
+    public static char isbn13CheckDigit(CharSequence first12) {
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            sum += (first12.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return (char) ('0' + (10 - sum % 10) % 10);
+    }
+
+    private static String toIsbn13(String isbn10) {
+        StringBuilder sb = new StringBuilder(13).append("978").append(isbn10, 0, 9);
+        return sb.append(isbn13CheckDigit(sb)).toString();
+    }
+
+    private static String clean(String token) {
+        StringBuilder sb = new StringBuilder(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c >= '0' && c <= '9') sb.append(c);
+            else if (c == 'x' || c == 'X') sb.append('X');
+        }
+        return sb.toString();
+    }
+}
@@ -4,6 +4,7 @@ import com.book.village.server.domain.borrow.dto.BorrowDto;
 import com.book.village.server.domain.borrow.entity.Borrow;
 import com.book.village.server.domain.borrow.mapper.BorrowMapper;
 import com.book.village.server.domain.borrow.service.BorrowService;
+import com.book.village.server.domain.statistics.service.UniqueViewService;
 import com.book.village.server.global.response.ListResponse;
 import com.book.village.server.global.response.PageInfo;
 import com.book.village.server.global.response.PageResponseDto;
@@ -16,6 +17,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.constraints.Size;
 import java.security.Principal;
 import java.util.List;
 
@@ -67,14 +70,14 @@ public class BorrowController {
 //     Borrow 조회
 //      그냥 조회는 인증 굳이 필요없음.
     @GetMapping("/{borrow-id}")
-    public ResponseEntity getBorrow(@PathVariable("borrow-id")Long borrowId) {
+    public ResponseEntity getBorrow(@PathVariable("borrow-id")Long borrowId,
+                                    Principal principal, HttpServletRequest request) {
         // 서비스클래스에서 검증처리 됨.
-        Borrow getBorrow = borrowService.findVerificationBorrow(borrowId);
-        getBorrow.setView(getBorrow.getView()+1);
-        borrowService.updateBorrow(getBorrow, getBorrow.getMember().getEmail());
+        Borrow getBorrow = borrowService.viewBorrow(borrowId);
+        BorrowDto.Response response = borrowMapper.borrowToBorrowDtoResponse(getBorrow);
+        response.setUniqueViews(borrowService.countUniqueView(borrowId, UniqueViewService.visitorOf(principal, request)));
         // 결과가 나오면 return
-        return new ResponseEntity(new SingleResponse<>(borrowMapper.borrowToBorrowDtoResponse(getBorrow)),
-                HttpStatus.OK);
+        return new ResponseEntity(new SingleResponse<>(response), HttpStatus.OK);
     }
 
     // Borrow 전체조회
@@ -86,6 +89,14 @@ public class BorrowController {
                         new PageInfo(borrows.getPageable(), borrows.getTotalElements())), HttpStatus.OK);
     }
 
+    // 여러 나눔글을 한 번에 (목록 응답 형식). 요청한 순서대로, 없는 id 는 빠진다. 조회수는 올리지 않는다.
+    @GetMapping("/batch")
+    public ResponseEntity getBorrowsByIds(@RequestParam @Size(max = 100) List<Long> ids) {
+        List<Borrow> borrows = borrowService.findBorrows(ids);
+        return new ResponseEntity<>(
+                new ListResponse<>(borrowMapper.borrowsToBorrowResponseDtos(borrows)), HttpStatus.OK);
+    }
+
     @GetMapping("/mine")
     public ResponseEntity getMyBorrows(@PageableDefault Pageable pageable, Principal principal){
         Page<Borrow> borrows = borrowService.findMyBorrows(principal.getName(), pageable);
@@ -107,6 +118,22 @@ public class BorrowController {
                 new PageInfo(borrows.getPageable(), borrows.getTotalElements())), HttpStatus.OK);
     }
 
+    // 이 나눔글의 책을 찾는 요청글
+    @GetMapping("/{borrow-id}/matches")
+    public ResponseEntity getMatches(@PathVariable("borrow-id") Long borrowId) {
+        return new ResponseEntity<>(
+                new ListResponse<>(borrowService.findMatchingRequests(borrowId)), HttpStatus.OK);
+    }
+
+    // 내 동네 (회원 주소) 에서 가까운 나눔 가능한 글
+    @GetMapping("/nearby")
+    public ResponseEntity getNearbyBorrows(Principal principal,
+                                           @RequestParam(defaultValue = "3") double radiusKm,
+                                           @RequestParam(defaultValue = "20") int size) {
+        return new ResponseEntity<>(
+                new ListResponse<>(borrowService.findNearbyBorrows(principal.getName(), radiusKm, size)), HttpStatus.OK);
+    }
+
     @GetMapping("/rank")
     public ResponseEntity BorrowRank() {
         return new ResponseEntity(
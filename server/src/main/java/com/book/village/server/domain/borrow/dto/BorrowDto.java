@@ -1,6 +1,9 @@
 package com.book.village.server.domain.borrow.dto;
 
 import com.book.village.server.domain.borrowcomment.dto.BorrowCommentDto;
+import com.book.village.server.image.ImageUrlSerializer;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.*;
 
 import javax.persistence.Lob;
@@ -60,8 +63,7 @@ public class BorrowDto {
 
         private String talkUrl;     // 톡 링크
 
-        private Boolean borrowWhthr; // 나눔 가능여부
-        private Long view;      // 조회 수
+        // 나눔 상태 (borrowWhthr) 는 나눔 완료/신청 수락으로만 바뀌어 수정 요청에 두지 않는다.
     }
 
 
@@ -80,20 +82,26 @@ public class BorrowDto {
         private String author;      // 나눔 책 저자
         private String publisher;   // 나눔 책 출판사
         @Lob
+        @JsonSerialize(using = ImageUrlSerializer.class)
         private String thumbnail;
         private String displayName; // 회원 닉네임
         @Lob
+        @JsonSerialize(using = ImageUrlSerializer.class)
         private String imgUrl;
         private String talkUrl;     // 톡링크
 
         private Boolean borrowWhthr; // 나눔 가능여부
         private Long view;      // 조회 수
+        private Long commentCount;  // 댓글 수
 
         private List<BorrowCommentDto.Response> borrowComments; // 나눔 댓글리스트.
 
         private LocalDateTime createdAt;     // 나눔글 생성 일자
 
         private LocalDateTime modifiedAt;   // 나눔글 최근 수정 일자
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long uniqueViews;   // 순 방문자 수 (상세 조회에서만)
     }
 
     @AllArgsConstructor
@@ -3,12 +3,15 @@ package com.book.village.server.domain.borrow.entity;
 import com.book.village.server.domain.borrowcomment.entity.BorrowComment;
 import com.book.village.server.domain.member.entity.Member;
 import com.book.village.server.global.audit.Auditable;
+import com.book.village.server.image.ImageVariantListener;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(ImageVariantListener.class)
 @Getter
 @Setter
 @Builder
@@ -35,8 +38,7 @@ public class Borrow extends Auditable {
     @Column(length = 50)
     private String publisher;
 
-    @Column
-    @Lob
+    @Column(name = "thumbnail_key", length = 512)
     private String thumbnail="https://dimg.donga.com/wps/NEWS/IMAGE/2011/11/17/41939226.1.jpg";
 
     @Column(length = 50)
@@ -48,6 +50,11 @@ public class Borrow extends Auditable {
     @Column
     private Long view = 0L;
 
+    // 댓글 수. 댓글 서비스의 update 쿼리 (addCommentCount) 로만 바뀐다. 엔티티 저장이 덮어쓰지 않도록 insert/update 에서 뺀다.
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long commentCount;
+
     @Column
     private Boolean borrowWhthr = true;
 
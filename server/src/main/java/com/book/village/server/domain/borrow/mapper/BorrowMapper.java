@@ -17,6 +17,17 @@ public interface BorrowMapper {
     Borrow borrowDtoPatchToBorrow(BorrowDto.Patch borrowDtoPatch);
 
     default BorrowDto.Response borrowToBorrowDtoResponse(Borrow borrow) {
+        BorrowDto.Response response = borrowToBorrowSummaryResponse(borrow);
+        if (response != null && borrow.getBorrowComments() != null) {
+            response.setBorrowComments(borrow.getBorrowComments().stream()
+                    .map(borrowComment -> borrowCommentMapper.borrowCommentToBorrowCommentResponseDto(borrowComment))
+                    .collect(Collectors.toList()));
+        }
+        return response;
+    }
+
+    // 목록용. 댓글 컬렉션을 읽지 않는다 (댓글 수는 commentCount).
+    default BorrowDto.Response borrowToBorrowSummaryResponse(Borrow borrow) {
         if (borrow == null) {
             return null;
         }
@@ -33,11 +44,7 @@ public interface BorrowMapper {
         response.setTalkUrl(borrow.getTalkUrl());
         response.setBorrowWhthr(borrow.getBorrowWhthr());
         response.setView(borrow.getView());
-        if (borrow.getBorrowComments() != null) {
-            response.setBorrowComments(borrow.getBorrowComments().stream()
-                    .map(borrowComment -> borrowCommentMapper.borrowCommentToBorrowCommentResponseDto(borrowComment))
-                    .collect(Collectors.toList()));
-        }
+        response.setCommentCount(borrow.getCommentCount());
         response.setCreatedAt(borrow.getCreatedAt());
         response.setModifiedAt(borrow.getModifiedAt());
 
@@ -50,9 +57,7 @@ public interface BorrowMapper {
         }
         List<BorrowDto.Response> list = new ArrayList<BorrowDto.Response>(  borrows.size() );
         for( Borrow borrow : borrows) {
-            BorrowDto.Response response = borrowToBorrowDtoResponse( borrow );
-            response.setBorrowComments(null);
-            list.add(response);
+            list.add(borrowToBorrowSummaryResponse( borrow ));
         }
         return list;
     }
@@ -3,9 +3,19 @@ package com.book.village.server.domain.borrow.repository;
 import com.book.village.server.domain.borrow.entity.Borrow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface BorrowRepository extends JpaRepository<Borrow, Long> {
 
@@ -23,4 +33,28 @@ public interface BorrowRepository extends JpaRepository<Borrow, Long> {
     Page<Borrow> findAllByAuthor(String keyword, Pageable pageable);
     Page<Borrow> findAllByPublisher(String keyword, Pageable pageable);
 
+    // 여러 글을 한 번에. 목록 응답에는 댓글이 없으므로 작성자만 join
+    @EntityGraph(attributePaths = "member")
+    List<Borrow> findAllByBorrowIdIn(Collection<Long> borrowIds);
+
+    // 공유 잠금으로 읽는다 (MySQL: for share). 커밋까지 나눔 상태를 바꾸는 update 가 기다리고, 공유 잠금끼리는 기다리지 않는다.
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select b from Borrow b where b.borrowId = :borrowId")
+    Optional<Borrow> findForShareByBorrowId(@Param("borrowId") Long borrowId);
+
+    // 나눔 상태가 from 일 때만 to 로 바꾼다. 바뀐 행 수 (0 이면 그 사이 다른 요청이 먼저 바꿈)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Borrow b set b.borrowWhthr = :to where b.borrowId = :borrowId and b.borrowWhthr = :from")
+    int updateBorrowWhthr(@Param("borrowId") Long borrowId, @Param("from") Boolean from, @Param("to") Boolean to);
+
+    // 조회수 +1. 글을 저장하지 않으므로 수정 경로 (매칭/위치 색인) 를 타지 않는다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Borrow b set b.view = b.view + 1 where b.borrowId = :borrowId")
+    int increaseView(@Param("borrowId") Long borrowId);
+
+    // 댓글 수를 delta 만큼 (+1/-1). 읽지 않고 한 번의 update 로 바꾸므로 동시에 달린 댓글도 빠지지 않는다.
+    @Modifying(flushAutomatically = true)
+    @Query("update Borrow b set b.commentCount = b.commentCount + :delta where b.borrowId = :borrowId and b.commentCount + :delta >= 0")
+    int addCommentCount(@Param("borrowId") Long borrowId, @Param("delta") long delta);
+
 }
@@ -4,7 +4,16 @@ import com.book.village.server.domain.borrow.dto.BorrowDto;
 import com.book.village.server.domain.borrow.entity.Borrow;
 import com.book.village.server.domain.borrow.repository.BorrowRepository;
 import com.book.village.server.domain.borrow.repository.BorrowQuerydslRepository;
+import com.book.village.server.domain.borrowclaim.entity.BorrowClaim;
+import com.book.village.server.domain.borrowclaim.repository.BorrowClaimRepository;
+import com.book.village.server.domain.location.dto.LocationDto;
+import com.book.village.server.domain.location.service.LocationService;
+import com.book.village.server.domain.matching.dto.MatchDto;
+import com.book.village.server.domain.matching.service.MatchingService;
 import com.book.village.server.domain.member.service.MemberService;
+import com.book.village.server.domain.statistics.dto.StatisticsDto;
+import com.book.village.server.domain.statistics.service.UniqueViewService;
+import com.book.village.server.global.cache.ResponseCache;
 import com.book.village.server.global.exception.CustomLogicException;
 import com.book.village.server.global.exception.ExceptionCode;
 import com.book.village.server.global.utils.CustomBeanUtils;
@@ -15,8 +24,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -26,14 +41,29 @@ public class BorrowService {
 
     private final BorrowQuerydslRepository borrowQuerydslRepository;
     private final CustomBeanUtils customBeanUtils;
+    private final MatchingService matchingService;
+    private final UniqueViewService uniqueViewService;
+    private final LocationService locationService;
+    private final BorrowClaimRepository borrowClaimRepository;
+    private final ResponseCache responseCache;
 
     public BorrowService(BorrowRepository borrowRepository,
                          MemberService memberService,
-                         BorrowQuerydslRepository borrowQuerydslRepository, CustomBeanUtils customBeanUtils) {
+                         BorrowQuerydslRepository borrowQuerydslRepository, CustomBeanUtils customBeanUtils,
+                         MatchingService matchingService,
+                         UniqueViewService uniqueViewService,
+                         LocationService locationService,
+                         BorrowClaimRepository borrowClaimRepository,
+                         ResponseCache responseCache) {
         this.borrowRepository = borrowRepository;
         this.memberService = memberService;
         this.borrowQuerydslRepository = borrowQuerydslRepository;
         this.customBeanUtils = customBeanUtils;
+        this.matchingService = matchingService;
+        this.uniqueViewService = uniqueViewService;
+        this.locationService = locationService;
+        this.borrowClaimRepository = borrowClaimRepository;
+        this.responseCache = responseCache;
     }
 
     // Borrow 생성
@@ -41,23 +71,73 @@ public class BorrowService {
         borrow.setMember(memberService.findMember(userEmail));  // 이메일로 인한 유저멤버 변경
         borrow.setDisplayName(borrow.getMember().getDisplayName()); // 닉네임 유저 닉네임으로 변경.
         borrow.setView(0L);
+        borrow.setCommentCount(0L);   // 컬럼 기본값 (insert 에 넣지 않는다)
         borrow.setBorrowWhthr(true);  // 상태 나눔 가능으로 수정 후, 데이터베이스에 넣음.
-        return borrowRepository.save(borrow);
+        Borrow savedBorrow = borrowRepository.save(borrow);
+        matchingService.borrowSaved(savedBorrow);
+        locationService.borrowSaved(savedBorrow);
+        return savedBorrow;
     }
 
     // Borrow 수정
     public Borrow updateBorrow(Borrow borrow, String userEmail) {
         Borrow findBorrow = findVerificationBorrow(borrow.getBorrowId());   // 게시글 유무 확인.
         verificationBorrow(findBorrow, userEmail);  // 회원 이메일로 나눔글 작성자와 수정할 사람이 동일한 이메일인지 확인
+        String bookTitle = findBorrow.getBookTitle();
+        String author = findBorrow.getAuthor();
+        String publisher = findBorrow.getPublisher();
+        // 나눔 상태는 completeBorrow/closeBorrow 로, 조회수는 viewBorrow 로만 바꾼다 (수락된 글이 수정으로 다시 열리지 않게).
+        borrow.setBorrowWhthr(null);
+        borrow.setView(null);
         customBeanUtils.copyNonNullProperties(borrow, findBorrow);
-        return borrowRepository.save(findBorrow);
+        Borrow savedBorrow = borrowRepository.save(findBorrow);
+        // 매칭 색인은 책 정보가 바뀐 경우에만 다시 넣는다. 위치 색인은 나눔 상태에만 따르므로 그대로 둔다.
+        if (!Objects.equals(bookTitle, savedBorrow.getBookTitle())
+                || !Objects.equals(author, savedBorrow.getAuthor()) || !Objects.equals(publisher, savedBorrow.getPublisher())) {
+            matchingService.borrowSaved(savedBorrow);
+        }
+        return savedBorrow;
+    }
+
+    // 상세 조회. 조회수만 올리고 다시 읽는다.
+    public Borrow viewBorrow(Long borrowId) {
+        if (borrowRepository.increaseView(borrowId) == 0) {
+            throw new CustomLogicException(ExceptionCode.BORROW_NOT_FOUND);
+        }
+        return findVerificationBorrow(borrowId);
     }
 
+    // 나눔 상태 토글. 읽은 상태일 때만 바꾸므로 동시에 두 번 눌러도 한 번만 바뀌고 나머지는 충돌로 응답한다.
+    // 신청을 수락해 닫힌 글은 다시 열지 않는다 (수락된 신청이 남은 채로 다른 신청을 받게 된다).
     public Borrow completeBorrow(Borrow borrow, String userEmail){
         Borrow findBorrow = findVerificationBorrow(borrow.getBorrowId());   // 게시글 유무 확인.
         verificationBorrow(findBorrow, userEmail);
-        findBorrow.setBorrowWhthr(findBorrow.getBorrowWhthr() ? false : true);
-        return borrowRepository.save(findBorrow);
+        Boolean current = findBorrow.getBorrowWhthr();
+        // 수락과 닫기는 한 트랜잭션에서 커밋되므로 닫힌 글을 읽었다면 수락된 신청도 보인다.
+        if (!current && borrowClaimRepository.existsByBorrow_BorrowIdAndClaimStatus(findBorrow.getBorrowId(), BorrowClaim.ClaimStatus.CLAIM_ACCEPTED)) {
+            throw new CustomLogicException(ExceptionCode.BORROW_CLAIM_ACCEPTED);
+        }
+        if (borrowRepository.updateBorrowWhthr(findBorrow.getBorrowId(), current, !current) == 0) {
+            throw new CustomLogicException(ExceptionCode.BORROW_STATE_CONFLICT);
+        }
+        return borrowWhthrChanged(findBorrow.getBorrowId());
+    }
+
+    // 나눔 가능 -> 나눔 완료. 나눔 신청 수락에서 쓴다. 이미 완료된 글이면 예외.
+    public Borrow closeBorrow(Borrow borrow) {
+        if (borrowRepository.updateBorrowWhthr(borrow.getBorrowId(), true, false) == 0) {
+            throw new CustomLogicException(ExceptionCode.BORROW_ALREADY_COMPLETED);
+        }
+        return borrowWhthrChanged(borrow.getBorrowId());
+    }
+
+    // update 쿼리가 영속성 컨텍스트를 비우므로 다시 읽어 인덱스에 반영한다.
+    private Borrow borrowWhthrChanged(Long borrowId) {
+        Borrow savedBorrow = findVerificationBorrow(borrowId);
+        matchingService.borrowSaved(savedBorrow);   // 나눔 완료면 매칭 인덱스에서 빠진다.
+        locationService.borrowSaved(savedBorrow);
+        responseCache.evictAfterCommit(ResponseCache.BORROWS);  // 벌크 update 는 ResponseCacheInvalidator 를 거치지 않는다.
+        return savedBorrow;
     }
 
     // borrow 한개
@@ -70,6 +150,15 @@ public class BorrowService {
         return borrowRepository.findAll(pageable);
     }
 
+    // 요청한 순서대로. 중복은 한 번만, 없는 id 는 빠진다.
+    @Transactional(readOnly = true)
+    public List<Borrow> findBorrows(List<Long> borrowIds) {
+        Set<Long> ids = new LinkedHashSet<>(borrowIds);
+        Map<Long, Borrow> borrows = borrowRepository.findAllByBorrowIdIn(ids).stream()
+                .collect(Collectors.toMap(Borrow::getBorrowId, Function.identity()));
+        return ids.stream().map(borrows::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     public Page<Borrow> findMyBorrows(String userEmail, Pageable pageable) {
         return borrowRepository.findAllByMember_Email(userEmail, pageable);
     }
@@ -77,7 +166,25 @@ public class BorrowService {
     public void deleteBorrow(Long borrowId, String userEmail) {
         Borrow findBorrow = findVerificationBorrow(borrowId);
         verificationBorrow(findBorrow, userEmail);
+        locationService.borrowDeleted(borrowId);
+        borrowClaimRepository.deleteAllByBorrowId(borrowId);
         borrowRepository.delete(findBorrow);
+        matchingService.borrowDeleted(borrowId);
+    }
+
+    // 이 나눔글의 책을 찾는 요청글
+    public List<MatchDto.Response> findMatchingRequests(Long borrowId) {
+        return matchingService.findRequestsFor(findVerificationBorrow(borrowId));
+    }
+
+    // 내 동네에서 radiusKm 안의 나눔 가능한 글, 가까운 순
+    public List<LocationDto.NearbyBorrow> findNearbyBorrows(String userEmail, double radiusKm, int size) {
+        return locationService.findNearbyBorrows(memberService.findMember(userEmail), radiusKm, size);
+    }
+
+    // 상세 조회 순 방문자 기록. visitor 가 null (봇) 이면 세지 않고 현재 값만 돌려준다.
+    public Long countUniqueView(Long borrowId, String visitor) {
+        return uniqueViewService.record(StatisticsDto.PostType.BORROW, borrowId, visitor);
     }
 
 
@@ -90,10 +197,16 @@ public class BorrowService {
         return findBorrow;
     }
 
+    // 나눔 신청용. 나눔글 행에 공유 잠금을 걸고 읽어 커밋 전에 수락/나눔 완료로 닫히지 않게 한다.
+    public Borrow findVerificationBorrowForShare(Long borrowId) {
+        return borrowRepository.findForShareByBorrowId(borrowId)
+                .orElseThrow(() -> new CustomLogicException(ExceptionCode.BORROW_NOT_FOUND));
+    }
+
     // 게시글 존재 유무 확인 후, 작성자 회원과 수정할 회원이 동일한 이메일인지 확인
     public void verificationBorrow(Borrow findBorrow, String userEmail) {
         if(!findBorrow.getMember().getEmail().equals(userEmail)) {
-            new CustomLogicException(ExceptionCode.BORROW_USER_DIFFERENT);
+            throw new CustomLogicException(ExceptionCode.BORROW_USER_DIFFERENT);
         }
         // API 계층으로 받은 Email과 Borrow의 작성자 Email이 맞는지 확인.
         // 다른 유저라면 Exception 던짐.
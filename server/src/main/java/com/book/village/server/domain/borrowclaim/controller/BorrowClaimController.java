@@ -0,0 +1,63 @@
+package com.book.village.server.domain.borrowclaim.controller;
+
+import com.book.village.server.domain.borrowclaim.entity.BorrowClaim;
+import com.book.village.server.domain.borrowclaim.mapper.BorrowClaimMapper;
+import com.book.village.server.domain.borrowclaim.service.BorrowClaimService;
+import com.book.village.server.global.response.PageInfo;
+import com.book.village.server.global.response.PageResponseDto;
+import com.book.village.server.global.response.SingleResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/v1/borrows/{borrow-id}/claims")
+public class BorrowClaimController {
+    private final BorrowClaimMapper borrowClaimMapper;
+    private final BorrowClaimService borrowClaimService;
+
+    public BorrowClaimController(BorrowClaimMapper borrowClaimMapper,
+                                 BorrowClaimService borrowClaimService) {
+        this.borrowClaimMapper = borrowClaimMapper;
+        this.borrowClaimService = borrowClaimService;
+    }
+
+    // 나눔 신청. 응답의 position 이 대기 순번
+    @PostMapping
+    public ResponseEntity postClaim(@PathVariable("borrow-id") Long borrowId, Principal principal) {
+        BorrowClaim borrowClaim = borrowClaimService.createClaim(borrowId, principal.getName());
+        return new ResponseEntity<>(new SingleResponse<>(
+                borrowClaimMapper.borrowClaimToBorrowClaimResponseDto(borrowClaim, borrowClaimService.findPosition(borrowClaim))),
+                HttpStatus.CREATED);
+    }
+
+    // 대기열 (작성자만)
+    @GetMapping
+    public ResponseEntity getClaims(@PathVariable("borrow-id") Long borrowId,
+                                    @PageableDefault Pageable pageable, Principal principal) {
+        Page<BorrowClaim> claims = borrowClaimService.findClaims(borrowId, principal.getName(), pageable);
+        return new ResponseEntity<>(
+                new PageResponseDto<>(borrowClaimMapper.borrowClaimsToBorrowClaimResponseDtos(claims.getContent(), claims.getPageable().getOffset()),
+                        new PageInfo(claims.getPageable(), claims.getTotalElements())), HttpStatus.OK);
+    }
+
+    // 내 신청 취소
+    @DeleteMapping
+    public ResponseEntity deleteClaim(@PathVariable("borrow-id") Long borrowId, Principal principal) {
+        borrowClaimService.cancelClaim(borrowId, principal.getName());
+        return ResponseEntity.noContent().build();
+    }
+
+    // 대기열 맨 앞 신청 수락 (작성자만). 나눔글은 나눔 완료가 된다.
+    @PostMapping("/accept")
+    public ResponseEntity acceptClaim(@PathVariable("borrow-id") Long borrowId, Principal principal) {
+        BorrowClaim borrowClaim = borrowClaimService.acceptClaim(borrowId, principal.getName());
+        return new ResponseEntity<>(new SingleResponse<>(
+                borrowClaimMapper.borrowClaimToBorrowClaimResponseDto(borrowClaim, null)), HttpStatus.OK);
+    }
+}
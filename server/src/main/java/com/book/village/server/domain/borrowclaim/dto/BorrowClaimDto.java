@@ -0,0 +1,25 @@
+package com.book.village.server.domain.borrowclaim.dto;
+
+import com.book.village.server.image.ImageUrlSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+public class BorrowClaimDto {
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        private Long borrowClaimId;
+        private Long borrowId;
+        private String displayName;     // 신청한 회원 닉네임
+        @JsonSerialize(using = ImageUrlSerializer.class)
+        private String imgUrl;
+        private String claimStatus;
+        private Long position;          // 대기 순번 (1 부터). 수락된 신청은 null
+        private LocalDateTime createdAt;
+    }
+}
@@ -0,0 +1,51 @@
+package com.book.village.server.domain.borrowclaim.entity;
+
+import com.book.village.server.domain.borrow.entity.Borrow;
+import com.book.village.server.domain.member.entity.Member;
+import com.book.village.server.global.audit.Auditable;
+import lombok.*;
+
+import javax.persistence.*;
+
+// 나눔 신청. 신청 순서는 borrowClaimId (auto increment) 순서다.
+// 한 나눔글에 한 회원은 신청 하나만 가진다 (unique).
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "UK_borrow_claim_borrow_member", columnNames = {"BORROW_ID", "MEMBER_ID"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BorrowClaim extends Auditable {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long borrowClaimId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "BORROW_ID", nullable = false)
+    private Borrow borrow;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "MEMBER_ID", nullable = false)
+    private Member member;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private ClaimStatus claimStatus = ClaimStatus.CLAIM_WAITING;
+
+    public BorrowClaim(Borrow borrow, Member member) {
+        this.borrow = borrow;
+        this.member = member;
+    }
+
+    public enum ClaimStatus {
+        CLAIM_WAITING("대기중"),
+        CLAIM_ACCEPTED("수락됨");
+
+        @Getter
+        private String status;
+
+        ClaimStatus(String status) {
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.book.village.server.domain.borrowclaim.mapper;
+
+import com.book.village.server.domain.borrowclaim.dto.BorrowClaimDto;
+import com.book.village.server.domain.borrowclaim.entity.BorrowClaim;
+import org.mapstruct.Mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface BorrowClaimMapper {
+    default BorrowClaimDto.Response borrowClaimToBorrowClaimResponseDto(BorrowClaim borrowClaim, Long position) {
+        if (borrowClaim == null) {
+            return null;
+        } else {
+            BorrowClaimDto.Response response = new BorrowClaimDto.Response();
+            response.setBorrowClaimId(borrowClaim.getBorrowClaimId());
+            response.setBorrowId(borrowClaim.getBorrow().getBorrowId());
+            response.setDisplayName(borrowClaim.getMember().getDisplayName());
+            response.setImgUrl(borrowClaim.getMember().getImgUrl());
+            response.setClaimStatus(borrowClaim.getClaimStatus().getStatus());
+            response.setPosition(position);
+            response.setCreatedAt(borrowClaim.getCreatedAt());
+            return response;
+        }
+    }
+
+    // 대기열 한 페이지. 순번은 페이지 offset 부터 이어진다.
+    default List<BorrowClaimDto.Response> borrowClaimsToBorrowClaimResponseDtos(List<BorrowClaim> borrowClaims, long offset) {
+        List<BorrowClaimDto.Response> responses = new ArrayList<>(borrowClaims.size());
+        for (int i = 0; i < borrowClaims.size(); i++) {
+            responses.add(borrowClaimToBorrowClaimResponseDto(borrowClaims.get(i), offset + i + 1));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,45 @@
+package com.book.village.server.domain.borrowclaim.repository;
+
+import com.book.village.server.domain.borrowclaim.entity.BorrowClaim;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+@Repository
+public interface BorrowClaimRepository extends JpaRepository<BorrowClaim, Long> {
+
+    // UK_borrow_claim_borrow_member 인덱스로 확인한다.
+    boolean existsByBorrow_BorrowIdAndMember_MemberId(Long borrowId, Long memberId);
+
+    boolean existsByBorrow_BorrowIdAndClaimStatus(Long borrowId, BorrowClaim.ClaimStatus claimStatus);
+
+    // 대기열 (신청 순). 응답에 신청자 닉네임/이미지가 들어가므로 member 를 같이 읽는다.
+    @EntityGraph(attributePaths = "member")
+    Page<BorrowClaim> findAllByBorrow_BorrowIdAndClaimStatusOrderByBorrowClaimIdAsc(Long borrowId, BorrowClaim.ClaimStatus claimStatus, Pageable pageable);
+
+    // 대기열 맨 앞 (select ... for update). 수락하는 동안 그 신청이 취소되지 않는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<BorrowClaim> findFirstByBorrow_BorrowIdAndClaimStatusOrderByBorrowClaimIdAsc(Long borrowId, BorrowClaim.ClaimStatus claimStatus);
+
+    // 내 앞 (나 포함) 에 대기 중인 신청 수
+    long countByBorrow_BorrowIdAndClaimStatusAndBorrowClaimIdLessThanEqual(Long borrowId, BorrowClaim.ClaimStatus claimStatus, Long borrowClaimId);
+
+    @Modifying
+    @Query("delete from BorrowClaim c where c.borrow.borrowId = :borrowId and c.member.memberId = :memberId and c.claimStatus = :claimStatus")
+    int deleteClaim(@Param("borrowId") Long borrowId,
+                    @Param("memberId") Long memberId,
+                    @Param("claimStatus") BorrowClaim.ClaimStatus claimStatus);
+
+    @Modifying
+    @Query("delete from BorrowClaim c where c.borrow.borrowId = :borrowId")
+    void deleteAllByBorrowId(@Param("borrowId") Long borrowId);
+}
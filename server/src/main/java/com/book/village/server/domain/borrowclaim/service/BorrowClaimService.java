@@ -0,0 +1,89 @@
+package com.book.village.server.domain.borrowclaim.service;
+
+import com.book.village.server.domain.borrow.entity.Borrow;
+import com.book.village.server.domain.borrow.service.BorrowService;
+import com.book.village.server.domain.borrowclaim.entity.BorrowClaim;
+import com.book.village.server.domain.borrowclaim.repository.BorrowClaimRepository;
+import com.book.village.server.domain.member.entity.Member;
+import com.book.village.server.domain.member.service.MemberService;
+import com.book.village.server.global.exception.CustomLogicException;
+import com.book.village.server.global.exception.ExceptionCode;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 나눔 신청 대기열.
+// 신청은 나눔글을 공유 잠금으로 읽고 insert 한다. 신청끼리는 서로 기다리지 않고, 순서는 auto increment pk 가 정한다.
+// 수락 (나눔글 update) 은 진행 중인 신청이 커밋될 때까지 기다리고, 수락이 먼저면 신청은 닫힌 상태를 읽는다.
+// 그래서 나눔 가능을 확인한 신청이 수락 뒤에 대기열에 들어가는 일이 없다. (H2 는 공유 잠금을 for update 로 걸어 신청끼리도 기다린다)
+// 수락은 나눔글을 "나눔 가능일 때만" 닫는 단일 행 조건부 update 로 시작하므로 동시에 수락해도 하나만 성공한다.
+@Service
+@Transactional
+public class BorrowClaimService {
+    private final BorrowClaimRepository borrowClaimRepository;
+    private final BorrowService borrowService;
+    private final MemberService memberService;
+
+    public BorrowClaimService(BorrowClaimRepository borrowClaimRepository,
+                              BorrowService borrowService,
+                              MemberService memberService) {
+        this.borrowClaimRepository = borrowClaimRepository;
+        this.borrowService = borrowService;
+        this.memberService = memberService;
+    }
+
+    public BorrowClaim createClaim(Long borrowId, String userEmail) {
+        Borrow borrow = borrowService.findVerificationBorrowForShare(borrowId);
+        if (!borrow.getBorrowWhthr()) throw new CustomLogicException(ExceptionCode.BORROW_ALREADY_COMPLETED);
+        if (borrow.getMember().getEmail().equals(userEmail)) throw new CustomLogicException(ExceptionCode.BORROW_CLAIM_OWN_BORROW);
+        Member member = memberService.findMember(userEmail);
+        if (borrowClaimRepository.existsByBorrow_BorrowIdAndMember_MemberId(borrowId, member.getMemberId())) {
+            throw new CustomLogicException(ExceptionCode.BORROW_CLAIM_DUPLICATE);
+        }
+        try {
+            return borrowClaimRepository.saveAndFlush(new BorrowClaim(borrow, member));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 회원이 동시에 두 번 신청 (unique 제약)
+            throw new CustomLogicException(ExceptionCode.BORROW_CLAIM_DUPLICATE);
+        }
+    }
+
+    // 대기 순번 (1 부터)
+    @Transactional(readOnly = true)
+    public long findPosition(BorrowClaim borrowClaim) {
+        return borrowClaimRepository.countByBorrow_BorrowIdAndClaimStatusAndBorrowClaimIdLessThanEqual(
+                borrowClaim.getBorrow().getBorrowId(), BorrowClaim.ClaimStatus.CLAIM_WAITING, borrowClaim.getBorrowClaimId());
+    }
+
+    // 작성자만 대기열을 본다.
+    @Transactional(readOnly = true)
+    public Page<BorrowClaim> findClaims(Long borrowId, String userEmail, Pageable pageable) {
+        borrowService.verificationBorrow(borrowService.findVerificationBorrow(borrowId), userEmail);
+        return borrowClaimRepository.findAllByBorrow_BorrowIdAndClaimStatusOrderByBorrowClaimIdAsc(
+                borrowId, BorrowClaim.ClaimStatus.CLAIM_WAITING, pageable);
+    }
+
+    // 대기 중인 내 신청 취소. 다시 신청하면 대기열 맨 뒤로 간다.
+    public void cancelClaim(Long borrowId, String userEmail) {
+        Member member = memberService.findMember(userEmail);
+        int deleted = borrowClaimRepository.deleteClaim(borrowId, member.getMemberId(), BorrowClaim.ClaimStatus.CLAIM_WAITING);
+        if (deleted == 0) throw new CustomLogicException(ExceptionCode.BORROW_CLAIM_NOT_FOUND);
+    }
+
+    // 대기열 맨 앞 신청을 수락하고 나눔을 완료한다.
+    // 잠금 순서는 항상 나눔글 -> 신청 행이다. 신청은 나눔글 공유 잠금 -> 자기 신청 행, 취소는 자기 신청 행만 잡으므로
+    // 서로 교착되지 않는다.
+    // 대기 중인 신청이 없으면 예외로 트랜잭션이 롤백되어 나눔글도 닫히지 않는다.
+    public BorrowClaim acceptClaim(Long borrowId, String userEmail) {
+        Borrow borrow = borrowService.findVerificationBorrow(borrowId);
+        borrowService.verificationBorrow(borrow, userEmail);
+        borrowService.closeBorrow(borrow);
+        BorrowClaim head = borrowClaimRepository
+                .findFirstByBorrow_BorrowIdAndClaimStatusOrderByBorrowClaimIdAsc(borrowId, BorrowClaim.ClaimStatus.CLAIM_WAITING)
+                .orElseThrow(() -> new CustomLogicException(ExceptionCode.BORROW_CLAIM_NOT_FOUND));
+        head.setClaimStatus(BorrowClaim.ClaimStatus.CLAIM_ACCEPTED);
+        return head;
+    }
+}
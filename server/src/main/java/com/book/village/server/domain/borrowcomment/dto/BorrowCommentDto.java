@@ -1,5 +1,7 @@
 package com.book.village.server.domain.borrowcomment.dto;
 
+import com.book.village.server.image.ImageUrlSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.*;
 
 import javax.persistence.Lob;
@@ -44,6 +46,7 @@ public class BorrowCommentDto {
         private String content;
         private String displayName;
         @Lob
+        @JsonSerialize(using = ImageUrlSerializer.class)
         private String imgUrl;
         private LocalDateTime createdAt;
         private LocalDateTime modifiedAt;
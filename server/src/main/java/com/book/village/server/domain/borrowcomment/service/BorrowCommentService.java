@@ -1,10 +1,13 @@
 package com.book.village.server.domain.borrowcomment.service;
 
+import com.book.village.server.domain.borrow.entity.Borrow;
 import com.book.village.server.domain.borrow.repository.BorrowRepository;
 import com.book.village.server.domain.borrow.service.BorrowService;
 import com.book.village.server.domain.borrowcomment.entity.BorrowComment;
 import com.book.village.server.domain.borrowcomment.repository.BorrowCommentRepository;
 import com.book.village.server.domain.member.service.MemberService;
+import com.book.village.server.domain.notification.dto.NotificationDto;
+import com.book.village.server.domain.notification.service.NotificationService;
 import com.book.village.server.global.exception.CustomLogicException;
 import com.book.village.server.global.exception.ExceptionCode;
 import com.book.village.server.global.utils.CustomBeanUtils;
@@ -25,17 +28,20 @@ public class BorrowCommentService {
     private final BorrowService borrowService;
     private final CustomBeanUtils<BorrowComment> beanUtils;
     private final BorrowRepository borrowRepository;
+    private final NotificationService notificationService;
 
     public BorrowCommentService(BorrowCommentRepository borrowCommentRepository,
                                 MemberService memberService,
                                 BorrowService borrowService,
                                 CustomBeanUtils beanUtils,
-                                BorrowRepository borrowRepository) {
+                                BorrowRepository borrowRepository,
+                                NotificationService notificationService) {
         this.borrowCommentRepository = borrowCommentRepository;
         this.memberService = memberService;
         this.borrowService = borrowService;
         this.beanUtils = beanUtils;
         this.borrowRepository = borrowRepository;
+        this.notificationService = notificationService;
     }
 
     // 댓글 생성
@@ -43,7 +49,20 @@ public class BorrowCommentService {
         borrowComment.setMember(memberService.findMember(email));
         borrowComment.setBorrow(borrowService.findBorrow(borrowId));
         borrowComment.setDisplayName(memberService.findMember(email).getDisplayName());
-        return borrowCommentRepository.save(borrowComment);
+        BorrowComment savedComment = borrowCommentRepository.save(borrowComment);
+        borrowRepository.addCommentCount(borrowId, 1);
+
+        // 나눔글 작성자에게 댓글 알림
+        Borrow borrow = savedComment.getBorrow();
+        notificationService.commentCreated(borrow.getMember().getEmail(), email, NotificationDto.Comment.builder()
+                .postType(NotificationDto.PostType.BORROW)
+                .postId(borrow.getBorrowId())
+                .postTitle(borrow.getTitle())
+                .commentId(savedComment.getBorrowCommentId())
+                .displayName(savedComment.getDisplayName())
+                .createdAt(savedComment.getCreatedAt())
+                .build());
+        return savedComment;
     }
 
     // 댓굴 수정
@@ -73,6 +92,7 @@ public class BorrowCommentService {
         // 댓글을 삭제하려는 사람이 작성한 사람인지 확인
         verificationBorrowComment(borrowComment, email);
         borrowCommentRepository.delete(borrowComment);
+        borrowRepository.addCommentCount(borrowComment.getBorrow().getBorrowId(), -1);
      }
 
     // 수정하려는 유저와 작성하려는 유저가 동일한 사람인지
@@ -4,6 +4,7 @@ import com.book.village.server.domain.community.dto.CommunityDto;
 import com.book.village.server.domain.community.entity.Community;
 import com.book.village.server.domain.community.mapper.CommunityMapper;
 import com.book.village.server.domain.community.service.CommunityService;
+import com.book.village.server.domain.statistics.service.UniqueViewService;
 import com.book.village.server.global.response.PageInfo;
 import com.book.village.server.global.response.PageResponseDto;
 import com.book.village.server.global.response.SingleResponse;
@@ -15,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.security.Principal;
 
@@ -47,11 +49,14 @@ public class CommunityController {
         return ResponseEntity.ok(new SingleResponse<>(mapper.communityToCommunityResponseDto(community)));
     }
     @GetMapping("/{community-id}")
-    public ResponseEntity getCommunity(@PathVariable("community-id") long communityId){
+    public ResponseEntity getCommunity(@PathVariable("community-id") long communityId,
+                                       Principal principal, HttpServletRequest request){
         Community community =communityService.findCommunity(communityId);
         community.setView(community.getView()+1L);
         communityService.updateCommunity(community, community.getMember().getEmail());
-        return ResponseEntity.ok(new SingleResponse<>(mapper.communityToCommunityResponseDto(community)));
+        CommunityDto.Response response = mapper.communityToCommunityResponseDto(community);
+        response.setUniqueViews(communityService.countUniqueView(communityId, UniqueViewService.visitorOf(principal, request)));
+        return ResponseEntity.ok(new SingleResponse<>(response));
     }
 
     @GetMapping
@@ -1,6 +1,9 @@
 package com.book.village.server.domain.community.dto;
 
 import com.book.village.server.domain.community_comment.dto.CommunityCommentDto;
+import com.book.village.server.image.ImageUrlSerializer;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.*;
 
 import javax.persistence.Lob;
@@ -55,10 +58,14 @@ public class CommunityDto {
         private String content;
         private String displayName;
         private Long view;
+        private Long commentCount;  // 댓글 수
         @Lob
+        @JsonSerialize(using = ImageUrlSerializer.class)
         private String imgUrl;
         private List<CommunityCommentDto.Response> communityComments;
         private LocalDateTime createdAt;
         private LocalDateTime modifiedAt;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long uniqueViews;   // 순 방문자 수 (상세 조회에서만)
     }
 }
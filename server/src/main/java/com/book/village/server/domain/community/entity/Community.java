@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -39,6 +40,11 @@ public class Community extends Auditable {
     @Column
     private Long view=0L;
 
+    // 댓글 수. 댓글 서비스의 update 쿼리 (addCommentCount) 로만 바뀐다. 엔티티 저장이 덮어쓰지 않도록 insert/update 에서 뺀다.
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long commentCount;
+
     @ManyToOne
     @JoinColumn(name = "MEMBER_ID")
     private Member member;
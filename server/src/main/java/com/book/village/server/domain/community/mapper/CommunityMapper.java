@@ -16,6 +16,17 @@ public interface CommunityMapper {
     Community postCommunityDtoToCommunity(CommunityDto.Post communityPostDto);
     Community patchCommunityDtoToCommunity(CommunityDto.Patch communityPatchDto);
     default CommunityDto.Response communityToCommunityResponseDto(Community community){
+        CommunityDto.Response response = communityToCommunitySummaryResponse(community);
+        if (response != null) {
+            response.setCommunityComments(community.getCommunityComments().stream()
+                    .map(cComment->commentMapper.communityCommentToCommunityCommentResponseDto(cComment))
+                    .collect(Collectors.toList()));
+        }
+        return response;
+    }
+
+    // 목록용. 댓글 컬렉션을 읽지 않는다 (댓글 수는 commentCount).
+    default CommunityDto.Response communityToCommunitySummaryResponse(Community community){
         if ( community == null ) {
             return null;
         }
@@ -28,10 +39,8 @@ public interface CommunityMapper {
         response.setContent( community.getContent() );
         response.setDisplayName( community.getDisplayName() );
         response.setView(community.getView());
+        response.setCommentCount(community.getCommentCount());
         response.setImgUrl(community.getMember().getImgUrl());
-        response.setCommunityComments(community.getCommunityComments().stream()
-                .map(cComment->commentMapper.communityCommentToCommunityCommentResponseDto(cComment))
-                .collect(Collectors.toList()));
         response.setCreatedAt( community.getCreatedAt() );
         response.setModifiedAt( community.getModifiedAt() );
 
@@ -44,9 +53,7 @@ public interface CommunityMapper {
 
         List<CommunityDto.Response> list = new ArrayList<CommunityDto.Response>( communities.size() );
         for ( Community community : communities ) {
-            CommunityDto.Response response = communityToCommunityResponseDto( community );
-            response.setCommunityComments(null);
-            list.add( response );
+            list.add( communityToCommunitySummaryResponse( community ) );
         }
 
         return list;
@@ -5,6 +5,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,4 +20,9 @@ public interface CommunityRepository extends JpaRepository<Community, Long> {
     Page<Community> findAllByContentContainingAndType(String keyword,String type, Pageable pageable);
 
     Page<Community> findAllByDisplayNameAndType(String keyword, String type, Pageable pageable);
+
+    // 댓글 수를 delta 만큼 (+1/-1). 읽지 않고 한 번의 update 로 바꾸므로 동시에 달린 댓글도 빠지지 않는다.
+    @Modifying(flushAutomatically = true)
+    @Query("update Community c set c.commentCount = c.commentCount + :delta where c.communityId = :communityId and c.commentCount + :delta >= 0")
+    int addCommentCount(@Param("communityId") Long communityId, @Param("delta") long delta);
 }
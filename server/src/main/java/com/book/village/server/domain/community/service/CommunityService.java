@@ -3,6 +3,8 @@ package com.book.village.server.domain.community.service;
 import com.book.village.server.domain.community.entity.Community;
 import com.book.village.server.domain.community.repository.CommunityRepository;
 import com.book.village.server.domain.member.service.MemberService;
+import com.book.village.server.domain.statistics.dto.StatisticsDto;
+import com.book.village.server.domain.statistics.service.UniqueViewService;
 import com.book.village.server.global.exception.CustomLogicException;
 import com.book.village.server.global.exception.ExceptionCode;
 import com.book.village.server.global.utils.CustomBeanUtils;
@@ -22,16 +24,20 @@ public class CommunityService {
     private final CommunityRepository repository;
     private final MemberService memberService;
     private final CustomBeanUtils<Community> beanUtils;
+    private final UniqueViewService uniqueViewService;
 
-    public CommunityService(CommunityRepository repository, MemberService memberService, CustomBeanUtils<Community> beanUtils) {
+    public CommunityService(CommunityRepository repository, MemberService memberService, CustomBeanUtils<Community> beanUtils,
+                            UniqueViewService uniqueViewService) {
         this.repository = repository;
         this.memberService = memberService;
         this.beanUtils = beanUtils;
+        this.uniqueViewService = uniqueViewService;
     }
 
     public Community createCommunity(Community community, String email){
         community.setMember(memberService.findMember(email));
         community.setDisplayName(community.getMember().getDisplayName());
+        community.setCommentCount(0L);   // 컬럼 기본값 (insert 에 넣지 않는다)
         return repository.save(community);
     }
     public Community updateCommunity(Community community, String email){
@@ -45,6 +51,11 @@ public class CommunityService {
         return findVerifiedCommunity(communityId);
     }
 
+    // 상세 조회 순 방문자 기록. visitor 가 null (봇) 이면 세지 않고 현재 값만 돌려준다.
+    public Long countUniqueView(long communityId, String visitor){
+        return uniqueViewService.record(StatisticsDto.PostType.COMMUNITY, communityId, visitor);
+    }
+
     public Page<Community> findCommunities(Pageable pageable){
         return repository.findAll(pageable);
     }
@@ -1,5 +1,7 @@
 package com.book.village.server.domain.community_comment.dto;
 
+import com.book.village.server.image.ImageUrlSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.*;
 
 import javax.persistence.Lob;
@@ -42,6 +44,7 @@ public class CommunityCommentDto {
         private String content;
         private String displayName;
         @Lob
+        @JsonSerialize(using = ImageUrlSerializer.class)
         private String imgUrl;
         private LocalDateTime createdAt;
         private LocalDateTime modifiedAt;
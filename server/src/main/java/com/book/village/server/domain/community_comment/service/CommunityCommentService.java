@@ -1,9 +1,13 @@
 package com.book.village.server.domain.community_comment.service;
 
+import com.book.village.server.domain.community.entity.Community;
+import com.book.village.server.domain.community.repository.CommunityRepository;
 import com.book.village.server.domain.community.service.CommunityService;
 import com.book.village.server.domain.community_comment.entity.CommunityComment;
 import com.book.village.server.domain.community_comment.repository.CommunityCommentRepository;
 import com.book.village.server.domain.member.service.MemberService;
+import com.book.village.server.domain.notification.dto.NotificationDto;
+import com.book.village.server.domain.notification.service.NotificationService;
 import com.book.village.server.global.exception.CustomLogicException;
 import com.book.village.server.global.exception.ExceptionCode;
 import com.book.village.server.global.utils.CustomBeanUtils;
@@ -21,18 +25,36 @@ public class CommunityCommentService {
     private final MemberService memberService;
     private final CommunityService communityService;
     private final CustomBeanUtils<CommunityComment> beanUtils;
+    private final NotificationService notificationService;
+    private final CommunityRepository communityRepository;
 
-    public CommunityCommentService(CommunityCommentRepository repository, MemberService memberService, CommunityService communityService, CustomBeanUtils<CommunityComment> beanUtils) {
+    public CommunityCommentService(CommunityCommentRepository repository, MemberService memberService, CommunityService communityService, CustomBeanUtils<CommunityComment> beanUtils,
+                                   NotificationService notificationService, CommunityRepository communityRepository) {
         this.repository = repository;
         this.memberService = memberService;
         this.communityService = communityService;
         this.beanUtils = beanUtils;
+        this.notificationService = notificationService;
+        this.communityRepository = communityRepository;
     }
     public CommunityComment createCommunityComment(CommunityComment cComment, String email, long communityId){
         cComment.setMember(memberService.findMember(email));
         cComment.setCommunity(communityService.findCommunity(communityId));
         cComment.setDisplayName(memberService.findMember(email).getDisplayName());
-        return repository.save(cComment);
+        CommunityComment savedComment = repository.save(cComment);
+        communityRepository.addCommentCount(communityId, 1);
+
+        // 커뮤니티글 작성자에게 댓글 알림
+        Community community = savedComment.getCommunity();
+        notificationService.commentCreated(community.getMember().getEmail(), email, NotificationDto.Comment.builder()
+                .postType(NotificationDto.PostType.COMMUNITY)
+                .postId(community.getCommunityId())
+                .postTitle(community.getTitle())
+                .commentId(savedComment.getCommunityCommentId())
+                .displayName(savedComment.getDisplayName())
+                .createdAt(savedComment.getCreatedAt())
+                .build());
+        return savedComment;
     }
     public CommunityComment updateCommunityComment(CommunityComment cComment, String email){
         CommunityComment findcComment = findVerifiedCommunityComment(cComment.getCommunityCommentId());
@@ -54,6 +76,7 @@ public class CommunityCommentService {
         CommunityComment cComment = findVerifiedCommunityComment(cCommentId);
         verifyWriter(cComment, email);
         repository.delete(cComment);
+        communityRepository.addCommentCount(cComment.getCommunity().getCommunityId(), -1);
     }
 
     public CommunityComment findVerifiedCommunityComment(long cCommentId){
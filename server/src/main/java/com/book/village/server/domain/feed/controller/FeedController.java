@@ -0,0 +1,30 @@
+package com.book.village.server.domain.feed.controller;
+
+import com.book.village.server.domain.feed.dto.FeedDto;
+import com.book.village.server.domain.feed.service.FeedService;
+import com.book.village.server.global.response.CursorResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/feed")
+public class FeedController {
+    private final FeedService feedService;
+
+    public FeedController(FeedService feedService) {
+        this.feedService = feedService;
+    }
+
+    // 나눔/요청/커뮤니티 글을 합친 최신순 피드. communityType, borrowWhthr 는 해당 글에만 적용된다.
+    @GetMapping
+    public ResponseEntity getFeed(@RequestParam(required = false) String cursor,
+                                  @RequestParam(defaultValue = "20") int size,
+                                  @RequestParam(required = false) String communityType,
+                                  @RequestParam(required = false) Boolean borrowWhthr) {
+        CursorResponse<FeedDto.Item> feed = feedService.findFeed(cursor, size, communityType, borrowWhthr);
+        return ResponseEntity.ok(feed);
+    }
+}
@@ -0,0 +1,74 @@
+package com.book.village.server.domain.feed.dto;
+
+import com.book.village.server.image.ImageUrlSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Comparator;
+
+public class FeedDto {
+
+    // 같은 시각에 올라온 글은 ordinal 이 큰 source 가 먼저 온다.
+    public enum Source {
+        BORROW, REQUEST, COMMUNITY
+    }
+
+    // 피드 정렬 순서: createdAt desc, source desc, id desc
+    public static final Comparator<Item> ORDER = Comparator
+            .comparing(Item::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(Item::getSource, Comparator.reverseOrder())
+            .thenComparing(Item::getId, Comparator.reverseOrder());
+
+    // 목록 카드에 필요한 컬럼만 담는다 (본문 content 는 읽지 않는다).
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Source source;
+        private Long id;
+        private String title;
+        private String displayName;
+        private Long view;
+        private String bookTitle;       // 나눔/요청글
+        private String author;          // 나눔/요청글
+        @JsonSerialize(using = ImageUrlSerializer.class)
+        private String thumbnail;       // 나눔/요청글
+        private Boolean borrowWhthr;    // 나눔글
+        private String communityType;   // 커뮤니티글
+        private LocalDateTime createdAt;
+    }
+
+    // 마지막으로 내려준 글의 정렬 키. cursor 문자열로 주고받는다.
+    @Getter
+    @AllArgsConstructor
+    public static class Position {
+        private LocalDateTime createdAt;
+        private Source source;
+        private Long id;
+
+        public static Position of(Item item) {
+            return new Position(item.getCreatedAt(), item.getSource(), item.getId());
+        }
+
+        public String encode() {
+            String raw = createdAt + "|" + source + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // 형식이 맞지 않으면 IllegalArgumentException (DateTimeParseException 포함)
+        public static Position decode(String cursor) {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) throw new IllegalArgumentException("cursor: " + raw);
+            try {
+                return new Position(LocalDateTime.parse(parts[0]), Source.valueOf(parts[1]), Long.parseLong(parts[2]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("cursor: " + raw, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.book.village.server.domain.feed.repository;
+
+import com.book.village.server.domain.borrow.entity.QBorrow;
+import com.book.village.server.domain.community.entity.QCommunity;
+import com.book.village.server.domain.feed.dto.FeedDto;
+import com.book.village.server.domain.request.entity.QRequest;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 피드 source 별 keyset 조회. (created_at, id) 인덱스 (V6) 를 역순으로 읽고 limit 만큼만 가져온다.
+@Repository
+public class FeedQuerydslRepository {
+    private final JPAQueryFactory queryFactory;
+
+    public FeedQuerydslRepository(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    public List<FeedDto.Item> findBorrows(FeedDto.Position after, Boolean borrowWhthr, int limit) {
+        QBorrow borrow = QBorrow.borrow;
+        return queryFactory
+                .select(borrow.borrowId, borrow.title, borrow.displayName, borrow.view, borrow.bookTitle,
+                        borrow.author, borrow.thumbnail, borrow.borrowWhthr, borrow.createdAt)
+                .from(borrow)
+                .where(after(borrow.createdAt, borrow.borrowId, FeedDto.Source.BORROW, after),
+                        borrowWhthr == null ? null : borrow.borrowWhthr.eq(borrowWhthr))
+                .orderBy(borrow.createdAt.desc(), borrow.borrowId.desc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(tuple -> FeedDto.Item.builder()
+                        .source(FeedDto.Source.BORROW)
+                        .id(tuple.get(borrow.borrowId))
+                        .title(tuple.get(borrow.title))
+                        .displayName(tuple.get(borrow.displayName))
+                        .view(tuple.get(borrow.view))
+                        .bookTitle(tuple.get(borrow.bookTitle))
+                        .author(tuple.get(borrow.author))
+                        .thumbnail(tuple.get(borrow.thumbnail))
+                        .borrowWhthr(tuple.get(borrow.borrowWhthr))
+                        .createdAt(tuple.get(borrow.createdAt))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    public List<FeedDto.Item> findRequests(FeedDto.Position after, int limit) {
+        QRequest request = QRequest.request;
+        return queryFactory
+                .select(request.requestId, request.title, request.displayName, request.view, request.bookTitle,
+                        request.author, request.thumbnail, request.createdAt)
+                .from(request)
+                .where(after(request.createdAt, request.requestId, FeedDto.Source.REQUEST, after))
+                .orderBy(request.createdAt.desc(), request.requestId.desc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(tuple -> FeedDto.Item.builder()
+                        .source(FeedDto.Source.REQUEST)
+                        .id(tuple.get(request.requestId))
+                        .title(tuple.get(request.title))
+                        .displayName(tuple.get(request.displayName))
+                        .view(tuple.get(request.view))
+                        .bookTitle(tuple.get(request.bookTitle))
+                        .author(tuple.get(request.author))
+                        .thumbnail(tuple.get(request.thumbnail))
+                        .createdAt(tuple.get(request.createdAt))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    public List<FeedDto.Item> findCommunities(FeedDto.Position after, String type, int limit) {
+        QCommunity community = QCommunity.community;
+        return queryFactory
+                .select(community.communityId, community.title, community.displayName, community.view,
+                        community.type, community.createdAt)
+                .from(community)
+                .where(after(community.createdAt, community.communityId, FeedDto.Source.COMMUNITY, after),
+                        type == null ? null : community.type.eq(type))
+                .orderBy(community.createdAt.desc(), community.communityId.desc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(tuple -> FeedDto.Item.builder()
+                        .source(FeedDto.Source.COMMUNITY)
+                        .id(tuple.get(community.communityId))
+                        .title(tuple.get(community.title))
+                        .displayName(tuple.get(community.displayName))
+                        .view(tuple.get(community.view))
+                        .communityType(tuple.get(community.type))
+                        .createdAt(tuple.get(community.createdAt))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // 피드 정렬 (FeedDto.ORDER) 에서 position 뒤에 오는 행. 같은 시각이면 source 순서로 갈리고, 같은 source 면 id 로 갈린다.
+    // created_at <= ? 를 항상 앞에 두어 인덱스 range 로 시작점을 찾게 한다.
+    private static BooleanExpression after(DateTimePath<LocalDateTime> createdAt, NumberPath<Long> id,
+                                           FeedDto.Source source, FeedDto.Position position) {
+        if (position == null) return createdAt.isNotNull();
+        LocalDateTime at = position.getCreatedAt();
+        int order = source.compareTo(position.getSource());
+        if (order < 0) return createdAt.loe(at);
+        if (order > 0) return createdAt.lt(at);
+        return createdAt.loe(at).and(createdAt.lt(at).or(id.lt(position.getId())));
+    }
+}
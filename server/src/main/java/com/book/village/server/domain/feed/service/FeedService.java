@@ -0,0 +1,104 @@
+package com.book.village.server.domain.feed.service;
+
+import com.book.village.server.domain.feed.dto.FeedDto;
+import com.book.village.server.domain.feed.repository.FeedQuerydslRepository;
+import com.book.village.server.global.exception.CustomLogicException;
+import com.book.village.server.global.exception.ExceptionCode;
+import com.book.village.server.global.response.CursorResponse;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.BiFunction;
+
+@Service
+@Transactional(readOnly = true)
+public class FeedService {
+    private static final int MAX_SIZE = 50;
+
+    private final FeedQuerydslRepository feedRepository;
+
+    public FeedService(FeedQuerydslRepository feedRepository) {
+        this.feedRepository = feedRepository;
+    }
+
+    // 나눔/요청/커뮤니티 글을 시간 역순으로 합친다 (k-way merge).
+    // 각 source 는 size 의 1/3 정도부터 읽고, 그 source 가 계속 앞서면 두 배씩 늘려 더 읽는다.
+    // 한 테이블에서 size 만큼을 미리 다 읽지 않는다.
+    public CursorResponse<FeedDto.Item> findFeed(String cursor, int size, String communityType, Boolean borrowWhthr) {
+        int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+        FeedDto.Position start = decode(cursor);
+        int chunk = limit / FeedDto.Source.values().length + 1;
+
+        List<SourceCursor> sources = new ArrayList<>();
+        sources.add(new SourceCursor((after, n) -> feedRepository.findBorrows(after, borrowWhthr, n), start, chunk, limit + 1));
+        sources.add(new SourceCursor((after, n) -> feedRepository.findRequests(after, n), start, chunk, limit + 1));
+        sources.add(new SourceCursor((after, n) -> feedRepository.findCommunities(after, communityType, n), start, chunk, limit + 1));
+
+        PriorityQueue<SourceCursor> heads = new PriorityQueue<>(Comparator.comparing(SourceCursor::head, FeedDto.ORDER));
+        for (SourceCursor source : sources) {
+            if (source.advance()) heads.add(source);
+        }
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 꺼낸다.
+        List<FeedDto.Item> items = new ArrayList<>(limit + 1);
+        while (items.size() <= limit && !heads.isEmpty()) {
+            SourceCursor source = heads.poll();
+            items.add(source.head());
+            if (source.advance()) heads.add(source);
+        }
+
+        if (items.size() <= limit) return new CursorResponse<>(items, null);
+        List<FeedDto.Item> page = items.subList(0, limit);
+        return new CursorResponse<>(new ArrayList<>(page), FeedDto.Position.of(page.get(limit - 1)).encode());
+    }
+
+    private static FeedDto.Position decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) return null;
+        try {
+            return FeedDto.Position.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new CustomLogicException(ExceptionCode.FEED_CURSOR_INVALID);
+        }
+    }
+
+    // source 하나의 keyset 페이지를 필요할 때마다 읽는다.
+    private static class SourceCursor {
+        private final BiFunction<FeedDto.Position, Integer, List<FeedDto.Item>> fetcher;
+        private final int maxChunk;
+        private final Deque<FeedDto.Item> buffer = new ArrayDeque<>();
+        private FeedDto.Position after;
+        private int chunk;
+        private boolean exhausted;
+        private FeedDto.Item head;
+
+        private SourceCursor(BiFunction<FeedDto.Position, Integer, List<FeedDto.Item>> fetcher,
+                             FeedDto.Position start, int chunk, int maxChunk) {
+            this.fetcher = fetcher;
+            this.after = start;
+            this.chunk = chunk;
+            this.maxChunk = maxChunk;
+        }
+
+        private FeedDto.Item head() {
+            return head;
+        }
+
+        private boolean advance() {
+            if (buffer.isEmpty() && !exhausted) {
+                List<FeedDto.Item> rows = fetcher.apply(after, chunk);
+                if (rows.size() < chunk) exhausted = true;
+                if (!rows.isEmpty()) after = FeedDto.Position.of(rows.get(rows.size() - 1));
+                buffer.addAll(rows);
+                chunk = Math.min(chunk * 2, maxChunk);
+            }
+            head = buffer.poll();
+            return head != null;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.book.village.server.domain.location.dto;
+
+import com.book.village.server.image.ImageUrlSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+public class LocationDto {
+
+    // 가까운 나눔글 목록 카드
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NearbyBorrow {
+        private Long borrowId;
+        private String title;
+        private String bookTitle;
+        private String author;
+        private String publisher;
+        @JsonSerialize(using = ImageUrlSerializer.class)
+        private String thumbnail;
+        private String displayName;
+        private Long view;
+        private LocalDateTime createdAt;
+        private Double distanceKm;      // 작성자 동네까지의 거리
+    }
+}
@@ -0,0 +1,32 @@
+package com.book.village.server.domain.location.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+// 나눔 가능한 글의 위치 (작성자 위치). 나눔 완료/삭제되거나 작성자 위치가 없으면 행이 없다.
+// geohash 인덱스 (V7) 에 latitude, longitude 를 같이 두어 후보를 읽고 거리를 계산할 때 테이블을 읽지 않는다.
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BorrowLocation {
+
+    @Id
+    private Long borrowId;
+
+    @Column(length = 12, nullable = false)
+    private String geohash;
+
+    @Column(nullable = false)
+    private Double latitude;
+
+    @Column(nullable = false)
+    private Double longitude;
+}
@@ -0,0 +1,16 @@
+package com.book.village.server.domain.location.repository;
+
+import com.book.village.server.domain.location.entity.BorrowLocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BorrowLocationRepository extends JpaRepository<BorrowLocation, Long> {
+
+    @Modifying
+    @Query("delete from BorrowLocation l where l.borrowId = :borrowId")
+    void deleteByBorrowId(@Param("borrowId") Long borrowId);
+}
@@ -0,0 +1,56 @@
+package com.book.village.server.domain.location.repository;
+
+import com.book.village.server.domain.borrow.entity.QBorrow;
+import com.book.village.server.domain.location.dto.LocationDto;
+import com.book.village.server.domain.location.entity.BorrowLocation;
+import com.book.village.server.domain.location.entity.QBorrowLocation;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+@Repository
+public class LocationQuerydslRepository {
+    private final JPAQueryFactory queryFactory;
+
+    public LocationQuerydslRepository(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    // cell 마다 geohash prefix range scan. 거리 계산은 읽어 온 후보에만 한다.
+    public List<BorrowLocation> findInCells(List<String> cells) {
+        QBorrowLocation location = QBorrowLocation.borrowLocation;
+        BooleanBuilder inCells = new BooleanBuilder();
+        for (String cell : cells) {
+            inCells.or(location.geohash.startsWith(cell));
+        }
+        return queryFactory
+                .selectFrom(location)
+                .where(inCells)
+                .fetch();
+    }
+
+    public List<Long> findOpenBorrowIds(Long memberId) {
+        QBorrow borrow = QBorrow.borrow;
+        return queryFactory
+                .select(borrow.borrowId)
+                .from(borrow)
+                .where(borrow.member.memberId.eq(memberId), borrow.borrowWhthr.isTrue())
+                .fetch();
+    }
+
+    // distanceKm 은 호출하는 쪽에서 채운다.
+    public List<LocationDto.NearbyBorrow> findNearbyBorrows(List<Long> ids) {
+        QBorrow borrow = QBorrow.borrow;
+        return queryFactory
+                .select(Projections.fields(LocationDto.NearbyBorrow.class,
+                        borrow.borrowId, borrow.title, borrow.bookTitle, borrow.author, borrow.publisher,
+                        borrow.thumbnail, borrow.displayName, borrow.view, borrow.createdAt))
+                .from(borrow)
+                .where(borrow.borrowId.in(ids), borrow.borrowWhthr.isTrue())
+                .fetch();
+    }
+}
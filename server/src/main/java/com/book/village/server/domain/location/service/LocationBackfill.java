@@ -0,0 +1,84 @@
+package com.book.village.server.domain.location.service;
+
+import com.book.village.server.global.utils.GeoHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// V7 이전에 주소를 저장한 회원의 위치와, 그 회원들의 나눔 가능한 글 위치를 채운다.
+// 회원은 pk 순서로 batch 씩 읽고 batch 마다 커밋한다. 주소를 찾지 못한 회원은 그대로 둔다.
+@Slf4j
+@Component
+public class LocationBackfill {
+    private static final String SELECT_MEMBERS =
+            "select member_id, address from member" +
+            " where member_id > ? and geohash is null and address is not null and address <> ''" +
+            " order by member_id limit ?";
+    private static final String UPDATE_MEMBER =
+            "update member set latitude = ?, longitude = ?, geohash = ? where member_id = ? and geohash is null";
+    private static final String INSERT_LOCATIONS =
+            "insert into borrow_location (borrow_id, geohash, latitude, longitude)" +
+            " select b.borrow_id, m.geohash, m.latitude, m.longitude from borrow b join member m on b.member_id = m.member_id" +
+            " where b.borrow_whthr = true and m.geohash is not null" +
+            " and not exists (select 1 from borrow_location l where l.borrow_id = b.borrow_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RegionGeocoder regionGeocoder;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public LocationBackfill(JdbcTemplate jdbcTemplate, RegionGeocoder regionGeocoder,
+                            @Value("${location.backfill.enabled:true}") boolean enabled,
+                            @Value("${location.backfill.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.regionGeocoder = regionGeocoder;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+        Thread thread = new Thread(this::backfill, "location-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void backfill() {
+        try {
+            long located = 0;
+            long lastId = 0;
+            while (true) {
+                List<Object[]> rows = jdbcTemplate.query(SELECT_MEMBERS,
+                        (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2)}, lastId, batchSize);
+                if (rows.isEmpty()) break;
+
+                List<Object[]> updates = new ArrayList<>(rows.size());
+                for (Object[] row : rows) {
+                    RegionGeocoder.Region region = regionGeocoder.geocode((String) row[1]);
+                    if (region == null) continue;
+                    updates.add(new Object[]{region.getLatitude(), region.getLongitude(),
+                            GeoHash.encode(region.getLatitude(), region.getLongitude(), LocationService.GEOHASH_PRECISION), row[0]});
+                }
+                if (!updates.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_MEMBER, updates);
+                    located += updates.size();
+                }
+                lastId = (Long) rows.get(rows.size() - 1)[0];
+                if (rows.size() < batchSize) break;
+            }
+            int indexed = jdbcTemplate.update(INSERT_LOCATIONS);
+            if (located > 0 || indexed > 0) {
+                log.info("location backfill done: {} members located, {} borrows indexed", located, indexed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("location backfill failed ({})", e.toString());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.book.village.server.domain.location.service;
+
+import com.book.village.server.domain.borrow.entity.Borrow;
+import com.book.village.server.domain.location.dto.LocationDto;
+import com.book.village.server.domain.location.entity.BorrowLocation;
+import com.book.village.server.domain.location.repository.BorrowLocationRepository;
+import com.book.village.server.domain.location.repository.LocationQuerydslRepository;
+import com.book.village.server.domain.member.entity.Member;
+import com.book.village.server.global.exception.CustomLogicException;
+import com.book.village.server.global.exception.ExceptionCode;
+import com.book.village.server.global.utils.GeoHash;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 회원 위치와 나눔 가능한 글의 위치 인덱스 (borrow_location).
+// 나눔글 위치는 작성자 위치를 따르고, 나눔글/회원이 바뀔 때 같은 트랜잭션에서 맞춘다.
+@Service
+@Transactional
+public class LocationService {
+    public static final int GEOHASH_PRECISION = 9;
+
+    private final RegionGeocoder regionGeocoder;
+    private final BorrowLocationRepository borrowLocationRepository;
+    private final LocationQuerydslRepository locationQuerydslRepository;
+    private final double maxRadiusKm;
+    private final int maxSize;
+
+    public LocationService(RegionGeocoder regionGeocoder,
+                           BorrowLocationRepository borrowLocationRepository,
+                           LocationQuerydslRepository locationQuerydslRepository,
+                           @Value("${location.max-radius-km:20}") double maxRadiusKm,
+                           @Value("${location.max-size:50}") int maxSize) {
+        this.regionGeocoder = regionGeocoder;
+        this.borrowLocationRepository = borrowLocationRepository;
+        this.locationQuerydslRepository = locationQuerydslRepository;
+        this.maxRadiusKm = maxRadiusKm;
+        this.maxSize = maxSize;
+    }
+
+    // 주소로 회원 위치를 다시 정하고, 그 회원의 나눔 가능한 글 위치를 옮긴다.
+    public void memberMoved(Member member) {
+        locate(member);
+        List<Long> borrowIds = locationQuerydslRepository.findOpenBorrowIds(member.getMemberId());
+        for (Long borrowId : borrowIds) {
+            index(borrowId, member);
+        }
+    }
+
+    // 주소를 찾지 못하면 위치를 비운다.
+    public void locate(Member member) {
+        RegionGeocoder.Region region = regionGeocoder.geocode(member.getAddress());
+        if (region == null) {
+            member.setLatitude(null);
+            member.setLongitude(null);
+            member.setGeohash(null);
+            return;
+        }
+        member.setLatitude(region.getLatitude());
+        member.setLongitude(region.getLongitude());
+        member.setGeohash(GeoHash.encode(region.getLatitude(), region.getLongitude(), GEOHASH_PRECISION));
+    }
+
+    // 나눔 가능하고 작성자 위치가 있으면 인덱스에 넣고, 아니면 뺀다.
+    public void borrowSaved(Borrow borrow) {
+        if (Boolean.TRUE.equals(borrow.getBorrowWhthr())) index(borrow.getBorrowId(), borrow.getMember());
+        else borrowLocationRepository.deleteByBorrowId(borrow.getBorrowId());
+    }
+
+    public void borrowDeleted(Long borrowId) {
+        borrowLocationRepository.deleteByBorrowId(borrowId);
+    }
+
+    // 회원 동네에서 radiusKm 안의 나눔 가능한 글, 가까운 순
+    @Transactional(readOnly = true)
+    public List<LocationDto.NearbyBorrow> findNearbyBorrows(Member member, double radiusKm, int size) {
+        if (member.getGeohash() == null) throw new CustomLogicException(ExceptionCode.MEMBER_LOCATION_NOT_FOUND);
+        double radius = Math.min(Math.max(radiusKm, 0.1), maxRadiusKm);
+        int limit = Math.min(Math.max(size, 1), maxSize);
+        double latitude = member.getLatitude();
+        double longitude = member.getLongitude();
+
+        Map<Long, Double> distances = new HashMap<>();
+        for (BorrowLocation location : locationQuerydslRepository.findInCells(GeoHash.coveringCells(latitude, longitude, radius))) {
+            double distance = GeoHash.distanceKm(latitude, longitude, location.getLatitude(), location.getLongitude());
+            if (distance <= radius) distances.put(location.getBorrowId(), distance);
+        }
+        // 같은 거리 (같은 동네) 는 최신 글 먼저
+        List<Long> ids = distances.keySet().stream()
+                .sorted(Comparator.comparing((Long id) -> distances.get(id)).thenComparing(Comparator.reverseOrder()))
+                .limit(limit)
+                .collect(Collectors.toList());
+        if (ids.isEmpty()) return Collections.emptyList();
+
+        Map<Long, LocationDto.NearbyBorrow> borrows = locationQuerydslRepository.findNearbyBorrows(ids).stream()
+                .collect(Collectors.toMap(LocationDto.NearbyBorrow::getBorrowId, Function.identity()));
+        List<LocationDto.NearbyBorrow> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            LocationDto.NearbyBorrow borrow = borrows.get(id);
+            if (borrow == null) continue;
+            borrow.setDistanceKm(Math.round(distances.get(id) * 10) / 10.0);
+            result.add(borrow);
+        }
+        return result;
+    }
+
+    private void index(Long borrowId, Member member) {
+        if (member == null || member.getGeohash() == null) {
+            borrowLocationRepository.deleteByBorrowId(borrowId);
+            return;
+        }
+        BorrowLocation location = borrowLocationRepository.findById(borrowId).orElseGet(BorrowLocation::new);
+        location.setBorrowId(borrowId);
+        location.setGeohash(member.getGeohash());
+        location.setLatitude(member.getLatitude());
+        location.setLongitude(member.getLongitude());
+        borrowLocationRepository.save(location);
+    }
+}
@@ -0,0 +1,85 @@
+package com.book.village.server.domain.location.service;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+// 주소 문자열을 시/군/구 단위 좌표로 바꾼다. 외부 API 없이 함께 배포되는 region 표 (regions.csv) 만 쓴다.
+// "서울특별시 강남구 ...", "서울 강남구 ...", "경기도 성남시 분당구 ..." 처럼 시/도, 시/군/구가 공백으로 나뉜 주소를 가정한다.
+@Component
+public class RegionGeocoder {
+    private final Map<String, String> sidoByName = new HashMap<>();     // 이름/약칭 -> 시/도
+    private final Map<String, Region> sidoRegions = new HashMap<>();    // 시/도 -> 대표 좌표
+    private final Map<String, List<Region>> regionsBySigungu = new HashMap<>();
+
+    public RegionGeocoder(@Value("${location.region-table:classpath:region/regions.csv}") Resource table) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(table.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            boolean header = true;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                if (header) {
+                    header = false;
+                    continue;
+                }
+                String[] columns = line.split(",", -1);
+                String sido = columns[0];
+                Region region = new Region(sido, columns[2], Double.parseDouble(columns[3]), Double.parseDouble(columns[4]));
+                sidoByName.put(sido, sido);
+                for (String alias : columns[1].split("\\|")) {
+                    sidoByName.put(alias, sido);
+                }
+                if (region.sigungu.isEmpty()) sidoRegions.put(sido, region);
+                else regionsBySigungu.computeIfAbsent(region.sigungu, k -> new ArrayList<>()).add(region);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("region table: " + table, e);
+        }
+    }
+
+    // 시/군/구를 찾으면 그 좌표, 시/도만 찾으면 시/도 대표 좌표, 못 찾거나 모호하면 (시/도 없는 "중구") null
+    public Region geocode(String address) {
+        if (address == null || address.trim().isEmpty()) return null;
+        String sido = null;
+        List<Region> candidates = new ArrayList<>();
+        for (String token : address.trim().split("[\\s,()]+")) {
+            if (sido == null && sidoByName.containsKey(token)) {
+                sido = sidoByName.get(token);
+                continue;
+            }
+            if (candidates.isEmpty() && regionsBySigungu.containsKey(token)) {
+                candidates = regionsBySigungu.get(token);
+            }
+        }
+        if (sido != null) {
+            for (Region region : candidates) {
+                if (region.sido.equals(sido)) return region;
+            }
+            return sidoRegions.get(sido);
+        }
+        return candidates.size() == 1 ? candidates.get(0) : null;
+    }
+
+    @Getter
+    public static class Region {
+        private final String sido;
+        private final String sigungu;
+        private final double latitude;
+        private final double longitude;
+
+        private Region(String sido, String sigungu, double latitude, double longitude) {
+            this.sido = sido;
+            this.sigungu = sigungu;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+    }
+}
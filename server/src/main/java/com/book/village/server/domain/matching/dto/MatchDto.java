@@ -0,0 +1,39 @@
+package com.book.village.server.domain.matching.dto;
+
+import com.book.village.server.image.ImageUrlSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+public class MatchDto {
+
+    // 매칭된 나눔글/요청글 목록 카드
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        private Long id;
+        private String title;
+        private String bookTitle;
+        private String author;
+        private String publisher;
+        @JsonSerialize(using = ImageUrlSerializer.class)
+        private String thumbnail;
+        private String displayName;
+        private LocalDateTime createdAt;
+    }
+
+    // 인덱스를 다시 만들 때 읽는 행
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BookRow {
+        private Long id;
+        private String bookTitle;
+        private String author;
+        private String publisher;
+    }
+}
@@ -0,0 +1,69 @@
+package com.book.village.server.domain.matching.repository;
+
+import com.book.village.server.domain.borrow.entity.QBorrow;
+import com.book.village.server.domain.matching.dto.MatchDto;
+import com.book.village.server.domain.request.entity.QRequest;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class MatchingQuerydslRepository {
+    private final JPAQueryFactory queryFactory;
+
+    public MatchingQuerydslRepository(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    // 나눔 가능한 나눔글만 인덱스에 넣는다.
+    public List<MatchDto.BookRow> findOpenBorrows(long afterId, int limit) {
+        QBorrow borrow = QBorrow.borrow;
+        return queryFactory
+                .select(Projections.constructor(MatchDto.BookRow.class,
+                        borrow.borrowId, borrow.bookTitle, borrow.author, borrow.publisher))
+                .from(borrow)
+                .where(borrow.borrowId.gt(afterId), borrow.borrowWhthr.isTrue())
+                .orderBy(borrow.borrowId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public List<MatchDto.BookRow> findRequests(long afterId, int limit) {
+        QRequest request = QRequest.request;
+        return queryFactory
+                .select(Projections.constructor(MatchDto.BookRow.class,
+                        request.requestId, request.bookTitle, request.author, request.publisher))
+                .from(request)
+                .where(request.requestId.gt(afterId))
+                .orderBy(request.requestId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 응답 카드에 필요한 컬럼만 읽는다 (member, 댓글은 읽지 않는다).
+    public List<MatchDto.Response> findBorrowResponses(Collection<Long> ids) {
+        QBorrow borrow = QBorrow.borrow;
+        return queryFactory
+                .select(Projections.constructor(MatchDto.Response.class,
+                        borrow.borrowId, borrow.title, borrow.bookTitle, borrow.author, borrow.publisher,
+                        borrow.thumbnail, borrow.displayName, borrow.createdAt))
+                .from(borrow)
+                .where(borrow.borrowId.in(ids), borrow.borrowWhthr.isTrue())
+                .fetch();
+    }
+
+    public List<MatchDto.Response> findRequestResponses(Collection<Long> ids) {
+        QRequest request = QRequest.request;
+        return queryFactory
+                .select(Projections.constructor(MatchDto.Response.class,
+                        request.requestId, request.title, request.bookTitle, request.author, request.publisher,
+                        request.thumbnail, request.displayName, request.createdAt))
+                .from(request)
+                .where(request.requestId.in(ids))
+                .fetch();
+    }
+}
@@ -0,0 +1,100 @@
+package com.book.village.server.domain.matching.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// 정규화한 책 제목 -> 글 id. 같은 제목 안에서 저자/출판사로 거른다.
+// 조회는 잠금 없이 읽고, 쓰기만 synchronized 로 두 map 을 함께 바꾼다.
+class BookIndex {
+    private static final Pattern BRACKETS = Pattern.compile("[(\\[{<（【].*?[)\\]}>）】]");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]");
+
+    private final Map<String, Set<Long>> idsByTitle = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    synchronized void put(Long id, String bookTitle, String author, String publisher) {
+        remove(id);
+        String title = normalizeTitle(bookTitle);
+        if (title.isEmpty()) return;
+        entries.put(id, new Entry(id, title, normalize(author), normalize(publisher)));
+        idsByTitle.computeIfAbsent(title, key -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    synchronized void remove(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) return;
+        idsByTitle.computeIfPresent(entry.title, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // 제목이 같고, 저자는 양쪽 다 있을 때만 비교한다. 출판사가 같은 글을 먼저, 그 안에서는 최신 글 (id 역순) 먼저.
+    List<Long> match(String bookTitle, String author, String publisher, int limit) {
+        String title = normalizeTitle(bookTitle);
+        Set<Long> ids = idsByTitle.get(title);
+        if (ids == null) return List.of();
+        String normalizedAuthor = normalize(author);
+        String normalizedPublisher = normalize(publisher);
+
+        List<Entry> candidates = new ArrayList<>();
+        for (Long id : ids) {
+            Entry entry = entries.get(id);
+            if (entry == null) continue;
+            if (!sameAuthor(entry.author, normalizedAuthor)) continue;
+            candidates.add(entry);
+        }
+        return candidates.stream()
+                .sorted(Comparator.comparing((Entry entry) -> !entry.publisher.equals(normalizedPublisher) || normalizedPublisher.isEmpty())
+                        .thenComparing(entry -> entry.id, Comparator.reverseOrder()))
+                .limit(limit)
+                .map(entry -> entry.id)
+                .collect(Collectors.toList());
+    }
+
+    // "한강 (지은이)", "한강 저" 같은 표기 차이가 있어 한쪽이 다른 쪽을 포함하면 같은 저자로 본다.
+    private static boolean sameAuthor(String a, String b) {
+        if (a.isEmpty() || b.isEmpty()) return true;
+        return a.contains(b) || b.contains(a);
+    }
+
+    // 괄호 안 부가 정보 ("(개정판)", "[양장]") 를 빼고 비교한다. 괄호만 있는 제목이면 괄호 안까지 쓴다.
+    static String normalizeTitle(String value) {
+        if (value == null) return "";
+        String title = normalize(BRACKETS.matcher(value).replaceAll(""));
+        return title.isEmpty() ? normalize(value) : title;
+    }
+
+    // NFKC 로 전각/반각을 맞추고 소문자로, 글자와 숫자만 남긴다.
+    static String normalize(String value) {
+        if (value == null) return "";
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return NON_WORD.matcher(normalized).replaceAll("");
+    }
+
+    private static class Entry {
+        private final Long id;
+        private final String title;
+        private final String author;
+        private final String publisher;
+
+        private Entry(Long id, String title, String author, String publisher) {
+            this.id = id;
+            this.title = title;
+            this.author = author;
+            this.publisher = publisher;
+        }
+    }
+}
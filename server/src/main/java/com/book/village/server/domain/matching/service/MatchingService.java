@@ -0,0 +1,157 @@
+package com.book.village.server.domain.matching.service;
+
+import com.book.village.server.domain.borrow.entity.Borrow;
+import com.book.village.server.domain.matching.dto.MatchDto;
+import com.book.village.server.domain.matching.repository.MatchingQuerydslRepository;
+import com.book.village.server.domain.request.entity.Request;
+import com.book.village.server.global.utils.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+// 나눔 가능한 나눔글과 요청글을 책 제목으로 묶은 메모리 인덱스.
+// 글 저장/완료/삭제가 커밋된 뒤에 인덱스를 고치고 (롤백된 변경은 남지 않는다),
+// 시작할 때와 rebuild-interval 마다 DB 에서 다시 만든다
+// (다른 서버에서 바뀐 글은 다음 rebuild 때 반영된다).
+// rebuild 가 읽은 행은 그 사이 커밋된 삭제/완료보다 오래된 것일 수 있어, rebuild 중의 변경은 기록해 두었다가
+// 새 인덱스로 바꾸기 직전에 순서대로 다시 적용한다.
+@Slf4j
+@Service
+public class MatchingService {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final MatchingQuerydslRepository matchingRepository;
+    private final int limit;
+
+    private volatile BookIndex borrows = new BookIndex();
+    private volatile BookIndex requests = new BookIndex();
+    // 인덱스 변경과 rebuild 의 교체를 묶는다. pending 은 rebuild 중에만 null 이 아니다.
+    private final Object mutationLock = new Object();
+    private List<Consumer<BookIndex>> pendingBorrows;
+    private List<Consumer<BookIndex>> pendingRequests;
+
+    public MatchingService(MatchingQuerydslRepository matchingRepository,
+                           @Value("${matching.limit:20}") int limit) {
+        this.matchingRepository = matchingRepository;
+        this.limit = limit;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${matching.rebuild-interval:600000}", initialDelayString = "${matching.rebuild-interval:600000}")
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        BookIndex newBorrows = new BookIndex();
+        BookIndex newRequests = new BookIndex();
+        synchronized (mutationLock) {
+            pendingBorrows = new ArrayList<>();
+            pendingRequests = new ArrayList<>();
+        }
+        try {
+            load(newBorrows, matchingRepository::findOpenBorrows);
+            load(newRequests, matchingRepository::findRequests);
+            synchronized (mutationLock) {
+                pendingBorrows.forEach(update -> update.accept(newBorrows));
+                pendingRequests.forEach(update -> update.accept(newRequests));
+                borrows = newBorrows;
+                requests = newRequests;
+            }
+        } catch (RuntimeException e) {
+            log.warn("matching index rebuild failed ({})", e.toString());
+            return;
+        } finally {
+            synchronized (mutationLock) {
+                pendingBorrows = null;
+                pendingRequests = null;
+            }
+        }
+        log.info("matching index rebuilt: {} borrows, {} requests in {} ms",
+                newBorrows.size(), newRequests.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void load(BookIndex index, BiFunction<Long, Integer, List<MatchDto.BookRow>> fetcher) {
+        long lastId = 0;
+        while (true) {
+            List<MatchDto.BookRow> rows = fetcher.apply(lastId, REBUILD_BATCH_SIZE);
+            for (MatchDto.BookRow row : rows) {
+                index.put(row.getId(), row.getBookTitle(), row.getAuthor(), row.getPublisher());
+            }
+            if (rows.size() < REBUILD_BATCH_SIZE) return;
+            lastId = rows.get(rows.size() - 1).getId();
+        }
+    }
+
+    // 나눔 가능 상태일 때만 인덱스에 남긴다 (완료하면 빠진다).
+    public void borrowSaved(Borrow borrow) {
+        Long id = borrow.getBorrowId();
+        if (Boolean.TRUE.equals(borrow.getBorrowWhthr())) {
+            String bookTitle = borrow.getBookTitle();
+            String author = borrow.getAuthor();
+            String publisher = borrow.getPublisher();
+            TransactionCallbacks.afterCommit(() -> updateBorrows(index -> index.put(id, bookTitle, author, publisher)));
+        } else {
+            TransactionCallbacks.afterCommit(() -> updateBorrows(index -> index.remove(id)));
+        }
+    }
+
+    public void borrowDeleted(Long borrowId) {
+        TransactionCallbacks.afterCommit(() -> updateBorrows(index -> index.remove(borrowId)));
+    }
+
+    public void requestSaved(Request request) {
+        Long id = request.getRequestId();
+        String bookTitle = request.getBookTitle();
+        String author = request.getAuthor();
+        String publisher = request.getPublisher();
+        TransactionCallbacks.afterCommit(() -> updateRequests(index -> index.put(id, bookTitle, author, publisher)));
+    }
+
+    public void requestDeleted(Long requestId) {
+        TransactionCallbacks.afterCommit(() -> updateRequests(index -> index.remove(requestId)));
+    }
+
+    // 이 나눔글의 책을 찾는 요청글
+    public List<MatchDto.Response> findRequestsFor(Borrow borrow) {
+        List<Long> ids = requests.match(borrow.getBookTitle(), borrow.getAuthor(), borrow.getPublisher(), limit);
+        if (ids.isEmpty()) return List.of();
+        return inIndexOrder(ids, matchingRepository.findRequestResponses(ids));
+    }
+
+    // 이 요청글의 책을 나눔하는 나눔글
+    public List<MatchDto.Response> findBorrowsFor(Request request) {
+        List<Long> ids = borrows.match(request.getBookTitle(), request.getAuthor(), request.getPublisher(), limit);
+        if (ids.isEmpty()) return List.of();
+        return inIndexOrder(ids, matchingRepository.findBorrowResponses(ids));
+    }
+
+    private static List<MatchDto.Response> inIndexOrder(List<Long> ids, List<MatchDto.Response> responses) {
+        responses.sort(Comparator.comparingInt(response -> ids.indexOf(response.getId())));
+        return responses;
+    }
+
+    private void updateBorrows(Consumer<BookIndex> update) {
+        synchronized (mutationLock) {
+            update.accept(borrows);
+            if (pendingBorrows != null) pendingBorrows.add(update);
+        }
+    }
+
+    private void updateRequests(Consumer<BookIndex> update) {
+        synchronized (mutationLock) {
+            update.accept(requests);
+            if (pendingRequests != null) pendingRequests.add(update);
+        }
+    }
+}
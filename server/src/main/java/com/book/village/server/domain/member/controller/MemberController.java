@@ -4,13 +4,18 @@ import com.book.village.server.auth.jwt.service.RefreshTokenService;
 import com.book.village.server.domain.member.dto.MemberDto;
 import com.book.village.server.domain.member.entity.Member;
 import com.book.village.server.domain.member.mapper.MemberMapper;
+import com.book.village.server.domain.member.service.MemberExportService;
 import com.book.village.server.domain.member.service.MemberService;
 import com.book.village.server.global.response.MessageResponseDto;
 import com.book.village.server.global.response.SingleResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
@@ -22,11 +27,13 @@ import java.security.Principal;
 public class MemberController {
     private final MemberService memberService;
     private final MemberMapper memberMapper;
+    private final MemberExportService memberExportService;
     private static final String BASE_URL = "/v1/members";
 
-    public MemberController(MemberService memberService, MemberMapper memberMapper) {
+    public MemberController(MemberService memberService, MemberMapper memberMapper, MemberExportService memberExportService) {
         this.memberService = memberService;
         this.memberMapper = memberMapper;
+        this.memberExportService = memberExportService;
     }
     @PatchMapping
     public ResponseEntity patchMember(Principal principal, @Valid @RequestBody MemberDto.Patch memberDto) {
@@ -40,6 +47,19 @@ public class MemberController {
         Member member = memberService.findMember(principal.getName());
         return ResponseEntity.ok(new SingleResponse<>(memberMapper.memberToResponseMemberDto(member)));
     }
+
+    // 내 게시글, 댓글, 평점 전체를 NDJSON 으로 스트리밍
+    @GetMapping(value = "/me/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMember(Principal principal) {
+        long memberId = memberService.findMember(principal.getName()).getMemberId();
+        StreamingResponseBody body = outputStream -> memberExportService.export(memberId, outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("bookvillage-export.ndjson").build().toString())
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @PostMapping("/auth/logout")
     public ResponseEntity logoutMember(HttpServletRequest request, Principal principal) {
 
@@ -49,6 +69,12 @@ public class MemberController {
         return ResponseEntity.ok(new MessageResponseDto("logout completed!"));
     }
 
+    @PostMapping("/auth/logout-all")
+    public ResponseEntity logoutAllMember(Principal principal) {
+        memberService.logoutAll(principal.getName());
+        return ResponseEntity.ok(new MessageResponseDto("logout from all devices completed!"));
+    }
+
 
 
     @PatchMapping("/quit")
@@ -1,6 +1,8 @@
 package com.book.village.server.domain.member.dto;
 
 import com.book.village.server.domain.member.entity.Member;
+import com.book.village.server.image.ImageUrlSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.*;
 
 import javax.persistence.Lob;
@@ -41,6 +43,7 @@ public class MemberDto {
         private String name;
         private String displayName;
         @Lob
+        @JsonSerialize(using = ImageUrlSerializer.class)
         private String imgUrl;
         private String address;
         private String phoneNumber;
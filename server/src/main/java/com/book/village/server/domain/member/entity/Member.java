@@ -1,6 +1,7 @@
 package com.book.village.server.domain.member.entity;
 
 import com.book.village.server.global.audit.Auditable;
+import com.book.village.server.image.ImageVariantListener;
 import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
 
@@ -9,6 +10,7 @@ import javax.validation.constraints.Size;
 import java.util.List;
 
 @Entity
+@EntityListeners(ImageVariantListener.class)
 @Getter
 @Setter
 @Builder
@@ -16,6 +18,8 @@ import java.util.List;
 @NoArgsConstructor
 @ToString
 public class Member extends Auditable {
+    public static final String DEFAULT_IMG_URL = "https://img.icons8.com/windows/32/null/user-male-circle.png";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "member_id")
@@ -31,13 +35,20 @@ public class Member extends Auditable {
     @Size(min = 2, max = 20)
     private String displayName;
 
-    @Column
-    @Lob
-    private String imgUrl="https://img.icons8.com/windows/32/null/user-male-circle.png";
+    @Column(name = "img_key", length = 512)
+    private String imgUrl=DEFAULT_IMG_URL;
 
     @ColumnDefault("''")
     private String address;
 
+    // address 로 찾은 대략적인 위치 (LocationService). 찾지 못하면 null.
+    private Double latitude;
+
+    private Double longitude;
+
+    @Column(length = 12)
+    private String geohash;
+
     @Column(length = 30)
     private String phoneNumber;
 
@@ -0,0 +1,65 @@
+package com.book.village.server.domain.member.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 회원 활동 내보내기용. 결과를 엔티티로 올리지 않고 forward-only 커서로 한 행씩 넘긴다.
+@Repository
+public class MemberExportRepository {
+    public static final int FETCH_SIZE = 500;
+
+    // 내보내기 순서대로 정렬된 type -> query. 모든 query 는 member_id 하나를 파라미터로 받는다.
+    private static final Map<String, String> QUERIES = new LinkedHashMap<>();
+
+    static {
+        QUERIES.put("member",
+                "select member_id, email, name, display_name, img_key as img_url, address, phone_number, member_status, created_at, modified_at " +
+                "from member where member_id = ?");
+        QUERIES.put("borrow",
+                "select borrow_id, title, content, book_title, author, publisher, thumbnail_key as thumbnail, talk_url, view, borrow_whthr, " +
+                "created_at, modified_at from borrow where member_id = ? order by borrow_id");
+        QUERIES.put("request",
+                "select request_id, title, content, book_title, author, publisher, thumbnail_key as thumbnail, talk_url, view, " +
+                "created_at, modified_at from request where member_id = ? order by request_id");
+        QUERIES.put("community",
+                "select community_id, type, title, content, view, created_at, modified_at " +
+                "from community where member_id = ? order by community_id");
+        QUERIES.put("borrowComment",
+                "select borrow_comment_id, borrow_id, content, created_at, modified_at " +
+                "from borrow_comment where member_id = ? order by borrow_comment_id");
+        QUERIES.put("requestComment",
+                "select request_comment_id, request_id, content, created_at, modified_at " +
+                "from request_comment where member_id = ? order by request_comment_id");
+        QUERIES.put("communityComment",
+                "select community_comment_id, community_id, content, created_at, modified_at " +
+                "from community_comment where member_id = ? order by community_comment_id");
+        QUERIES.put("rate",
+                "select r.rate_id, r.book_id, b.isbn, b.book_title, r.rating, r.content, r.created_at, r.modified_at " +
+                "from rate r join book b on b.book_id = r.book_id where r.member_id = ? order by r.rate_id");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberExportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Iterable<String> types() {
+        return QUERIES.keySet();
+    }
+
+    public void stream(String type, long memberId, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(QUERIES.get(type), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setLong(1, memberId);
+            return ps;
+        }, handler);
+    }
+}
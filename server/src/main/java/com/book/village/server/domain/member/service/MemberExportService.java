@@ -0,0 +1,144 @@
+package com.book.village.server.domain.member.service;
+
+import com.book.village.server.domain.member.repository.MemberExportRepository;
+import com.book.village.server.image.ImageUrls;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+@Service
+public class MemberExportService {
+    private static final int FLUSH_ROWS = 200;
+    // 저장된 이미지 key 를 응답과 같은 url 로 바꿔 내보낸다.
+    private static final Set<String> IMAGE_COLUMNS = new HashSet<>(Arrays.asList("imgUrl", "thumbnail"));
+
+    private final MemberExportRepository exportRepository;
+    private final ImageUrls imageUrls;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonFactory jsonFactory;
+
+    public MemberExportService(MemberExportRepository exportRepository, ImageUrls imageUrls,
+                               PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.exportRepository = exportRepository;
+        this.imageUrls = imageUrls;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // 한 줄에 json 하나 (NDJSON). 줄바꿈은 직접 쓴다.
+        this.jsonFactory = objectMapper.getFactory().copy().setRootValueSeparator(null);
+    }
+
+    // 회원의 게시글/댓글/평점을 NDJSON 으로 내보낸다. 한 트랜잭션(같은 스냅샷) 안에서 테이블별 커서를 순서대로 읽는다.
+    public void export(long memberId, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = jsonFactory.createGenerator(outputStream);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (String type : exportRepository.types()) {
+                    exportRepository.stream(type, memberId, new NdjsonRowWriter(type, generator, imageUrls));
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.flush();
+    }
+
+    private static class NdjsonRowWriter implements RowCallbackHandler {
+        private final String type;
+        private final JsonGenerator generator;
+        private final ImageUrls imageUrls;
+        private String[] names;
+        private int[] types;
+        private int rows;
+
+        private NdjsonRowWriter(String type, JsonGenerator generator, ImageUrls imageUrls) {
+            this.type = type;
+            this.generator = generator;
+            this.imageUrls = imageUrls;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            if (names == null) readMetaData(rs.getMetaData());
+            try {
+                generator.writeStartObject();
+                generator.writeStringField("type", type);
+                for (int i = 0; i < names.length; i++) {
+                    writeValue(rs, i + 1);
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                if (++rows % FLUSH_ROWS == 0) generator.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeValue(ResultSet rs, int index) throws SQLException, IOException {
+            generator.writeFieldName(names[index - 1]);
+            switch (types[index - 1]) {
+                case Types.TIMESTAMP:
+                case Types.TIMESTAMP_WITH_TIMEZONE:
+                case Types.DATE:
+                    Timestamp timestamp = rs.getTimestamp(index);
+                    if (timestamp == null) generator.writeNull();
+                    else generator.writeString(timestamp.toLocalDateTime().toString());
+                    return;
+                case Types.BIT:
+                case Types.BOOLEAN:
+                    boolean bool = rs.getBoolean(index);
+                    if (rs.wasNull()) generator.writeNull();
+                    else generator.writeBoolean(bool);
+                    return;
+                case Types.BIGINT:
+                case Types.INTEGER:
+                case Types.SMALLINT:
+                case Types.TINYINT:
+                    long number = rs.getLong(index);
+                    if (rs.wasNull()) generator.writeNull();
+                    else generator.writeNumber(number);
+                    return;
+                case Types.DOUBLE:
+                case Types.FLOAT:
+                case Types.REAL:
+                case Types.DECIMAL:
+                case Types.NUMERIC:
+                    double decimal = rs.getDouble(index);
+                    if (rs.wasNull()) generator.writeNull();
+                    else generator.writeNumber(decimal);
+                    return;
+                default:
+                    String text = rs.getString(index);
+                    if (text == null) generator.writeNull();
+                    else if (IMAGE_COLUMNS.contains(names[index - 1])) generator.writeString(imageUrls.toUrl(text));
+                    else generator.writeString(text);
+            }
+        }
+
+        private void readMetaData(ResultSetMetaData metaData) throws SQLException {
+            int count = metaData.getColumnCount();
+            names = new String[count];
+            types = new int[count];
+            for (int i = 0; i < count; i++) {
+                names[i] = JdbcUtils.convertUnderscoreNameToPropertyName(JdbcUtils.lookupColumnName(metaData, i + 1));
+                types[i] = metaData.getColumnType(i + 1);
+            }
+        }
+    }
+}
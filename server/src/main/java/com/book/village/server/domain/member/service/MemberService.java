@@ -1,9 +1,10 @@
 package com.book.village.server.domain.member.service;
 
 import com.book.village.server.auth.jwt.JwtTokenizer;
-import com.book.village.server.auth.jwt.repository.RefreshTokenRepository;
 import com.book.village.server.auth.jwt.service.RefreshTokenService;
+import com.book.village.server.auth.jwt.service.TokenGenerationService;
 import com.book.village.server.auth.utils.CustomAuthorityUtils;
+import com.book.village.server.domain.location.service.LocationService;
 import com.book.village.server.domain.member.entity.Member;
 import com.book.village.server.domain.member.repository.MemberRepository;
 import com.book.village.server.global.exception.CustomLogicException;
@@ -28,15 +29,20 @@ public class MemberService {
     private final CustomAuthorityUtils authorityUtils;
     private final RedisTemplate redisTemplate;
     private final JwtTokenizer jwtTokenizer;
-    private final RefreshTokenRepository tokenRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenGenerationService tokenGenerationService;
+    private final LocationService locationService;
 
-    public MemberService(MemberRepository memberRepository, CustomBeanUtils<Member> customBeanUtils, CustomAuthorityUtils authorityUtils, RedisTemplate redisTemplate, JwtTokenizer jwtTokenizer, RefreshTokenRepository tokenRepository) {
+    public MemberService(MemberRepository memberRepository, CustomBeanUtils<Member> customBeanUtils, CustomAuthorityUtils authorityUtils, RedisTemplate redisTemplate, JwtTokenizer jwtTokenizer, RefreshTokenService refreshTokenService,
+                         TokenGenerationService tokenGenerationService, LocationService locationService) {
         this.memberRepository = memberRepository;
         this.customBeanUtils = customBeanUtils;
         this.authorityUtils = authorityUtils;
         this.redisTemplate = redisTemplate;
         this.jwtTokenizer = jwtTokenizer;
-        this.tokenRepository = tokenRepository;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenGenerationService = tokenGenerationService;
+        this.locationService = locationService;
     }
 
     public Member createMember(Member member) {
@@ -68,11 +74,28 @@ public class MemberService {
                     }
             );
         }
-        return customBeanUtils.copyNonNullProperties(patchMember, member);
+        Member updatedMember = customBeanUtils.copyNonNullProperties(patchMember, member);
+        // 주소가 바뀌면 동네 위치와 나눔글 위치도 옮긴다.
+        if(patchMember.getAddress()!=null) locationService.memberMoved(updatedMember);
+        return updatedMember;
     }
     public void quitMember(String email){
         Member findMember = findMember(email);
         findMember.setMemberStatus(Member.MemberStatus.MEMBER_QUIT);
+        // 올린 프로필 이미지는 ImageCleanupListener 가 outbox 에 넣어 정리된다.
+        findMember.setImgUrl(Member.DEFAULT_IMG_URL);
+        revokeAllTokens(findMember.getMemberId());
+    }
+
+    // 모든 기기에서 로그아웃
+    public void logoutAll(String email) {
+        revokeAllTokens(findMember(email).getMemberId());
+    }
+
+    // 이미 발급된 access token 은 gen 을 올려 한 번에 폐기하고, refresh token 은 지운다.
+    private void revokeAllTokens(Long memberId) {
+        tokenGenerationService.revokeAll(memberId);
+        refreshTokenService.deleteToken(memberId);
     }
 
     public void registerLogoutToken(String jws, String pemail) {
@@ -87,7 +110,6 @@ public class MemberService {
         String email = (String)claims.get("username");
         String logoutKey = "logout:" + jws;
         valueOperations.set(logoutKey, email, Duration.ofMinutes(jwtTokenizer.getAccessTokenExpirationMinutes()));
-        if(memberRepository.findByEmail(pemail).isPresent())
-            tokenRepository.delete(tokenRepository.findByMember(memberRepository.findByEmail(pemail).get()).get());
+        memberRepository.findByEmail(pemail).ifPresent(member -> refreshTokenService.deleteToken(member.getMemberId()));
     }
 }
@@ -0,0 +1,32 @@
+package com.book.village.server.domain.notification.controller;
+
+import com.book.village.server.domain.notification.service.NotificationService;
+import com.book.village.server.global.exception.CustomLogicException;
+import com.book.village.server.global.exception.ExceptionCode;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.servlet.http.HttpServletResponse;
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/v1/notifications")
+public class NotificationController {
+    private final NotificationService notificationService;
+
+    public NotificationController(NotificationService notificationService) {
+        this.notificationService = notificationService;
+    }
+
+    // 내 글에 댓글이 달리면 "comment" 이벤트를 보낸다. 토큰은 연결할 때 한 번만 검증한다.
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(Principal principal, HttpServletResponse response) {
+        if (principal == null) throw new CustomLogicException(ExceptionCode.TOKEN_INVALID);
+        // nginx 가 이벤트를 모아 보내지 않게 한다.
+        response.setHeader("X-Accel-Buffering", "no");
+        return notificationService.subscribe(principal.getName());
+    }
+}
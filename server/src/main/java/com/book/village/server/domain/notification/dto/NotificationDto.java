@@ -0,0 +1,35 @@
+package com.book.village.server.domain.notification.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+public class NotificationDto {
+
+    public enum PostType {
+        BORROW, REQUEST, COMMUNITY
+    }
+
+    // 내 글에 달린 댓글. SSE "comment" 이벤트의 data 로 내려간다.
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Comment {
+        private PostType postType;
+        private Long postId;
+        private String postTitle;
+        private Long commentId;
+        private String displayName;     // 댓글 작성자
+        private LocalDateTime createdAt;
+    }
+
+    // Redis 채널로 다른 서버에 보내는 메시지. recipient 는 글 작성자 email.
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Message {
+        private String recipient;
+        private Comment comment;
+    }
+}
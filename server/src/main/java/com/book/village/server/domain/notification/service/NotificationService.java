@@ -0,0 +1,67 @@
+package com.book.village.server.domain.notification.service;
+
+import com.book.village.server.domain.notification.dto.NotificationDto;
+import com.book.village.server.global.utils.TransactionCallbacks;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+
+// 댓글 알림을 Redis 채널로 발행하고, 채널로 받은 알림을 이 서버에 연결된 SSE 스트림으로 보낸다.
+// 발행한 서버도 구독하고 있으므로 전달은 항상 채널을 거친다.
+@Slf4j
+@Service
+public class NotificationService implements MessageListener {
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final NotificationStreams notificationStreams;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+
+    public NotificationService(RedisTemplate<String, Object> redisTemplate,
+                               NotificationStreams notificationStreams,
+                               ObjectMapper objectMapper,
+                               @Value("${notification.channel:notification}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.notificationStreams = notificationStreams;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+    }
+
+    public SseEmitter subscribe(String email) {
+        return notificationStreams.connect(email);
+    }
+
+    // 글 작성자가 자기 글에 단 댓글은 알리지 않는다. 롤백된 댓글이 알려지지 않도록 커밋 뒤에 발행한다.
+    public void commentCreated(String postWriter, String commentWriter, NotificationDto.Comment comment) {
+        if (postWriter == null || postWriter.equals(commentWriter)) return;
+        NotificationDto.Message message = new NotificationDto.Message(postWriter, comment);
+        TransactionCallbacks.afterCommit(() -> publish(message));
+    }
+
+    // 알림 발행 실패로 댓글 작성이 실패하지 않게 한다. 놓친 알림은 클라이언트가 다시 연결할 때 목록을 새로 읽어 맞춘다.
+    private void publish(NotificationDto.Message message) {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("notification publish failed: {} ({})", message.getRecipient(), e.toString());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NotificationDto.Message received = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), NotificationDto.Message.class);
+            notificationStreams.send(received.getRecipient(), "comment", received.getComment());
+        } catch (Exception e) {
+            log.warn("notification message dropped ({})", e.toString());
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.book.village.server.domain.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 이 서버에 연결된 SSE 스트림 (회원 email -> 연결).
+// 연결은 async 요청이라 기다리는 동안 요청 스레드를 잡지 않는다. 보내기는 notificationExecutor 에서 연결마다 하나씩만 돈다.
+// 연결마다 buffer-size 만큼만 쌓고, 넘치는 이벤트는 버린다. 연결은 남겨 두고 밀린 이벤트를 다 보내면 다시 받는다.
+@Slf4j
+@Component
+public class NotificationStreams {
+    private final Map<String, Queue<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicLong eventId = new AtomicLong();
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration timeout;
+    private final int bufferSize;
+    private final int maxConnectionsPerMember;
+    private final Counter dropped;
+
+    public NotificationStreams(@Qualifier("notificationExecutor") ThreadPoolTaskExecutor executor,
+                               MeterRegistry meterRegistry,
+                               @Value("${notification.timeout:30m}") Duration timeout,
+                               @Value("${notification.buffer-size:32}") int bufferSize,
+                               @Value("${notification.max-connections-per-member:5}") int maxConnectionsPerMember) {
+        this.executor = executor;
+        this.timeout = timeout;
+        this.bufferSize = bufferSize;
+        this.maxConnectionsPerMember = maxConnectionsPerMember;
+        this.dropped = Counter.builder("notification.dropped")
+                .description("SSE events dropped because a slow consumer's buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("notification.connections", this, NotificationStreams::connectionCount)
+                .description("open SSE notification streams on this node")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter connect(String email) {
+        return connect(email, new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter connect(String email, SseEmitter emitter) {
+        Connection connection = new Connection(email, emitter);
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        // 탭을 여러 개 열어도 회원마다 max-connections-per-member 개까지만 두고 오래된 연결부터 닫는다.
+        List<Connection> evicted = new ArrayList<>();
+        connections.compute(email, (key, mine) -> {
+            if (mine == null) mine = new ConcurrentLinkedQueue<>();
+            mine.add(connection);
+            while (mine.size() > maxConnectionsPerMember) evicted.add(mine.poll());
+            return mine;
+        });
+        evicted.forEach(Connection::close);
+
+        // 프록시가 응답 헤더를 바로 내려보내도록 첫 이벤트를 보낸다.
+        connection.offer(new Event(null, null, "connected"));
+        return emitter;
+    }
+
+    public void send(String email, String name, Object data) {
+        Queue<Connection> mine = connections.get(email);
+        if (mine == null) return;
+        String id = String.valueOf(eventId.incrementAndGet());
+        for (Connection connection : mine) {
+            connection.offer(new Event(id, name, data));
+        }
+    }
+
+    // 끊긴 클라이언트는 보낼 때에야 알 수 있어서 주기적으로 빈 comment 를 보낸다. 중간 프록시의 idle timeout 도 막는다.
+    @Scheduled(fixedDelayString = "${notification.heartbeat-interval:25000}")
+    public void heartbeat() {
+        for (Queue<Connection> mine : connections.values()) {
+            for (Connection connection : mine) {
+                connection.offer(new Event(null, null, "ping"));
+            }
+        }
+    }
+
+    // 종료할 때 열린 스트림을 먼저 닫는다. 클라이언트는 다른 서버로 다시 연결한다.
+    @EventListener(ContextClosedEvent.class)
+    public void closeAll() {
+        for (Queue<Connection> mine : connections.values()) {
+            mine.forEach(Connection::close);
+        }
+    }
+
+    public int connectionCount() {
+        return connections.values().stream().mapToInt(Queue::size).sum();
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.email, (key, mine) -> {
+            mine.remove(connection);
+            return mine.isEmpty() ? null : mine;
+        });
+    }
+
+    // id, name 이 없으면 comment 로 보낸다.
+    private static class Event {
+        private final String id;
+        private final String name;
+        private final Object data;
+
+        private Event(String id, String name, Object data) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+        }
+
+        // SseEventBuilder 는 build 할 때 내용이 바뀌므로 연결마다 새로 만든다.
+        private SseEmitter.SseEventBuilder toBuilder() {
+            if (name == null) return SseEmitter.event().comment(String.valueOf(data));
+            return SseEmitter.event().id(id).name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private class Connection {
+        private final String email;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Event> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Connection(String email, SseEmitter emitter) {
+            this.email = email;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void offer(Event event) {
+            if (closed) return;
+            if (!buffer.offer(event)) {
+                dropped.increment();
+                log.debug("notification event dropped, buffer full: {}", email);
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (closed || !draining.compareAndSet(false, true)) return;
+            try {
+                executor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                draining.set(false);
+                dropped.increment();
+                close();
+            }
+        }
+
+        private void drain() {
+            try {
+                Event event;
+                while (!closed && (event = buffer.poll()) != null) {
+                    emitter.send(event.toBuilder());
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 끊었거나 이미 완료된 연결. 컨테이너가 오류를 처리하므로 complete 하지 않는다.
+                closed = true;
+                buffer.clear();
+                remove(this);
+            } finally {
+                draining.set(false);
+            }
+            if (!buffer.isEmpty()) schedule();
+        }
+
+        private void close() {
+            if (closed) return;
+            closed = true;
+            buffer.clear();
+            remove(this);
+            try {
+                emitter.complete();
+            } catch (RuntimeException e) {
+                log.debug("notification stream already closed: {} ({})", email, e.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.book.village.server.domain.notification.service;
+
+import com.book.village.server.global.utils.RedisChannelSubscriber;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+
+// 알림 채널을 구독한다. 실패하면 다음 주기에 다시 시도한다.
+@Component
+public class NotificationSubscriber {
+    private final RedisChannelSubscriber subscriber;
+
+    public NotificationSubscriber(RedisConnectionFactory redisConnectionFactory,
+                                  @Qualifier("redisListenerExecutor") ThreadPoolTaskExecutor executor,
+                                  NotificationService notificationService,
+                                  @Value("${notification.channel:notification}") String channel) {
+        this.subscriber = new RedisChannelSubscriber(redisConnectionFactory, executor, channel, notificationService);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.subscribe-retry-interval:5000}")
+    public void subscribe() {
+        subscriber.subscribe();
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        subscriber.close();
+    }
+}
@@ -1,5 +1,7 @@
 package com.book.village.server.domain.rate.dto;
 
+import com.book.village.server.image.ImageUrlSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.*;
 import org.hibernate.validator.constraints.Range;
 
@@ -49,6 +51,7 @@ public class RateDto {
         private Long rating;
         private String displayName;
         @Lob
+        @JsonSerialize(using = ImageUrlSerializer.class)
         private String imgUrl;
         @Lob
         @NotBlank
@@ -3,6 +3,7 @@ import com.book.village.server.domain.request.dto.RequestDto;
 import com.book.village.server.domain.request.entity.Request;
 import com.book.village.server.domain.request.mapper.RequestMapper;
 import com.book.village.server.domain.request.service.RequestService;
+import com.book.village.server.domain.statistics.service.UniqueViewService;
 import com.book.village.server.global.response.ListResponse;
 import com.book.village.server.global.response.PageInfo;
 import com.book.village.server.global.response.PageResponseDto;
@@ -15,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.security.Principal;
 import java.util.List;
@@ -52,12 +54,12 @@ public class RequestController {
     }
 
     @GetMapping("/{request-id}")
-    public ResponseEntity getRequest(@PathVariable("request-id") long requestId) {
-        Request request = requestService.findRequest(requestId);
-        request.setView(request.getView()+1L);
-        requestService.updateRequest(request, request.getMember().getEmail());
-        return new ResponseEntity(new SingleResponse<>(requestMapper.requestToRequestResponseDto(request)),
-                HttpStatus.OK);
+    public ResponseEntity getRequest(@PathVariable("request-id") long requestId,
+                                     Principal principal, HttpServletRequest httpRequest) {
+        Request request = requestService.viewRequest(requestId);
+        RequestDto.Response response = requestMapper.requestToRequestResponseDto(request);
+        response.setUniqueViews(requestService.countUniqueView(requestId, UniqueViewService.visitorOf(principal, httpRequest)));
+        return new ResponseEntity(new SingleResponse<>(response), HttpStatus.OK);
     }
 
     @GetMapping("/mine")
@@ -94,6 +96,13 @@ public class RequestController {
         return new ResponseEntity(HttpStatus.NO_CONTENT);
     }
 
+    // 이 요청글의 책을 나눔하는 나눔글
+    @GetMapping("/{request-id}/matches")
+    public ResponseEntity getMatches(@PathVariable("request-id") long requestId) {
+        return new ResponseEntity(
+                new ListResponse<>(requestService.findMatchingBorrows(requestId)), HttpStatus.OK);
+    }
+
     @GetMapping("/rank")
     public ResponseEntity RequestRank() {
         return new ResponseEntity(
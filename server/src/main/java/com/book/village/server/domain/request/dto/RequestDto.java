@@ -3,6 +3,9 @@ package com.book.village.server.domain.request.dto;
 import com.book.village.server.domain.community_comment.dto.CommunityCommentDto;
 import com.book.village.server.domain.request_comment.dto.RequestCommentDto;
 import com.book.village.server.domain.request_comment.entity.RequestComment;
+import com.book.village.server.image.ImageUrlSerializer;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.*;
 
 import javax.persistence.Lob;
@@ -66,12 +69,15 @@ public class RequestDto {
         private String publisher;
 
         @Lob
+        @JsonSerialize(using = ImageUrlSerializer.class)
         private String thumbnail;
 
         private String displayName;
 
         private Long view;
+        private Long commentCount;  // 댓글 수
         @Lob
+        @JsonSerialize(using = ImageUrlSerializer.class)
         private String imgUrl;
 
         private List<RequestCommentDto.Response> requestComments;
@@ -80,6 +86,9 @@ public class RequestDto {
 
         private LocalDateTime modifiedAt;
 
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long uniqueViews;   // 순 방문자 수 (상세 조회에서만)
+
     }
 
     @AllArgsConstructor
@@ -123,6 +132,7 @@ public class RequestDto {
         private String publisher;
 
         @Lob
+        @JsonSerialize(using = ImageUrlSerializer.class)
         private String thumbnail;
 
         private Long count;
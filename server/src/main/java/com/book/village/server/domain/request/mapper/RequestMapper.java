@@ -18,6 +18,17 @@ public interface RequestMapper {
 
 
     default RequestDto.Response requestToRequestResponseDto(Request request) {
+        RequestDto.Response response = requestToRequestSummaryResponse(request);
+        if (response != null) {
+            response.setRequestComments(request.getRequestComments().stream()
+                    .map(requestComment -> recoMapper.requestCommentToRequestCommentResponseDto(requestComment))
+                    .collect(Collectors.toList()));
+        }
+        return response;
+    }
+
+    // 목록용. 댓글 컬렉션을 읽지 않는다 (댓글 수는 commentCount).
+    default RequestDto.Response requestToRequestSummaryResponse(Request request) {
         if (request == null) {
             return null;
         }
@@ -33,9 +44,7 @@ public interface RequestMapper {
                 response.setDisplayName(request.getMember().getDisplayName());
                 response.setImgUrl(request.getMember().getImgUrl());
                 response.setView(request.getView());
-                response.setRequestComments(request.getRequestComments().stream()
-                        .map(requestComment -> recoMapper.requestCommentToRequestCommentResponseDto(requestComment))
-                        .collect(Collectors.toList()));
+                response.setCommentCount(request.getCommentCount());
                 response.setCreatedAt(request.getCreatedAt());
                 response.setModifiedAt(request.getModifiedAt());
         return response;
@@ -50,9 +59,7 @@ public interface RequestMapper {
 
         List<RequestDto.Response> list = new ArrayList<RequestDto.Response>( requests.size() );
         for ( Request request : requests ) {
-            RequestDto.Response response = requestToRequestResponseDto( request );
-            response.setRequestComments(null);
-            list.add(response);
+            list.add(requestToRequestSummaryResponse( request ));
         }
         return list;
     }
@@ -4,6 +4,9 @@ import com.book.village.server.domain.request.entity.Request;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -25,4 +28,14 @@ public interface RequestRepository extends JpaRepository<Request, Long> {
 
     Page<Request> findAllByPublisher(String publisher, Pageable pageable);
 
+    // 조회수 +1. 글을 저장하지 않으므로 수정 경로 (매칭 색인) 를 타지 않는다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Request r set r.view = r.view + 1 where r.requestId = :requestId")
+    int increaseView(@Param("requestId") Long requestId);
+
+    // 댓글 수를 delta 만큼 (+1/-1). 읽지 않고 한 번의 update 로 바꾸므로 동시에 달린 댓글도 빠지지 않는다.
+    @Modifying(flushAutomatically = true)
+    @Query("update Request r set r.commentCount = r.commentCount + :delta where r.requestId = :requestId and r.commentCount + :delta >= 0")
+    int addCommentCount(@Param("requestId") Long requestId, @Param("delta") long delta);
+
 }
@@ -1,10 +1,14 @@
 package com.book.village.server.domain.request.service;
 
+import com.book.village.server.domain.matching.dto.MatchDto;
+import com.book.village.server.domain.matching.service.MatchingService;
 import com.book.village.server.domain.member.service.MemberService;
 import com.book.village.server.domain.request.dto.RequestDto;
 import com.book.village.server.domain.request.entity.Request;
 import com.book.village.server.domain.request.repository.RequestQuerydslRepository;
 import com.book.village.server.domain.request.repository.RequestRepository;
+import com.book.village.server.domain.statistics.dto.StatisticsDto;
+import com.book.village.server.domain.statistics.service.UniqueViewService;
 import com.book.village.server.global.exception.CustomLogicException;
 import com.book.village.server.global.exception.ExceptionCode;
 import com.book.village.server.global.utils.CustomBeanUtils;
@@ -16,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -26,26 +31,43 @@ public class RequestService {
     private final MemberService memberService;
     private final RequestQuerydslRepository requestQuerydslRepository;
     private final CustomBeanUtils beanUtils;
+    private final MatchingService matchingService;
+    private final UniqueViewService uniqueViewService;
 
-    public RequestService(RequestRepository requestRepository, MemberService memberService, RequestQuerydslRepository requestQuerydslRepository, CustomBeanUtils beanUtils) {
+    public RequestService(RequestRepository requestRepository, MemberService memberService, RequestQuerydslRepository requestQuerydslRepository, CustomBeanUtils beanUtils,
+                          MatchingService matchingService, UniqueViewService uniqueViewService) {
         this.requestRepository = requestRepository;
         this.memberService = memberService;
         this.requestQuerydslRepository = requestQuerydslRepository;
         this.beanUtils = beanUtils;
+        this.matchingService = matchingService;
+        this.uniqueViewService = uniqueViewService;
     }
 
 
     public Request createRequest(Request request, String userEmail) {
         request.setMember(memberService.findMember(userEmail));
         request.setDisplayName(request.getMember().getDisplayName());
-        return requestRepository.save(request);
+        request.setCommentCount(0L);   // 컬럼 기본값 (insert 에 넣지 않는다)
+        Request savedRequest = requestRepository.save(request);
+        matchingService.requestSaved(savedRequest);
+        return savedRequest;
     }
 
     public Request updateRequest(Request request, String userEmail) {
         Request findRequest = findVerifiedRequest(request.getRequestId());
         if (findRequest.getMember().getEmail().equals(userEmail)) {
+            String bookTitle = findRequest.getBookTitle();
+            String author = findRequest.getAuthor();
+            String publisher = findRequest.getPublisher();
             beanUtils.copyNonNullProperties(request, findRequest);
-            return requestRepository.save(findRequest);
+            Request savedRequest = requestRepository.save(findRequest);
+            // 매칭 색인은 책 정보가 바뀐 경우에만 다시 넣는다.
+            if (!Objects.equals(bookTitle, savedRequest.getBookTitle()) || !Objects.equals(author, savedRequest.getAuthor())
+                    || !Objects.equals(publisher, savedRequest.getPublisher())) {
+                matchingService.requestSaved(savedRequest);
+            }
+            return savedRequest;
         }
         throw new CustomLogicException(ExceptionCode.REQUEST_WRITER_NOT_MATCH);
 
@@ -55,6 +77,14 @@ public class RequestService {
         return findVerifiedRequest(requestId);
     }
 
+    // 상세 조회. 조회수만 올리고 다시 읽는다.
+    public Request viewRequest(long requestId) {
+        if (requestRepository.increaseView(requestId) == 0) {
+            throw new CustomLogicException(ExceptionCode.REQUEST_NOT_FOUND);
+        }
+        return findVerifiedRequest(requestId);
+    }
+
     public Page<Request> findMyRequests(String userEmail,Pageable pageable) {
         return requestRepository.findAllByMember_Email(userEmail, pageable);
     }
@@ -93,12 +123,23 @@ public class RequestService {
         Request findRequest = findVerifiedRequest(requestId);
         if (findRequest.getMember().getEmail().equals(userEmail)) {
             requestRepository.delete(findRequest);
+            matchingService.requestDeleted(requestId);
             return;
         }
         throw new CustomLogicException(ExceptionCode.REQUEST_WRITER_NOT_MATCH);
 
     }
 
+    // 이 요청글의 책을 나눔하는 나눔글
+    public List<MatchDto.Response> findMatchingBorrows(long requestId) {
+        return matchingService.findBorrowsFor(findVerifiedRequest(requestId));
+    }
+
+    // 상세 조회 순 방문자 기록. visitor 가 null (봇) 이면 세지 않고 현재 값만 돌려준다.
+    public Long countUniqueView(long requestId, String visitor) {
+        return uniqueViewService.record(StatisticsDto.PostType.REQUEST, requestId, visitor);
+    }
+
     public List<RequestDto.rankResponse> findRankedRequests() {
 //        return requestRepository.findRankedRequests();
         return requestQuerydslRepository.RequestRankByBookTitleCount();
@@ -1,5 +1,7 @@
 package com.book.village.server.domain.request_comment.dto;
 
+import com.book.village.server.image.ImageUrlSerializer;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.*;
 
 import javax.persistence.Lob;
@@ -31,6 +33,7 @@ public class RequestCommentDto {
         private String displayName;
 
         @Lob
+        @JsonSerialize(using = ImageUrlSerializer.class)
         private String imgUrl;
 
         private LocalDateTime createdAt;
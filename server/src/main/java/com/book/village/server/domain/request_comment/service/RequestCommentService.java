@@ -1,6 +1,10 @@
 package com.book.village.server.domain.request_comment.service;
 
 import com.book.village.server.domain.member.service.MemberService;
+import com.book.village.server.domain.notification.dto.NotificationDto;
+import com.book.village.server.domain.notification.service.NotificationService;
+import com.book.village.server.domain.request.entity.Request;
+import com.book.village.server.domain.request.repository.RequestRepository;
 import com.book.village.server.domain.request.service.RequestService;
 import com.book.village.server.domain.request_comment.entity.RequestComment;
 import com.book.village.server.domain.request_comment.repository.RequestCommentRepository;
@@ -21,21 +25,39 @@ public class RequestCommentService {
 
     private final RequestService requestService;
     private final RequestCommentRepository requestCommentRepository;
+    private final RequestRepository requestRepository;
 
     private final CustomBeanUtils<RequestComment> beanUtils;
+    private final NotificationService notificationService;
 
-    public RequestCommentService(MemberService memberService, RequestService requestService, RequestCommentRepository requestCommentRepository, CustomBeanUtils<RequestComment> beanUtils) {
+    public RequestCommentService(MemberService memberService, RequestService requestService, RequestCommentRepository requestCommentRepository, CustomBeanUtils<RequestComment> beanUtils,
+                                 NotificationService notificationService, RequestRepository requestRepository) {
         this.memberService = memberService;
         this.requestService = requestService;
         this.requestCommentRepository = requestCommentRepository;
+        this.requestRepository = requestRepository;
         this.beanUtils = beanUtils;
+        this.notificationService = notificationService;
     }
 
     public RequestComment createRequestComment(RequestComment requestComment, String userEmail, long requestId) {
         requestComment.setMember(memberService.findMember(userEmail));
         requestComment.setRequest(requestService.findRequest(requestId));
         requestComment.setDisplayName(memberService.findMember(userEmail).getDisplayName());
-        return requestCommentRepository.save(requestComment);
+        RequestComment savedComment = requestCommentRepository.save(requestComment);
+        requestRepository.addCommentCount(requestId, 1);
+
+        // 요청글 작성자에게 댓글 알림
+        Request request = savedComment.getRequest();
+        notificationService.commentCreated(request.getMember().getEmail(), userEmail, NotificationDto.Comment.builder()
+                .postType(NotificationDto.PostType.REQUEST)
+                .postId(request.getRequestId())
+                .postTitle(request.getTitle())
+                .commentId(savedComment.getRequestCommentId())
+                .displayName(savedComment.getDisplayName())
+                .createdAt(savedComment.getCreatedAt())
+                .build());
+        return savedComment;
     }
 
     public RequestComment updateRequestComment(RequestComment requestComment, String userEmail) {
@@ -60,6 +82,7 @@ public class RequestCommentService {
         RequestComment requestComment = findVerifiedRequestComment(requestCommentId);
         if (requestComment.getMember().getEmail().equals(userEmail)) {
             requestCommentRepository.delete(requestComment);
+            requestRepository.addCommentCount(requestComment.getRequest().getRequestId(), -1);
             return ;
         }
         throw new CustomLogicException(ExceptionCode.REQUEST_COMMENT_USER_DIFFERENT);
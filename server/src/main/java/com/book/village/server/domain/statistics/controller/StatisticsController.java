@@ -0,0 +1,28 @@
+package com.book.village.server.domain.statistics.controller;
+
+import com.book.village.server.domain.statistics.dto.StatisticsDto;
+import com.book.village.server.domain.statistics.service.UniqueViewService;
+import com.book.village.server.global.response.SingleResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/statistics")
+public class StatisticsController {
+    private final UniqueViewService uniqueViewService;
+
+    public StatisticsController(UniqueViewService uniqueViewService) {
+        this.uniqueViewService = uniqueViewService;
+    }
+
+    // 글 하나의 기간별 순 방문자 수 (오늘 포함 최근 1/7/30 일, 또는 전체)
+    @GetMapping("/unique-views")
+    public ResponseEntity getUniqueViews(@RequestParam StatisticsDto.PostType postType,
+                                         @RequestParam Long postId,
+                                         @RequestParam(defaultValue = "TOTAL") StatisticsDto.Period period) {
+        return ResponseEntity.ok(new SingleResponse<>(uniqueViewService.count(postType, postId, period)));
+    }
+}
@@ -0,0 +1,37 @@
+package com.book.village.server.domain.statistics.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+public class StatisticsDto {
+
+    public enum PostType {
+        BORROW, REQUEST, COMMUNITY
+    }
+
+    // 오늘을 포함한 최근 days 일. TOTAL 은 처음부터.
+    @Getter
+    public enum Period {
+        DAY(1), WEEK(7), MONTH(30), TOTAL(0);
+
+        private final int days;
+
+        Period(int days) {
+            this.days = days;
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UniqueViews {
+        private PostType postType;
+        private Long postId;
+        private Period period;
+        private LocalDate from;     // TOTAL 이면 null
+        private LocalDate to;
+        private Long uniqueViews;
+    }
+}
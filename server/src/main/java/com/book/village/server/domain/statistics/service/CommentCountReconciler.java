@@ -0,0 +1,79 @@
+package com.book.village.server.domain.statistics.service;
+
+import com.book.village.server.global.cache.ResponseCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 글의 comment_count 를 실제 댓글 수와 맞춘다.
+// 댓글 서비스의 +1/-1 은 회원 탈퇴, 직접 고친 데이터 같은 다른 경로의 댓글 변경을 모르므로 주기적으로 다시 센다.
+// pk 범위 (batch-size) 마다 한 번의 update 로, 값이 다른 행만 고친다. 범위마다 따로 커밋되어 잠금이 짧다.
+@Slf4j
+@Component
+public class CommentCountReconciler {
+    private static final List<Target> TARGETS = List.of(
+            new Target("borrow", "borrow_id", "borrow_comment", ResponseCache.BORROWS),
+            new Target("request", "request_id", "request_comment", ResponseCache.REQUESTS),
+            new Target("community", "community_id", "community_comment", ResponseCache.COMMUNITIES));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ResponseCache responseCache;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public CommentCountReconciler(JdbcTemplate jdbcTemplate, ResponseCache responseCache,
+                                  @Value("${comment-count.reconcile.enabled:true}") boolean enabled,
+                                  @Value("${comment-count.reconcile.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.responseCache = responseCache;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${comment-count.reconcile.initial-delay:600000}",
+            fixedDelayString = "${comment-count.reconcile.interval:3600000}")
+    public void reconcile() {
+        if (!enabled) return;
+        for (Target target : TARGETS) {
+            try {
+                int fixed = reconcile(target);
+                if (fixed > 0) {
+                    log.info("comment count reconciled: {} {} rows", fixed, target.table);
+                    responseCache.evict(target.region);
+                }
+            } catch (RuntimeException e) {
+                log.warn("comment count reconcile failed: {} ({})", target.table, e.toString());
+            }
+        }
+    }
+
+    private int reconcile(Target target) {
+        Long maxId = jdbcTemplate.queryForObject(target.selectMaxId, Long.class);
+        if (maxId == null) return 0;
+        int fixed = 0;
+        for (long from = 0; from < maxId; from += batchSize) {
+            fixed += jdbcTemplate.update(target.update, from, from + batchSize);
+        }
+        return fixed;
+    }
+
+    private static class Target {
+        private final String table;
+        private final String region;
+        private final String selectMaxId;
+        private final String update;
+
+        private Target(String table, String id, String commentTable, String region) {
+            this.table = table;
+            this.region = region;
+            this.selectMaxId = "select max(" + id + ") from " + table;
+            String count = "(select count(*) from " + commentTable + " c where c." + id + " = p." + id + ")";
+            this.update = "update " + table + " p set comment_count = " + count +
+                    " where p." + id + " > ? and p." + id + " <= ? and p.comment_count <> " + count;
+        }
+    }
+}
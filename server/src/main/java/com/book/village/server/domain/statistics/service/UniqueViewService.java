@@ -0,0 +1,103 @@
+package com.book.village.server.domain.statistics.service;
+
+import com.book.village.server.domain.statistics.dto.StatisticsDto;
+import com.book.village.server.global.utils.Hashes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+import javax.servlet.http.HttpServletRequest;
+import java.security.Principal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 글별 순 방문자 수. Redis HyperLogLog (PFADD/PFCOUNT) 라 방문자가 아무리 많아도 sketch 하나가 12KB 를 넘지 않는다.
+// 전체 sketch 하나와 일별 sketch 를 두고, 주/월 순 방문자는 일별 sketch 를 PFCOUNT 로 합쳐 센다 (오차 약 0.81%).
+// 일별 sketch 는 retention 이 지나면 지워진다. key 의 {} 는 cluster 에서 한 글의 sketch 를 같은 slot 에 두기 위한 hash tag.
+@Slf4j
+@Service
+public class UniqueViewService {
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern BOT = Pattern.compile("bot|crawl|spider|slurp|headless|curl|wget|python-requests|java/");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration retention;
+
+    public UniqueViewService(RedisTemplate<String, Object> redisTemplate,
+                             @Value("${statistics.unique-views.retention:35d}") Duration retention) {
+        this.redisTemplate = redisTemplate;
+        this.retention = retention;
+    }
+
+    // 회원은 email, 비회원은 ip + User-Agent 의 hash 로 구분한다. 봇이면 null (세지 않는다).
+    public static String visitorOf(Principal principal, HttpServletRequest request) {
+        if (principal != null) return "m:" + sha256(principal.getName());
+        String userAgent = request.getHeader("User-Agent");
+        if (userAgent == null || BOT.matcher(userAgent.toLowerCase(Locale.ROOT)).find()) return null;
+        return "a:" + sha256(request.getRemoteAddr() + "|" + userAgent);
+    }
+
+    // 조회를 기록하고 지금까지의 순 방문자 수를 돌려준다. 한 번의 pipeline 으로 보낸다.
+    // Redis 를 쓸 수 없으면 null 을 돌려주고 조회 자체는 실패시키지 않는다.
+    public Long record(StatisticsDto.PostType postType, Long postId, String visitor) {
+        String totalKey = totalKey(postType, postId);
+        String dailyKey = dailyKey(postType, postId, LocalDate.now());
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    if (visitor != null) {
+                        operations.opsForHyperLogLog().add(totalKey, visitor);
+                        operations.opsForHyperLogLog().add(dailyKey, visitor);
+                        operations.expire(dailyKey, retention);
+                    }
+                    operations.opsForHyperLogLog().size(totalKey);
+                    return null;
+                }
+            });
+            return (Long) results.get(results.size() - 1);
+        } catch (DataAccessException e) {
+            log.warn("unique view record failed: {} {} ({})", postType, postId, e.toString());
+            return null;
+        }
+    }
+
+    public StatisticsDto.UniqueViews count(StatisticsDto.PostType postType, Long postId, StatisticsDto.Period period) {
+        LocalDate today = LocalDate.now();
+        if (period == StatisticsDto.Period.TOTAL) {
+            Long total = redisTemplate.opsForHyperLogLog().size(totalKey(postType, postId));
+            return new StatisticsDto.UniqueViews(postType, postId, period, null, today, total);
+        }
+        List<String> keys = new ArrayList<>(period.getDays());
+        LocalDate from = today.minusDays(period.getDays() - 1L);
+        for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+            keys.add(dailyKey(postType, postId, day));
+        }
+        // 여러 key 의 PFCOUNT 는 sketch 를 합친 결과를 센다. 합친 sketch 는 저장하지 않는다.
+        Long uniqueViews = redisTemplate.opsForHyperLogLog().size(keys.toArray(new String[0]));
+        return new StatisticsDto.UniqueViews(postType, postId, period, from, today, uniqueViews);
+    }
+
+    private static String totalKey(StatisticsDto.PostType postType, Long postId) {
+        return "uv:{" + postType.name().toLowerCase(Locale.ROOT) + ":" + postId + "}";
+    }
+
+    private static String dailyKey(StatisticsDto.PostType postType, Long postId, LocalDate day) {
+        return totalKey(postType, postId) + ":" + DAY.format(day);
+    }
+
+    // 앞 16 byte 만 쓴다 (HyperLogLog 원소라 충돌 확률은 무시할 만하다).
+    private static String sha256(String value) {
+        return Hashes.sha256Hex(value).substring(0, 32);
+    }
+}
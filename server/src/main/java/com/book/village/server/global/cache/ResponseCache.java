@@ -0,0 +1,183 @@
+package com.book.village.server.global.cache;
+
+import com.book.village.server.global.utils.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+// 비로그인 GET 응답 (직렬화된 JSON 과 gzip) 캐시. 무엇을 캐시하는지는 ResponseCacheFilter 가 정한다.
+// 글이 바뀌면 그 영역 (region) 을 커밋 뒤에 비우고, 다른 서버에는 Redis channel 로 알린다. 놓친 알림은 ttl 이 막는다.
+@Slf4j
+@Component
+public class ResponseCache implements MessageListener {
+    public static final String BORROWS = "borrows";
+    public static final String REQUESTS = "requests";
+    public static final String COMMUNITIES = "communities";
+    private static final String BOOK_PREFIX = "book:";
+    // 모든 도서 영역. 어떤 도서가 바뀌었는지 모르는 JDBC 쓰기 (일괄 등록, 이미지 key 변경) 에서 쓴다.
+    public static final String BOOKS = BOOK_PREFIX + "*";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String channel;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final int minCompressSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // 비우기가 있을 때마다 올라간다. 응답을 만드는 사이에 비워졌으면 그 응답은 저장하지 않는다.
+    private final AtomicLong version = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private volatile boolean subscribed;
+
+    public ResponseCache(RedisTemplate<String, Object> redisTemplate,
+                         @Value("${response-cache.channel:response-cache}") String channel,
+                         @Value("${response-cache.ttl:30s}") Duration ttl,
+                         @Value("${response-cache.max-entries:1000}") int maxEntries,
+                         @Value("${response-cache.min-compress-size:512}") int minCompressSize,
+                         ObjectProvider<MeterRegistry> meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.minCompressSize = minCompressSize;
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        this.hits = registry == null ? null : counter(registry, "hit");
+        this.misses = registry == null ? null : counter(registry, "miss");
+    }
+
+    public static String bookRegion(Long bookId) {
+        return BOOK_PREFIX + bookId;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    // 구독 전에는 다른 서버의 비우기를 받지 못하므로 캐시를 쓰지 않는다.
+    public Entry get(String key) {
+        if (!subscribed) return null;
+        Entry entry = entries.get(key);
+        if (entry == null || System.nanoTime() - entry.storedAt >= ttlNanos) {
+            if (misses != null) misses.increment();
+            return null;
+        }
+        if (hits != null) hits.increment();
+        return entry;
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    // readVersion 은 응답을 만들기 전에 읽은 version()
+    public void put(String key, String region, String contentType, byte[] body, long readVersion) {
+        if (!subscribed || entries.size() >= maxEntries && !entries.containsKey(key)) return;
+        Entry entry = new Entry(region, contentType, body, body.length >= minCompressSize ? gzip(body) : null, System.nanoTime());
+        entries.put(key, entry);
+        // 저장하는 사이에 비워졌으면 되돌린다.
+        if (version.get() != readVersion) entries.remove(key, entry);
+    }
+
+    // 쓰기 경로에서 부른다. 롤백되면 비우지 않는다.
+    public void evictAfterCommit(String region) {
+        TransactionCallbacks.afterCommit(() -> evict(region));
+    }
+
+    public void evict(String region) {
+        evictLocal(region);
+        try {
+            redisTemplate.convertAndSend(channel, region);
+        } catch (RuntimeException e) {
+            // 다른 서버는 ttl 이 지나면 새로 만든다.
+            log.warn("response cache evict publish failed: {} ({})", region, e.toString());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    void markSubscribed() {
+        entries.clear();
+        this.subscribed = true;
+    }
+
+    @Scheduled(fixedDelayString = "${response-cache.sweep-interval:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> now - entry.storedAt >= ttlNanos);
+    }
+
+    private void evictLocal(String region) {
+        version.incrementAndGet();
+        if (region.equals(BOOKS)) {
+            entries.values().removeIf(entry -> entry.region.startsWith(BOOK_PREFIX));
+        } else {
+            entries.values().removeIf(entry -> entry.region.equals(region));
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("response.cache")
+                .description("Anonymous GET response cache lookups")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    public static class Entry {
+        private final String region;
+        private final String contentType;
+        private final byte[] body;
+        private final byte[] gzipBody;
+        private final long storedAt;
+
+        private Entry(String region, String contentType, byte[] body, byte[] gzipBody, long storedAt) {
+            this.region = region;
+            this.contentType = contentType;
+            this.body = body;
+            this.gzipBody = gzipBody;
+            this.storedAt = storedAt;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        // 작은 응답은 압축하지 않아 null
+        public byte[] getGzipBody() {
+            return gzipBody;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.book.village.server.global.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 누가 불러도 같은 공개 GET 응답을 ResponseCache 에서 바로 내려준다 (컨트롤러, JPA, Jackson 을 거치지 않는다).
+// Security filter 뒤에 두어 CORS, 보안 헤더는 그대로 붙는다. Authorization 헤더가 있는 요청은 캐시하지 않는다.
+public class ResponseCacheFilter extends OncePerRequestFilter {
+    // 목록은 첫 페이지만. size, sort 만 key 에 넣고 다른 파라미터가 있으면 캐시하지 않는다.
+    private static final Map<String, String> FIRST_PAGES = Map.of(
+            "/v1/borrows", ResponseCache.BORROWS,
+            "/v1/requests", ResponseCache.REQUESTS,
+            "/v1/communities", ResponseCache.COMMUNITIES);
+    // 파라미터를 받지 않는 API
+    private static final Map<String, String> FIXED = Map.of(
+            "/v1/borrows/rank", ResponseCache.BORROWS,
+            "/v1/requests/rank", ResponseCache.REQUESTS);
+    private static final Pattern BOOK = Pattern.compile("/v1/books/(\\d+)");
+
+    private final ResponseCache responseCache;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public ResponseCacheFilter(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || request.getHeader(HttpHeaders.AUTHORIZATION) != null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String path = urlPathHelper.getPathWithinApplication(request);
+        String region = regionOf(path);
+        String key = region == null ? null : keyOf(path, request);
+        if (key == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        ResponseCache.Entry entry = responseCache.get(key);
+        if (entry != null) {
+            write(entry, acceptsGzip(request), response);
+            return;
+        }
+
+        long version = responseCache.version();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK && isJson(wrapper.getContentType())
+                && !wrapper.containsHeader(HttpHeaders.SET_COOKIE)) {
+            responseCache.put(key, region, wrapper.getContentType(), wrapper.getContentAsByteArray(), version);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private static String regionOf(String path) {
+        String region = FIRST_PAGES.get(path);
+        if (region != null) return region;
+        region = FIXED.get(path);
+        if (region != null) return region;
+        Matcher book = BOOK.matcher(path);
+        return book.matches() ? ResponseCache.bookRegion(Long.valueOf(book.group(1))) : null;
+    }
+
+    // 같은 응답이 나오는 요청은 같은 key. 캐시하지 않을 요청이면 null.
+    private static String keyOf(String path, HttpServletRequest request) {
+        if (!FIRST_PAGES.containsKey(path)) return path;
+        StringBuilder key = new StringBuilder(path).append('?');
+        for (Map.Entry<String, String[]> parameter : request.getParameterMap().entrySet()) {
+            String name = parameter.getKey();
+            String[] values = parameter.getValue();
+            if (name.equals("page")) {
+                if (values.length != 1 || !values[0].equals("0")) return null;
+            } else if (!name.equals("size") && !name.equals("sort")) {
+                return null;
+            }
+        }
+        // sort 는 순서가 의미 있으므로 받은 순서대로
+        appendParameter(key, "size", request.getParameterValues("size"));
+        appendParameter(key, "sort", request.getParameterValues("sort"));
+        return key.toString();
+    }
+
+    private static void appendParameter(StringBuilder key, String name, String[] values) {
+        if (values == null) return;
+        for (String value : values) {
+            key.append(name).append('=').append(value).append('&');
+        }
+    }
+
+    private static boolean isJson(String contentType) {
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        Enumeration<String> headers = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (headers.hasMoreElements()) {
+            for (String coding : headers.nextElement().split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (!parts[0].trim().equalsIgnoreCase("gzip")) continue;
+                // gzip;q=0 은 거절
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static void write(ResponseCache.Entry entry, boolean gzip, HttpServletResponse response) throws IOException {
+        byte[] body = entry.getBody();
+        if (gzip && entry.getGzipBody() != null) {
+            body = entry.getGzipBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entry.getContentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
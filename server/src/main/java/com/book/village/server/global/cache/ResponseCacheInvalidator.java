@@ -0,0 +1,98 @@
+package com.book.village.server.global.cache;
+
+import com.book.village.server.domain.book.entity.Book;
+import com.book.village.server.domain.borrow.entity.Borrow;
+import com.book.village.server.domain.borrowcomment.entity.BorrowComment;
+import com.book.village.server.domain.community.entity.Community;
+import com.book.village.server.domain.community_comment.entity.CommunityComment;
+import com.book.village.server.domain.member.entity.Member;
+import com.book.village.server.domain.rate.entity.Rate;
+import com.book.village.server.domain.request.entity.Request;
+import com.book.village.server.domain.request_comment.entity.RequestComment;
+import com.book.village.server.global.utils.HibernateEventListeners;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.util.Set;
+
+// 캐시된 응답에 들어가는 엔티티가 저장/수정/삭제되면 그 영역을 커밋 뒤에 비운다.
+// 벌크 update (BorrowRepository.updateBorrowWhthr) 와 JDBC 쓰기 (BookImportService, ImageProcessingService,
+// CommentCountReconciler) 는 이벤트가 없으므로 부르는 쪽에서 비운다.
+@Component
+public class ResponseCacheInvalidator implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    // 조회수만 바뀐 경우는 비우지 않는다 (목록의 조회수는 ttl 만큼 늦게 보인다).
+    private static final Set<String> VIEW_PROPERTIES = Set.of("view", "modifiedAt");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ResponseCache responseCache;
+
+    public ResponseCacheInvalidator(EntityManagerFactory entityManagerFactory, ResponseCache responseCache) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.responseCache = responseCache;
+    }
+
+    @PostConstruct
+    public void register() {
+        HibernateEventListeners.append(entityManagerFactory, this,
+                EventType.POST_INSERT, EventType.POST_UPDATE, EventType.POST_DELETE);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        evict(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (viewOnly(event)) return;
+        evict(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        evict(event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private void evict(Object entity) {
+        if (entity instanceof Borrow || entity instanceof BorrowComment) {
+            responseCache.evictAfterCommit(ResponseCache.BORROWS);
+        } else if (entity instanceof Request || entity instanceof RequestComment) {
+            responseCache.evictAfterCommit(ResponseCache.REQUESTS);
+        } else if (entity instanceof Community || entity instanceof CommunityComment) {
+            responseCache.evictAfterCommit(ResponseCache.COMMUNITIES);
+        } else if (entity instanceof Book) {
+            responseCache.evictAfterCommit(ResponseCache.bookRegion(((Book) entity).getBookId()));
+        } else if (entity instanceof Rate && ((Rate) entity).getBook() != null) {
+            responseCache.evictAfterCommit(ResponseCache.bookRegion(((Rate) entity).getBook().getBookId()));
+        } else if (entity instanceof Member) {
+            // 목록에 회원 프로필 이미지가 들어간다.
+            responseCache.evictAfterCommit(ResponseCache.BORROWS);
+            responseCache.evictAfterCommit(ResponseCache.REQUESTS);
+            responseCache.evictAfterCommit(ResponseCache.COMMUNITIES);
+        }
+    }
+
+    private static boolean viewOnly(PostUpdateEvent event) {
+        int[] dirty = event.getDirtyProperties();
+        if (dirty == null || dirty.length == 0) return false;
+        String[] names = event.getPersister().getPropertyNames();
+        for (int index : dirty) {
+            if (!VIEW_PROPERTIES.contains(names[index])) return false;
+        }
+        return true;
+    }
+}
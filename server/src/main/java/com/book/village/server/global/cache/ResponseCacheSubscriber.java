@@ -0,0 +1,36 @@
+package com.book.village.server.global.cache;
+
+import com.book.village.server.global.utils.RedisChannelSubscriber;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+
+// 캐시 비우기 채널을 구독한다. 실패하면 다음 주기에 다시 시도한다.
+// 구독하기 전까지 ResponseCache 는 캐시를 쓰지 않는다.
+@Component
+public class ResponseCacheSubscriber {
+    private final RedisChannelSubscriber subscriber;
+    private final ResponseCache responseCache;
+
+    public ResponseCacheSubscriber(RedisConnectionFactory redisConnectionFactory,
+                                   @Qualifier("redisListenerExecutor") ThreadPoolTaskExecutor executor,
+                                   ResponseCache responseCache) {
+        this.responseCache = responseCache;
+        this.subscriber = new RedisChannelSubscriber(redisConnectionFactory, executor,
+                responseCache.getChannel(), responseCache);
+    }
+
+    @Scheduled(fixedDelayString = "${response-cache.subscribe-retry-interval:5000}")
+    public void subscribe() {
+        if (subscriber.subscribe()) responseCache.markSubscribed();
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        subscriber.close();
+    }
+}
@@ -0,0 +1,35 @@
+package com.book.village.server.global.controller;
+
+import com.book.village.server.global.query.QueryStatistics;
+import com.book.village.server.global.query.QueryStatisticsDto;
+import com.book.village.server.global.response.SingleResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// 관리자 전용 (SecurityConfiguration 의 /v1/admin/** 참고)
+@RestController
+@RequestMapping("/v1/admin/queries")
+@ConditionalOnProperty(prefix = "query-inspection", name = "enabled", matchIfMissing = true)
+public class QueryStatisticsController {
+    private final QueryStatistics queryStatistics;
+
+    public QueryStatisticsController(QueryStatistics queryStatistics) {
+        this.queryStatistics = queryStatistics;
+    }
+
+    @GetMapping
+    public ResponseEntity getQueries(@RequestParam(defaultValue = "20") int size) {
+        QueryStatisticsDto.Response response = new QueryStatisticsDto.Response(
+                queryStatistics.getSlowQueryThresholdMillis(),
+                queryStatistics.findStatements(size),
+                queryStatistics.findSlowQueries());
+        return ResponseEntity.ok(new SingleResponse<>(response));
+    }
+
+    @DeleteMapping
+    public ResponseEntity resetQueries() {
+        queryStatistics.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
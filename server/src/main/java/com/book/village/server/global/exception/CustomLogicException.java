@@ -1,12 +1,22 @@
 package com.book.village.server.global.exception;
 
+import com.book.village.server.global.response.ErrorResponse;
 import lombok.Getter;
 
+import java.util.List;
+
 public class CustomLogicException extends RuntimeException{
     @Getter
     private ExceptionCode exceptionCode;
+    @Getter
+    private List<ErrorResponse.FieldError> fieldErrors;
     public CustomLogicException(ExceptionCode exceptionCode) {
         super(exceptionCode.getMessage());
         this.exceptionCode = exceptionCode;
     }
+    // 여러 항목 중 일부만 실패했을 때 어떤 항목이 왜 실패했는지 함께 내려준다.
+    public CustomLogicException(ExceptionCode exceptionCode, List<ErrorResponse.FieldError> fieldErrors) {
+        this(exceptionCode);
+        this.fieldErrors = fieldErrors;
+    }
 }
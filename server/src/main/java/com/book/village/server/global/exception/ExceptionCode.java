@@ -9,11 +9,14 @@ public enum ExceptionCode {
     TITLE_NONE(400, "TITLE_NONE"),
     MEMBER_NOT_FOUND(404, "member not found"),
     MEMBER_STATUS_QUIT(404, "member status is quit"),
+    MEMBER_LOCATION_NOT_FOUND(404, "member location not found"),   // 주소로 동네를 찾지 못함
 
     MEMBER_DUPLICATE(409, "MEMBER_DUPLICATE"),
     ALREADY_LOGOUT_MEMBER(409, "already logout member"),
     REFRESH_TOKEN_NOT_FOUND(404, "refresh token not found"),
     EXPIRED_REFRESH_TOKEN(401, "refresh token expired"),
+    REFRESH_TOKEN_REUSED(401, "refresh token reused"),   // 이미 교체된 refresh token 재사용. 저장된 토큰도 폐기된다.
+    REFRESH_TOKEN_ROTATED(409, "refresh token already rotated"),   // 방금 교체된 refresh token (동시 재발급). 폐기하지 않는다.
 
     TOKEN_INVALID(401 , "TOKEN_INVALID"),
 
@@ -26,6 +29,12 @@ public enum ExceptionCode {
     BORROW_USER_DIFFERENT(403, "BORROW_USER_DIFFERENT"),   // 나눔글 작성자가 아닌 사람이 수정하려고 할 때
     BORROW_COMMENT_NOT_FOUND(404,"BORROW_COMMENT_NOT_FOUND"),   // 나눔 댓글 존재 하지 않음.
     BORROW_COMMENT_USER_DIFFERENT(409,"BORROW_COMMENT_USER_DIFFERENT"),   // 나눔 댓글 존재 하지 않음.
+    BORROW_ALREADY_COMPLETED(409, "BORROW_ALREADY_COMPLETED"),   // 이미 나눔 완료된 글
+    BORROW_STATE_CONFLICT(409, "BORROW_STATE_CONFLICT"),   // 나눔 상태가 동시에 바뀜. 다시 조회 후 시도
+    BORROW_CLAIM_NOT_FOUND(404, "BORROW_CLAIM_NOT_FOUND"),   // 대기 중인 나눔 신청 없음
+    BORROW_CLAIM_DUPLICATE(409, "BORROW_CLAIM_DUPLICATE"),   // 이미 신청한 나눔글
+    BORROW_CLAIM_OWN_BORROW(409, "BORROW_CLAIM_OWN_BORROW"),   // 내 나눔글에 신청
+    BORROW_CLAIM_ACCEPTED(409, "BORROW_CLAIM_ACCEPTED"),   // 수락된 나눔 신청이 있는 글은 다시 열 수 없음
 
     COMMUNITY_NOT_FOUND(404, "community not found"),
     COMMUNITY_USER_DIFFERENT(409, "community writer is not matched"),
@@ -35,10 +44,20 @@ public enum ExceptionCode {
 
     BOOK_EXISTS(409,"Book exists"),
     BOOK_NOT_FOUND(404, "Book is not found"),
+    BOOK_IMPORT_FORMAT_UNSUPPORTED(415, "Book import supports text/csv or application/x-ndjson"),
+    BOOK_IMPORT_HEADER_INVALID(400, "Book import csv header must contain isbn"),
+    BOOK_IMPORT_NOT_FOUND(404, "Book import job is not found"),
 
     RATE_USER_DIFFERENT(409, "rate writer is not matched"),
     RATE_NOT_FOUND(404, "rate not found"),
-    RATE_DUPLICATE(409, "rate duplicate");
+    RATE_DUPLICATE(409, "rate duplicate"),
+
+    FEED_CURSOR_INVALID(400, "feed cursor is invalid"),
+
+    IMAGE_UPLOAD_FAILED(502, "image upload failed"),
+    IMAGE_NOT_FOUND(404, "uploaded image not found"),
+    IMAGE_TOO_LARGE(413, "image is too large"),
+    IMAGE_TYPE_UNSUPPORTED(415, "image content type is unsupported");
 
     @Getter
     private final int code;
@@ -0,0 +1,67 @@
+package com.book.village.server.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// @Service 메서드별 latency timer. 호출마다 태그를 만들지 않도록 Method 단위로 Timer 를 캐시한다.
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+    public static final String METRIC_NAME = "service.method";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * com.book.village.server..*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodTimers methodTimers = timers.computeIfAbsent(method, this::register);
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            methodTimers.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            methodTimers.error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private MethodTimers register(Method method) {
+        String className = method.getDeclaringClass().getSimpleName();
+        return new MethodTimers(timer(className, method.getName(), "SUCCESS"), timer(className, method.getName(), "ERROR"));
+    }
+
+    private Timer timer(String className, String methodName, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("Service method latency")
+                .tag("class", className)
+                .tag("method", methodName)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static class MethodTimers {
+        private final Timer success;
+        private final Timer error;
+
+        private MethodTimers(Timer success, Timer error) {
+            this.success = success;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.book.village.server.global.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+// 요청 하나가 실행한 statement 수를 세고, 임계치를 넘으면 N+1 의심으로 경고를 남긴다.
+@Slf4j
+public class QueryInspectionFilter extends OncePerRequestFilter {
+    public static final String METRIC_NAME = "http.server.requests.statements";
+
+    private final int warnThreshold;
+    private final DistributionSummary statementsPerRequest;
+
+    public QueryInspectionFilter(int warnThreshold, MeterRegistry meterRegistry) {
+        this.warnThreshold = warnThreshold;
+        this.statementsPerRequest = meterRegistry == null ? null : DistributionSummary.builder(METRIC_NAME)
+                .description("JDBC statements executed per HTTP request")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryStatistics.RequestQueries queries = QueryStatistics.beginRequest(request);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStatistics.endRequest();
+            if (statementsPerRequest != null) statementsPerRequest.record(queries.getStatements());
+            if (queries.getStatements() > warnThreshold) {
+                log.warn("{} statements ({} ms) in {} [{}]", queries.getStatements(), queries.getNanos() / 1_000_000,
+                        queries.getDescription(), queries.getHandler());
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.book.village.server.global.query;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+
+// DataSource -> Connection -> Statement -> ResultSet 를 JDK 동적 프록시로 감싸 실행 시간과 행 수를 기록한다.
+public class QueryInspectionProxy {
+    private QueryInspectionProxy() {
+    }
+
+    public static DataSource wrap(DataSource dataSource, QueryStatistics statistics) {
+        return proxy(DataSource.class, (proxy, method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            if (result instanceof Connection && method.getName().equals("getConnection")) {
+                return connection((Connection) result, statistics);
+            }
+            return result;
+        });
+    }
+
+    public static boolean isProxy(Object object) {
+        return Proxy.isProxyClass(object.getClass());
+    }
+
+    private static Connection connection(Connection connection, QueryStatistics statistics) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return statement(PreparedStatement.class, (Statement) result, (String) args[0], statistics);
+                case "prepareCall":
+                    return statement(CallableStatement.class, (Statement) result, (String) args[0], statistics);
+                case "createStatement":
+                    return statement(Statement.class, (Statement) result, null, statistics);
+                default:
+                    return result;
+            }
+        });
+    }
+
+    private static <T extends Statement> T statement(Class<T> type, Statement statement, String preparedSql,
+                                                     QueryStatistics statistics) {
+        return proxy(type, new InvocationHandler() {
+            private String batchSql;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                String name = method.getName();
+                if (name.equals("addBatch") && args != null && args.length == 1) {
+                    batchSql = (String) args[0];
+                }
+                if (!name.startsWith("execute")) {
+                    Object result = QueryInspectionProxy.invoke(statement, method, args);
+                    return result instanceof ResultSet && name.equals("getResultSet")
+                            ? resultSet((ResultSet) result, null) : result;
+                }
+
+                String sql = preparedSql != null ? preparedSql
+                        : args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : batchSql;
+                long start = System.nanoTime();
+                Object result = QueryInspectionProxy.invoke(statement, method, args);
+                QueryStatistics.Execution execution = statistics.record(sql, System.nanoTime() - start);
+
+                if (result instanceof ResultSet) return resultSet((ResultSet) result, execution);
+                if (result instanceof Integer) execution.addRows((Integer) result);
+                else if (result instanceof Long) execution.addRows((Long) result);
+                else if (result instanceof int[]) for (int count : (int[]) result) execution.addRows(count);
+                else if (result instanceof long[]) for (long count : (long[]) result) execution.addRows(count);
+                return result;
+            }
+        });
+    }
+
+    private static ResultSet resultSet(ResultSet resultSet, QueryStatistics.Execution execution) {
+        if (execution == null) return resultSet;
+        return proxy(ResultSet.class, new InvocationHandler() {
+            private long rows;
+            private boolean recorded;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                Object result = QueryInspectionProxy.invoke(resultSet, method, args);
+                if (method.getName().equals("next")) {
+                    if (Boolean.TRUE.equals(result)) rows++;
+                    else flush();
+                } else if (method.getName().equals("close")) {
+                    flush();
+                }
+                return result;
+            }
+
+            private void flush() {
+                if (recorded) return;
+                recorded = true;
+                execution.addRows(rows);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(QueryInspectionProxy.class.getClassLoader(), new Class[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
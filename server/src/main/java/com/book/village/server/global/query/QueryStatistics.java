@@ -0,0 +1,185 @@
+package com.book.village.server.global.query;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+// DataSource 프록시가 기록하는 SQL 별 누적 통계, 느린 쿼리 ring buffer, 요청 단위 statement 수
+public class QueryStatistics {
+    private static final int MAX_DISTINCT_STATEMENTS = 500;
+    private static final ThreadLocal<RequestQueries> CURRENT_REQUEST = new ThreadLocal<>();
+
+    private final long slowQueryNanos;
+    private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<SlowQuery> slowQueries;
+    private final AtomicLong slowQuerySequence = new AtomicLong();
+
+    public QueryStatistics(long slowQueryMillis, int slowQueryBufferSize) {
+        this.slowQueryNanos = slowQueryMillis * 1_000_000;
+        this.slowQueries = new AtomicReferenceArray<>(slowQueryBufferSize);
+    }
+
+    public Execution record(String sql, long elapsedNanos) {
+        String key = sql == null ? "(unknown)" : sql;
+        StatementStats stats = statements.get(key);
+        if (stats == null) {
+            // 동적 SQL 로 key 가 무한히 늘어나지 않도록 상한을 둔다.
+            stats = statements.size() < MAX_DISTINCT_STATEMENTS
+                    ? statements.computeIfAbsent(key, k -> new StatementStats())
+                    : statements.computeIfAbsent("(other)", k -> new StatementStats());
+        }
+        stats.record(elapsedNanos);
+
+        RequestQueries request = CURRENT_REQUEST.get();
+        if (request != null) {
+            request.statements++;
+            request.nanos += elapsedNanos;
+        }
+
+        SlowQuery slowQuery = null;
+        if (elapsedNanos >= slowQueryNanos) {
+            slowQuery = new SlowQuery(key, elapsedNanos, request);
+            int index = (int) (slowQuerySequence.getAndIncrement() % slowQueries.length());
+            slowQueries.set(index, slowQuery);
+        }
+        return new Execution(stats, slowQuery);
+    }
+
+    public long getSlowQueryThresholdMillis() {
+        return slowQueryNanos / 1_000_000;
+    }
+
+    public List<QueryStatisticsDto.Statement> findStatements(int limit) {
+        return statements.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, StatementStats> e) -> e.getValue().totalNanos.sum()).reversed())
+                .limit(limit)
+                .map(e -> e.getValue().toDto(e.getKey()))
+                .collect(Collectors.toList());
+    }
+
+    public List<QueryStatisticsDto.SlowQuery> findSlowQueries() {
+        List<QueryStatisticsDto.SlowQuery> result = new ArrayList<>();
+        for (int i = 0; i < slowQueries.length(); i++) {
+            SlowQuery slowQuery = slowQueries.get(i);
+            if (slowQuery != null) result.add(slowQuery.toDto());
+        }
+        result.sort(Comparator.comparing(QueryStatisticsDto.SlowQuery::getElapsedMillis).reversed());
+        return result;
+    }
+
+    public void reset() {
+        statements.clear();
+        for (int i = 0; i < slowQueries.length(); i++) slowQueries.set(i, null);
+    }
+
+    public static RequestQueries beginRequest(HttpServletRequest request) {
+        RequestQueries requestQueries = new RequestQueries(request);
+        CURRENT_REQUEST.set(requestQueries);
+        return requestQueries;
+    }
+
+    public static void endRequest() {
+        CURRENT_REQUEST.remove();
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    // 한 번의 statement 실행. ResultSet 을 다 읽은 뒤 행 수를 더한다.
+    public static class Execution {
+        private final StatementStats stats;
+        private final SlowQuery slowQuery;
+
+        private Execution(StatementStats stats, SlowQuery slowQuery) {
+            this.stats = stats;
+            this.slowQuery = slowQuery;
+        }
+
+        public void addRows(long rows) {
+            if (rows <= 0) return;
+            stats.rows.add(rows);
+            if (slowQuery != null) slowQuery.rows += rows;
+        }
+    }
+
+    public static class RequestQueries {
+        private final HttpServletRequest request;
+        private int statements;
+        private long nanos;
+
+        private RequestQueries(HttpServletRequest request) {
+            this.request = request;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        // DispatcherServlet 이 handler 를 찾은 뒤에만 값이 있다.
+        public String getHandler() {
+            Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+            if (handler instanceof HandlerMethod) {
+                HandlerMethod handlerMethod = (HandlerMethod) handler;
+                return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+            }
+            return handler == null ? null : handler.toString();
+        }
+
+        public String getDescription() {
+            return request.getMethod() + " " + request.getRequestURI();
+        }
+    }
+
+    private static class StatementStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(long elapsedNanos) {
+            calls.increment();
+            totalNanos.add(elapsedNanos);
+            if (elapsedNanos > maxNanos.get()) maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        }
+
+        private QueryStatisticsDto.Statement toDto(String sql) {
+            long count = calls.sum();
+            long total = totalNanos.sum();
+            return new QueryStatisticsDto.Statement(sql, count, millis(total), millis(count == 0 ? 0 : total / count),
+                    millis(maxNanos.get()), rows.sum());
+        }
+    }
+
+    private static class SlowQuery {
+        private final String sql;
+        private final long elapsedNanos;
+        private final String handler;
+        private final String request;
+        private final LocalDateTime occurredAt = LocalDateTime.now();
+        private volatile long rows;
+
+        private SlowQuery(String sql, long elapsedNanos, RequestQueries requestQueries) {
+            this.sql = sql;
+            this.elapsedNanos = elapsedNanos;
+            this.handler = requestQueries == null ? null : requestQueries.getHandler();
+            this.request = requestQueries == null ? null : requestQueries.getDescription();
+        }
+
+        private QueryStatisticsDto.SlowQuery toDto() {
+            return new QueryStatisticsDto.SlowQuery(sql, millis(elapsedNanos), rows, handler, request, occurredAt);
+        }
+    }
+}
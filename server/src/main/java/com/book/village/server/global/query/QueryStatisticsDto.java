@@ -0,0 +1,47 @@
+package com.book.village.server.global.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class QueryStatisticsDto {
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class Response {
+        private Long slowQueryThresholdMillis;
+        private List<Statement> statements;
+        private List<SlowQuery> slowQueries;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class Statement {
+        private String sql;
+        private Long calls;
+        private Double totalMillis;
+        private Double avgMillis;
+        private Double maxMillis;
+        private Long rows;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class SlowQuery {
+        private String sql;
+        private Double elapsedMillis;
+        private Long rows;
+        private String handler;
+        private String request;
+        private LocalDateTime occurredAt;
+    }
+}
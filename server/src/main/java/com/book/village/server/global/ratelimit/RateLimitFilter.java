@@ -0,0 +1,67 @@
+package com.book.village.server.global.ratelimit;
+
+import com.book.village.server.global.response.ErrorResponder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+// 두 개를 둔다. client 는 JwtVerificationFilter 앞에서 IP bucket 과 전체 예산을 보고 (잘못된 토큰을 쏟아내도 검증 전에 끊는다),
+// member 는 JwtVerificationFilter 뒤에서 로그인한 회원 bucket 을 본다.
+// IP 는 getRemoteAddr. nginx 뒤에서는 server.forward-headers-strategy 로 X-Forwarded-For 의 클라이언트 주소가 된다.
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final RateLimiter rateLimiter;
+    private final boolean member;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    private RateLimitFilter(RateLimiter rateLimiter, boolean member) {
+        this.rateLimiter = rateLimiter;
+        this.member = member;
+    }
+
+    public static RateLimitFilter client(RateLimiter rateLimiter) {
+        return new RateLimitFilter(rateLimiter, false);
+    }
+
+    public static RateLimitFilter member(RateLimiter rateLimiter) {
+        return new RateLimitFilter(rateLimiter, true);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String path = urlPathHelper.getPathWithinApplication(request);
+        long waitMillis;
+        if (member) {
+            String name = memberOf(SecurityContextHolder.getContext().getAuthentication());
+            waitMillis = name == null ? 0 : rateLimiter.tryAcquireMember(request.getMethod(), path, name);
+        } else {
+            waitMillis = rateLimiter.tryAcquire(request.getMethod(), path, request.getRemoteAddr());
+        }
+        if (waitMillis > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((waitMillis + 999) / 1000));
+            ErrorResponder.sendErrorResponse(response, HttpStatus.TOO_MANY_REQUESTS);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // 두 필터가 같은 클래스라 기본 이름 (클래스 이름) 이면 두 번째가 건너뛰어진다.
+    @Override
+    protected String getAlreadyFilteredAttributeName() {
+        return super.getAlreadyFilteredAttributeName() + (member ? ".member" : ".client");
+    }
+
+    private static String memberOf(Authentication authentication) {
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) return null;
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,43 @@
+package com.book.village.server.global.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// rate-limit.groups 는 선언한 순서대로 검사하고 처음 맞는 그룹 하나만 적용한다.
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    // 서버 메모리에 두는 bucket 수 상한 (회원 + IP)
+    private int maxBuckets = 100_000;
+    // Redis 전체 예산 (그룹의 global 한도) 을 쓸지
+    private boolean globalEnabled = false;
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Group {
+        // 비어 있으면 모든 method
+        private List<String> methods = new ArrayList<>();
+        private List<String> patterns = new ArrayList<>();
+        // 없으면 그 범위는 제한하지 않는다.
+        private Limit member;
+        private Limit ip;
+        private Limit global;
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        // 한 번에 몰아서 쓸 수 있는 요청 수
+        private long capacity;
+        private double refillPerSecond;
+    }
+}
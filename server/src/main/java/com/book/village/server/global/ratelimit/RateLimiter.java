@@ -0,0 +1,194 @@
+package com.book.village.server.global.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 그룹별 token bucket. 회원/IP bucket 은 서버 메모리에, 전체 예산 (global) 은 Redis 에 둔다.
+// 메모리 bucket 은 다음 token 이 생기는 시각 하나 (AtomicLong) 로 표현해 CAS 한 번으로 꺼낸다 (GCRA).
+// 가득 찬 bucket 은 새 bucket 과 같으므로 sweep 에서 지워도 동작이 바뀌지 않는다.
+@Slf4j
+public class RateLimiter {
+    public static final String REJECTED_METRIC_NAME = "rate.limit.rejected";
+
+    // KEYS[1] rl:<group>, ARGV[1] capacity, ARGV[2] ms 당 채워지는 token, ARGV[3] 현재 시각(ms)
+    // 0: 통과, 그 외: 다시 시도할 수 있을 때까지의 ms
+    private static final RedisScript<Long> GLOBAL_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+            "local rate = tonumber(ARGV[2]) " +
+            "local now = tonumber(ARGV[3]) " +
+            "local tokens = capacity " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  local last = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+            "  tokens = math.min(capacity, tonumber(last[1]) + math.max(0, now - tonumber(last[2])) * rate) " +
+            "end " +
+            "local wait = 0 " +
+            "if tokens >= 1 then tokens = tokens - 1 else wait = math.ceil((1 - tokens) / rate) end " +
+            "redis.call('HMSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now)) " +
+            "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + 1000) " +
+            "return wait", Long.class);
+    private static final String GLOBAL_KEY_PREFIX = "rl:";
+
+    private final List<Route> routes;
+    private final int maxBuckets;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    // globalEnabled 가 아니면 redisTemplate 은 null 이어도 된다.
+    public RateLimiter(RateLimitProperties properties, RedisTemplate<String, Object> redisTemplate, MeterRegistry meterRegistry) {
+        this.maxBuckets = properties.getMaxBuckets();
+        this.redisTemplate = properties.isGlobalEnabled() ? redisTemplate : null;
+        this.routes = new ArrayList<>();
+        properties.getGroups().forEach((name, group) -> routes.add(new Route(name, group, meterRegistry)));
+        if (meterRegistry != null) meterRegistry.gaugeMapSize("rate.limit.buckets", List.of(), buckets);
+    }
+
+    // IP bucket 과 전체 예산. 토큰 검증 전에 부른다.
+    // 0 이면 통과, 아니면 다시 시도할 수 있을 때까지의 ms.
+    public long tryAcquire(String method, String path, String ip) {
+        Route route = findRoute(method, path);
+        if (route == null) return 0;
+
+        if (route.ip != null && ip != null) {
+            long waitNanos = acquireLocal(route.name + ":i:" + ip, route.ip);
+            if (waitNanos > 0) return reject(route.rejectedIp, waitNanos);
+        }
+        if (route.global != null && redisTemplate != null) {
+            long waitMillis = acquireGlobal(route);
+            if (waitMillis > 0) return reject(route.rejectedGlobal, TimeUnit.MILLISECONDS.toNanos(waitMillis));
+        }
+        return 0;
+    }
+
+    // 회원 bucket. 토큰 검증 뒤에 로그인한 요청만 부른다.
+    public long tryAcquireMember(String method, String path, String member) {
+        Route route = findRoute(method, path);
+        if (route == null || route.member == null) return 0;
+
+        long waitNanos = acquireLocal(route.name + ":m:" + member, route.member);
+        return waitNanos > 0 ? reject(route.rejectedMember, waitNanos) : 0;
+    }
+
+    // 가득 찬 (한동안 요청이 없던) bucket 을 지운다.
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval:10000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+    }
+
+    private Route findRoute(String method, String path) {
+        for (Route route : routes) {
+            if (route.matches(method, path, pathMatcher)) return route;
+        }
+        return null;
+    }
+
+    private long acquireLocal(String key, LocalLimit limit) {
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            if (buckets.size() >= maxBuckets) sweep();
+            // 그래도 넘치면 이 요청은 제한하지 않는다 (메모리 보호).
+            if (buckets.size() >= maxBuckets) return 0;
+            tat = buckets.computeIfAbsent(key, k -> new AtomicLong(System.nanoTime()));
+        }
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            long start = current - now > 0 ? current : now;
+            long next = start + limit.intervalNanos;
+            long waitNanos = next - now - limit.toleranceNanos;
+            if (waitNanos > 0) return waitNanos;
+            if (tat.compareAndSet(current, next)) return 0;
+        }
+    }
+
+    // Redis 에 닿지 못하면 통과시킨다 (회원/IP 한도는 그대로 적용된다).
+    private long acquireGlobal(Route route) {
+        try {
+            Long waitMillis = redisTemplate.execute(GLOBAL_SCRIPT, List.of(GLOBAL_KEY_PREFIX + route.name),
+                    String.valueOf(route.global.getCapacity()),
+                    String.valueOf(route.global.getRefillPerSecond() / 1000.0),
+                    String.valueOf(System.currentTimeMillis()));
+            return waitMillis == null ? 0 : waitMillis;
+        } catch (RuntimeException e) {
+            if (route.globalErrors != null) route.globalErrors.increment();
+            log.debug("rate limit global budget unavailable: {} ({})", route.name, e.toString());
+            return 0;
+        }
+    }
+
+    private static long reject(Counter counter, long waitNanos) {
+        if (counter != null) counter.increment();
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+    }
+
+    private static class LocalLimit {
+        private final long intervalNanos;
+        private final long toleranceNanos;
+
+        private LocalLimit(RateLimitProperties.Limit limit) {
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / limit.getRefillPerSecond());
+            this.toleranceNanos = intervalNanos * limit.getCapacity();
+        }
+    }
+
+    private static class Route {
+        private final String name;
+        private final Set<String> methods;
+        private final List<String> patterns;
+        private final LocalLimit member;
+        private final LocalLimit ip;
+        private final RateLimitProperties.Limit global;
+        private final Counter rejectedMember;
+        private final Counter rejectedIp;
+        private final Counter rejectedGlobal;
+        private final Counter globalErrors;
+
+        private Route(String name, RateLimitProperties.Group group, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.methods = group.getMethods().stream().map(String::toUpperCase).collect(Collectors.toSet());
+            this.patterns = List.copyOf(group.getPatterns());
+            this.member = group.getMember() == null ? null : new LocalLimit(group.getMember());
+            this.ip = group.getIp() == null ? null : new LocalLimit(group.getIp());
+            this.global = group.getGlobal();
+            this.rejectedMember = rejected(meterRegistry, name, "member");
+            this.rejectedIp = rejected(meterRegistry, name, "ip");
+            this.rejectedGlobal = rejected(meterRegistry, name, "global");
+            this.globalErrors = meterRegistry == null ? null : Counter.builder("rate.limit.global.errors")
+                    .description("Rate limit checks that skipped the Redis budget")
+                    .tag("group", name)
+                    .register(meterRegistry);
+        }
+
+        private boolean matches(String method, String path, AntPathMatcher pathMatcher) {
+            if (!methods.isEmpty() && !methods.contains(method)) return false;
+            for (String pattern : patterns) {
+                if (pathMatcher.match(pattern, path)) return true;
+            }
+            return false;
+        }
+
+        private static Counter rejected(MeterRegistry meterRegistry, String group, String scope) {
+            return meterRegistry == null ? null : Counter.builder(REJECTED_METRIC_NAME)
+                    .description("Requests rejected by rate limiting")
+                    .tag("group", group)
+                    .tag("scope", scope)
+                    .register(meterRegistry);
+        }
+    }
+}
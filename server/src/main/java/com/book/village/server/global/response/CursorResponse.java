@@ -0,0 +1,14 @@
+package com.book.village.server.global.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 기반 목록. nextCursor 를 다음 요청의 cursor 로 넘긴다. 마지막이면 null.
+@AllArgsConstructor
+@Getter
+public class CursorResponse<T> {
+    private List<T> data;
+    private String nextCursor;
+}
@@ -41,7 +41,7 @@ public class ErrorResponse {
         return new ErrorResponse(null, ConstraintViolationError.of(violations));
     }
     public static ErrorResponse of(CustomLogicException e) {
-        return new ErrorResponse(e.getExceptionCode().getCode(), e.getExceptionCode().getMessage(), null, null);
+        return new ErrorResponse(e.getExceptionCode().getCode(), e.getExceptionCode().getMessage(), e.getFieldErrors(), null);
     }
     public static ErrorResponse of(HttpStatus status, String message) {
         return new ErrorResponse(status.value(), message, null, null);
@@ -60,6 +60,10 @@ public class ErrorResponse {
             this.reason = reason;
         }
 
+        public static FieldError of(String field, Object rejectedValue, String reason) {
+            return new FieldError(field, rejectedValue, reason);
+        }
+
         public static List<FieldError> of(BindingResult bindingResult) {
             final List<org.springframework.validation.FieldError> fieldErrors =
                     bindingResult.getFieldErrors();
@@ -5,6 +5,7 @@ import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.Collection;
 
 @Component
@@ -18,6 +19,10 @@ public class CustomBeanUtils<T> {
         final BeanWrapper dest = new BeanWrapperImpl(destination);
 
         for (final Field property : source.getClass().getDeclaredFields()) {
+            // 상수(Book.DEFAULT_THUMBNAIL 등)는 bean property 가 아니다.
+            if (Modifier.isStatic(property.getModifiers())) {
+                continue;
+            }
             Object sourceProperty = src.getPropertyValue(property.getName());
             if (sourceProperty != null && !(sourceProperty instanceof Collection<?>)) {
                 dest.setPropertyValue(property.getName(), sourceProperty);
@@ -0,0 +1,106 @@
+package com.book.village.server.global.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// geohash (base32) 인코딩과 반경 검색에 쓸 cell 계산.
+// 같은 prefix 를 가진 geohash 는 한 cell 안에 있으므로, 인덱스된 geohash 컬럼에서 prefix range scan 으로 cell 을 읽을 수 있다.
+public class GeoHash {
+    public static final int MAX_PRECISION = 12;
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean even = true;    // 경도 bit 부터
+        int bit = 0;
+        int ch = 0;
+        while (hash.length() < precision) {
+            if (even) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch <<= 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch <<= 1;
+                    maxLat = mid;
+                }
+            }
+            even = !even;
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    // 중심 cell 과 주변 8 개 cell. cell 한 변이 반경보다 길도록 precision 을 고르므로 반경 원은 이 cell 들 안에 들어간다.
+    public static List<String> coveringCells(double latitude, double longitude, double radiusKm) {
+        int precision = precisionFor(latitude, radiusKm);
+        double height = cellHeight(precision);
+        double width = cellWidth(precision);
+        Set<String> cells = new LinkedHashSet<>();
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                double lat = Math.max(-90, Math.min(90 - 1e-9, latitude + dy * height));
+                double lng = longitude + dx * width;
+                if (lng >= 180) lng -= 360;
+                if (lng < -180) lng += 360;
+                cells.add(encode(lat, lng, precision));
+            }
+        }
+        return new ArrayList<>(cells);
+    }
+
+    // cell 의 가로/세로가 모두 radiusKm 이상인 가장 긴 precision
+    static int precisionFor(double latitude, double radiusKm) {
+        double cos = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+        for (int precision = MAX_PRECISION; precision > 1; precision--) {
+            if (cellHeight(precision) * KM_PER_DEGREE >= radiusKm
+                    && cellWidth(precision) * KM_PER_DEGREE * cos >= radiusKm) {
+                return precision;
+            }
+        }
+        return 1;
+    }
+
+    // cell 의 위도 폭 (degree)
+    static double cellHeight(int precision) {
+        int bits = precision * 5 / 2;
+        return 180 / Math.pow(2, bits);
+    }
+
+    // cell 의 경도 폭 (degree)
+    static double cellWidth(int precision) {
+        int bits = (precision * 5 + 1) / 2;
+        return 360 / Math.pow(2, bits);
+    }
+
+    // 두 좌표 사이의 거리 (haversine, km)
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,25 @@
+package com.book.village.server.global.utils;
+
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.internal.SessionFactoryImpl;
+
+import javax.persistence.EntityManagerFactory;
+
+// Spring bean 인 listener 를 Hibernate 엔티티 이벤트에 붙인다 (@PostConstruct 에서 부른다).
+public class HibernateEventListeners {
+    private HibernateEventListeners() {
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static void append(EntityManagerFactory entityManagerFactory, Object listener, EventType<?>... types) {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImpl.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        for (EventType<?> type : types) {
+            if (!type.baseListenerInterface().isInstance(listener)) {
+                throw new IllegalArgumentException(listener.getClass().getName() + " is not a " + type.eventName() + " listener");
+            }
+            registry.appendListeners((EventType) type, listener);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.book.village.server.global.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// Redis 채널 하나를 구독한다. 돌고 있는 container 에 채널을 더 붙이면 구독 확인을 시간 제한 없이 기다리므로 (부른 스레드가 멈춘다)
+// 채널마다 container 를 두고 listener 를 먼저 붙인 뒤 start 로 구독한다. start 는 구독 확인을 정해진 시간만 기다린다.
+// 처음 구독이 실패해도 서버는 뜨고, 쓰는 쪽이 주기적으로 subscribe 를 불러 다시 시도한다.
+// 한 번 구독한 뒤 연결이 끊기면 container 가 다시 연결한다.
+@Slf4j
+public class RedisChannelSubscriber {
+    private final RedisMessageListenerContainer container;
+    private final String channel;
+    private volatile boolean subscribed;
+
+    public RedisChannelSubscriber(RedisConnectionFactory redisConnectionFactory, TaskExecutor executor,
+                                  String channel, MessageListener listener) {
+        this.channel = channel;
+        this.container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(executor);
+        container.addMessageListener(listener, new ChannelTopic(channel));
+        container.afterPropertiesSet();
+    }
+
+    // 이번 호출에서 구독했으면 true. 이미 구독했거나 실패하면 false
+    public boolean subscribe() {
+        if (subscribed) return false;
+        try {
+            container.start();
+            subscribed = true;
+            log.info("redis channel subscribed: {}", channel);
+            return true;
+        } catch (RuntimeException e) {
+            container.stop();
+            log.warn("redis channel subscribe failed, retrying: {} ({})", channel, e.toString());
+            return false;
+        }
+    }
+
+    public void close() throws Exception {
+        container.destroy();
+    }
+}
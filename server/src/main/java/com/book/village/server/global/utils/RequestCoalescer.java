@@ -0,0 +1,116 @@
+package com.book.village.server.global.utils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+// 동시에 들어온 단건 조회를 모아 한 번의 IN 조회로 처리한다.
+// 돌고 있는 조회가 없으면 기다리지 않고 바로 조회한다. 조회가 도는 동안 온 요청은 다음 batch 로 모이고,
+// 그 batch 를 연 요청 (leader) 이 앞 조회가 끝나거나 window 가 지나거나 batch 가 다 찰 때까지 기다린 뒤
+// loader 를 불러 모두에게 결과를 나눠준다.
+// loader 는 leader 스레드에서 돌므로 스레드 사이에 넘겨도 되는 값 (dto) 을 돌려줘야 한다. 없는 id 는 null.
+public class RequestCoalescer<K, V> {
+    private final Function<Set<K>, Map<K, V>> loader;
+    private final long windowNanos;
+    private final int maxSize;
+    private Batch<K, V> open;   // guarded by this
+    private int loading;        // guarded by this. 닫혔지만 아직 끝나지 않은 batch 수
+
+    public RequestCoalescer(Function<Set<K>, Map<K, V>> loader, Duration window, int maxSize) {
+        this.loader = loader;
+        this.windowNanos = window.toNanos();
+        this.maxSize = Math.max(1, maxSize);
+    }
+
+    public V get(K key) {
+        // window 0 이면 모으지 않는다.
+        if (windowNanos <= 0) {
+            return loader.apply(Set.of(key)).get(key);
+        }
+
+        Batch<K, V> batch;
+        CompletableFuture<V> future;
+        boolean leader = false;
+        synchronized (this) {
+            if (open == null) {
+                open = new Batch<>(Thread.currentThread());
+                leader = true;
+            }
+            batch = open;
+            future = batch.futures.computeIfAbsent(key, k -> new CompletableFuture<>());
+            if (loading == 0 || batch.futures.size() >= maxSize) {
+                close(batch);
+            }
+        }
+
+        if (leader) {
+            await(batch);
+            run(batch);
+        }
+        return join(future);
+    }
+
+    // 앞 조회가 끝나거나 window 가 지나거나 batch 가 다 차면 돌아온다.
+    private void await(Batch<K, V> batch) {
+        long deadline = System.nanoTime() + windowNanos;
+        long remaining;
+        while (!batch.closed && (remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+            if (Thread.currentThread().isInterrupted()) break;
+        }
+        synchronized (this) {
+            if (open == batch) close(batch);
+        }
+    }
+
+    private void close(Batch<K, V> batch) {
+        open = null;
+        loading++;
+        batch.closed = true;
+        if (batch.leader != Thread.currentThread()) LockSupport.unpark(batch.leader);
+    }
+
+    // 닫힌 batch 의 futures 는 더 바뀌지 않는다.
+    private void run(Batch<K, V> batch) {
+        try {
+            Map<K, V> result = loader.apply(new LinkedHashSet<>(batch.futures.keySet()));
+            batch.futures.forEach((key, future) -> future.complete(result.get(key)));
+        } catch (Throwable e) {
+            batch.futures.values().forEach(future -> future.completeExceptionally(e));
+        } finally {
+            synchronized (this) {
+                loading--;
+                // 기다리던 batch 는 window 를 다 채우지 않고 바로 조회한다.
+                if (loading == 0 && open != null) close(open);
+            }
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // loader 가 던진 예외 (CustomLogicException 등) 를 그대로 던진다.
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
+    }
+
+    private static class Batch<K, V> {
+        private final Thread leader;
+        private final Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        private volatile boolean closed;
+
+        private Batch(Thread leader) {
+            this.leader = leader;
+        }
+    }
+}
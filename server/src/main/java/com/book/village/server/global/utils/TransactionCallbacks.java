@@ -0,0 +1,24 @@
+package com.book.village.server.global.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 밖의 부수 효과 (캐시, 메모리 인덱스, 알림 발행) 를 커밋 뒤로 미룬다.
+public class TransactionCallbacks {
+    private TransactionCallbacks() {
+    }
+
+    // 롤백되면 실행하지 않는다. 트랜잭션 밖에서 부르면 바로 실행한다.
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
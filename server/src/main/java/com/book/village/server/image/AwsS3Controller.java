@@ -8,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.validation.Valid;
 import java.io.IOException;
 import java.security.Principal;
 import java.util.List;
@@ -18,6 +19,7 @@ import java.util.List;
 public class AwsS3Controller {
 
     private final AwsS3Service s3Service;
+    private final PresignedUploadService presignedUploadService;
 
     @PostMapping("/upload")
     public ResponseEntity uploadImage(@RequestParam MultipartFile image, Principal principal) throws IOException {
@@ -27,6 +29,14 @@ public class AwsS3Controller {
     public ResponseEntity uploadImages(@RequestParam List<MultipartFile> images, Principal principal) throws IOException {
         return new ResponseEntity<>(new ListResponse<>(s3Service.uploadImgs(images)), HttpStatus.CREATED);
     }
+    @PostMapping("/presign")
+    public ResponseEntity presign(@Valid @RequestBody ImageDto.Presign presign, Principal principal) {
+        return new ResponseEntity<>(new SingleResponse<>(presignedUploadService.presign(presign, principal.getName())), HttpStatus.CREATED);
+    }
+    @PostMapping("/complete")
+    public ResponseEntity complete(@Valid @RequestBody ImageDto.Complete complete, Principal principal) {
+        return new ResponseEntity<>(new SingleResponse<>(presignedUploadService.complete(complete, principal.getName())), HttpStatus.OK);
+    }
     @DeleteMapping("/delete")
     public ResponseEntity deleteImage(@RequestParam String fileName, Principal principal) throws IOException {
         s3Service.deleteImage(fileName);
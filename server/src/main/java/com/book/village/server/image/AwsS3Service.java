@@ -1,73 +1,199 @@
 package com.book.village.server.image;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
+import com.book.village.server.global.exception.CustomLogicException;
+import com.book.village.server.global.exception.ExceptionCode;
+import com.book.village.server.global.response.ErrorResponse;
+import com.book.village.server.global.utils.Hashes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+// S3 업로드 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션을 걸지 않는다. image_blob 증감은 한 문장씩 커밋된다.
+@Slf4j
 @Service
-@Transactional
 public class AwsS3Service {
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
+    private final ImageProcessingService imageProcessingService;
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageVariantRepository imageVariantRepository;
+    private final ImageUrls imageUrls;
 
-    public AwsS3Service(AmazonS3 amazonS3) {
+    public AwsS3Service(AmazonS3 amazonS3, @Qualifier("imageTransferManager") TransferManager transferManager,
+                        ImageProcessingService imageProcessingService, ImageBlobRepository imageBlobRepository,
+                        ImageVariantRepository imageVariantRepository, ImageUrls imageUrls) {
         this.amazonS3 = amazonS3;
+        this.transferManager = transferManager;
+        this.imageProcessingService = imageProcessingService;
+        this.imageBlobRepository = imageBlobRepository;
+        this.imageVariantRepository = imageVariantRepository;
+        this.imageUrls = imageUrls;
     }
 
     public String uploadImg(MultipartFile multipartFile) throws IOException {
-        String s3FileName = UUID.randomUUID() + "-" + multipartFile.getOriginalFilename(); // 이름 랜덤생성 + 파일이름
-
-        ObjectMetadata objMeta = new ObjectMetadata();
-        objMeta.setContentLength(multipartFile.getSize());
-        objMeta.setContentType(multipartFile.getContentType()); // 파일 사이즈 전달
-
-        try(InputStream inputStream = multipartFile.getInputStream()) {
-            amazonS3.putObject(new PutObjectRequest(bucket, s3FileName, inputStream, objMeta)
-                    .withCannedAcl(CannedAccessControlList.PublicRead)); // s3 파일 업로드
-        } catch(IOException e) {
+        PendingUpload pending = start(multipartFile); // 이름 랜덤생성 + 파일이름
+        try {
+            String url = pending.await(); // 파일이름으로 버킷에서 url 가져오기
+            if (!pending.reused) imageProcessingService.submit(pending.s3FileName); // 변형 이미지 생성은 응답 뒤에
+            return url;
+        } catch(IOException | AmazonClientException e) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 업로드를 실패했습니다."); // 업로드 실패
         }
-        return amazonS3.getUrl(bucket, s3FileName).toString(); // 파일이름으로 버킷에서 url 가져오기
     }
 
+    // 전부 먼저 시작시키고 입력 순서대로 기다린다. 하나라도 실패하면 올라간 파일을 지우고 실패한 파일 목록을 돌려준다.
     public List<String> uploadImgs(List<MultipartFile> multipartFile) {
-        List<String> urlList = new ArrayList<>();
-
-        multipartFile.forEach(file -> {
-            String s3FileName = UUID.randomUUID() + "-" + file.getOriginalFilename();
-            ObjectMetadata objMeta = new ObjectMetadata();
-            objMeta.setContentLength(file.getSize());
-            objMeta.setContentType(file.getContentType());
-
-            try(InputStream inputStream = file.getInputStream()) {
-                amazonS3.putObject(new PutObjectRequest(bucket, s3FileName, inputStream, objMeta)
-                        .withCannedAcl(CannedAccessControlList.PublicRead));
-            } catch(IOException e) {
-                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 업로드를 실패했습니다.");
+        int size = multipartFile.size();
+        PendingUpload[] pendings = new PendingUpload[size];
+        ErrorResponse.FieldError[] failures = new ErrorResponse.FieldError[size];
+        for (int i = 0; i < size; i++) {
+            try {
+                pendings[i] = start(multipartFile.get(i));
+            } catch (IOException | AmazonClientException e) {
+                failures[i] = failure(i, multipartFile.get(i), e);
+            }
+        }
+
+        List<String> urlList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (pendings[i] == null) continue;
+            try {
+                urlList.add(pendings[i].await());
+            } catch (IOException | AmazonClientException e) {
+                failures[i] = failure(i, multipartFile.get(i), e);
             }
-            urlList.add(amazonS3.getUrl(bucket, s3FileName).toString());
-        });
+        }
 
+        if (urlList.size() < size) {
+            for (PendingUpload pending : pendings) {
+                if (pending != null && pending.completed) deleteImage(pending.s3FileName);
+            }
+            List<ErrorResponse.FieldError> failed = new ArrayList<>();
+            for (ErrorResponse.FieldError failure : failures) {
+                if (failure != null) failed.add(failure);
+            }
+            throw new CustomLogicException(ExceptionCode.IMAGE_UPLOAD_FAILED, failed);
+        }
+        for (PendingUpload pending : pendings) {
+            if (!pending.reused) imageProcessingService.submit(pending.s3FileName);
+        }
         return urlList;
     }
 
+    // 같은 내용을 다른 업로드가 아직 쓰고 있으면 참조만 줄인다. 객체를 지울 때는 변형 이미지도 같이 지운다.
     public void deleteImage(String fileName) {
-        amazonS3.deleteObject(new DeleteObjectRequest(bucket, fileName));
+        if (imageBlobRepository.release(fileName) == ImageBlobRepository.Release.REFERENCED) return;
+        amazonS3.deleteObjects(new DeleteObjectsRequest(bucket)
+                .withKeys(ImageVariant.allKeysOf(fileName).toArray(new String[0])).withQuiet(true));
+        imageVariantRepository.deleteByOriginalKey(fileName);
+    }
+
+    // 이미 같은 내용 (sha-256) 이 올라가 있으면 PUT 없이 그 객체를 같이 쓴다.
+    // multipart 본문은 컨테이너가 메모리/임시 파일에 받아둔 상태라 해시를 먼저 계산해도 네트워크를 타지 않는다.
+    // 새 내용이면 요청 본문을 메모리에 모으지 않고 스트림 그대로 넘긴다. 크기를 알려줘야 SDK 가 버퍼링하지 않는다.
+    private PendingUpload start(MultipartFile file) throws IOException {
+        String sha256 = sha256(file);
+        String existingKey = imageBlobRepository.acquire(sha256);
+        if (existingKey != null) return new PendingUpload(existingKey);
+
+        String s3FileName = UUID.randomUUID() + "-" + file.getOriginalFilename();
+        ObjectMetadata objMeta = new ObjectMetadata();
+        objMeta.setContentLength(file.getSize());
+        objMeta.setContentType(file.getContentType());
+
+        InputStream inputStream = file.getInputStream();
+        try {
+            Upload upload = transferManager.upload(new PutObjectRequest(bucket, s3FileName, inputStream, objMeta)
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
+            return new PendingUpload(s3FileName, sha256, file.getSize(), inputStream, upload);
+        } catch (RuntimeException e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    private static String sha256(MultipartFile file) throws IOException {
+        MessageDigest digest = Hashes.sha256();
+        byte[] buffer = new byte[16 * 1024];
+        try (InputStream inputStream = file.getInputStream()) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) digest.update(buffer, 0, read);
+        }
+        return Hashes.hex(digest.digest());
+    }
+
+    private static ErrorResponse.FieldError failure(int index, MultipartFile file, Exception e) {
+        // SDK 예외 메시지에는 버킷/요청 정보가 들어 있으므로 서버 로그에만 남긴다.
+        log.warn("image upload failed: {}", file.getOriginalFilename(), e);
+        return ErrorResponse.FieldError.of("images[" + index + "]", file.getOriginalFilename(), "image upload failed");
+    }
+
+    private class PendingUpload {
+        private String s3FileName;
+        private final String sha256;
+        private final long contentLength;
+        private final InputStream inputStream;
+        private final Upload upload;
+        private boolean reused;
+        private boolean completed;
+
+        // 이미 있는 객체를 같이 쓰는 경우
+        private PendingUpload(String existingKey) {
+            this(existingKey, null, 0, null, null);
+            this.reused = true;
+            this.completed = true;
+        }
+
+        private PendingUpload(String s3FileName, String sha256, long contentLength, InputStream inputStream, Upload upload) {
+            this.s3FileName = s3FileName;
+            this.sha256 = sha256;
+            this.contentLength = contentLength;
+            this.inputStream = inputStream;
+            this.upload = upload;
+        }
+
+        private String await() throws IOException {
+            if (reused) return imageUrls.toUrl(s3FileName);
+            try (InputStream ignored = inputStream) {
+                upload.waitForUploadResult();
+                completed = true;
+                if (!imageBlobRepository.register(sha256, s3FileName, contentLength)) {
+                    // 같은 내용이 동시에 올라와 다른 쪽이 먼저 등록했다. 방금 올린 객체는 지우고 그쪽을 쓴다.
+                    String existingKey = imageBlobRepository.acquire(sha256);
+                    if (existingKey != null) {
+                        amazonS3.deleteObject(bucket, s3FileName);
+                        s3FileName = existingKey;
+                        reused = true;
+                    }
+                }
+                return imageUrls.toUrl(s3FileName);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                upload.abort();
+                throw new IOException("interrupted while uploading " + s3FileName, e);
+            }
+        }
     }
 }
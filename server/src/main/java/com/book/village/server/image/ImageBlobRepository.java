@@ -0,0 +1,53 @@
+package com.book.village.server.image;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// sha-256 -> 객체 key 와 참조 수. 증감은 한 문장의 update 로 해서 동시에 올리고 지워도 개수가 어긋나지 않는다.
+@Repository
+public class ImageBlobRepository {
+    public enum Release {
+        NOT_TRACKED,  // 중복 제거 전에 올라간 객체 (presigned 업로드 포함)
+        REFERENCED,   // 아직 다른 곳에서 쓰고 있다
+        UNREFERENCED  // 마지막 참조였다. 객체를 지워도 된다
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ImageBlobRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 같은 내용이 이미 있으면 참조를 하나 늘리고 그 key 를 돌려준다.
+    public String acquire(String sha256) {
+        if (jdbcTemplate.update("update image_blob set ref_count = ref_count + 1 where sha256 = ?", sha256) == 0) return null;
+        List<String> keys = jdbcTemplate.queryForList("select object_key from image_blob where sha256 = ?", String.class, sha256);
+        return keys.isEmpty() ? null : keys.get(0);
+    }
+
+    // 동시에 같은 내용이 올라와 먼저 등록된 것이 있으면 false.
+    public boolean register(String sha256, String objectKey, long contentLength) {
+        try {
+            jdbcTemplate.update("insert into image_blob (sha256, object_key, content_length, ref_count, created_at) values (?, ?, ?, 1, ?)",
+                    sha256, objectKey, contentLength, Timestamp.valueOf(LocalDateTime.now()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public Release release(String objectKey) {
+        boolean decremented = jdbcTemplate.update(
+                "update image_blob set ref_count = ref_count - 1 where object_key = ? and ref_count > 0", objectKey) == 1;
+        // 그 사이에 acquire 가 참조를 늘렸다면 ref_count 가 0 이 아니어서 지워지지 않는다.
+        if (jdbcTemplate.update("delete from image_blob where object_key = ? and ref_count = 0", objectKey) == 1) {
+            return Release.UNREFERENCED;
+        }
+        return decremented ? Release.REFERENCED : Release.NOT_TRACKED;
+    }
+}
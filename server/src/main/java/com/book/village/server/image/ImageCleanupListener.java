@@ -0,0 +1,88 @@
+package com.book.village.server.image;
+
+import com.book.village.server.domain.book.entity.Book;
+import com.book.village.server.domain.borrow.entity.Borrow;
+import com.book.village.server.domain.member.entity.Member;
+import com.book.village.server.domain.request.entity.Request;
+import com.book.village.server.global.utils.HibernateEventListeners;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+// 글/회원이 지워지거나 이미지가 바뀌면 이전 이미지 key 를 outbox 에 쓴다.
+// update/delete 문을 실행한 직후 같은 트랜잭션 안에서 불리므로, 롤백되면 outbox 도 같이 롤백된다.
+@Component
+public class ImageCleanupListener implements PostUpdateEventListener, PostDeleteEventListener {
+    // 엔티티 -> 이미지 key 필드
+    private static final Map<Class<?>, String> IMAGE_PROPERTIES = new HashMap<>();
+
+    static {
+        IMAGE_PROPERTIES.put(Borrow.class, "thumbnail");
+        IMAGE_PROPERTIES.put(Request.class, "thumbnail");
+        IMAGE_PROPERTIES.put(Book.class, "thumbnail");
+        IMAGE_PROPERTIES.put(Member.class, "imgUrl");
+    }
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ImageCleanupOutboxRepository outboxRepository;
+
+    public ImageCleanupListener(EntityManagerFactory entityManagerFactory, ImageCleanupOutboxRepository outboxRepository) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.outboxRepository = outboxRepository;
+    }
+
+    @PostConstruct
+    public void register() {
+        HibernateEventListeners.append(entityManagerFactory, this, EventType.POST_UPDATE, EventType.POST_DELETE);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getOldState() == null) return; // 조회 없이 merge 된 detached 엔티티는 이전 값을 모른다
+        int index = indexOf(event.getPersister());
+        if (index < 0) return;
+        String before = originalKey(event.getOldState()[index]);
+        String after = originalKey(event.getState()[index]);
+        // 원본 -> 변형 key 로 바뀐 경우 (ImageVariantListener) 는 같은 이미지다.
+        if (before != null && !Objects.equals(before, after)) outboxRepository.enqueue(before);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        int index = indexOf(event.getPersister());
+        if (index < 0) return;
+        String before = originalKey(event.getDeletedState()[index]);
+        if (before != null) outboxRepository.enqueue(before);
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private static int indexOf(EntityPersister persister) {
+        String property = IMAGE_PROPERTIES.get(persister.getMappedClass());
+        if (property == null) return -1;
+        String[] names = persister.getPropertyNames();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(property)) return i;
+        }
+        return -1;
+    }
+
+    // 이 버킷의 key 만 정리 대상이다. 외부 url 이나 기본 이미지는 null.
+    private static String originalKey(Object reference) {
+        if (!(reference instanceof String) || !ImageUrls.isKey((String) reference)) return null;
+        return ImageVariant.originalKeyOf((String) reference);
+    }
+}
@@ -0,0 +1,81 @@
+package com.book.village.server.image;
+
+import lombok.Getter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 지울 이미지 key 의 outbox. 엔티티 flush 중 (ImageCleanupListener) 에 쓰므로 JdbcTemplate 으로 같은 트랜잭션의 커넥션을 쓴다.
+@Repository
+public class ImageCleanupOutboxRepository {
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ImageCleanupOutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void enqueue(String originalKey) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("insert into image_cleanup_outbox (object_key, released, attempts, next_attempt_at, created_at) " +
+                "values (?, false, 0, ?, ?)", originalKey, now, now);
+    }
+
+    public List<Entry> findDue(LocalDateTime now, int limit) {
+        return jdbcTemplate.query("select image_cleanup_outbox_id, object_key, released, attempts, next_attempt_at from image_cleanup_outbox " +
+                        "where next_attempt_at <= ? order by next_attempt_at, image_cleanup_outbox_id limit ?",
+                (rs, rowNum) -> new Entry(rs.getLong(1), rs.getString(2), rs.getBoolean(3), rs.getInt(4),
+                        rs.getTimestamp(5).toLocalDateTime()),
+                Timestamp.valueOf(now), limit);
+    }
+
+    // 읽은 뒤 다른 인스턴스가 먼저 가져갔으면 false. 가져간 항목은 lease 동안 다시 읽히지 않는다.
+    public boolean claim(Entry entry, LocalDateTime leaseUntil) {
+        return jdbcTemplate.update("update image_cleanup_outbox set next_attempt_at = ? " +
+                        "where image_cleanup_outbox_id = ? and next_attempt_at = ?",
+                Timestamp.valueOf(leaseUntil), entry.getId(), Timestamp.valueOf(entry.getNextAttemptAt())) == 1;
+    }
+
+    public void markReleased(long id) {
+        jdbcTemplate.update("update image_cleanup_outbox set released = true where image_cleanup_outbox_id = ?", id);
+    }
+
+    public void retry(long id, int attempts, LocalDateTime nextAttemptAt, String error) {
+        String lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        jdbcTemplate.update("update image_cleanup_outbox set attempts = ?, next_attempt_at = ?, last_error = ? " +
+                "where image_cleanup_outbox_id = ?", attempts, Timestamp.valueOf(nextAttemptAt), lastError, id);
+    }
+
+    public void delete(long id) {
+        jdbcTemplate.update("delete from image_cleanup_outbox where image_cleanup_outbox_id = ?", id);
+    }
+
+    public void deleteAll(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        jdbcTemplate.batchUpdate("delete from image_cleanup_outbox where image_cleanup_outbox_id = ?",
+                ids.stream().map(id -> new Object[]{id}).collect(Collectors.toList()));
+    }
+
+    @Getter
+    public static class Entry {
+        private final long id;
+        private final String objectKey;
+        private final boolean released;
+        private final int attempts;
+        private final LocalDateTime nextAttemptAt;
+
+        public Entry(long id, String objectKey, boolean released, int attempts, LocalDateTime nextAttemptAt) {
+            this.id = id;
+            this.objectKey = objectKey;
+            this.released = released;
+            this.attempts = attempts;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
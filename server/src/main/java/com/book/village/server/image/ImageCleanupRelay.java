@@ -0,0 +1,154 @@
+package com.book.village.server.image;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// image_cleanup_outbox 를 batch 로 읽어 S3 multi-delete (한 번에 최대 1000 key) 로 지운다.
+// S3 delete 는 없는 key 도 성공하므로 같은 항목을 다시 처리해도 된다. 실패한 항목은 지수 backoff 로 다시 시도한다.
+@Slf4j
+@Component
+public class ImageCleanupRelay {
+    private static final int MAX_KEYS_PER_REQUEST = 1000;
+    private static final int KEYS_PER_ENTRY = ImageVariant.values().length + 1;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    private final AmazonS3 amazonS3;
+    private final ImageCleanupOutboxRepository outboxRepository;
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageVariantRepository imageVariantRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+
+    public ImageCleanupRelay(AmazonS3 amazonS3, ImageCleanupOutboxRepository outboxRepository,
+                             ImageBlobRepository imageBlobRepository, ImageVariantRepository imageVariantRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${image.cleanup.enabled:true}") boolean enabled,
+                             @Value("${image.cleanup.batch-size:500}") int batchSize,
+                             @Value("${image.cleanup.lease:5m}") Duration lease,
+                             @Value("${image.cleanup.retry-delay:30s}") Duration retryDelay,
+                             @Value("${image.cleanup.max-retry-delay:1h}") Duration maxRetryDelay) {
+        this.amazonS3 = amazonS3;
+        this.outboxRepository = outboxRepository;
+        this.imageBlobRepository = imageBlobRepository;
+        this.imageVariantRepository = imageVariantRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+    }
+
+    @Scheduled(fixedDelayString = "${image.cleanup.fixed-delay:30000}", initialDelayString = "${image.cleanup.initial-delay:30000}")
+    public void drain() {
+        if (!enabled) return;
+        try {
+            while (drainBatch() == batchSize) {
+                // 밀린 항목이 있으면 바로 다음 batch
+            }
+        } catch (RuntimeException e) {
+            log.warn("image cleanup relay failed ({})", e.toString());
+        }
+    }
+
+    // 가져온 항목 수를 돌려준다.
+    public int drainBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ImageCleanupOutboxRepository.Entry> due = outboxRepository.findDue(now, batchSize);
+        List<ImageCleanupOutboxRepository.Entry> deletable = new ArrayList<>();
+        for (ImageCleanupOutboxRepository.Entry entry : due) {
+            if (!outboxRepository.claim(entry, now.plus(lease))) continue; // 다른 인스턴스가 가져갔다
+            if (entry.isReleased() || release(entry)) deletable.add(entry);
+        }
+        int perRequest = MAX_KEYS_PER_REQUEST / KEYS_PER_ENTRY;
+        for (int from = 0; from < deletable.size(); from += perRequest) {
+            delete(deletable.subList(from, Math.min(from + perRequest, deletable.size())), now);
+        }
+        return due.size();
+    }
+
+    // image_blob 참조를 줄이고, 객체를 지워도 되면 true. 참조 감소와 released 표시를 한 트랜잭션으로 묶어 두 번 줄이지 않는다.
+    private boolean release(ImageCleanupOutboxRepository.Entry entry) {
+        Boolean deletable = transactionTemplate.execute(status -> {
+            ImageBlobRepository.Release release = imageBlobRepository.release(entry.getObjectKey());
+            // 다른 업로드가 같은 내용을 참조하거나, 같은 key 를 쓰는 글/회원이 남아 있으면 객체는 둔다.
+            if (release == ImageBlobRepository.Release.REFERENCED || imageVariantRepository.isReferenced(entry.getObjectKey())) {
+                outboxRepository.delete(entry.getId());
+                return false;
+            }
+            outboxRepository.markReleased(entry.getId());
+            return true;
+        });
+        return Boolean.TRUE.equals(deletable);
+    }
+
+    private void delete(List<ImageCleanupOutboxRepository.Entry> entries, LocalDateTime now) {
+        Map<String, ImageCleanupOutboxRepository.Entry> byKey = new HashMap<>();
+        List<String> keys = new ArrayList<>(entries.size() * KEYS_PER_ENTRY);
+        List<Long> done = new ArrayList<>(entries.size());
+        for (ImageCleanupOutboxRepository.Entry entry : entries) {
+            // 같은 key 가 여러 번 들어왔으면 한 항목만 지우고 나머지는 끝낸다.
+            if (byKey.putIfAbsent(entry.getObjectKey(), entry) != null) {
+                done.add(entry.getId());
+                continue;
+            }
+            keys.addAll(ImageVariant.allKeysOf(entry.getObjectKey()));
+        }
+
+        Set<ImageCleanupOutboxRepository.Entry> failed = new HashSet<>();
+        String error = null;
+        try {
+            amazonS3.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(keys.toArray(new String[0])).withQuiet(true));
+        } catch (MultiObjectDeleteException e) {
+            for (MultiObjectDeleteException.DeleteError deleteError : e.getErrors()) {
+                ImageCleanupOutboxRepository.Entry entry = byKey.get(ImageVariant.originalKeyOf(deleteError.getKey()));
+                if (entry != null) failed.add(entry);
+            }
+            error = e.getErrors().isEmpty() ? e.getMessage() : e.getErrors().get(0).getCode();
+        } catch (AmazonClientException e) {
+            failed.addAll(byKey.values());
+            error = e.getMessage();
+        }
+
+        for (ImageCleanupOutboxRepository.Entry entry : byKey.values()) {
+            if (failed.contains(entry)) {
+                int attempts = entry.getAttempts() + 1;
+                outboxRepository.retry(entry.getId(), attempts, now.plus(backoff(attempts)), error);
+                continue;
+            }
+            imageVariantRepository.deleteByOriginalKey(entry.getObjectKey());
+            done.add(entry.getId());
+        }
+        outboxRepository.deleteAll(done);
+        if (!failed.isEmpty()) log.warn("image cleanup: {} of {} keys failed ({})", failed.size(), byKey.size(), error);
+        else log.debug("image cleanup: {} entries deleted", done.size());
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+}
@@ -0,0 +1,61 @@
+package com.book.village.server.image;
+
+import lombok.*;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public class ImageDto {
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @ToString
+    public static class Presign {
+        @NotBlank
+        private String fileName;
+        @NotBlank
+        @Pattern(regexp = "image/[\\w.+-]+")
+        private String contentType;
+        @NotNull
+        @Positive
+        private Long contentLength;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    @ToString
+    public static class PresignResponse {
+        private String key;
+        private String uploadUrl;
+        private String method;
+        private Map<String, String> headers;
+        private LocalDateTime expiresAt;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @ToString
+    public static class Complete {
+        @NotBlank
+        private String key;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    @ToString
+    public static class CompleteResponse {
+        private String key;
+        private String url;
+        private String contentType;
+        private Long contentLength;
+    }
+}
@@ -0,0 +1,147 @@
+package com.book.village.server.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// V4 에서 추가한 thumbnail_key / img_key 를 옛 longtext 컬럼 값으로 채우는 migration (V11).
+// key 는 ImageUrls.toKey 로 만들어야 해서 (url decode, CDN 주소) SQL 이 아닌 java migration 으로 둔다.
+// spring 이 Flyway 에 bean 으로 넘겨 주므로 앱이 key 컬럼을 읽고 쓰기 전에 한 번만 돈다.
+// 클래스 이름이 V11__ 형식이 아니므로 JavaMigration 을 직접 구현한다.
+// Flyway 트랜잭션 밖에서 돌고 batch 마다 따로 커밋해 잠금을 짧게 잡는다. 중간에 실패해도 다시 돌리면 같은 값으로 덮어쓴다.
+@Slf4j
+@Component
+public class ImageKeyBackfill implements JavaMigration {
+    private static final int MAX_KEY_LENGTH = 512;
+    private static final int BATCH_SIZE = 500;
+    private static final List<Target> TARGETS = Arrays.asList(
+            new Target("book", "book_id", "thumbnail", "thumbnail_key"),
+            new Target("borrow", "borrow_id", "thumbnail", "thumbnail_key"),
+            new Target("request", "request_id", "thumbnail", "thumbnail_key"),
+            new Target("member", "member_id", "img_url", "img_key"));
+
+    private final ImageUrls imageUrls;
+
+    public ImageKeyBackfill(ImageUrls imageUrls) {
+        this.imageUrls = imageUrls;
+    }
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("11");
+    }
+
+    @Override
+    public String getDescription() {
+        return "image key backfill";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean isUndo() {
+        return false;
+    }
+
+    @Override
+    public boolean isBaselineMigration() {
+        return false;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(context.getConnection(), true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        DatabaseMetaData metaData = context.getConnection().getMetaData();
+        String catalog = context.getConnection().getCatalog();
+        for (Target target : TARGETS) {
+            // 옛 컬럼이 없으면 (ddl-auto 로 만든 스키마) 옮길 것도 없다.
+            if (!hasColumn(metaData, catalog, target.table, target.legacyColumn)) continue;
+            backfill(jdbcTemplate, transactionTemplate, target);
+        }
+    }
+
+    private static boolean hasColumn(DatabaseMetaData metaData, String catalog, String table, String column) throws SQLException {
+        try (ResultSet rs = metaData.getColumns(catalog, null, table, column)) {
+            return rs.next();
+        }
+    }
+
+    // 앱이 아직 key 컬럼을 쓰지 않았으므로 key 가 비었는지는 보지 않고 옛 값이 있는 행을 모두 옮긴다.
+    private void backfill(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, Target target) {
+        String select = "select " + target.idColumn + ", " + target.legacyColumn + " from " + target.table +
+                " where " + target.idColumn + " > ? and " + target.legacyColumn + " is not null" +
+                " order by " + target.idColumn + " limit ?";
+        String update = "update " + target.table + " set " + target.keyColumn + " = ? where " + target.idColumn + " = ?";
+
+        long lastId = 0;
+        long converted = 0;
+        List<Long> skipped = new ArrayList<>();
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(select,
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2)}, lastId, BATCH_SIZE);
+            if (rows.isEmpty()) break;
+
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                String key = imageUrls.toKey(((String) row[1]).trim());
+                if (key.length() > MAX_KEY_LENGTH) {
+                    // 잘린 url 은 쓸 수 없으므로 비워 둔다. 끝난 뒤 id 를 모아 다시 알린다.
+                    log.warn("image key backfill: {} {} too long ({} chars)", target.table, row[0], key.length());
+                    skipped.add((Long) row[0]);
+                    continue;
+                }
+                updates.add(new Object[]{key, row[0]});
+            }
+            if (!updates.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(update, updates));
+                converted += updates.size();
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+            if (rows.size() < BATCH_SIZE) break;
+        }
+        if (converted > 0 || !skipped.isEmpty()) {
+            log.info("image key backfill done: {} ({} converted, {} skipped)", target.table, converted, skipped.size());
+        }
+        if (!skipped.isEmpty()) {
+            log.warn("image key backfill: {} {} left without {} (url longer than {} chars): {}",
+                    skipped.size(), target.table, target.keyColumn, MAX_KEY_LENGTH, skipped);
+        }
+    }
+
+    private static class Target {
+        private final String table;
+        private final String idColumn;
+        private final String legacyColumn;
+        private final String keyColumn;
+
+        private Target(String table, String idColumn, String legacyColumn, String keyColumn) {
+            this.table = table;
+            this.idColumn = idColumn;
+            this.legacyColumn = legacyColumn;
+            this.keyColumn = keyColumn;
+        }
+    }
+}
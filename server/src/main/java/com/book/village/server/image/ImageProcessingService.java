@@ -0,0 +1,119 @@
+package com.book.village.server.image;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.book.village.server.global.cache.ResponseCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 업로드가 끝난 원본으로 card/detail/avatar 변형을 만들어 원본 옆에 저장하고, 원본 key 를 쓰던 엔티티를 변형 key 로 바꾼다.
+@Slf4j
+@Service
+public class ImageProcessingService {
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    private final AmazonS3 amazonS3;
+    private final ImageVariantRepository imageVariantRepository;
+    private final ImageUrls imageUrls;
+    private final ResponseCache responseCache;
+    private final ThreadPoolTaskExecutor executor;
+    private final float jpegQuality;
+    private final long maxPixels;
+
+    public ImageProcessingService(AmazonS3 amazonS3, ImageVariantRepository imageVariantRepository, ImageUrls imageUrls,
+                                  ResponseCache responseCache,
+                                  @Qualifier("imageProcessingExecutor") ThreadPoolTaskExecutor executor,
+                                  @Value("${image.processing.jpeg-quality:0.82}") float jpegQuality,
+                                  @Value("${image.processing.max-pixels:40000000}") long maxPixels) {
+        this.amazonS3 = amazonS3;
+        this.imageVariantRepository = imageVariantRepository;
+        this.imageUrls = imageUrls;
+        this.responseCache = responseCache;
+        this.executor = executor;
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+    }
+
+    // 큐가 차면 호출한 (업로드) 스레드가 직접 처리한다. 업로드가 처리 속도보다 빠르면 업로드 응답이 느려진다.
+    public void submit(String key) {
+        executor.execute(() -> {
+            try {
+                process(key);
+            } catch (Exception e) {
+                log.warn("image processing failed: {} ({})", key, e.toString());
+            }
+        });
+    }
+
+    public void process(String key) throws IOException {
+        if (imageVariantRepository.existsByOriginalKey(key)) return;
+
+        BufferedImage image;
+        S3Object object = amazonS3.getObject(bucket, key);
+        try (InputStream inputStream = object.getObjectContent()) {
+            image = ImageResizer.read(inputStream, maxPixels);
+        }
+        if (image == null) {
+            log.info("image processing skipped, unsupported format: {}", key);
+            return;
+        }
+
+        Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+        for (Map.Entry<ImageVariant, BufferedImage> resized : ImageResizer.resizeAll(image).entrySet()) {
+            ImageVariant variant = resized.getKey();
+            byte[] jpeg = ImageResizer.writeJpeg(resized.getValue(), jpegQuality);
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentType("image/jpeg");
+            metadata.setContentLength(jpeg.length);
+            // key 가 원본마다 고유하므로 내용이 바뀌지 않는다.
+            metadata.setCacheControl("public, max-age=31536000, immutable");
+            String variantKey = variant.keyOf(key);
+            amazonS3.putObject(new PutObjectRequest(bucket, variantKey, new ByteArrayInputStream(jpeg), metadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
+            urls.put(variant, amazonS3.getUrl(bucket, variantKey).toString());
+        }
+
+        String originalUrl = amazonS3.getUrl(bucket, key).toString();
+        if (imageVariantRepository.save(key, originalUrl, image.getWidth(), image.getHeight(), urls)) {
+            int updated = imageVariantRepository.rewriteReferences(key);
+            log.debug("image variants stored: {} ({} references rewritten)", key, updated);
+            // JDBC update 라 ResponseCacheInvalidator 를 거치지 않는다. 글 목록의 썸네일, 회원 이미지, 도서 표지가 바뀐다.
+            if (updated > 0) {
+                responseCache.evict(ResponseCache.BORROWS);
+                responseCache.evict(ResponseCache.REQUESTS);
+                responseCache.evict(ResponseCache.COMMUNITIES);
+                responseCache.evict(ResponseCache.BOOKS);
+            }
+        }
+    }
+
+    // 엔티티에 저장할 값. 이 버킷의 url 은 key 로 줄이고, 변형이 이미 있는 원본이면 변형 key 를 쓴다.
+    public String toReference(String url, ImageVariant variant) {
+        String key = imageUrls.toKey(url);
+        if (isOriginal(key) && imageVariantRepository.existsByOriginalKey(key)) return variant.keyOf(key);
+        return key;
+    }
+
+    // 이 버킷에 올라온 원본 key 인지. 변형 key 나 외부 url (도서 api 표지 등) 은 false.
+    public boolean isOriginal(String reference) {
+        if (!ImageUrls.isKey(reference)) return false;
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (reference.endsWith(variant.getSuffix())) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,112 @@
+package com.book.village.server.image;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+// javax.imageio 와 java2d 만 사용한다 (네이티브 코덱 없음).
+public class ImageResizer {
+    private ImageResizer() {
+    }
+
+    // 픽셀 수를 먼저 확인해서 작은 파일로 큰 이미지를 만드는 decompression bomb 을 디코딩 전에 거른다.
+    // 읽을 수 있는 reader 가 없으면 null (webp, svg 등).
+    public static BufferedImage read(InputStream inputStream, long maxPixels) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            if (imageInputStream == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) throw new IOException("image has too many pixels: " + pixels);
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 가장 큰 DETAIL 을 먼저 만들고 나머지는 DETAIL 에서 줄인다. 원본 해상도에서 여러 번 줄이지 않는다.
+    public static Map<ImageVariant, BufferedImage> resizeAll(BufferedImage source) {
+        Map<ImageVariant, BufferedImage> variants = new EnumMap<>(ImageVariant.class);
+        BufferedImage detail = resize(source, ImageVariant.DETAIL);
+        for (ImageVariant variant : ImageVariant.values()) {
+            variants.put(variant, variant == ImageVariant.DETAIL ? detail : resize(detail, variant));
+        }
+        return variants;
+    }
+
+    public static BufferedImage resize(BufferedImage source, ImageVariant variant) {
+        int sourceWidth = source.getWidth();
+        int sourceHeight = source.getHeight();
+        int x = 0, y = 0, cropWidth = sourceWidth, cropHeight = sourceHeight;
+        double scale;
+        if (variant.isCrop()) {
+            // 가운데를 목표 비율로 잘라낸다.
+            double ratio = (double) variant.getWidth() / variant.getHeight();
+            if ((double) sourceWidth / sourceHeight > ratio) {
+                cropWidth = (int) Math.round(sourceHeight * ratio);
+                x = (sourceWidth - cropWidth) / 2;
+            } else {
+                cropHeight = (int) Math.round(sourceWidth / ratio);
+                y = (sourceHeight - cropHeight) / 2;
+            }
+            scale = Math.min(1.0, (double) variant.getWidth() / cropWidth);
+        } else {
+            scale = Math.min(1.0, Math.min((double) variant.getWidth() / sourceWidth, (double) variant.getHeight() / sourceHeight));
+        }
+        int targetWidth = Math.max(1, (int) Math.round(cropWidth * scale));
+        int targetHeight = Math.max(1, (int) Math.round(cropHeight * scale));
+
+        BufferedImage current = source.getSubimage(x, y, cropWidth, cropHeight);
+        // 한 번에 크게 줄이면 bilinear 가 픽셀을 건너뛰어 계단 현상이 생기므로 절반씩 줄인다.
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return draw(current, targetWidth, targetHeight);
+    }
+
+    public static byte[] writeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    // jpeg 은 alpha 가 없으므로 투명한 부분은 흰 배경으로 채운다.
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,31 @@
+package com.book.village.server.image;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+
+// @JsonSerialize(using = ImageUrlSerializer.class) 로 dto 의 이미지 필드에 붙인다.
+// Spring 의 ObjectMapper 가 만들 때는 ImageUrls 를 주입받고, 그 밖 (또는 ImageUrls 가 없는 테스트 슬라이스) 에서는 값을 그대로 쓴다.
+public class ImageUrlSerializer extends StdSerializer<String> {
+    private final ImageUrls imageUrls;
+
+    public ImageUrlSerializer() {
+        super(String.class);
+        this.imageUrls = null;
+    }
+
+    @Autowired
+    public ImageUrlSerializer(ObjectProvider<ImageUrls> imageUrls) {
+        super(String.class);
+        this.imageUrls = imageUrls.getIfAvailable();
+    }
+
+    @Override
+    public void serialize(String value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeString(imageUrls == null ? value : imageUrls.toUrl(value));
+    }
+}
@@ -0,0 +1,42 @@
+package com.book.village.server.image;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.util.SdkHttpUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+// DB 에는 이 버킷 객체의 key 만 저장하고 (외부 이미지는 url 그대로), 응답을 만들 때 CDN 주소를 붙인다.
+// CDN 을 바꾸거나 버킷 앞에 CDN 을 두어도 저장된 값은 바꾸지 않아도 된다.
+@Component
+public class ImageUrls {
+    private final String storagePrefix;
+    private final String cdnPrefix;
+
+    public ImageUrls(AmazonS3 amazonS3, @Value("${cloud.aws.s3.bucket}") String bucket,
+                     @Value("${image.cdn-base-url:}") String cdnBaseUrl) {
+        String sample = amazonS3.getUrl(bucket, "_").toString();
+        this.storagePrefix = sample.substring(0, sample.length() - 1);
+        this.cdnPrefix = StringUtils.hasText(cdnBaseUrl)
+                ? (cdnBaseUrl.endsWith("/") ? cdnBaseUrl : cdnBaseUrl + "/")
+                : storagePrefix;
+    }
+
+    // 저장된 값 -> 응답 url. 외부 url 은 그대로 돌려준다.
+    public String toUrl(String reference) {
+        if (!isKey(reference)) return reference;
+        return cdnPrefix + SdkHttpUtils.urlEncode(reference, true);
+    }
+
+    // 요청 url -> 저장할 값. 이 버킷 (직접 또는 CDN) 의 url 이면 key 만 남긴다.
+    public String toKey(String url) {
+        if (url == null) return null;
+        if (url.startsWith(cdnPrefix)) return SdkHttpUtils.urlDecode(url.substring(cdnPrefix.length()));
+        if (url.startsWith(storagePrefix)) return SdkHttpUtils.urlDecode(url.substring(storagePrefix.length()));
+        return url;
+    }
+
+    public static boolean isKey(String reference) {
+        return StringUtils.hasText(reference) && !reference.contains("://");
+    }
+}
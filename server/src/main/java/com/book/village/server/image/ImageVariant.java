@@ -0,0 +1,46 @@
+package com.book.village.server.image;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 원본 옆에 <원본 key><suffix> 로 저장되는 변형 이미지. crop 이 아니면 비율을 유지한 채 width x height 안에 맞춘다.
+@Getter
+public enum ImageVariant {
+    CARD(320, 480, false, "_card.jpg"),     // 목록 카드
+    DETAIL(960, 960, false, "_detail.jpg"), // 상세 화면
+    AVATAR(160, 160, true, "_avatar.jpg");  // 회원 프로필
+
+    private final int width;
+    private final int height;
+    private final boolean crop;
+    private final String suffix;
+
+    ImageVariant(int width, int height, boolean crop, String suffix) {
+        this.width = width;
+        this.height = height;
+        this.crop = crop;
+        this.suffix = suffix;
+    }
+
+    public String keyOf(String originalKey) {
+        return originalKey + suffix;
+    }
+
+    // 변형 key 면 원본 key, 아니면 그대로
+    public static String originalKeyOf(String key) {
+        for (ImageVariant variant : values()) {
+            if (key.endsWith(variant.suffix)) return key.substring(0, key.length() - variant.suffix.length());
+        }
+        return key;
+    }
+
+    // 원본과 모든 변형의 key
+    public static List<String> allKeysOf(String originalKey) {
+        List<String> keys = new ArrayList<>(values().length + 1);
+        keys.add(originalKey);
+        for (ImageVariant variant : values()) keys.add(variant.keyOf(originalKey));
+        return keys;
+    }
+}
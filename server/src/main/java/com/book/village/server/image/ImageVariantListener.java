@@ -0,0 +1,41 @@
+package com.book.village.server.image;
+
+import com.book.village.server.domain.book.entity.Book;
+import com.book.village.server.domain.borrow.entity.Borrow;
+import com.book.village.server.domain.member.entity.Member;
+import com.book.village.server.domain.request.entity.Request;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+
+// 이 버킷의 이미지 url 은 key 만 남겨 저장한다 (응답의 url 은 ImageUrlSerializer 가 만든다).
+// 변형 이미지가 이미 만들어진 원본이면 card (회원은 avatar) key 로 바꿔 저장한다.
+// 저장 뒤에 변형이 끝나는 경우는 ImageProcessingService 가 ImageVariantRepository.rewriteReferences 로 바꾼다.
+public class ImageVariantListener {
+    private final ObjectProvider<ImageProcessingService> imageProcessingService;
+
+    public ImageVariantListener(ObjectProvider<ImageProcessingService> imageProcessingService) {
+        this.imageProcessingService = imageProcessingService;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void useVariant(Object entity) {
+        ImageProcessingService service = imageProcessingService.getIfAvailable();
+        if (service == null) return;
+        if (entity instanceof Borrow) {
+            Borrow borrow = (Borrow) entity;
+            borrow.setThumbnail(service.toReference(borrow.getThumbnail(), ImageVariant.CARD));
+        } else if (entity instanceof Request) {
+            Request request = (Request) entity;
+            request.setThumbnail(service.toReference(request.getThumbnail(), ImageVariant.CARD));
+        } else if (entity instanceof Book) {
+            Book book = (Book) entity;
+            book.setThumbnail(service.toReference(book.getThumbnail(), ImageVariant.CARD));
+        } else if (entity instanceof Member) {
+            Member member = (Member) entity;
+            member.setImgUrl(service.toReference(member.getImgUrl(), ImageVariant.AVATAR));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.book.village.server.image;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// 엔티티 flush 중 (ImageVariantListener) 에도 조회하므로 JPA 가 아닌 JdbcTemplate 을 쓴다.
+@Repository
+public class ImageVariantRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public ImageVariantRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean existsByOriginalKey(String originalKey) {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from image_variant where original_key = ?", Integer.class, originalKey);
+        return count != null && count > 0;
+    }
+
+    // 같은 원본이 두 번 처리되면 먼저 저장된 것을 유지한다.
+    public boolean save(String originalKey, String originalUrl, int width, int height, Map<ImageVariant, String> urls) {
+        try {
+            jdbcTemplate.update("insert into image_variant (created_at, original_key, original_url, width, height, card_url, detail_url, avatar_url) " +
+                            "values (?, ?, ?, ?, ?, ?, ?, ?)",
+                    Timestamp.valueOf(LocalDateTime.now()), originalKey, originalUrl, width, height,
+                    urls.get(ImageVariant.CARD), urls.get(ImageVariant.DETAIL), urls.get(ImageVariant.AVATAR));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public void deleteByOriginalKey(String originalKey) {
+        jdbcTemplate.update("delete from image_variant where original_key = ?", originalKey);
+    }
+
+    // 변형이 만들어지기 전에 저장된 글/회원의 이미지 key 를 바꾼다. (thumbnail_key, img_key 인덱스를 탄다)
+    public int rewriteReferences(String originalKey) {
+        String card = ImageVariant.CARD.keyOf(originalKey);
+        String avatar = ImageVariant.AVATAR.keyOf(originalKey);
+        int updated = 0;
+        updated += jdbcTemplate.update("update borrow set thumbnail_key = ? where thumbnail_key = ?", card, originalKey);
+        updated += jdbcTemplate.update("update request set thumbnail_key = ? where thumbnail_key = ?", card, originalKey);
+        updated += jdbcTemplate.update("update book set thumbnail_key = ? where thumbnail_key = ?", card, originalKey);
+        updated += jdbcTemplate.update("update member set img_key = ? where img_key = ?", avatar, originalKey);
+        return updated;
+    }
+
+    // 원본이나 변형 key 를 아직 쓰고 있는 글/회원이 있는지
+    public boolean isReferenced(String originalKey) {
+        List<String> keys = ImageVariant.allKeysOf(originalKey);
+        String in = String.join(", ", Collections.nCopies(keys.size(), "?"));
+        Object[] args = keys.toArray();
+        for (String sql : new String[]{
+                "select count(*) from borrow where thumbnail_key in (" + in + ")",
+                "select count(*) from request where thumbnail_key in (" + in + ")",
+                "select count(*) from book where thumbnail_key in (" + in + ")",
+                "select count(*) from member where img_key in (" + in + ")"}) {
+            Integer count = jdbcTemplate.queryForObject(sql, Integer.class, args);
+            if (count != null && count > 0) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,106 @@
+package com.book.village.server.image;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.book.village.server.global.exception.CustomLogicException;
+import com.book.village.server.global.exception.ExceptionCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+// 클라이언트가 presigned url 로 S3 에 직접 PUT 하고, complete 로 업로드된 객체를 확인받는다. 이미지 바이트가 서버를 거치지 않는다.
+@Service
+public class PresignedUploadService {
+    private static final String PRESIGN_KEY_PREFIX = "presign:";
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    private final AmazonS3 amazonS3;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ImageProcessingService imageProcessingService;
+    private final ImageUrls imageUrls;
+    private final Duration expiration;
+    private final long maxSize;
+
+    public PresignedUploadService(AmazonS3 amazonS3, RedisTemplate<String, Object> redisTemplate,
+                                  ImageProcessingService imageProcessingService, ImageUrls imageUrls,
+                                  @Value("${image.presign.expiration:10m}") Duration expiration,
+                                  @Value("${image.presign.max-size:10MB}") DataSize maxSize) {
+        this.amazonS3 = amazonS3;
+        this.redisTemplate = redisTemplate;
+        this.imageProcessingService = imageProcessingService;
+        this.imageUrls = imageUrls;
+        this.expiration = expiration;
+        this.maxSize = maxSize.toBytes();
+    }
+
+    public ImageDto.PresignResponse presign(ImageDto.Presign presign, String email) {
+        if (presign.getContentLength() > maxSize) throw new CustomLogicException(ExceptionCode.IMAGE_TOO_LARGE);
+
+        String key = UUID.randomUUID() + "-" + cleanFileName(presign.getFileName());
+        Date expiresAt = new Date(System.currentTimeMillis() + expiration.toMillis());
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(expiresAt)
+                .withContentType(presign.getContentType());
+        // acl 을 서명에 넣어두면 클라이언트가 헤더를 따로 보내지 않아도 public-read 로 올라간다.
+        request.addRequestParameter(Headers.S3_CANNED_ACL, CannedAccessControlList.PublicRead.toString());
+        String uploadUrl = amazonS3.generatePresignedUrl(request).toString();
+
+        // 발급한 key 만 complete 할 수 있다. url 만료 뒤 업로드가 끝나는 경우를 위해 만료 시간만큼 더 둔다.
+        redisTemplate.opsForValue().set(PRESIGN_KEY_PREFIX + key, email, expiration.multipliedBy(2));
+
+        return new ImageDto.PresignResponse(key, uploadUrl, HttpMethod.PUT.name(),
+                Map.of("Content-Type", presign.getContentType()),
+                LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()));
+    }
+
+    public ImageDto.CompleteResponse complete(ImageDto.Complete complete, String email) {
+        String key = complete.getKey();
+        Object issuedTo = redisTemplate.opsForValue().get(PRESIGN_KEY_PREFIX + key);
+        if (issuedTo == null || !issuedTo.equals(email)) throw new CustomLogicException(ExceptionCode.IMAGE_NOT_FOUND);
+        if (!amazonS3.doesObjectExist(bucket, key)) throw new CustomLogicException(ExceptionCode.IMAGE_NOT_FOUND);
+
+        // presigned url 은 크기를 강제하지 못하므로 올라온 객체를 확인하고 조건에 맞지 않으면 지운다.
+        ObjectMetadata metadata = amazonS3.getObjectMetadata(bucket, key);
+        if (metadata.getContentLength() > maxSize) {
+            reject(key);
+            throw new CustomLogicException(ExceptionCode.IMAGE_TOO_LARGE);
+        }
+        if (metadata.getContentType() == null || !metadata.getContentType().startsWith("image/")) {
+            reject(key);
+            throw new CustomLogicException(ExceptionCode.IMAGE_TYPE_UNSUPPORTED);
+        }
+        redisTemplate.delete(PRESIGN_KEY_PREFIX + key);
+        imageProcessingService.submit(key);
+
+        return new ImageDto.CompleteResponse(key, imageUrls.toUrl(key),
+                metadata.getContentType(), metadata.getContentLength());
+    }
+
+    private void reject(String key) {
+        amazonS3.deleteObject(bucket, key);
+        redisTemplate.delete(PRESIGN_KEY_PREFIX + key);
+    }
+
+    // 경로 구분자, 공백, url 예약 문자를 key 에 넣지 않는다.
+    private static String cleanFileName(String fileName) {
+        String name = StringUtils.getFilename(StringUtils.cleanPath(fileName));
+        if (!StringUtils.hasText(name)) name = "image";
+        name = name.replaceAll("[\\s\\\\/?#%&+=:;\"'<>|*]", "_");
+        return name.length() > 100 ? name.substring(name.length() - 100) : name;
+    }
+}
@@ -0,0 +1,13 @@
+-- 목록 카드에 보여줄 댓글 수. 댓글 서비스가 +1/-1 하고, CommentCountReconciler 가 주기적으로 실제 댓글 수와 맞춘다.
+alter table borrow add column comment_count bigint not null default 0;
+alter table request add column comment_count bigint not null default 0;
+alter table community add column comment_count bigint not null default 0;
+
+update borrow b set comment_count = (select count(*) from borrow_comment c where c.borrow_id = b.borrow_id);
+update request r set comment_count = (select count(*) from request_comment c where c.request_id = r.request_id);
+update community m set comment_count = (select count(*) from community_comment c where c.community_id = m.community_id);
+
+-- sort=commentCount,desc (댓글 많은 순)
+create index IDX_borrow_comment_count on borrow (comment_count, borrow_id);
+create index IDX_request_comment_count on request (comment_count, request_id);
+create index IDX_community_comment_count on community (comment_count, community_id);
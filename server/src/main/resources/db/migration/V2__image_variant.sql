@@ -0,0 +1,18 @@
+-- 업로드 원본별로 ImageProcessingService 가 만든 변형 이미지 (card, detail, avatar)
+create table if not exists image_variant
+(
+    image_variant_id bigint auto_increment
+        primary key,
+    created_at       datetime     null,
+    original_key     varchar(255) not null,
+    original_url     varchar(512) not null,
+    width            int          null,
+    height           int          null,
+    card_url         varchar(512) null,
+    detail_url       varchar(512) null,
+    avatar_url       varchar(512) null,
+    constraint UK_image_variant_original_key
+        unique (original_key)
+);
+
+create index IDX_image_variant_original_url on image_variant (original_url);
@@ -0,0 +1,12 @@
+-- 업로드 내용의 sha-256 으로 같은 이미지를 한 객체로 모은다. ref_count 가 0 이 되면 객체를 지운다.
+create table if not exists image_blob
+(
+    sha256         char(64)     not null
+        primary key,
+    object_key     varchar(255) not null,
+    content_length bigint       null,
+    ref_count      int          not null,
+    created_at     datetime     null,
+    constraint UK_image_blob_object_key
+        unique (object_key)
+);
@@ -0,0 +1,13 @@
+-- 이미지 참조를 longtext (행 밖 overflow page) 대신 인덱스가 가능한 varchar 에 둔다.
+-- 이 버킷 이미지는 object key, 외부 이미지는 url 을 그대로 저장하고 응답 url 은 image.cdn-base-url 로 만든다.
+-- 컬럼 추가/인덱스 생성은 online DDL 로 돌고, 기존 값은 V11 (java migration ImageKeyBackfill) 이 옮긴다.
+-- 옛 thumbnail / img_url 컬럼은 옮기기가 끝난 뒤 다음 migration 에서 지운다.
+alter table book add column thumbnail_key varchar(512) null;
+alter table borrow add column thumbnail_key varchar(512) null;
+alter table request add column thumbnail_key varchar(512) null;
+alter table member add column img_key varchar(512) null;
+
+create index IDX_book_thumbnail_key on book (thumbnail_key);
+create index IDX_borrow_thumbnail_key on borrow (thumbnail_key);
+create index IDX_request_thumbnail_key on request (thumbnail_key);
+create index IDX_member_img_key on member (img_key);
@@ -0,0 +1,15 @@
+-- 글/회원 삭제나 이미지 변경으로 더 이상 쓰지 않는 이미지 key. 엔티티 변경과 같은 트랜잭션에 쓰고 ImageCleanupRelay 가 S3 에서 지운다.
+-- released 는 image_blob 참조를 이미 줄였다는 표시 (재시도 때 두 번 줄이지 않는다).
+create table if not exists image_cleanup_outbox
+(
+    image_cleanup_outbox_id bigint auto_increment
+        primary key,
+    object_key              varchar(512) not null,
+    released                bit          not null,
+    attempts                int          not null,
+    next_attempt_at         datetime     not null,
+    last_error              varchar(255) null,
+    created_at              datetime     null
+);
+
+create index IDX_image_cleanup_outbox_next_attempt_at on image_cleanup_outbox (next_attempt_at);
@@ -0,0 +1,6 @@
+-- GET /v1/feed 의 source 별 keyset 조회 (created_at desc, id desc) 와 필터용 인덱스
+create index IDX_borrow_created_at on borrow (created_at, borrow_id);
+create index IDX_borrow_whthr_created_at on borrow (borrow_whthr, created_at, borrow_id);
+create index IDX_request_created_at on request (created_at, request_id);
+create index IDX_community_created_at on community (created_at, community_id);
+create index IDX_community_type_created_at on community (type, created_at, community_id);
@@ -0,0 +1,20 @@
+-- 회원 주소로 찾은 대략적인 위치 (RegionGeocoder)
+alter table member add column latitude double null;
+alter table member add column longitude double null;
+alter table member add column geohash varchar(12) null;
+
+-- GET /v1/borrows/nearby 용 나눔 가능한 글 위치. geohash prefix range scan 으로 반경 안의 cell 만 읽는다.
+-- 기존 회원/나눔글은 LocationBackfill 이 채운다.
+create table if not exists borrow_location
+(
+    borrow_id bigint      not null
+        primary key,
+    geohash   varchar(12) not null,
+    latitude  double      not null,
+    longitude double      not null,
+    constraint FK_borrow_location_borrow
+        foreign key (borrow_id) references borrow (borrow_id)
+            on delete cascade
+);
+
+create index IDX_borrow_location_geohash on borrow_location (geohash, latitude, longitude);
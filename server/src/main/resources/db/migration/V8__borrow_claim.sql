@@ -0,0 +1,22 @@
+-- 나눔 신청 대기열. 신청 순서는 borrow_claim_id (auto increment) 순이다.
+-- 같은 회원은 한 나눔글에 한 번만 신청할 수 있다 (unique).
+create table if not exists borrow_claim
+(
+    borrow_claim_id bigint auto_increment
+        primary key,
+    created_at      datetime    null,
+    modified_at     datetime    null,
+    claim_status    varchar(20) not null,
+    borrow_id       bigint      not null,
+    member_id       bigint      not null,
+    constraint UK_borrow_claim_borrow_member
+        unique (borrow_id, member_id),
+    constraint FK_borrow_claim_borrow
+        foreign key (borrow_id) references borrow (borrow_id)
+            on delete cascade,
+    constraint FK_borrow_claim_member
+        foreign key (member_id) references member (member_id)
+);
+
+-- 대기열 / 맨 앞 / 순번 조회
+create index IDX_borrow_claim_queue on borrow_claim (borrow_id, claim_status, borrow_claim_id);
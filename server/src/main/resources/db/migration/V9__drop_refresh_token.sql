@@ -0,0 +1,2 @@
+-- refresh token 은 Redis (rt:<memberId>) 로 옮겼다. RefreshTokenService 참고
+drop table if exists refresh_token;
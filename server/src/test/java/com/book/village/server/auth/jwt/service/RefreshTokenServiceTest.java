@@ -0,0 +1,154 @@
+package com.book.village.server.auth.jwt.service;
+
+import com.book.village.server.auth.jwt.JwtTokenizer;
+import com.book.village.server.auth.jwt.dto.RefreshTokenDto;
+import com.book.village.server.auth.utils.CustomAuthorityUtils;
+import com.book.village.server.domain.member.entity.Member;
+import com.book.village.server.global.exception.CustomLogicException;
+import com.book.village.server.global.exception.ExceptionCode;
+import com.github.fppt.jedismock.RedisServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// ROTATE_SCRIPT 를 Redis 프로토콜을 구현한 내장 서버 (jedis-mock) 에서 실행한다.
+public class RefreshTokenServiceTest {
+    private static final int REFRESH_MINUTES = 720;
+    private static final long MEMBER_ID = 7L;
+    private static final String KEY = "rt:" + MEMBER_ID;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = RedisServer.newRedisServer();
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getBindPort()));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(redisTemplate.keys("rt:*"));
+
+        JwtTokenizer jwtTokenizer = new JwtTokenizer();
+        ReflectionTestUtils.setField(jwtTokenizer, "secretKey", "abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnop");
+        ReflectionTestUtils.setField(jwtTokenizer, "accessTokenExpirationMinutes", 30);
+        ReflectionTestUtils.setField(jwtTokenizer, "refreshTokenExpirationMinutes", REFRESH_MINUTES);
+        CustomAuthorityUtils authorityUtils = new CustomAuthorityUtils();
+        ReflectionTestUtils.setField(authorityUtils, "adminMailAddress", "admin@gmail.com");
+        TokenGenerationService tokenGenerationService = mock(TokenGenerationService.class);
+        given(tokenGenerationService.currentGen(anyLong())).willReturn(0L);
+
+        refreshTokenService = new RefreshTokenService(redisTemplate, authorityUtils, jwtTokenizer, tokenGenerationService);
+    }
+
+    private String login() {
+        Member member = new Member();
+        member.setMemberId(MEMBER_ID);
+        member.setEmail("reader@gmail.com");
+        return refreshTokenService.issueToken(member);
+    }
+
+    private static ExceptionCode codeOf(Runnable call) {
+        try {
+            call.run();
+        } catch (CustomLogicException e) {
+            return e.getExceptionCode();
+        }
+        throw new AssertionError("no exception");
+    }
+
+    @Test
+    @DisplayName("저장된 토큰이면 새 토큰으로 바꾸고 TTL 을 다시 refresh token 만료 시간으로 둔다")
+    void rotate() {
+        String refreshToken = login();
+        redisTemplate.expire(KEY, 60, TimeUnit.SECONDS);
+
+        RefreshTokenDto tokens = refreshTokenService.rotateToken(refreshToken);
+
+        assertThat(tokens.getAccessToken()).isNotBlank();
+        assertThat(tokens.getRefreshToken()).isNotEqualTo(refreshToken);
+        assertThat(redisTemplate.getExpire(KEY, TimeUnit.SECONDS))
+                .isBetween(REFRESH_MINUTES * 60L - 5, REFRESH_MINUTES * 60L);
+        assertThat(refreshTokenService.rotateToken(tokens.getRefreshToken()).getRefreshToken()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("저장된 토큰이 없으면 (만료/로그아웃) REFRESH_TOKEN_NOT_FOUND")
+    void missingToken() {
+        String refreshToken = login();
+        refreshTokenService.deleteToken(MEMBER_ID);
+
+        assertThat(codeOf(() -> refreshTokenService.rotateToken(refreshToken)))
+                .isEqualTo(ExceptionCode.REFRESH_TOKEN_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("방금 교체된 토큰은 grace 동안 폐기하지 않고 REFRESH_TOKEN_ROTATED 로 거절한다")
+    void justRotatedTokenWithinGrace() {
+        String refreshToken = login();
+        String rotated = refreshTokenService.rotateToken(refreshToken).getRefreshToken();
+
+        assertThat(codeOf(() -> refreshTokenService.rotateToken(refreshToken)))
+                .isEqualTo(ExceptionCode.REFRESH_TOKEN_ROTATED);
+        assertThat(redisTemplate.getExpire(KEY + ":prev", TimeUnit.SECONDS)).isBetween(1L, 10L);
+        assertThat(refreshTokenService.rotateToken(rotated).getRefreshToken()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("grace 가 지난 교체된 토큰이 다시 오면 REFRESH_TOKEN_REUSED 이고 저장된 토큰까지 폐기한다")
+    void reuseRevokesFamily() {
+        String refreshToken = login();
+        String rotated = refreshTokenService.rotateToken(refreshToken).getRefreshToken();
+        String latest = refreshTokenService.rotateToken(rotated).getRefreshToken();
+
+        assertThat(codeOf(() -> refreshTokenService.rotateToken(refreshToken)))
+                .isEqualTo(ExceptionCode.REFRESH_TOKEN_REUSED);
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+        assertThat(redisTemplate.hasKey(KEY + ":prev")).isFalse();
+        assertThat(codeOf(() -> refreshTokenService.rotateToken(latest)))
+                .isEqualTo(ExceptionCode.REFRESH_TOKEN_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("다시 로그인하면 이전 토큰은 재사용으로 본다")
+    void loginReplacesToken() {
+        String first = login();
+        login();
+
+        assertThat(codeOf(() -> refreshTokenService.rotateToken(first)))
+                .isEqualTo(ExceptionCode.REFRESH_TOKEN_REUSED);
+    }
+}
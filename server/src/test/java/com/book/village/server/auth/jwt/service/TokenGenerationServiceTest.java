@@ -0,0 +1,185 @@
+package com.book.village.server.auth.jwt.service;
+
+import com.github.fppt.jedismock.RedisServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 여러 서버 (nodeA, nodeB, ...) 가 Redis (jedis-mock) 하나를 같이 쓴다. published 는 channel 로 나간 메시지.
+public class TokenGenerationServiceTest {
+    private static final String CHANNEL = "token-generation";
+    private static final Duration CACHE_TTL = Duration.ofMillis(300);
+    private static final Long MEMBER_ID = 7L;
+    private static final String KEY = "gen:" + MEMBER_ID;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private final TokenGenerationService nodeA = new TokenGenerationService(redisTemplate, CHANNEL, 100, CACHE_TTL);
+    private final TokenGenerationService nodeB = new TokenGenerationService(redisTemplate, CHANNEL, 100, CACHE_TTL);
+    private final List<String> published = new CopyOnWriteArrayList<>();
+    private RedisMessageListenerContainer container;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        redisServer = RedisServer.newRedisServer();
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getBindPort()));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(KEY);
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) ->
+                published.add(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        container.destroy();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("timed out").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void deliver(TokenGenerationService node, String body) {
+        node.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    @Test
+    @DisplayName("구독 전에는 캐시를 쓰지 않고 매번 Redis 에서 읽는다")
+    void readsRedisUntilSubscribed() {
+        assertThat(nodeB.currentGen(MEMBER_ID)).isZero();
+        redisTemplate.opsForValue().set(KEY, "3");
+
+        assertThat(nodeB.currentGen(MEMBER_ID)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("구독한 뒤에는 cache-ttl 동안 캐시를 쓰고, 지나면 Redis 에서 다시 읽는다")
+    void cacheTtl() throws InterruptedException {
+        nodeB.markSubscribed();
+        assertThat(nodeB.currentGen(MEMBER_ID)).isZero();
+        redisTemplate.opsForValue().set(KEY, "3");
+
+        assertThat(nodeB.currentGen(MEMBER_ID)).isZero();
+        Thread.sleep(CACHE_TTL.toMillis() + 50);
+        assertThat(nodeB.currentGen(MEMBER_ID)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("markSubscribed 는 구독 전에 읽어 둔 값을 버린다")
+    void markSubscribedClearsCache() {
+        assertThat(nodeB.currentGen(MEMBER_ID)).isZero();
+        redisTemplate.opsForValue().set(KEY, "3");
+
+        nodeB.markSubscribed();
+
+        assertThat(nodeB.currentGen(MEMBER_ID)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("revokeAll 은 Redis 의 gen 을 올리고 memberId:gen 을 channel 로 보낸다")
+    void revokeAllIncrementsAndPublishes() throws InterruptedException {
+        long tokenGen = nodeA.currentGen(MEMBER_ID);
+
+        assertThat(nodeA.revokeAll(MEMBER_ID)).isEqualTo(1);
+        assertThat(nodeA.revokeAll(MEMBER_ID)).isEqualTo(2);
+
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("2");
+        waitUntil(() -> published.size() == 2);
+        assertThat(published).containsExactly(MEMBER_ID + ":1", MEMBER_ID + ":2");
+        assertThat(nodeA.isRevoked(MEMBER_ID, tokenGen)).isTrue();
+        assertThat(nodeA.isRevoked(MEMBER_ID, nodeA.currentGen(MEMBER_ID))).isFalse();
+    }
+
+    @Test
+    @DisplayName("revokeAll 한 서버는 캐시가 오래된 값이어도 그 전에 발급된 토큰을 바로 거절한다")
+    void revokingNodeRejectsEvenWithStaleCache() {
+        nodeA.markSubscribed();
+        assertThat(nodeA.currentGen(MEMBER_ID)).isZero();
+        // 다른 서버가 올린 gen 을 아직 받지 못한 상태
+        redisTemplate.opsForValue().set(KEY, "4");
+        long tokenGen = 4;
+
+        nodeA.revokeAll(MEMBER_ID);
+
+        assertThat(nodeA.isRevoked(MEMBER_ID, tokenGen)).isTrue();
+        assertThat(nodeA.currentGen(MEMBER_ID)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("다른 서버는 메시지를 받으면 바로, 놓치면 cache-ttl 뒤에 그 전에 발급된 토큰을 거절한다")
+    void otherNodeRejectsAfterMessageOrTtl() throws InterruptedException {
+        nodeB.markSubscribed();
+        TokenGenerationService nodeC = new TokenGenerationService(redisTemplate, CHANNEL, 100, CACHE_TTL);
+        nodeC.markSubscribed();
+        long tokenGen = nodeB.currentGen(MEMBER_ID);
+        assertThat(nodeC.currentGen(MEMBER_ID)).isEqualTo(tokenGen);
+
+        nodeA.revokeAll(MEMBER_ID);
+        waitUntil(() -> published.size() == 1);
+        deliver(nodeB, published.get(0));
+
+        assertThat(nodeB.isRevoked(MEMBER_ID, tokenGen)).isTrue();
+        assertThat(nodeC.isRevoked(MEMBER_ID, tokenGen)).isFalse();
+        // nodeC 는 메시지를 놓쳤다. cache-ttl 이 지나면 Redis 에서 다시 읽는다.
+        Thread.sleep(CACHE_TTL.toMillis() + 50);
+        assertThat(nodeC.isRevoked(MEMBER_ID, tokenGen)).isTrue();
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 작은 gen 이나 잘못된 메시지는 캐시를 되돌리지 않는다")
+    void lateOrBrokenMessageIsIgnored() {
+        nodeB.markSubscribed();
+        deliver(nodeB, MEMBER_ID + ":2");
+        deliver(nodeB, MEMBER_ID + ":1");
+        deliver(nodeB, "broken");
+
+        assertThat(nodeB.currentGen(MEMBER_ID)).isEqualTo(2);
+        assertThat(nodeB.isRevoked(MEMBER_ID, 1)).isTrue();
+    }
+}
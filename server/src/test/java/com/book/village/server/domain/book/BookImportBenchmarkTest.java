@@ -0,0 +1,118 @@
+package com.book.village.server.domain.book;
+
+import com.book.village.server.domain.book.dto.BookImportDto;
+import com.book.village.server.domain.book.repository.BookJdbcRepository;
+import com.book.village.server.domain.book.service.BookImportService;
+import com.book.village.server.domain.book.utils.IsbnUtils;
+import com.book.village.server.global.cache.ResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// ./gradlew benchmark -Dbenchmark.rows=500000 -Dbenchmark.jdbc-url=jdbc:mysql://...
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class BookImportBenchmarkTest {
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 200_000);
+
+    private HikariDataSource dataSource;
+    private BookImportService bookImportService;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(System.getProperty("benchmark.jdbc-url", "jdbc:h2:mem:book-import;DB_CLOSE_DELAY=-1"));
+        dataSource.setUsername(System.getProperty("benchmark.jdbc-username", "sa"));
+        dataSource.setPassword(System.getProperty("benchmark.jdbc-password", ""));
+        Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).load().migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        bookImportService = new BookImportService(new BookJdbcRepository(jdbcTemplate), mock(ResponseCache.class),
+                new DataSourceTransactionManager(dataSource), new ObjectMapper());
+    }
+
+    @AfterAll
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("CSV 도서 일괄 등록 처리량")
+    public void csvImportThroughput() throws Exception {
+        BookImportDto.Progress progress = bookImportService.importBooks(BookImportDto.Format.CSV, csv(ROWS));
+        print("csv", progress);
+        assertThat(progress.getUpsertedRows()).isEqualTo(ROWS);
+    }
+
+    @Test
+    @DisplayName("NDJSON 도서 일괄 등록 처리량 (기존 isbn 갱신 포함)")
+    public void ndjsonImportThroughput() throws Exception {
+        BookImportDto.Progress progress = bookImportService.importBooks(BookImportDto.Format.NDJSON, ndjson(ROWS));
+        print("ndjson", progress);
+        assertThat(progress.getUpsertedRows()).isEqualTo(ROWS);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from book", Long.class)).isEqualTo(ROWS);
+    }
+
+    private void print(String name, BookImportDto.Progress progress) {
+        System.out.printf("[benchmark] book import %s: %d rows in %d ms (%d rows/sec)%n",
+                name, progress.getTotalRows(), progress.getElapsedMillis(), progress.getRowsPerSecond());
+    }
+
+    private static InputStream csv(int rows) {
+        return generate("isbn,bookTitle,author,publisher,thumbnail\n", rows,
+                i -> isbn(i) + ",\"책 제목, " + i + "권\",저자" + (i % 1000) + ",출판사" + (i % 100) + ",\n");
+    }
+
+    private static InputStream ndjson(int rows) {
+        return generate("", rows, i -> "{\"isbn\":\"" + isbn(i) + "\",\"title\":\"책 제목 " + i + "\",\"author\":\"저자"
+                + (i % 1000) + "\",\"publisher\":\"출판사" + (i % 100) + "\"}\n");
+    }
+
+    private static String isbn(int i) {
+        String first12 = String.format("979110%06d", i);
+        return first12 + IsbnUtils.isbn13CheckDigit(first12);
+    }
+
+    // 본문 전체를 만들지 않고 1000 행씩 이어 붙인 스트림
+    private static InputStream generate(String header, int rows, java.util.function.IntFunction<String> line) {
+        Enumeration<InputStream> chunks = new Enumeration<>() {
+            private int next = -1;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < rows;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                StringBuilder sb = new StringBuilder();
+                if (next < 0) {
+                    sb.append(header);
+                    next = 0;
+                }
+                int end = Math.min(rows, next + 1000);
+                for (; next < end; next++) sb.append(line.apply(next));
+                return new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        };
+        return new SequenceInputStream(chunks);
+    }
+}
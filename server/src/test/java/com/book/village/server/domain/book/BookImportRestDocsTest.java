@@ -0,0 +1,146 @@
+package com.book.village.server.domain.book;
+
+import com.book.village.server.domain.book.controller.BookImportController;
+import com.book.village.server.domain.book.dto.BookImportDto;
+import com.book.village.server.domain.book.service.BookImportService;
+import com.book.village.server.global.utils.GenerateMockToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.FieldDescriptor;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.book.village.server.util.ApiDocumentUtils.getRequestPreProcessor;
+import static com.book.village.server.util.ApiDocumentUtils.getResponsePreProcessor;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BookImportController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+@AutoConfigureRestDocs
+public class BookImportRestDocsTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BookImportService bookImportService;
+
+    private static final String url = "/v1/admin/books";
+
+    private final BookImportDto.Progress progress = new BookImportDto.Progress(
+            "6f1c2a4e-3b1d-4c55-9d0e-2f7b8a1c9e10",
+            BookImportDto.Format.CSV,
+            BookImportDto.Status.COMPLETED,
+            3L,
+            2L,
+            1L,
+            0L,
+            12L,
+            250L,
+            LocalDateTime.now()
+    );
+
+    @Test
+    @DisplayName("도서 일괄 등록")
+    @WithMockUser(roles = "ADMIN")
+    public void importBooksTest() throws Exception {
+        String content = "isbn,bookTitle,author,publisher,thumbnail\n" +
+                "978-89-364-3459-5,아몬드,손원평,창비,\n" +
+                "8936434594,아몬드,손원평,창비,\n" +
+                "9788954682152,\"작별인사\",김영하,복복서가,https://image.bookvillage.kr/book.jpg\n";
+
+        given(bookImportService.resolveFormat(Mockito.anyString())).willReturn(BookImportDto.Format.CSV);
+        given(bookImportService.importBooks(Mockito.any(BookImportDto.Format.class), Mockito.any(InputStream.class)))
+                .willReturn(progress);
+
+        ResultActions actions =
+                mockMvc.perform(
+                        post(url + "/import")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .with(csrf())
+                                .contentType("text/csv")
+                                .content(content.getBytes(StandardCharsets.UTF_8))
+                                .headers(GenerateMockToken.getMockHeaderToken())
+                );
+        actions
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.upsertedRows").value(2))
+                .andDo(document("import-books",
+                        getRequestPreProcessor(),
+                        getResponsePreProcessor(),
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer Token (관리자)")
+                        ),
+                        requestParameters(
+                                parameterWithName("_csrf").description("csrf")
+                        ),
+                        responseFields(progressFields("data."))
+                ));
+    }
+
+    @Test
+    @DisplayName("도서 일괄 등록 진행 상황 조회")
+    @WithMockUser(roles = "ADMIN")
+    public void getImportsTest() throws Exception {
+        given(bookImportService.findImports()).willReturn(List.of(progress));
+
+        ResultActions actions =
+                mockMvc.perform(
+                        get(url + "/imports")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .headers(GenerateMockToken.getMockHeaderToken())
+                );
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].jobId").value(progress.getJobId()))
+                .andDo(document("get-book-imports",
+                        getRequestPreProcessor(),
+                        getResponsePreProcessor(),
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer Token (관리자)")
+                        ),
+                        responseFields(progressFields("data[]."))
+                ));
+    }
+
+    private List<FieldDescriptor> progressFields(String prefix) {
+        return List.of(
+                fieldWithPath(prefix + "jobId").type(JsonFieldType.STRING).description("작업 식별자"),
+                fieldWithPath(prefix + "format").type(JsonFieldType.STRING).description("형식 (CSV, NDJSON)"),
+                fieldWithPath(prefix + "status").type(JsonFieldType.STRING).description("상태 (RUNNING, COMPLETED, FAILED)"),
+                fieldWithPath(prefix + "totalRows").type(JsonFieldType.NUMBER).description("읽은 행 수"),
+                fieldWithPath(prefix + "upsertedRows").type(JsonFieldType.NUMBER).description("등록/갱신된 행 수"),
+                fieldWithPath(prefix + "duplicateRows").type(JsonFieldType.NUMBER).description("중복 isbn 으로 건너뛴 행 수"),
+                fieldWithPath(prefix + "invalidRows").type(JsonFieldType.NUMBER).description("isbn/제목이 유효하지 않은 행 수"),
+                fieldWithPath(prefix + "elapsedMillis").type(JsonFieldType.NUMBER).description("경과 시간 (ms)"),
+                fieldWithPath(prefix + "rowsPerSecond").type(JsonFieldType.NUMBER).description("초당 처리 행 수"),
+                fieldWithPath(prefix + "startedAt").type(JsonFieldType.STRING).description("시작 시각")
+        );
+    }
+}
@@ -195,8 +195,7 @@ public class BookRestDocsTest {
                 createdAt
         );
 
-        given(bookService.findBook(Mockito.anyLong())).willReturn(new Book());
-        given(mapper.bookToBookResponseDto(Mockito.any(Book.class))).willReturn(response);
+        given(bookService.findBookResponse(Mockito.anyLong())).willReturn(response);
 
         ResultActions actions =
                 mockMvc.perform(
@@ -238,6 +237,69 @@ public class BookRestDocsTest {
                 ));
     }
 
+    @Test
+    @DisplayName("여러 도서 조회")
+    @WithMockUser
+    public void getBooksByIdsTest() throws Exception {
+        LocalDateTime createdAt=LocalDateTime.now();
+
+        List<RateDto.Response> rateResponse = List.of(
+                new RateDto.Response(1L, 3L, "displayName1", "imgUrl1",  "content1", createdAt, createdAt)
+        );
+        BookDto.Response response1=new BookDto.Response(
+                2L, "isbn2", "bookTitle2", "author2", "publisher2", "thumbnail2",
+                3.0, rateResponse, createdAt, createdAt
+        );
+        BookDto.Response response2=new BookDto.Response(
+                1L, "isbn1", "bookTitle1", "author1", "publisher1", "thumbnail1",
+                0.0, new ArrayList<>(), createdAt, createdAt
+        );
+
+        given(bookService.findBooks(Mockito.anyList())).willReturn(List.of(new Book(), new Book()));
+        given(mapper.bookToBookResponseDto(Mockito.any(Book.class))).willReturn(response1, response2);
+
+        ResultActions actions =
+                mockMvc.perform(
+                        get(url)
+                                .param("ids", "2,1")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .with(csrf())
+                );
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].bookId").value(2L))
+                .andExpect(jsonPath("$.data[1].bookId").value(1L))
+                .andDo(document("get-books-by-ids",
+                        getResponsePreProcessor(),
+                        requestParameters(
+                                parameterWithName("ids").description("도서 식별자 목록 (쉼표로 구분, 최대 100개). 요청한 순서대로 응답하고 없는 도서는 빠진다."),
+                                parameterWithName("_csrf").description("csrf")
+                        ),
+                        responseFields(
+                                List.of(
+                                        fieldWithPath("data").type(JsonFieldType.ARRAY).description("결과 데이터"),
+                                        fieldWithPath("data.[].bookId").type(JsonFieldType.NUMBER).description("도서 식별자"),
+                                        fieldWithPath("data.[].isbn").type(JsonFieldType.STRING).description("isbn"),
+                                        fieldWithPath("data.[].bookTitle").type(JsonFieldType.STRING).description("도서 제목"),
+                                        fieldWithPath("data.[].author").type(JsonFieldType.STRING).description("저자"),
+                                        fieldWithPath("data.[].publisher").type(JsonFieldType.STRING).description("출판사"),
+                                        fieldWithPath("data.[].thumbnail").type(JsonFieldType.STRING).description("도서 이미지"),
+                                        fieldWithPath("data.[].avgRate").type(JsonFieldType.NUMBER).description("평점 평균"),
+                                        fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("도서 생성 일자"),
+                                        fieldWithPath("data.[].modifiedAt").type(JsonFieldType.STRING).description("도서 수정 일자"),
+                                        fieldWithPath("data.[].rates").type(JsonFieldType.ARRAY).description("평점 정보"),
+                                        fieldWithPath("data.[].rates.[].rateId").type(JsonFieldType.NUMBER).description("평점 식별자"),
+                                        fieldWithPath("data.[].rates.[].rating").type(JsonFieldType.NUMBER).description("평점"),
+                                        fieldWithPath("data.[].rates.[].displayName").type(JsonFieldType.STRING).description("평점 작성자"),
+                                        fieldWithPath("data.[].rates.[].imgUrl").type(JsonFieldType.STRING).description("평점 작성자 프로필 이미지"),
+                                        fieldWithPath("data.[].rates.[].content").type(JsonFieldType.STRING).description("평점 내용"),
+                                        fieldWithPath("data.[].rates.[].createdAt").type(JsonFieldType.STRING).description("평점 생성 일자"),
+                                        fieldWithPath("data.[].rates.[].modifiedAt").type(JsonFieldType.STRING).description("평점 수정 일자")
+                                )
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("모든 도서 조회")
     @WithMockUser
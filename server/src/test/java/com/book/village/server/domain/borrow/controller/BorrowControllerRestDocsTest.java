@@ -5,6 +5,8 @@ import com.book.village.server.domain.borrow.entity.Borrow;
 import com.book.village.server.domain.borrow.mapper.BorrowMapper;
 import com.book.village.server.domain.borrow.service.BorrowService;
 import com.book.village.server.domain.borrowcomment.dto.BorrowCommentDto;
+import com.book.village.server.domain.location.dto.LocationDto;
+import com.book.village.server.domain.matching.dto.MatchDto;
 import com.book.village.server.domain.member.entity.Member;
 import com.book.village.server.global.utils.GenerateMockToken;
 import com.google.gson.Gson;
@@ -104,6 +106,7 @@ class BorrowControllerRestDocsTest {
                 .talkUrl("talkUrl")
                 .borrowWhthr(true)
                 .view(0L)
+                .commentCount(2L)
                 .borrowComments(borrowCommentResponse)
                 .createdAt(createdAt)
                 .modifiedAt(modifiedAt)
@@ -171,6 +174,7 @@ class BorrowControllerRestDocsTest {
                                         fieldWithPath("data.talkUrl").type(JsonFieldType.STRING).description("오픈톡 링크"),
                                         fieldWithPath("data.borrowWhthr").type(JsonFieldType.BOOLEAN).description("나눔 가능 여부(나눔 가능시 true)"),
                                         fieldWithPath("data.view").type(JsonFieldType.NUMBER).description("조회 수"),
+                                        fieldWithPath("data.commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                         fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("나눔 게시글 생성 일자"),
                                         fieldWithPath("data.modifiedAt").type(JsonFieldType.STRING).description("나눔 게시글 최신 수정 일자"),
                                         fieldWithPath("data.borrowComments").type(JsonFieldType.ARRAY).description("댓글 정보"),
@@ -204,9 +208,7 @@ class BorrowControllerRestDocsTest {
                         "author",
                         "publisher",
                         "thumbnail",
-                        "talkUrl",
-                        true,
-                        0L);
+                        "talkUrl");
         String content = gson.toJson(patch);
 
         List<BorrowCommentDto.Response> borrowCommentResponse = List.of(
@@ -229,9 +231,11 @@ class BorrowControllerRestDocsTest {
                 "talkUrl",
                 true,
                 0L,
+                2L,
                 borrowCommentResponse,
                 createdAt,
-                modifiedAt
+                modifiedAt,
+                null
         );
 
 
@@ -281,10 +285,7 @@ class BorrowControllerRestDocsTest {
                                         fieldWithPath("author").type(JsonFieldType.STRING).description("나눌 책 저자").optional(),
                                         fieldWithPath("publisher").type(JsonFieldType.STRING).description("나눌 책 출판사").optional(),
                                         fieldWithPath("thumbnail").type(JsonFieldType.STRING).description("나눌 책 도서 이미지").optional(),
-                                        fieldWithPath("talkUrl").type(JsonFieldType.STRING).description("오픈톡 링크").optional(),
-                                        fieldWithPath("borrowWhthr").type(JsonFieldType.BOOLEAN).description("나눔 가능 여부").optional(),
-                                        fieldWithPath("view").type(JsonFieldType.NUMBER).description("조회 수").optional()
-
+                                        fieldWithPath("talkUrl").type(JsonFieldType.STRING).description("오픈톡 링크").optional()
                                 )
                         ),
                         responseFields(
@@ -302,6 +303,7 @@ class BorrowControllerRestDocsTest {
                                         fieldWithPath("data.talkUrl").type(JsonFieldType.STRING).description("오픈톡 링크"),
                                         fieldWithPath("data.borrowWhthr").type(JsonFieldType.BOOLEAN).description("나눔 가능 여부(나눔 가능시 true)"),
                                         fieldWithPath("data.view").type(JsonFieldType.NUMBER).description("조회 수"),
+                                        fieldWithPath("data.commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                         fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("나눔 게시글 생성 일자"),
                                         fieldWithPath("data.modifiedAt").type(JsonFieldType.STRING).description("나눔 게시글 최신 수정 일자"),
                                         fieldWithPath("data.borrowComments").type(JsonFieldType.ARRAY).description("댓글 정보"),
@@ -376,6 +378,7 @@ class BorrowControllerRestDocsTest {
                 .talkUrl("talkUrl")
                 .borrowWhthr(true)
                 .view(0L)
+                .commentCount(2L)
                 .borrowComments(list)
                 .createdAt(createdAt)
                 .modifiedAt(modifiedAt)
@@ -391,14 +394,15 @@ class BorrowControllerRestDocsTest {
                 "displayName",
                 "talkUrl",
                 0L,
+                2L,
                 true,
                 new Member("email@gmail.com"),
                 null
         );
 
-        given(borrowService.findVerificationBorrow(Mockito.any(Long.class))).willReturn(borrow);
-        given(borrowService.updateBorrow(Mockito.any(Borrow.class),Mockito.anyString())).willReturn(borrow);
+        given(borrowService.viewBorrow(Mockito.any(Long.class))).willReturn(borrow);
         given(borrowMapper.borrowToBorrowDtoResponse(Mockito.any(Borrow.class))).willReturn(responseDto);
+        given(borrowService.countUniqueView(Mockito.anyLong(), Mockito.any())).willReturn(1L);
 
 
         // when
@@ -423,6 +427,7 @@ class BorrowControllerRestDocsTest {
                 .andExpect(jsonPath("$.data.imgUrl").value(responseDto.getImgUrl()))
                 .andExpect(jsonPath("$.data.talkUrl").value(responseDto.getTalkUrl()))
                 .andExpect(jsonPath("$.data.view").value(responseDto.getView()))
+                .andExpect(jsonPath("$.data.uniqueViews").value(1L))
                 .andDo(document("get-borrow",
                         getRequestPreProcessor(),
                         getResponsePreProcessor(),
@@ -447,9 +452,11 @@ class BorrowControllerRestDocsTest {
                                         fieldWithPath("data.talkUrl").type(JsonFieldType.STRING).description("오픈톡 링크"),
                                         fieldWithPath("data.borrowWhthr").type(JsonFieldType.BOOLEAN).description("나눔 가능 여부(나눔 가능시 true)"),
                                         fieldWithPath("data.view").type(JsonFieldType.NUMBER).description("조회 수"),
+                                        fieldWithPath("data.commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                         fieldWithPath("data.borrowComments").type(JsonFieldType.ARRAY).description("나눔 댓글 리스트"),
                                         fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("나눔 게시글 생성 일자"),
                                         fieldWithPath("data.modifiedAt").type(JsonFieldType.STRING).description("나눔 게시글 최신 수정 일자"),
+                                        fieldWithPath("data.uniqueViews").type(JsonFieldType.NUMBER).description("순 방문자 수 (HyperLogLog 추정값)"),
                                         fieldWithPath("data.borrowComments.[].borrowCommentId").type(JsonFieldType.NUMBER).description("댓글 식별자"),
                                         fieldWithPath("data.borrowComments.[].content").type(JsonFieldType.STRING).description("댓글 내용"),
                                         fieldWithPath("data.borrowComments.[].displayName").type(JsonFieldType.STRING).description("댓글 작성자"),
@@ -486,6 +493,7 @@ class BorrowControllerRestDocsTest {
                 .borrowWhthr(true)
                 .borrowComments(null)
                 .view(0L)
+                .commentCount(2L)
                 .createdAt(createdAt)
                 .modifiedAt(modifiedAt)
                 .build();
@@ -503,6 +511,7 @@ class BorrowControllerRestDocsTest {
                 .talkUrl("talkUrl2")
                 .borrowWhthr(true)
                 .view(0L)
+                .commentCount(2L)
                 .borrowComments(null)
                 .createdAt(createdAt)
                 .modifiedAt(modifiedAt)
@@ -522,6 +531,7 @@ class BorrowControllerRestDocsTest {
                 "displayName1",
                 "talkUrl1",
                 0L,
+                2L,
                 true,
                 new Member(),
                 null));
@@ -536,6 +546,7 @@ class BorrowControllerRestDocsTest {
                 "displayName2",
                 "talkUrl2",
                 0L,
+                2L,
                 true,
                 new Member(),
                 null));
@@ -567,7 +578,7 @@ class BorrowControllerRestDocsTest {
                         requestParameters(
                                 parameterWithName("page").description("페이지 번호"),
                                 parameterWithName("size").description("페이지 사이즈"),
-                                parameterWithName("sort").description("정렬 기준[createdAt,desc]"),
+                                parameterWithName("sort").description("정렬 기준[createdAt,desc], 댓글 많은 순은 [commentCount,desc]"),
                                 parameterWithName("_csrf").description("csrf")
                         ),
                         responseFields(
@@ -585,6 +596,7 @@ class BorrowControllerRestDocsTest {
                                         fieldWithPath("data.[].talkUrl").type(JsonFieldType.STRING).description("오픈톡 링크"),
                                         fieldWithPath("data.[].borrowWhthr").type(JsonFieldType.BOOLEAN).description("나눔 가능 여부(나눔 가능시 true)"),
                                         fieldWithPath("data.[].view").type(JsonFieldType.NUMBER).description("조회 수"),
+                                        fieldWithPath("data.[].commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                         fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("나눔 게시글 생성 일자"),
                                         fieldWithPath("data.[].modifiedAt").type(JsonFieldType.STRING).description("나눔 게시글 최신 수정 일자"),
                                         fieldWithPath("data.[].borrowComments").type(JsonFieldType.NULL).description("댓글 정보"),
@@ -624,9 +636,11 @@ class BorrowControllerRestDocsTest {
                 "talkUrl1",
                 true,
                 0L,
+                2L,
                 null,
                 createdAt,
-                modifiedAt
+                modifiedAt,
+                null
         );
         BorrowDto.Response response2 = new BorrowDto.Response(
                 2L,
@@ -641,9 +655,11 @@ class BorrowControllerRestDocsTest {
                 "talkUrl2",
                 true,
                 0L,
+                2L,
                 null,
                 createdAt,
-                modifiedAt
+                modifiedAt,
+                null
         );
 
         borrowsResponseDtos.add(response1);
@@ -660,6 +676,7 @@ class BorrowControllerRestDocsTest {
                 "displayName1",
                 "talkUrl1",
                 0L,
+                2L,
                 true,
                 new Member(),
                 null
@@ -675,6 +692,7 @@ class BorrowControllerRestDocsTest {
                 "displayName2",
                 "talkUrl2",
                 0L,
+                2L,
                 true,
                 new Member(),
                 null
@@ -726,6 +744,7 @@ class BorrowControllerRestDocsTest {
                                         fieldWithPath("data.[].talkUrl").type(JsonFieldType.STRING).description("오픈톡 링크"),
                                         fieldWithPath("data.[].borrowWhthr").type(JsonFieldType.BOOLEAN).description("나눔 가능 여부(나눔 가능시 true)"),
                                         fieldWithPath("data.[].view").type(JsonFieldType.NUMBER).description("조회 수"),
+                                        fieldWithPath("data.[].commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                         fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("나눔 게시글 생성 일자"),
                                         fieldWithPath("data.[].modifiedAt").type(JsonFieldType.STRING).description("나눔 게시글 최신 수정 일자"),
                                         fieldWithPath("data.[].borrowComments").type(JsonFieldType.NULL).description("댓글 정보"),
@@ -743,6 +762,67 @@ class BorrowControllerRestDocsTest {
     }
 
 
+    @Test
+    @DisplayName("여러 나눔글 조회")
+    @WithMockUser
+    void getBorrowsByIdsTest() throws Exception {
+        // given
+        LocalDateTime createdAt = time;
+        LocalDateTime modifiedAt = LocalDateTime.now();
+
+        List<BorrowDto.Response> borrowResponseDtos = List.of(
+                new BorrowDto.Response(2L, "title2", "content2", "bookTitle2", "author2", "publisher2",
+                        "thumbnail2", "displayName2", "imgUrl2", "talkUrl2", true, 3L, 2L, null, createdAt, modifiedAt, null),
+                new BorrowDto.Response(1L, "title1", "content1", "bookTitle1", "author1", "publisher1",
+                        "thumbnail1", "displayName1", "imgUrl1", "talkUrl1", false, 0L, 2L, null, createdAt, modifiedAt, null)
+        );
+
+        given(borrowService.findBorrows(Mockito.anyList())).willReturn(List.of(new Borrow(), new Borrow()));
+        given(borrowMapper.borrowsToBorrowResponseDtos(Mockito.anyList())).willReturn(borrowResponseDtos);
+
+        // when
+        ResultActions actions =
+                mockMvc.perform(
+                        get(BASE_URL + "/batch")
+                                .param("ids", "2,1")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .with(csrf())
+                );
+
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].borrowId").value(2L))
+                .andExpect(jsonPath("$.data[1].borrowId").value(1L))
+                .andDo(document("get-borrows-batch",
+                        getResponsePreProcessor(),
+                        requestParameters(
+                                parameterWithName("ids").description("나눔 게시글 식별자 목록 (쉼표로 구분, 최대 100개). 요청한 순서대로 응답하고 없는 글은 빠진다."),
+                                parameterWithName("_csrf").description("csrf")
+                        ),
+                        responseFields(
+                                List.of(
+                                        fieldWithPath("data").type(JsonFieldType.ARRAY).description("결과 데이터"),
+                                        fieldWithPath("data.[].borrowId").type(JsonFieldType.NUMBER).description("나눔 게시글 식별자"),
+                                        fieldWithPath("data.[].title").type(JsonFieldType.STRING).description("나눔게시글 제목"),
+                                        fieldWithPath("data.[].content").type(JsonFieldType.STRING).description("게시글 본문"),
+                                        fieldWithPath("data.[].bookTitle").type(JsonFieldType.STRING).description("나눌 책 제목"),
+                                        fieldWithPath("data.[].author").type(JsonFieldType.STRING).description("나눌 책 저자"),
+                                        fieldWithPath("data.[].publisher").type(JsonFieldType.STRING).description("나눌 책 출판사"),
+                                        fieldWithPath("data.[].thumbnail").type(JsonFieldType.STRING).description("나눌 책 이미지"),
+                                        fieldWithPath("data.[].displayName").type(JsonFieldType.STRING).description("회원 닉네임"),
+                                        fieldWithPath("data.[].imgUrl").type(JsonFieldType.STRING).description("회원 프로필 이미지"),
+                                        fieldWithPath("data.[].talkUrl").type(JsonFieldType.STRING).description("오픈톡 링크"),
+                                        fieldWithPath("data.[].borrowWhthr").type(JsonFieldType.BOOLEAN).description("나눔 가능 여부(나눔 가능시 true)"),
+                                        fieldWithPath("data.[].view").type(JsonFieldType.NUMBER).description("조회 수"),
+                                        fieldWithPath("data.[].commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
+                                        fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("나눔 게시글 생성 일자"),
+                                        fieldWithPath("data.[].modifiedAt").type(JsonFieldType.STRING).description("나눔 게시글 최신 수정 일자"),
+                                        fieldWithPath("data.[].borrowComments").type(JsonFieldType.NULL).description("댓글 정보")
+                                )
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("나눔 삭제")
     @WithMockUser
@@ -814,9 +894,11 @@ class BorrowControllerRestDocsTest {
                 "talkUrl1",
                 true,
                 0L,
+                2L,
                 null,
                 createdAt,
-                modifiedAt
+                modifiedAt,
+                null
         );
         BorrowDto.Response response2 = new BorrowDto.Response(
                 2L,
@@ -831,9 +913,11 @@ class BorrowControllerRestDocsTest {
                 "talkUrl2",
                 true,
                 0L,
+                2L,
                 null,
                 createdAt,
-                modifiedAt
+                modifiedAt,
+                null
         );
 
         List<BorrowDto.Response> borrowResponseDtos = new ArrayList<>();
@@ -852,6 +936,7 @@ class BorrowControllerRestDocsTest {
                 "displayName1",
                 "talkUrl1",
                 0L,
+                2L,
                 true,
                 new Member(),
                 null)
@@ -867,6 +952,7 @@ class BorrowControllerRestDocsTest {
                 "displayName2",
                 "talkUrl",
                 0L,
+                2L,
                 true,
                 new Member(),
                 null)
@@ -917,6 +1003,7 @@ class BorrowControllerRestDocsTest {
                                         fieldWithPath("data.[].talkUrl").type(JsonFieldType.STRING).description("오픈톡 링크"),
                                         fieldWithPath("data.[].borrowWhthr").type(JsonFieldType.BOOLEAN).description("나눔 가능 여부(나눔 가능시 true)"),
                                         fieldWithPath("data.[].view").type(JsonFieldType.NUMBER).description("조회 수"),
+                                        fieldWithPath("data.[].commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                         fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("생성 일자"),
                                         fieldWithPath("data.[].modifiedAt").type(JsonFieldType.STRING).description("수정 일자"),
                                         fieldWithPath("data.[].borrowComments").type(JsonFieldType.NULL).description("댓글 정보"),
@@ -962,9 +1049,11 @@ class BorrowControllerRestDocsTest {
                 "talkUrl",
                 false,
                 0L,
+                2L,
                 borrowCommentResponse,
                 createdAt,
-                modifiedAt
+                modifiedAt,
+                null
         );
 
         given(borrowService.findBorrow(Mockito.anyLong())).willReturn(new Borrow());
@@ -1006,6 +1095,7 @@ class BorrowControllerRestDocsTest {
                                         fieldWithPath("data.talkUrl").type(JsonFieldType.STRING).description("오픈톡 링크"),
                                         fieldWithPath("data.borrowWhthr").type(JsonFieldType.BOOLEAN).description("나눔 가능 여부(나눔 완료시 false)"),
                                         fieldWithPath("data.view").type(JsonFieldType.NUMBER).description("조회 수"),
+                                        fieldWithPath("data.commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                         fieldWithPath("data.borrowComments").type(JsonFieldType.ARRAY).description("나눔 댓글 리스트"),
                                         fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("나눔 게시글 생성 일자"),
                                         fieldWithPath("data.modifiedAt").type(JsonFieldType.STRING).description("나눔 게시글 최신 수정 일자"),
@@ -1020,4 +1110,98 @@ class BorrowControllerRestDocsTest {
                 ));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("나눔글과 매칭된 요청글 조회")
+    @WithMockUser
+    void getBorrowMatchesTest() throws Exception {
+        // given
+        Long borrowId = 1L;
+        List<MatchDto.Response> matches = List.of(
+                new MatchDto.Response(3L, "title3", "bookTitle", "author", "publisher", "thumbnail", "displayName3", time),
+                new MatchDto.Response(2L, "title2", "bookTitle", "author", "publisher2", "thumbnail", "displayName2", time));
+
+        given(borrowService.findMatchingRequests(Mockito.anyLong())).willReturn(matches);
+
+        // when
+        ResultActions actions =
+                mockMvc.perform(
+                        get(BASE_URL + "/{borrow-id}/matches", borrowId)
+                                .accept(MediaType.APPLICATION_JSON));
+
+        // then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(3L))
+                .andDo(document("get-borrow-matches",
+                        getResponsePreProcessor(),
+                        pathParameters(
+                                parameterWithName("borrow-id").description("나눔 식별자")
+                        ),
+                        responseFields(
+                                List.of(
+                                        fieldWithPath("data").type(JsonFieldType.ARRAY).description("매칭된 요청글 (출판사가 같은 글, 최신 글 순)"),
+                                        fieldWithPath("data.[].id").type(JsonFieldType.NUMBER).description("요청글 식별자"),
+                                        fieldWithPath("data.[].title").type(JsonFieldType.STRING).description("요청글 제목"),
+                                        fieldWithPath("data.[].bookTitle").type(JsonFieldType.STRING).description("책 제목"),
+                                        fieldWithPath("data.[].author").type(JsonFieldType.STRING).description("책 저자"),
+                                        fieldWithPath("data.[].publisher").type(JsonFieldType.STRING).description("책 출판사"),
+                                        fieldWithPath("data.[].thumbnail").type(JsonFieldType.STRING).description("책 이미지"),
+                                        fieldWithPath("data.[].displayName").type(JsonFieldType.STRING).description("작성자 닉네임"),
+                                        fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("생성 일자")
+                                )
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("내 동네 근처 나눔글 조회")
+    @WithMockUser
+    void getNearbyBorrowsTest() throws Exception {
+        // given
+        List<LocationDto.NearbyBorrow> borrows = List.of(
+                new LocationDto.NearbyBorrow(3L, "title3", "bookTitle3", "author3", "publisher3", "thumbnail", "displayName3", 5L, time, 0.0),
+                new LocationDto.NearbyBorrow(2L, "title2", "bookTitle2", "author2", "publisher2", "thumbnail", "displayName2", 1L, time, 2.4));
+
+        given(borrowService.findNearbyBorrows(Mockito.anyString(), Mockito.anyDouble(), Mockito.anyInt())).willReturn(borrows);
+
+        // when
+        ResultActions actions =
+                mockMvc.perform(
+                        get(BASE_URL + "/nearby")
+                                .param("radiusKm", "3")
+                                .param("size", "20")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .headers(GenerateMockToken.getMockHeaderToken()));
+
+        // then
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].borrowId").value(3L))
+                .andExpect(jsonPath("$.data[1].distanceKm").value(2.4))
+                .andDo(document("get-borrows-nearby",
+                        getResponsePreProcessor(),
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer Token")
+                        ),
+                        requestParameters(
+                                parameterWithName("radiusKm").description("반경 km (기본 3, 최대 20)").optional(),
+                                parameterWithName("size").description("최대 개수 (기본 20, 최대 50)").optional()
+                        ),
+                        responseFields(
+                                List.of(
+                                        fieldWithPath("data").type(JsonFieldType.ARRAY).description("나눔 가능한 글 (가까운 순, 거리가 같으면 최신 글 순)"),
+                                        fieldWithPath("data.[].borrowId").type(JsonFieldType.NUMBER).description("나눔 게시글 식별자"),
+                                        fieldWithPath("data.[].title").type(JsonFieldType.STRING).description("나눔게시글 제목"),
+                                        fieldWithPath("data.[].bookTitle").type(JsonFieldType.STRING).description("나눌 책 제목"),
+                                        fieldWithPath("data.[].author").type(JsonFieldType.STRING).description("나눌 책 저자"),
+                                        fieldWithPath("data.[].publisher").type(JsonFieldType.STRING).description("나눌 책 출판사"),
+                                        fieldWithPath("data.[].thumbnail").type(JsonFieldType.STRING).description("나눌 책 이미지"),
+                                        fieldWithPath("data.[].displayName").type(JsonFieldType.STRING).description("회원 닉네임"),
+                                        fieldWithPath("data.[].view").type(JsonFieldType.NUMBER).description("조회 수"),
+                                        fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("나눔 게시글 생성 일자"),
+                                        fieldWithPath("data.[].distanceKm").type(JsonFieldType.NUMBER).description("작성자 동네까지의 거리 (km, 시/군/구 단위)")
+                                )
+                        )
+                ));
+    }
+}
@@ -0,0 +1,78 @@
+package com.book.village.server.domain.borrow.service;
+
+import com.book.village.server.domain.borrow.entity.Borrow;
+import com.book.village.server.domain.borrow.repository.BorrowQuerydslRepository;
+import com.book.village.server.domain.borrow.repository.BorrowRepository;
+import com.book.village.server.domain.borrowclaim.repository.BorrowClaimRepository;
+import com.book.village.server.domain.location.service.LocationService;
+import com.book.village.server.domain.matching.service.MatchingService;
+import com.book.village.server.domain.member.entity.Member;
+import com.book.village.server.domain.member.service.MemberService;
+import com.book.village.server.domain.statistics.service.UniqueViewService;
+import com.book.village.server.global.cache.ResponseCache;
+import com.book.village.server.global.utils.CustomBeanUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class BorrowServiceTest {
+    private static final String WRITER = "writer@gmail.com";
+
+    private final BorrowRepository borrowRepository = mock(BorrowRepository.class);
+    private final MatchingService matchingService = mock(MatchingService.class);
+    private final LocationService locationService = mock(LocationService.class);
+    private final BorrowService borrowService = new BorrowService(borrowRepository, mock(MemberService.class),
+            mock(BorrowQuerydslRepository.class), new CustomBeanUtils<>(), matchingService,
+            mock(UniqueViewService.class), locationService, mock(BorrowClaimRepository.class), mock(ResponseCache.class));
+
+    // 신청을 수락해 닫힌 글
+    private Borrow acceptedBorrow() {
+        Member member = new Member(WRITER);
+        Borrow borrow = Borrow.builder().borrowId(1L).title("아몬드 나눔합니다").bookTitle("아몬드")
+                .author("손원평").publisher("창비").view(5L).borrowWhthr(false).member(member).build();
+        given(borrowRepository.findById(1L)).willReturn(Optional.of(borrow));
+        given(borrowRepository.save(any(Borrow.class))).willAnswer(invocation -> invocation.getArgument(0));
+        return borrow;
+    }
+
+    @Test
+    @DisplayName("수정 요청으로 수락된 나눔글을 다시 열거나 조회수를 바꿀 수 없다")
+    void patchDoesNotReopenAcceptedBorrow() {
+        acceptedBorrow();
+        // 매퍼가 만든 Borrow 는 필드 기본값 (borrowWhthr = true, view = 0) 을 가진다.
+        Borrow patch = new Borrow();
+        patch.setBorrowId(1L);
+        patch.setTitle("제목만 바꿉니다");
+
+        Borrow updated = borrowService.updateBorrow(patch, WRITER);
+
+        assertThat(updated.getTitle()).isEqualTo("제목만 바꿉니다");
+        assertThat(updated.getBorrowWhthr()).isFalse();
+        assertThat(updated.getView()).isEqualTo(5L);
+        verify(matchingService, never()).borrowSaved(any());
+        verifyNoInteractions(locationService);
+    }
+
+    @Test
+    @DisplayName("책 정보가 바뀌면 매칭 색인만 다시 넣고 나눔 상태는 그대로 둔다")
+    void bookChangeReindexesMatching() {
+        Borrow borrow = acceptedBorrow();
+        Borrow patch = Borrow.builder().borrowId(1L).bookTitle("페인트").borrowWhthr(true).view(0L).build();
+
+        Borrow updated = borrowService.updateBorrow(patch, WRITER);
+
+        assertThat(updated.getBookTitle()).isEqualTo("페인트");
+        assertThat(updated.getBorrowWhthr()).isFalse();
+        verify(matchingService).borrowSaved(borrow);
+        verifyNoInteractions(locationService);
+    }
+}
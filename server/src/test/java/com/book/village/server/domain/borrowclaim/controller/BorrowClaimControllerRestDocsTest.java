@@ -0,0 +1,258 @@
+package com.book.village.server.domain.borrowclaim.controller;
+
+import com.book.village.server.domain.borrowclaim.dto.BorrowClaimDto;
+import com.book.village.server.domain.borrowclaim.entity.BorrowClaim;
+import com.book.village.server.domain.borrowclaim.mapper.BorrowClaimMapper;
+import com.book.village.server.domain.borrowclaim.service.BorrowClaimService;
+import com.book.village.server.global.utils.GenerateMockToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.book.village.server.util.ApiDocumentUtils.getRequestPreProcessor;
+import static com.book.village.server.util.ApiDocumentUtils.getResponsePreProcessor;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doNothing;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BorrowClaimController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+@AutoConfigureRestDocs
+class BorrowClaimControllerRestDocsTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BorrowClaimService borrowClaimService;
+
+    @MockBean
+    private BorrowClaimMapper borrowClaimMapper;
+
+    private static final String BASE_URL = "/v1/borrows/{borrow-id}/claims";
+
+    private static final LocalDateTime time = LocalDateTime.now();
+
+    @Test
+    @DisplayName("나눔 신청")
+    @WithMockUser
+    void postBorrowClaimTest() throws Exception {
+        Long borrowId = 1L;
+
+        BorrowClaimDto.Response response = new BorrowClaimDto.Response(
+                3L,
+                borrowId,
+                "displayName1",
+                "imgUrl1",
+                "대기중",
+                3L,
+                time
+        );
+
+        given(borrowClaimService.createClaim(Mockito.anyLong(), Mockito.anyString())).willReturn(new BorrowClaim());
+        given(borrowClaimService.findPosition(Mockito.any(BorrowClaim.class))).willReturn(3L);
+        given(borrowClaimMapper.borrowClaimToBorrowClaimResponseDto(Mockito.any(BorrowClaim.class), Mockito.anyLong())).willReturn(response);
+
+        ResultActions actions =
+                mockMvc.perform(
+                        post(BASE_URL, borrowId)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .with(csrf())
+                                .headers(GenerateMockToken.getMockHeaderToken())
+                );
+
+        actions
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.position").value(3))
+                .andDo(document("post-borrow-claim",
+                        getRequestPreProcessor(),
+                        getResponsePreProcessor(),
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer Token")
+                        ),
+                        pathParameters(
+                                parameterWithName("borrow-id").description("나눔 글 식별자")
+                        ),
+                        responseFields(
+                                List.of(
+                                        fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과 데이터"),
+                                        fieldWithPath("data.borrowClaimId").type(JsonFieldType.NUMBER).description("나눔 신청 식별자"),
+                                        fieldWithPath("data.borrowId").type(JsonFieldType.NUMBER).description("나눔 글 식별자"),
+                                        fieldWithPath("data.displayName").type(JsonFieldType.STRING).description("신청한 회원 닉네임"),
+                                        fieldWithPath("data.imgUrl").type(JsonFieldType.STRING).description("신청한 회원 프로필 이미지"),
+                                        fieldWithPath("data.claimStatus").type(JsonFieldType.STRING).description("신청 상태 (대기중/수락됨)"),
+                                        fieldWithPath("data.position").type(JsonFieldType.NUMBER).description("대기 순번 (1 부터)"),
+                                        fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("신청 일자")
+                                )
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("나눔 신청 대기열 조회")
+    @WithMockUser
+    void getBorrowClaimsTest() throws Exception {
+        Long borrowId = 1L;
+
+        List<BorrowClaimDto.Response> responses = List.of(
+                new BorrowClaimDto.Response(1L, borrowId, "displayName1", "imgUrl1", "대기중", 1L, time),
+                new BorrowClaimDto.Response(2L, borrowId, "displayName2", "imgUrl2", "대기중", 2L, time)
+        );
+
+        given(borrowClaimService.findClaims(Mockito.anyLong(), Mockito.anyString(), Mockito.any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(new BorrowClaim(), new BorrowClaim()), PageRequest.of(0, 10), 2));
+        given(borrowClaimMapper.borrowClaimsToBorrowClaimResponseDtos(Mockito.anyList(), Mockito.anyLong())).willReturn(responses);
+
+        ResultActions actions =
+                mockMvc.perform(
+                        get(BASE_URL, borrowId)
+                                .param("page", "0")
+                                .param("size", "10")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .headers(GenerateMockToken.getMockHeaderToken())
+                );
+
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isArray())
+                .andDo(document("get-borrow-claims",
+                        getResponsePreProcessor(),
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer Token")
+                        ),
+                        pathParameters(
+                                parameterWithName("borrow-id").description("나눔 글 식별자")
+                        ),
+                        requestParameters(
+                                parameterWithName("page").description("페이지 번호"),
+                                parameterWithName("size").description("페이지 사이즈")
+                        ),
+                        responseFields(
+                                List.of(
+                                        fieldWithPath("data").type(JsonFieldType.ARRAY).description("결과 데이터 (신청 순)"),
+                                        fieldWithPath("data.[].borrowClaimId").type(JsonFieldType.NUMBER).description("나눔 신청 식별자"),
+                                        fieldWithPath("data.[].borrowId").type(JsonFieldType.NUMBER).description("나눔 글 식별자"),
+                                        fieldWithPath("data.[].displayName").type(JsonFieldType.STRING).description("신청한 회원 닉네임"),
+                                        fieldWithPath("data.[].imgUrl").type(JsonFieldType.STRING).description("신청한 회원 프로필 이미지"),
+                                        fieldWithPath("data.[].claimStatus").type(JsonFieldType.STRING).description("신청 상태 (대기중)"),
+                                        fieldWithPath("data.[].position").type(JsonFieldType.NUMBER).description("대기 순번 (1 부터)"),
+                                        fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("신청 일자"),
+                                        fieldWithPath("pageInfo").type(JsonFieldType.OBJECT).description("페이지 정보"),
+                                        fieldWithPath("pageInfo.currentPage").type(JsonFieldType.NUMBER).description("페이지 번호"),
+                                        fieldWithPath("pageInfo.totalPage").type(JsonFieldType.NUMBER).description("총 페이지 수"),
+                                        fieldWithPath("pageInfo.totalElements").type(JsonFieldType.NUMBER).description("총 데이터 수"),
+                                        fieldWithPath("pageInfo.pageSize").type(JsonFieldType.NUMBER).description("페이지 사이즈"),
+                                        fieldWithPath("pageInfo.first").type(JsonFieldType.BOOLEAN).description("첫 페이지 여부"),
+                                        fieldWithPath("pageInfo.last").type(JsonFieldType.BOOLEAN).description("마지막 페이지 여부"),
+                                        fieldWithPath("pageInfo.currentElements").type(JsonFieldType.NUMBER).description("현재 페이지 데이터 수")
+                                )
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("나눔 신청 취소")
+    @WithMockUser
+    void deleteBorrowClaimTest() throws Exception {
+        Long borrowId = 1L;
+
+        doNothing().when(borrowClaimService).cancelClaim(Mockito.anyLong(), Mockito.anyString());
+
+        ResultActions actions =
+                mockMvc.perform(
+                        delete(BASE_URL, borrowId)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .with(csrf())
+                                .headers(GenerateMockToken.getMockHeaderToken())
+                );
+
+        actions
+                .andExpect(status().isNoContent())
+                .andDo(document("delete-borrow-claim",
+                        getResponsePreProcessor(),
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer Token")
+                        ),
+                        pathParameters(
+                                parameterWithName("borrow-id").description("나눔 글 식별자")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("나눔 신청 수락")
+    @WithMockUser
+    void acceptBorrowClaimTest() throws Exception {
+        Long borrowId = 1L;
+
+        BorrowClaimDto.Response response = new BorrowClaimDto.Response(
+                1L,
+                borrowId,
+                "displayName1",
+                "imgUrl1",
+                "수락됨",
+                null,
+                time
+        );
+
+        given(borrowClaimService.acceptClaim(Mockito.anyLong(), Mockito.anyString())).willReturn(new BorrowClaim());
+        given(borrowClaimMapper.borrowClaimToBorrowClaimResponseDto(Mockito.any(BorrowClaim.class), Mockito.isNull())).willReturn(response);
+
+        ResultActions actions =
+                mockMvc.perform(
+                        post(BASE_URL + "/accept", borrowId)
+                                .accept(MediaType.APPLICATION_JSON)
+                                .with(csrf())
+                                .headers(GenerateMockToken.getMockHeaderToken())
+                );
+
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.claimStatus").value("수락됨"))
+                .andDo(document("accept-borrow-claim",
+                        getRequestPreProcessor(),
+                        getResponsePreProcessor(),
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer Token")
+                        ),
+                        pathParameters(
+                                parameterWithName("borrow-id").description("나눔 글 식별자")
+                        ),
+                        responseFields(
+                                List.of(
+                                        fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과 데이터"),
+                                        fieldWithPath("data.borrowClaimId").type(JsonFieldType.NUMBER).description("수락된 나눔 신청 식별자"),
+                                        fieldWithPath("data.borrowId").type(JsonFieldType.NUMBER).description("나눔 글 식별자"),
+                                        fieldWithPath("data.displayName").type(JsonFieldType.STRING).description("신청한 회원 닉네임"),
+                                        fieldWithPath("data.imgUrl").type(JsonFieldType.STRING).description("신청한 회원 프로필 이미지"),
+                                        fieldWithPath("data.claimStatus").type(JsonFieldType.STRING).description("신청 상태 (수락됨)"),
+                                        fieldWithPath("data.position").type(JsonFieldType.NULL).description("수락된 신청은 null"),
+                                        fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("신청 일자")
+                                )
+                        )
+                ));
+    }
+}
@@ -89,10 +89,12 @@ public class CommunityControllerRestDocsTest {
                 "content1",
                 "displayName1",
                 0L,
+                2L,
                 "imgUrl1",
                 cCommentResponse,
                 createdAt,
-                modifiedAt
+                modifiedAt,
+                null
         );
 
         given(mapper.postCommunityDtoToCommunity(Mockito.any(CommunityDto.Post.class))).willReturn(new Community());
@@ -141,6 +143,7 @@ public class CommunityControllerRestDocsTest {
                                         fieldWithPath("data.content").type(JsonFieldType.STRING).description("커뮤니티 내용"),
                                         fieldWithPath("data.displayName").type(JsonFieldType.STRING).description("커뮤니티 작성자"),
                                         fieldWithPath("data.view").type(JsonFieldType.NUMBER).description("커뮤니티 조회수"),
+                                        fieldWithPath("data.commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                         fieldWithPath("data.imgUrl").type(JsonFieldType.STRING).description("커뮤니티 작성자 프로필 이미지"),
                                         fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("커뮤니티 생성 일자"),
                                         fieldWithPath("data.modifiedAt").type(JsonFieldType.STRING).description("커뮤니티 수정 일자"),
@@ -186,10 +189,12 @@ public class CommunityControllerRestDocsTest {
                 "content1",
                 "displayName1",
                 1L,
+                2L,
                 "imgUrl1",
                 cCommentResponse,
                 createdAt,
-                modifiedAt
+                modifiedAt,
+                null
         );
 
         given(mapper.patchCommunityDtoToCommunity(Mockito.any(CommunityDto.Patch.class))).willReturn(new Community());
@@ -244,6 +249,7 @@ public class CommunityControllerRestDocsTest {
                                         fieldWithPath("data.content").type(JsonFieldType.STRING).description("내용"),
                                         fieldWithPath("data.displayName").type(JsonFieldType.STRING).description("작성자"),
                                         fieldWithPath("data.view").type(JsonFieldType.NUMBER).description("조회수"),
+                                        fieldWithPath("data.commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                         fieldWithPath("data.imgUrl").type(JsonFieldType.STRING).description("작성자 프로필 이미지"),
                                         fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("생성 일자"),
                                         fieldWithPath("data.modifiedAt").type(JsonFieldType.STRING).description("수정 일자"),
@@ -280,10 +286,12 @@ public class CommunityControllerRestDocsTest {
                 "content1",
                 "displayName1",
                 1L,
+                2L,
                 "imgUrl1",
                 cCommentResponse,
                 createdAt,
-                modifiedAt
+                modifiedAt,
+                null
         );
         Community community =new Community(
                 1L,
@@ -292,6 +300,7 @@ public class CommunityControllerRestDocsTest {
                 "content1",
                 "displayName1",
                 1L,
+                2L,
                 new Member("email@gmail.com"),
                 null
         );
@@ -299,6 +308,7 @@ public class CommunityControllerRestDocsTest {
         given(communityService.findCommunity(Mockito.anyLong())).willReturn(community);
         given(communityService.updateCommunity(Mockito.any(Community.class),Mockito.anyString())).willReturn(community);
         given(mapper.communityToCommunityResponseDto(Mockito.any(Community.class))).willReturn(response);
+        given(communityService.countUniqueView(Mockito.anyLong(), Mockito.any())).willReturn(1L);
 
 
         ResultActions actions =
@@ -316,6 +326,7 @@ public class CommunityControllerRestDocsTest {
                 .andExpect(jsonPath("$.data.content").value(response.getContent()))
                 .andExpect(jsonPath("$.data.displayName").value(response.getDisplayName()))
                 .andExpect(jsonPath("$.data.imgUrl").value(response.getImgUrl()))
+                .andExpect(jsonPath("$.data.uniqueViews").value(1L))
                 .andDo(document("get-community",
                         getResponsePreProcessor(),
                         pathParameters(
@@ -331,9 +342,11 @@ public class CommunityControllerRestDocsTest {
                                         fieldWithPath("data.content").type(JsonFieldType.STRING).description("내용"),
                                         fieldWithPath("data.displayName").type(JsonFieldType.STRING).description("작성자"),
                                         fieldWithPath("data.view").type(JsonFieldType.NUMBER).description("조회수"),
+                                        fieldWithPath("data.commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                         fieldWithPath("data.imgUrl").type(JsonFieldType.STRING).description("작성자 프로필 이미지"),
                                         fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("생성 일자"),
                                         fieldWithPath("data.modifiedAt").type(JsonFieldType.STRING).description("수정 일자"),
+                                        fieldWithPath("data.uniqueViews").type(JsonFieldType.NUMBER).description("순 방문자 수 (HyperLogLog 추정값)"),
                                         fieldWithPath("data.communityComments").type(JsonFieldType.ARRAY).description("댓글 정보"),
                                         fieldWithPath("data.communityComments.[].communityCommentId").type(JsonFieldType.NUMBER).description("댓글 식별자"),
                                         fieldWithPath("data.communityComments.[].content").type(JsonFieldType.STRING).description("댓글 내용"),
@@ -361,10 +374,12 @@ public class CommunityControllerRestDocsTest {
                 "content1",
                 "displayName1",
                 1L,
+                2L,
                 "imgUrl1",
                 null,
                 createdAt1,
-                createdAt1
+                createdAt1,
+                null
         );
         CommunityDto.Response response2 = new CommunityDto.Response(
                 2L,
@@ -373,10 +388,12 @@ public class CommunityControllerRestDocsTest {
                 "content2",
                 "displayName2",
                 1L,
+                2L,
                 "imgUrl2",
                 null,
                 createdAt2,
-                createdAt2
+                createdAt2,
+                null
         );
 
         List<CommunityDto.Response> responseList = new ArrayList<>();
@@ -390,6 +407,7 @@ public class CommunityControllerRestDocsTest {
                 "content1",
                 "displayName1",
                 1L,
+                2L,
                 new Member(),
                 null));
         list.add(new Community(
@@ -399,6 +417,7 @@ public class CommunityControllerRestDocsTest {
                 "content2",
                 "displayName2",
                 1L,
+                2L,
                 new Member(),
                 null));
 
@@ -427,7 +446,7 @@ public class CommunityControllerRestDocsTest {
                         requestParameters(
                                 parameterWithName("page").description("페이지 번호"),
                                 parameterWithName("size").description("페이지 사이즈"),
-                                parameterWithName("sort").description("정렬 기준[createdAt,desc]"),
+                                parameterWithName("sort").description("정렬 기준[createdAt,desc], 댓글 많은 순은 [commentCount,desc]"),
                                 parameterWithName("_csrf").description("csrf")
                         ),
                         // response body
@@ -440,6 +459,7 @@ public class CommunityControllerRestDocsTest {
                                         fieldWithPath("data.[].content").type(JsonFieldType.STRING).description("내용"),
                                         fieldWithPath("data.[].displayName").type(JsonFieldType.STRING).description("작성자"),
                                         fieldWithPath("data.[].view").type(JsonFieldType.NUMBER).description("조회수"),
+                                        fieldWithPath("data.[].commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                         fieldWithPath("data.[].imgUrl").type(JsonFieldType.STRING).description("작성자 프로필 이미지"),
                                         fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("생성 일자"),
                                         fieldWithPath("data.[].modifiedAt").type(JsonFieldType.STRING).description("수정 일자"),
@@ -472,10 +492,12 @@ public class CommunityControllerRestDocsTest {
                 "content1",
                 "displayName1",
                 1L,
+                2L,
                 "imgUrl1",
                 null,
                 createdAt1,
-                createdAt1
+                createdAt1,
+                null
         );
         CommunityDto.Response response2 = new CommunityDto.Response(
                 2L,
@@ -484,10 +506,12 @@ public class CommunityControllerRestDocsTest {
                 "content2",
                 "displayName2",
                 1L,
+                2L,
                 "imgUrl2",
                 null,
                 createdAt2,
-                createdAt2
+                createdAt2,
+                null
         );
 
         List<CommunityDto.Response> responseList = new ArrayList<>();
@@ -501,6 +525,7 @@ public class CommunityControllerRestDocsTest {
                 "content1",
                 "displayName1",
                 1L,
+                2L,
                 new Member(),
                 null));
         list.add(new Community(
@@ -510,6 +535,7 @@ public class CommunityControllerRestDocsTest {
                 "content2",
                 "displayName2",
                 1L,
+                2L,
                 new Member(),
                 null));
 
@@ -555,6 +581,7 @@ public class CommunityControllerRestDocsTest {
                                         fieldWithPath("data.[].content").type(JsonFieldType.STRING).description("내용"),
                                         fieldWithPath("data.[].displayName").type(JsonFieldType.STRING).description("작성자"),
                                         fieldWithPath("data.[].view").type(JsonFieldType.NUMBER).description("조회수"),
+                                        fieldWithPath("data.[].commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                         fieldWithPath("data.[].imgUrl").type(JsonFieldType.STRING).description("작성자 프로필 이미지"),
                                         fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("생성 일자"),
                                         fieldWithPath("data.[].modifiedAt").type(JsonFieldType.STRING).description("수정 일자"),
@@ -616,10 +643,12 @@ public class CommunityControllerRestDocsTest {
                 "content1",
                 "displayName1",
                 1L,
+                2L,
                 "imgUrl1",
                 null,
                 createdAt1,
-                createdAt1
+                createdAt1,
+                null
         );
         CommunityDto.Response response2 = new CommunityDto.Response(
                 2L,
@@ -628,10 +657,12 @@ public class CommunityControllerRestDocsTest {
                 "content2",
                 "displayName2",
                 1L,
+                2L,
                 "imgUrl2",
                 null,
                 createdAt2,
-                createdAt2
+                createdAt2,
+                null
         );
 
         List<CommunityDto.Response> responseList = new ArrayList<>();
@@ -645,6 +676,7 @@ public class CommunityControllerRestDocsTest {
                 "content1",
                 "displayName1",
                 1L,
+                2L,
                 new Member(),
                 null));
         list.add(new Community(
@@ -654,6 +686,7 @@ public class CommunityControllerRestDocsTest {
                 "content2",
                 "displayName2",
                 1L,
+                2L,
                 new Member(),
                 null));
 
@@ -698,6 +731,7 @@ public class CommunityControllerRestDocsTest {
                                         fieldWithPath("data.[].content").type(JsonFieldType.STRING).description("내용"),
                                         fieldWithPath("data.[].displayName").type(JsonFieldType.STRING).description("작성자"),
                                         fieldWithPath("data.[].view").type(JsonFieldType.NUMBER).description("조회수"),
+                                        fieldWithPath("data.[].commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                         fieldWithPath("data.[].imgUrl").type(JsonFieldType.STRING).description("작성자 프로필 이미지"),
                                         fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("생성 일자"),
                                         fieldWithPath("data.[].modifiedAt").type(JsonFieldType.STRING).description("수정 일자"),
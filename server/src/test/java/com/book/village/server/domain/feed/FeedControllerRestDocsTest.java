@@ -0,0 +1,124 @@
+package com.book.village.server.domain.feed;
+
+import com.book.village.server.domain.feed.controller.FeedController;
+import com.book.village.server.domain.feed.dto.FeedDto;
+import com.book.village.server.domain.feed.service.FeedService;
+import com.book.village.server.global.response.CursorResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.book.village.server.util.ApiDocumentUtils.getResponsePreProcessor;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(FeedController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+@AutoConfigureRestDocs
+public class FeedControllerRestDocsTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FeedService feedService;
+
+    private static final String url = "/v1/feed";
+
+    @Test
+    @DisplayName("피드 조회")
+    @WithMockUser
+    public void getFeedTest() throws Exception {
+        LocalDateTime createdAt1 = LocalDateTime.now();
+        LocalDateTime createdAt2 = createdAt1.minusHours(1L);
+
+        FeedDto.Item community = FeedDto.Item.builder()
+                .source(FeedDto.Source.COMMUNITY)
+                .id(3L)
+                .title("title1")
+                .displayName("displayName1")
+                .view(1L)
+                .communityType("free")
+                .createdAt(createdAt1)
+                .build();
+        FeedDto.Item borrow = FeedDto.Item.builder()
+                .source(FeedDto.Source.BORROW)
+                .id(7L)
+                .title("title2")
+                .displayName("displayName2")
+                .view(5L)
+                .bookTitle("bookTitle")
+                .author("author")
+                .thumbnail("thumbnail")
+                .borrowWhthr(true)
+                .createdAt(createdAt2)
+                .build();
+        String nextCursor = FeedDto.Position.of(borrow).encode();
+
+        given(feedService.findFeed(Mockito.any(), Mockito.anyInt(), Mockito.any(), Mockito.any()))
+                .willReturn(new CursorResponse<>(List.of(community, borrow), nextCursor));
+
+        ResultActions actions =
+                mockMvc.perform(
+                        get(url)
+                                .param("cursor", nextCursor)
+                                .param("size", "2")
+                                .param("communityType", "free")
+                                .param("borrowWhthr", "true")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .with(csrf())
+                );
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").isArray())
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor))
+                .andDo(document("get-feed",
+                        getResponsePreProcessor(),
+                        requestParameters(
+                                parameterWithName("cursor").description("이전 응답의 nextCursor (첫 페이지는 생략)").optional(),
+                                parameterWithName("size").description("페이지 사이즈 (기본 20, 최대 50)").optional(),
+                                parameterWithName("communityType").description("커뮤니티 카테고리 필터").optional(),
+                                parameterWithName("borrowWhthr").description("나눔 가능 여부 필터").optional(),
+                                parameterWithName("_csrf").description("csrf")
+                        ),
+                        // response body
+                        responseFields(
+                                List.of(
+                                        fieldWithPath("data").type(JsonFieldType.ARRAY).description("결과 데이터 (최신순)"),
+                                        fieldWithPath("data.[].source").type(JsonFieldType.STRING).description("글 종류[BORROW, REQUEST, COMMUNITY]"),
+                                        fieldWithPath("data.[].id").type(JsonFieldType.NUMBER).description("글 식별자"),
+                                        fieldWithPath("data.[].title").type(JsonFieldType.STRING).description("제목"),
+                                        fieldWithPath("data.[].displayName").type(JsonFieldType.STRING).description("작성자"),
+                                        fieldWithPath("data.[].view").type(JsonFieldType.NUMBER).description("조회수"),
+                                        fieldWithPath("data.[].bookTitle").type(JsonFieldType.STRING).description("책 제목 (나눔/요청글)").optional(),
+                                        fieldWithPath("data.[].author").type(JsonFieldType.STRING).description("저자 (나눔/요청글)").optional(),
+                                        fieldWithPath("data.[].thumbnail").type(JsonFieldType.STRING).description("책 표지 (나눔/요청글)").optional(),
+                                        fieldWithPath("data.[].borrowWhthr").type(JsonFieldType.BOOLEAN).description("나눔 가능 여부 (나눔글)").optional(),
+                                        fieldWithPath("data.[].communityType").type(JsonFieldType.STRING).description("커뮤니티 카테고리 (커뮤니티글)").optional(),
+                                        fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("생성 일자"),
+                                        fieldWithPath("nextCursor").type(JsonFieldType.STRING).description("다음 페이지 cursor (마지막 페이지면 null)").optional()
+                                )
+                        )
+                ));
+    }
+}
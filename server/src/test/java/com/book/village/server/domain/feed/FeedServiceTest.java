@@ -0,0 +1,180 @@
+package com.book.village.server.domain.feed;
+
+import com.book.village.server.domain.borrow.entity.Borrow;
+import com.book.village.server.domain.community.entity.Community;
+import com.book.village.server.domain.feed.dto.FeedDto;
+import com.book.village.server.domain.feed.repository.FeedQuerydslRepository;
+import com.book.village.server.domain.feed.service.FeedService;
+import com.book.village.server.domain.request.entity.Request;
+import com.book.village.server.global.response.CursorResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({FeedService.class, FeedQuerydslRepository.class})
+public class FeedServiceTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private FeedService feedService;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 만든 글의 정렬 키. 기대 순서는 FeedDto.ORDER 로 정렬해 만든다.
+    private final List<FeedDto.Item> saved = new ArrayList<>();
+
+    // created_at 은 auditing 이 채우고 updatable = false 라 저장 뒤 SQL 로 바꾼다.
+    private void touch(String table, String idColumn, Long id, FeedDto.Source source, LocalDateTime createdAt) {
+        jdbcTemplate.update("update " + table + " set created_at = ? where " + idColumn + " = ?", createdAt, id);
+        saved.add(FeedDto.Item.builder().source(source).id(id).createdAt(createdAt).build());
+    }
+
+    private Long borrow(LocalDateTime createdAt, boolean borrowWhthr) {
+        Borrow borrow = new Borrow();
+        borrow.setTitle("나눔");
+        borrow.setBookTitle("책");
+        borrow.setBorrowWhthr(borrowWhthr);
+        Long id = em.persistAndFlush(borrow).getBorrowId();
+        touch("borrow", "borrow_id", id, FeedDto.Source.BORROW, createdAt);
+        return id;
+    }
+
+    private Long request(LocalDateTime createdAt) {
+        Request request = new Request();
+        request.setTitle("요청");
+        request.setBookTitle("책");
+        Long id = em.persistAndFlush(request).getRequestId();
+        touch("request", "request_id", id, FeedDto.Source.REQUEST, createdAt);
+        return id;
+    }
+
+    private Long community(LocalDateTime createdAt, String type) {
+        Community community = new Community();
+        community.setType(type);
+        community.setTitle("커뮤니티");
+        community.setContent("본문");
+        Long id = em.persistAndFlush(community).getCommunityId();
+        touch("community", "community_id", id, FeedDto.Source.COMMUNITY, createdAt);
+        return id;
+    }
+
+    private static String key(FeedDto.Item item) {
+        return item.getSource() + "#" + item.getId();
+    }
+
+    private List<String> expected() {
+        em.clear();
+        return saved.stream().sorted(FeedDto.ORDER).map(FeedServiceTest::key).collect(Collectors.toList());
+    }
+
+    // 첫 페이지부터 nextCursor 가 없을 때까지 읽는다.
+    private List<String> readAll(int size) {
+        List<String> keys = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorResponse<FeedDto.Item> page = feedService.findFeed(cursor, size, null, null);
+            assertThat(page.getData()).hasSizeLessThanOrEqualTo(size);
+            page.getData().forEach(item -> keys.add(key(item)));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return keys;
+    }
+
+    @Test
+    @DisplayName("같은 시각의 글은 커뮤니티 > 요청 > 나눔, 같은 source 안에서는 id 역순")
+    void equalCreatedAtTieBreak() {
+        Long olderBorrow = borrow(BASE.minusMinutes(1), true);
+        Long borrow1 = borrow(BASE, true);
+        Long borrow2 = borrow(BASE, true);
+        Long request1 = request(BASE);
+        Long community1 = community(BASE, "자유");
+        Long community2 = community(BASE, "자유");
+        Long newerRequest = request(BASE.plusMinutes(1));
+        em.clear();
+
+        List<String> keys = feedService.findFeed(null, 10, null, null).getData().stream()
+                .map(FeedServiceTest::key).collect(Collectors.toList());
+
+        assertThat(keys).containsExactly(
+                "REQUEST#" + newerRequest,
+                "COMMUNITY#" + community2,
+                "COMMUNITY#" + community1,
+                "REQUEST#" + request1,
+                "BORROW#" + borrow2,
+                "BORROW#" + borrow1,
+                "BORROW#" + olderBorrow);
+        assertThat(keys).isEqualTo(expected());
+    }
+
+    @Test
+    @DisplayName("cursor 로 끝까지 읽으면 모든 글이 한 번씩 정렬 순서대로 나온다")
+    void cursorPagingDoesNotSkipOrRepeat() {
+        // 시각을 다섯 개로만 나눠 같은 시각 묶음이 여러 source 에 걸치고 페이지 경계가 묶음 안에 떨어지게 한다.
+        Random random = new Random(7);
+        for (int i = 0; i < 45; i++) {
+            LocalDateTime createdAt = BASE.minusMinutes(random.nextInt(5));
+            switch (random.nextInt(3)) {
+                case 0: borrow(createdAt, true); break;
+                case 1: request(createdAt); break;
+                default: community(createdAt, "자유");
+            }
+        }
+        List<String> expected = expected();
+
+        for (int size : new int[]{1, 2, 4, 7, 10, 50}) {
+            List<String> keys = readAll(size);
+            assertThat(new HashSet<>(keys)).hasSize(keys.size());
+            assertThat(keys).as("size %d", size).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 페이지 크기가 size 와 같으면 다음 cursor 가 없다")
+    void lastFullPageHasNoCursor() {
+        borrow(BASE, true);
+        request(BASE);
+        community(BASE, "자유");
+        community(BASE.minusMinutes(1), "자유");
+        em.clear();
+
+        CursorResponse<FeedDto.Item> first = feedService.findFeed(null, 2, null, null);
+        CursorResponse<FeedDto.Item> second = feedService.findFeed(first.getNextCursor(), 2, null, null);
+
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(second.getData()).hasSize(2);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("나눔 상태와 커뮤니티 타입 필터는 해당 source 에만 걸린다")
+    void filters() {
+        Long open = borrow(BASE, true);
+        borrow(BASE, false);
+        Long request = request(BASE);
+        Long free = community(BASE, "자유");
+        community(BASE, "공지");
+        em.clear();
+
+        Set<String> keys = feedService.findFeed(null, 10, "자유", true).getData().stream()
+                .map(FeedServiceTest::key).collect(Collectors.toSet());
+
+        assertThat(keys).containsExactlyInAnyOrder("BORROW#" + open, "REQUEST#" + request, "COMMUNITY#" + free);
+    }
+}
@@ -3,6 +3,9 @@ package com.book.village.server.domain.image;
 import com.book.village.server.global.utils.GenerateMockToken;
 import com.book.village.server.image.AwsS3Controller;
 import com.book.village.server.image.AwsS3Service;
+import com.book.village.server.image.ImageDto;
+import com.book.village.server.image.PresignedUploadService;
+import com.google.gson.Gson;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -21,9 +24,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+import static com.book.village.server.util.ApiDocumentUtils.getRequestPreProcessor;
 import static com.book.village.server.util.ApiDocumentUtils.getResponsePreProcessor;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
@@ -32,9 +38,11 @@ import static org.springframework.restdocs.headers.HeaderDocumentation.requestHe
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AwsS3Controller.class)
@@ -47,6 +55,12 @@ public class AwsS3ControllerRestDocsTest {
     @MockBean
     private AwsS3Service s3Service;
 
+    @MockBean
+    private PresignedUploadService presignedUploadService;
+
+    @Autowired
+    private Gson gson;
+
     private static final String url = "/v1/s3/images";
 
     @Test
@@ -139,6 +153,108 @@ public class AwsS3ControllerRestDocsTest {
                 ));
     }
 
+    @Test
+    @DisplayName("presigned 업로드 url 발급")
+    @WithMockUser
+    public void presignImageTest() throws Exception{
+        ImageDto.Presign presign = new ImageDto.Presign("logo.png", "image/png", 2048L);
+        String content = gson.toJson(presign);
+        String key = "0b5f1c7e-8f0a-4c39-9b4c-2f6d3c1f9a10-logo.png";
+        ImageDto.PresignResponse response = new ImageDto.PresignResponse(
+                key,
+                "https://bookvillage.s3.ap-northeast-2.amazonaws.com/" + key + "?x-amz-acl=public-read&X-Amz-Algorithm=AWS4-HMAC-SHA256&X-Amz-Expires=600&X-Amz-Signature=signature",
+                "PUT",
+                Map.of("Content-Type", "image/png"),
+                LocalDateTime.now().plusMinutes(10)
+        );
+        given(presignedUploadService.presign(Mockito.any(ImageDto.Presign.class), Mockito.anyString())).willReturn(response);
+
+        ResultActions actions =
+                mockMvc.perform(
+                        post(url+"/presign")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .with(csrf())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(content)
+                                .headers(GenerateMockToken.getMockHeaderToken())
+                );
+        actions
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.key").value(key))
+                .andDo(document("presign-image",
+                        getRequestPreProcessor(),
+                        getResponsePreProcessor(),
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer Token")
+                        ),
+                        requestParameters(
+                                parameterWithName("_csrf").description("csrf")
+                        ),
+                        requestFields(
+                                fieldWithPath("fileName").type(JsonFieldType.STRING).description("파일 이름"),
+                                fieldWithPath("contentType").type(JsonFieldType.STRING).description("이미지 content type (image/*)"),
+                                fieldWithPath("contentLength").type(JsonFieldType.NUMBER).description("파일 크기 (byte)")
+                        ),
+                        responseFields(
+                                fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과 데이터"),
+                                fieldWithPath("data.key").type(JsonFieldType.STRING).description("업로드될 파일 이름 (complete 요청에 사용)"),
+                                fieldWithPath("data.uploadUrl").type(JsonFieldType.STRING).description("이미지를 직접 PUT 할 url"),
+                                fieldWithPath("data.method").type(JsonFieldType.STRING).description("업로드 http method"),
+                                fieldWithPath("data.headers").type(JsonFieldType.OBJECT).description("업로드 요청에 그대로 보내야 하는 헤더"),
+                                fieldWithPath("data.headers.Content-Type").type(JsonFieldType.STRING).description("발급 때 보낸 content type"),
+                                fieldWithPath("data.expiresAt").type(JsonFieldType.STRING).description("url 만료 시각")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("presigned 업로드 완료 확인")
+    @WithMockUser
+    public void completeImageTest() throws Exception{
+        String key = "0b5f1c7e-8f0a-4c39-9b4c-2f6d3c1f9a10-logo.png";
+        String content = gson.toJson(new ImageDto.Complete(key));
+        ImageDto.CompleteResponse response = new ImageDto.CompleteResponse(
+                key,
+                "https://bookvillage.s3.ap-northeast-2.amazonaws.com/" + key,
+                "image/png",
+                2048L
+        );
+        given(presignedUploadService.complete(Mockito.any(ImageDto.Complete.class), Mockito.anyString())).willReturn(response);
+
+        ResultActions actions =
+                mockMvc.perform(
+                        post(url+"/complete")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .with(csrf())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(content)
+                                .headers(GenerateMockToken.getMockHeaderToken())
+                );
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.url").value(response.getUrl()))
+                .andDo(document("complete-image",
+                        getRequestPreProcessor(),
+                        getResponsePreProcessor(),
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer Token")
+                        ),
+                        requestParameters(
+                                parameterWithName("_csrf").description("csrf")
+                        ),
+                        requestFields(
+                                fieldWithPath("key").type(JsonFieldType.STRING).description("presign 응답의 key")
+                        ),
+                        responseFields(
+                                fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과 데이터"),
+                                fieldWithPath("data.key").type(JsonFieldType.STRING).description("파일 이름"),
+                                fieldWithPath("data.url").type(JsonFieldType.STRING).description("이미지 url"),
+                                fieldWithPath("data.contentType").type(JsonFieldType.STRING).description("저장된 content type"),
+                                fieldWithPath("data.contentLength").type(JsonFieldType.NUMBER).description("저장된 파일 크기 (byte)")
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("이미지 삭제")
     @WithMockUser
@@ -0,0 +1,67 @@
+package com.book.village.server.domain.location;
+
+import com.book.village.server.domain.location.service.RegionGeocoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RegionGeocoderTest {
+    private final RegionGeocoder geocoder = new RegionGeocoder(new ClassPathResource("region/regions.csv"));
+
+    @Test
+    @DisplayName("시/도 + 시/군/구")
+    void geocodeSigunguTest() {
+        RegionGeocoder.Region region = geocoder.geocode("서울특별시 강남구 테헤란로 1");
+
+        assertThat(region.getSido()).isEqualTo("서울특별시");
+        assertThat(region.getSigungu()).isEqualTo("강남구");
+        assertThat(region.getLatitude()).isEqualTo(37.5172);
+        assertThat(region.getLongitude()).isEqualTo(127.0473);
+    }
+
+    @Test
+    @DisplayName("시/도 약칭, 구가 있는 시")
+    void geocodeAliasTest() {
+        RegionGeocoder.Region region = geocoder.geocode("경기 성남시 분당구 정자동");
+
+        assertThat(region.getSido()).isEqualTo("경기도");
+        assertThat(region.getSigungu()).isEqualTo("성남시");
+    }
+
+    @Test
+    @DisplayName("이름이 같은 구는 시/도로 고른다")
+    void geocodeSameNameTest() {
+        assertThat(geocoder.geocode("부산 중구 중앙대로").getSido()).isEqualTo("부산광역시");
+        assertThat(geocoder.geocode("서울시 중구 세종대로").getSido()).isEqualTo("서울특별시");
+    }
+
+    @Test
+    @DisplayName("시/군/구를 못 찾으면 시/도 대표 좌표")
+    void geocodeSidoFallbackTest() {
+        RegionGeocoder.Region unknown = geocoder.geocode("서울 없는구 어딘가");
+        RegionGeocoder.Region otherSido = geocoder.geocode("대전 강남구");
+
+        assertThat(unknown.getSido()).isEqualTo("서울특별시");
+        assertThat(unknown.getSigungu()).isEmpty();
+        assertThat(otherSido.getSido()).isEqualTo("대전광역시");
+        assertThat(otherSido.getSigungu()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시/도 없이 시/군/구만 있으면 하나로 정해질 때만 찾는다")
+    void geocodeWithoutSidoTest() {
+        assertThat(geocoder.geocode("강남구 역삼동").getSido()).isEqualTo("서울특별시");
+        assertThat(geocoder.geocode("중구 어딘가")).isNull();
+    }
+
+    @Test
+    @DisplayName("찾지 못하는 주소")
+    void geocodeMissTest() {
+        assertThat(geocoder.geocode(null)).isNull();
+        assertThat(geocoder.geocode("  ")).isNull();
+        assertThat(geocoder.geocode("Tokyo Shibuya")).isNull();
+        assertThat(geocoder.geocode("없는시 없는구")).isNull();
+    }
+}
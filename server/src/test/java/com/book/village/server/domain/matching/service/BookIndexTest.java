@@ -0,0 +1,67 @@
+package com.book.village.server.domain.matching.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BookIndexTest {
+    private final BookIndex index = new BookIndex();
+
+    @Test
+    @DisplayName("제목은 괄호 안 부가 정보, 공백/기호, 전각/대소문자 차이를 무시한다")
+    void normalizeTitle() {
+        assertThat(BookIndex.normalizeTitle("채식주의자 (개정판)")).isEqualTo("채식주의자");
+        assertThat(BookIndex.normalizeTitle("[양장] Clean Code")).isEqualTo("cleancode");
+        assertThat(BookIndex.normalizeTitle("ＣＬＥＡＮ　ｃｏｄｅ!")).isEqualTo("cleancode");
+        assertThat(BookIndex.normalizeTitle("(개정판)")).isEqualTo("개정판");
+        assertThat(BookIndex.normalizeTitle(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저자는 한쪽이 다른 쪽을 포함하면 같은 저자로 보고, 한쪽이 비어 있으면 거르지 않는다")
+    void matchByAuthor() {
+        index.put(1L, "채식주의자", "한강 (지은이)", "창비");
+        index.put(2L, "채식주의자 (개정판)", "한강", null);
+        index.put(3L, "채식주의자", "다른 저자", "창비");
+        index.put(4L, "채식주의자", null, null);
+
+        assertThat(index.match("채식주의자", "한강", null, 10)).containsExactly(4L, 2L, 1L);
+        assertThat(index.match("채식주의자", null, null, 10)).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(index.match("소년이 온다", "한강", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("출판사가 같은 글이 먼저, 그 안에서는 id 역순이고 limit 만큼만 돌려준다")
+    void publisherFirstThenNewest() {
+        index.put(1L, "데미안", "헤르만 헤세", "민음사");
+        index.put(2L, "데미안", "헤르만 헤세", "문학동네");
+        index.put(3L, "데미안", "헤르만 헤세", "민음사");
+        index.put(4L, "데미안", "헤르만 헤세", "문예출판사");
+
+        assertThat(index.match("데미안", "헤세", "민음사", 10)).containsExactly(3L, 1L, 4L, 2L);
+        assertThat(index.match("데미안", "헤세", "민음사", 3)).containsExactly(3L, 1L, 4L);
+    }
+
+    @Test
+    @DisplayName("remove 와 제목을 바꾼 put 은 이전 제목에서 글을 뺀다")
+    void removeAndRetitle() {
+        index.put(1L, "데미안", null, null);
+        index.put(2L, "데미안", null, null);
+        index.put(2L, "수레바퀴 아래서", null, null);
+        index.remove(1L);
+        index.remove(99L);
+
+        assertThat(index.match("데미안", null, null, 10)).isEmpty();
+        assertThat(index.match("수레바퀴 아래서", null, null, 10)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정규화한 제목이 비면 인덱스에 넣지 않는다")
+    void blankTitleIsNotIndexed() {
+        index.put(1L, " !? ", null, null);
+
+        assertThat(index.size()).isZero();
+    }
+}
@@ -0,0 +1,129 @@
+package com.book.village.server.domain.matching.service;
+
+import com.book.village.server.domain.borrow.entity.Borrow;
+import com.book.village.server.domain.matching.dto.MatchDto;
+import com.book.village.server.domain.matching.repository.MatchingQuerydslRepository;
+import com.book.village.server.domain.request.entity.Request;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class MatchingServiceTest {
+    private final MatchingQuerydslRepository repository = mock(MatchingQuerydslRepository.class);
+    private final MatchingService matchingService = new MatchingService(repository, 20);
+
+    public MatchingServiceTest() {
+        given(repository.findOpenBorrows(anyLong(), anyInt())).willReturn(List.of());
+        given(repository.findRequests(anyLong(), anyInt())).willReturn(List.of());
+        given(repository.findBorrowResponses(anyCollection())).willAnswer(invocation -> responses(invocation.getArgument(0)));
+        given(repository.findRequestResponses(anyCollection())).willAnswer(invocation -> responses(invocation.getArgument(0)));
+    }
+
+    private static List<MatchDto.Response> responses(Collection<Long> ids) {
+        return ids.stream()
+                .map(id -> new MatchDto.Response(id, null, null, null, null, null, null, null))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static Borrow borrow(Long id, String bookTitle, boolean borrowWhthr) {
+        return Borrow.builder().borrowId(id).bookTitle(bookTitle).borrowWhthr(borrowWhthr).build();
+    }
+
+    private static Request request(Long id, String bookTitle) {
+        Request request = new Request();
+        request.setRequestId(id);
+        request.setBookTitle(bookTitle);
+        return request;
+    }
+
+    private List<Long> borrowsFor(String bookTitle) {
+        return matchingService.findBorrowsFor(request(null, bookTitle)).stream()
+                .map(MatchDto.Response::getId).collect(Collectors.toList());
+    }
+
+    private List<Long> requestsFor(String bookTitle) {
+        return matchingService.findRequestsFor(borrow(null, bookTitle, true)).stream()
+                .map(MatchDto.Response::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("나눔 가능한 나눔글만 매칭되고 완료/삭제하면 빠진다")
+    void savedCompletedDeleted() {
+        matchingService.borrowSaved(borrow(1L, "데미안", true));
+        matchingService.borrowSaved(borrow(2L, "데미안 (개정판)", true));
+        matchingService.borrowSaved(borrow(3L, "데미안", false));
+        assertThat(borrowsFor("데미안")).containsExactly(2L, 1L);
+
+        matchingService.borrowSaved(borrow(2L, "데미안", false));
+        matchingService.borrowDeleted(1L);
+        assertThat(borrowsFor("데미안")).isEmpty();
+
+        matchingService.requestSaved(request(5L, "데미안"));
+        matchingService.requestSaved(request(6L, "싯다르타"));
+        assertThat(requestsFor("데미안")).containsExactly(5L);
+        matchingService.requestDeleted(5L);
+        assertThat(requestsFor("데미안")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("rebuild 는 DB 에서 읽은 글로 인덱스를 바꾼다")
+    void rebuildReplacesIndex() {
+        matchingService.borrowSaved(borrow(1L, "데미안", true));
+        given(repository.findOpenBorrows(eq(0L), anyInt()))
+                .willReturn(List.of(new MatchDto.BookRow(2L, "데미안", null, null)));
+
+        matchingService.rebuild();
+
+        assertThat(borrowsFor("데미안")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("rebuild 가 읽은 뒤 커밋된 삭제/완료는 새 인덱스에서 되살아나지 않는다")
+    void mutationDuringRebuildIsReplayed() {
+        matchingService.borrowSaved(borrow(1L, "데미안", true));
+        matchingService.borrowSaved(borrow(2L, "데미안", true));
+        matchingService.requestSaved(request(5L, "데미안"));
+        // 행을 읽은 직후, 인덱스를 바꾸기 전에 다른 요청의 삭제/완료가 커밋된다.
+        given(repository.findOpenBorrows(eq(0L), anyInt())).willAnswer(invocation -> {
+            matchingService.borrowDeleted(1L);
+            matchingService.borrowSaved(borrow(2L, "데미안", false));
+            matchingService.borrowSaved(borrow(3L, "데미안", true));
+            return List.of(new MatchDto.BookRow(1L, "데미안", null, null), new MatchDto.BookRow(2L, "데미안", null, null));
+        });
+        given(repository.findRequests(eq(0L), anyInt())).willAnswer(invocation -> {
+            matchingService.requestDeleted(5L);
+            return List.of(new MatchDto.BookRow(5L, "데미안", null, null));
+        });
+
+        matchingService.rebuild();
+
+        assertThat(borrowsFor("데미안")).containsExactly(3L);
+        assertThat(requestsFor("데미안")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("rebuild 가 실패하면 기존 인덱스와 그 사이의 변경이 남는다")
+    void failedRebuildKeepsIndex() {
+        matchingService.borrowSaved(borrow(1L, "데미안", true));
+        given(repository.findOpenBorrows(eq(0L), anyInt())).willAnswer(invocation -> {
+            matchingService.borrowSaved(borrow(2L, "데미안", true));
+            throw new IllegalStateException("db down");
+        });
+
+        matchingService.rebuild();
+
+        assertThat(borrowsFor("데미안")).containsExactly(2L, 1L);
+    }
+}
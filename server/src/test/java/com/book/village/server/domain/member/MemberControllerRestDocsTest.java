@@ -4,6 +4,7 @@ import com.book.village.server.domain.member.controller.MemberController;
 import com.book.village.server.domain.member.dto.MemberDto;
 import com.book.village.server.domain.member.entity.Member;
 import com.book.village.server.domain.member.mapper.MemberMapper;
+import com.book.village.server.domain.member.service.MemberExportService;
 import com.book.village.server.domain.member.service.MemberService;
 import com.book.village.server.global.utils.GenerateMockToken;
 import com.google.gson.Gson;
@@ -19,14 +20,18 @@ import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.book.village.server.util.ApiDocumentUtils.getRequestPreProcessor;
 import static com.book.village.server.util.ApiDocumentUtils.getResponsePreProcessor;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
@@ -35,7 +40,11 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(MemberController.class)
@@ -51,6 +60,9 @@ public class MemberControllerRestDocsTest {
     @MockBean
     private MemberMapper mapper;
 
+    @MockBean
+    private MemberExportService memberExportService;
+
     @Autowired
     private Gson gson;
 
@@ -212,8 +224,48 @@ public class MemberControllerRestDocsTest {
                 ));
     }
 
+    @Test
+    @DisplayName("회원 활동 내보내기")
+    @WithMockUser
+    public void exportMemberTest() throws Exception {
+        Member member = new Member("test1234@gmail.com");
+        member.setMemberId(1L);
+        String ndjson =
+                "{\"type\":\"member\",\"memberId\":1,\"email\":\"test1234@gmail.com\",\"displayName\":\"user1\"}\n" +
+                "{\"type\":\"borrow\",\"borrowId\":3,\"title\":\"나눔합니다\",\"bookTitle\":\"아몬드\",\"view\":12}\n" +
+                "{\"type\":\"rate\",\"rateId\":7,\"bookId\":2,\"isbn\":\"9788936434595\",\"rating\":5,\"content\":\"재밌어요\"}\n";
+
+        given(memberService.findMember(Mockito.anyString())).willReturn(member);
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write(ndjson.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(memberExportService).export(Mockito.anyLong(), Mockito.any(OutputStream.class));
+
+        MvcResult result =
+                mockMvc.perform(
+                        get(url + "/me/export")
+                                .accept(MediaType.APPLICATION_NDJSON)
+                                .headers(GenerateMockToken.getMockHeaderToken())
+                )
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"bookvillage-export.ndjson\""))
+                .andExpect(content().bytes(ndjson.getBytes(StandardCharsets.UTF_8)))
+
+                .andDo(document("export-member",
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer Token")
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("로그아웃")
+
     @WithMockUser
     public void logoutMemberTest() throws Exception {
         long memberId=1L;
@@ -248,6 +300,37 @@ public class MemberControllerRestDocsTest {
                 ));
     }
 
+    @Test
+    @DisplayName("모든 기기 로그아웃")
+    @WithMockUser
+    public void logoutAllMemberTest() throws Exception {
+        doNothing().when(memberService).logoutAll(Mockito.anyString());
+
+        ResultActions actions =
+                mockMvc.perform(
+                        post(url+"/auth/logout-all")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .with(csrf())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .headers(GenerateMockToken.getMockHeaderToken())
+                );
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("logout from all devices completed!"))
+                .andDo(document("logout-all-member",
+                        getResponsePreProcessor(),
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer Token")
+                        ),
+                        // response body
+                        responseFields(
+                                List.of(
+                                        fieldWithPath("message").type(JsonFieldType.STRING).description("로그아웃 메세지")
+                                )
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("회원 탈퇴")
     @WithMockUser
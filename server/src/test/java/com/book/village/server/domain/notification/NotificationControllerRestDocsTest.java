@@ -0,0 +1,59 @@
+package com.book.village.server.domain.notification;
+
+import com.book.village.server.domain.notification.controller.NotificationController;
+import com.book.village.server.domain.notification.service.NotificationService;
+import com.book.village.server.global.utils.GenerateMockToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@WebMvcTest(NotificationController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+@AutoConfigureRestDocs
+public class NotificationControllerRestDocsTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    private static final String url = "/v1/notifications";
+
+    @Test
+    @DisplayName("알림 스트림 연결")
+    @WithMockUser
+    public void streamTest() throws Exception {
+        given(notificationService.subscribe(Mockito.anyString())).willReturn(new SseEmitter());
+
+        ResultActions actions =
+                mockMvc.perform(
+                        get(url + "/stream")
+                                .accept(MediaType.TEXT_EVENT_STREAM)
+                                .headers(GenerateMockToken.getMockHeaderToken())
+                );
+        actions
+                .andExpect(request().asyncStarted())
+                .andDo(document("get-notification-stream",
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer Token")
+                        )
+                ));
+    }
+}
@@ -0,0 +1,144 @@
+package com.book.village.server.domain.notification.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NotificationStreamsTest {
+    private static final int BUFFER_SIZE = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private final NotificationStreams streams;
+
+    public NotificationStreamsTest() {
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setThreadNamePrefix("notification-");
+        executor.initialize();
+        streams = streams(BUFFER_SIZE);
+    }
+
+    private NotificationStreams streams(int bufferSize) {
+        return new NotificationStreams(executor, meterRegistry, Duration.ofMinutes(1), bufferSize, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("timed out").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private double dropped() {
+        return meterRegistry.get("notification.dropped").counter().count();
+    }
+
+    @Test
+    @DisplayName("buffer 가 넘치면 넘친 이벤트만 버리고 연결은 남는다")
+    void overflowDropsOnlyExtraEvents() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter();
+        streams.connect("reader@gmail.com", emitter);
+        // 첫 이벤트 ("connected") 를 보내는 중에 멈춘 느린 클라이언트
+        assertThat(emitter.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 1; i <= BUFFER_SIZE + 2; i++) {
+            streams.send("reader@gmail.com", "comment", "n" + i);
+        }
+
+        assertThat(dropped()).isEqualTo(2);
+        assertThat(streams.connectionCount()).isEqualTo(1);
+
+        emitter.release.countDown();
+        waitUntil(() -> emitter.sent.size() == BUFFER_SIZE + 1);
+        streams.send("reader@gmail.com", "comment", "n7");
+        waitUntil(() -> emitter.sent.size() == BUFFER_SIZE + 2);
+
+        assertThat(emitter.sent).containsExactly(":connected", "n1", "n2", "n3", "n4", "n7");
+        assertThat(emitter.threads).allMatch(name -> name.startsWith("notification-"));
+        assertThat(streams.connectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이벤트는 보낸 순서대로 notificationExecutor 에서 나간다")
+    void drainsInOrderOnExecutor() throws InterruptedException {
+        NotificationStreams streams = streams(128);
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.release.countDown();
+        streams.connect("reader@gmail.com", emitter);
+
+        for (int i = 1; i <= 100; i++) {
+            streams.send("reader@gmail.com", "comment", "n" + i);
+        }
+        waitUntil(() -> emitter.sent.size() == 101);
+
+        List<String> expected = new ArrayList<>(List.of(":connected"));
+        for (int i = 1; i <= 100; i++) expected.add("n" + i);
+        assertThat(emitter.sent).isEqualTo(expected);
+        assertThat(emitter.threads).allMatch(name -> name.startsWith("notification-"));
+        assertThat(emitter.threads).doesNotContain(Thread.currentThread().getName());
+        assertThat(dropped()).isZero();
+    }
+
+    @Test
+    @DisplayName("보내다 실패한 연결은 목록에서 빠진다")
+    void failedSendRemovesConnection() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.failing = true;
+        emitter.release.countDown();
+        streams.connect("reader@gmail.com", emitter);
+
+        waitUntil(() -> streams.connectionCount() == 0);
+        streams.send("reader@gmail.com", "comment", "n1");
+
+        assertThat(emitter.sent).isEmpty();
+    }
+
+    // 보낸 이벤트를 "data" (comment 는 ":comment") 로 남긴다. release 전까지 첫 send 에서 멈춘다.
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            if (failing) throw new IOException("broken pipe");
+            String raw = builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining());
+            int data = raw.indexOf("data:");
+            sent.add(data < 0 ? raw.trim() : raw.substring(data + "data:".length()).trim());
+            threads.add(Thread.currentThread().getName());
+        }
+    }
+}
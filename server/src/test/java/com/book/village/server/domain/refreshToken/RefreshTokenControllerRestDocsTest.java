@@ -1,7 +1,7 @@
 package com.book.village.server.domain.refreshToken;
 
-import com.book.village.server.auth.jwt.JwtTokenizer;
 import com.book.village.server.auth.jwt.controller.RefreshTokenController;
+import com.book.village.server.auth.jwt.dto.RefreshTokenDto;
 import com.book.village.server.auth.jwt.service.RefreshTokenService;
 import com.book.village.server.global.utils.GenerateMockToken;
 import org.junit.jupiter.api.DisplayName;
@@ -23,7 +23,6 @@ import java.util.List;
 import static com.book.village.server.util.ApiDocumentUtils.getRequestPreProcessor;
 import static com.book.village.server.util.ApiDocumentUtils.getResponsePreProcessor;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
@@ -39,9 +38,6 @@ public class RefreshTokenControllerRestDocsTest {
     @Autowired
     private MockMvc mockMvc;
 
-    @MockBean
-    private JwtTokenizer jwtTokenizer;
-
     @MockBean
     private RefreshTokenService tokenService;
 
@@ -54,10 +50,7 @@ public class RefreshTokenControllerRestDocsTest {
     @DisplayName("액세스 토큰 재발급")
     @WithMockUser
     public void getAccessTokenTest() throws Exception {
-        given(jwtTokenizer.encodeBase64SecretKey(Mockito.anyString())).willReturn("");
-        given(jwtTokenizer.getEmailFromToken(Mockito.anyString(), Mockito.anyString())).willReturn("");
-        doNothing().when(tokenService).verifyToken(Mockito.anyString(),Mockito.anyString());
-        given(tokenService.getAccessToken(Mockito.anyString())).willReturn("");
+        given(tokenService.rotateToken(Mockito.anyString())).willReturn(new RefreshTokenDto("accessToken", "refreshToken"));
 
         ResultActions actions =
                 mockMvc.perform(
@@ -74,7 +67,8 @@ public class RefreshTokenControllerRestDocsTest {
                                 headerWithName("Authorization").description("refresh token")
                         ),
                         responseHeaders(
-                                headerWithName("Authorization").description("new created access token")
+                                headerWithName("Authorization").description("new created access token"),
+                                headerWithName("RefreshToken").description("new refresh token (받은 refresh token 은 폐기된다)")
                         )
                 ));
 
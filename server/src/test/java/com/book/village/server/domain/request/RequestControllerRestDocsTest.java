@@ -1,5 +1,6 @@
 package com.book.village.server.domain.request;
 
+import com.book.village.server.domain.matching.dto.MatchDto;
 import com.book.village.server.domain.member.entity.Member;
 import com.book.village.server.domain.request.controller.RequestController;
 import com.book.village.server.domain.request.dto.RequestDto;
@@ -90,10 +91,12 @@ public class RequestControllerRestDocsTest {
                         "thumbnail",
                         "displayName",
                         0L,
+                        2L,
                         "imgUrl",
                         requestCommentResponse,
                         createdAt,
-                        modifiedAt);
+                        modifiedAt,
+                        null);
 
         given(requestMapper.requestPostDtoToRequest(Mockito.any(RequestDto.Post.class))).willReturn(new Request());
 
@@ -153,6 +156,7 @@ public class RequestControllerRestDocsTest {
                                         fieldWithPath("data.thumbnail").type(JsonFieldType.STRING).description("책 이미지"),
                                         fieldWithPath("data.displayName").type(JsonFieldType.STRING).description("회원 닉네임"),
                                         fieldWithPath("data.view").type(JsonFieldType.NUMBER).description("요청 조회수"),
+                                        fieldWithPath("data.commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                         fieldWithPath("data.imgUrl").type(JsonFieldType.STRING).description("회원 프로필 이미지"),
                                         fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("요청 생성 일자"),
                                         fieldWithPath("data.modifiedAt").type(JsonFieldType.STRING).description("요청 수정 일자"),
@@ -206,10 +210,12 @@ public class RequestControllerRestDocsTest {
                         "thumbnail",
                         "displayName",
                         0L,
+                        2L,
                         "imgUrl",
                         requestCommentResponse,
                         createdAt,
-                        modifiedAt);
+                        modifiedAt,
+                        null);
 
 
         given(requestMapper.requestPatchDtoToRequest(Mockito.any(RequestDto.Patch.class))).willReturn(new Request());
@@ -273,6 +279,7 @@ public class RequestControllerRestDocsTest {
                                         fieldWithPath("data.thumbnail").type(JsonFieldType.STRING).description("책 이미지 프로필"),
                                         fieldWithPath("data.displayName").type(JsonFieldType.STRING).description("회원 닉네임"),
                                         fieldWithPath("data.view").type(JsonFieldType.NUMBER).description("요청 조회수"),
+                                        fieldWithPath("data.commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                         fieldWithPath("data.imgUrl").type(JsonFieldType.STRING).description("회원 프로필 이미지"),
                                         fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("요청 생성 일자"),
                                         fieldWithPath("data.modifiedAt").type(JsonFieldType.STRING).description("요청 수정 일자"),
@@ -314,10 +321,12 @@ public class RequestControllerRestDocsTest {
                             "thumbnail",
                             "displayName",
                             0L,
+                            2L,
                             "imgUrl",
                             requestCommentResponse,
                             createdAt,
-                            modifiedAt);
+                            modifiedAt,
+                            null);
             Request request= new Request(
                     1L,
                     "talkUrl",
@@ -329,13 +338,14 @@ public class RequestControllerRestDocsTest {
                     "thumbnail",
                     "displayName",
                     1L,
+                    2L,
                     new Member("test@gmail.com"),
                     null
             );
 
-            given(requestService.findRequest(Mockito.anyLong())).willReturn(request);
-            given(requestService.updateRequest(Mockito.any(Request.class),Mockito.anyString())).willReturn(request);
+            given(requestService.viewRequest(Mockito.anyLong())).willReturn(request);
             given(requestMapper.requestToRequestResponseDto(Mockito.any(Request.class))).willReturn(response);
+            given(requestService.countUniqueView(Mockito.anyLong(), Mockito.any())).willReturn(1L);
             ResultActions actions =
                     mockMvc.perform(
                             get(BASE_URL + "/{request-id}", requestId)
@@ -351,6 +361,7 @@ public class RequestControllerRestDocsTest {
                     .andExpect(jsonPath("$.data.bookTitle").value(response.getBookTitle()))
                     .andExpect(jsonPath("$.data.author").value(response.getAuthor()))
                     .andExpect(jsonPath("$.data.publisher").value(response.getPublisher()))
+                    .andExpect(jsonPath("$.data.uniqueViews").value(1L))
                     .andDo(document("get-request" ,
                                     getRequestPreProcessor(),
                                     getResponsePreProcessor(),
@@ -370,9 +381,11 @@ public class RequestControllerRestDocsTest {
                                             fieldWithPath("data.displayName").type(JsonFieldType.STRING).description("회원 닉네임"),
                                             fieldWithPath("data.thumbnail").type(JsonFieldType.STRING).description("책 이미지 프로필"),
                                             fieldWithPath("data.view").type(JsonFieldType.NUMBER).description("요청 조회수"),
+                                            fieldWithPath("data.commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                             fieldWithPath("data.imgUrl").type(JsonFieldType.STRING).description("회원 프로필 이미지"),
                                             fieldWithPath("data.createdAt").type(JsonFieldType.STRING).description("요청 생성 일자"),
                                             fieldWithPath("data.modifiedAt").type(JsonFieldType.STRING).description("요청 수정 일자"),
+                                            fieldWithPath("data.uniqueViews").type(JsonFieldType.NUMBER).description("순 방문자 수 (HyperLogLog 추정값)"),
                                             fieldWithPath("data.requestComments").type(JsonFieldType.ARRAY).description("댓글 정보"),
                                             fieldWithPath("data.requestComments.[].requestCommentId").type(JsonFieldType.NUMBER).description("댓글 식별자"),
                                             fieldWithPath("data.requestComments.[].content").type(JsonFieldType.STRING).description("댓글 내용"),
@@ -402,10 +415,12 @@ public class RequestControllerRestDocsTest {
                             "thumbnail1",
                             "displayName1",
                             0L,
+                            2L,
                             "imgUrl1",
                             null,
                             createdAt,
-                            modifiedAt);
+                            modifiedAt,
+                            null);
             RequestDto.Response response2 =
                     new RequestDto.Response(2L, "talkUrl2",
                             "title2",
@@ -416,10 +431,12 @@ public class RequestControllerRestDocsTest {
                             "thumbnail2",
                             "displayName2",
                             0L,
+                            2L,
                             "imgUrl2",
                             null,
                             createdAt,
-                            modifiedAt);
+                            modifiedAt,
+                            null);
 
             List<RequestDto.Response> responseList = new ArrayList<>();
             responseList.add(response1);
@@ -476,6 +493,7 @@ public class RequestControllerRestDocsTest {
                                             fieldWithPath("data.[].displayName").type(JsonFieldType.STRING).description("회원 닉네임"),
                                             fieldWithPath("data.[].imgUrl").type(JsonFieldType.STRING).description("회원 프로필 이미지"),
                                             fieldWithPath("data.[].view").type(JsonFieldType.NUMBER).description("요청 조회수"),
+                                            fieldWithPath("data.[].commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                             fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("요청 생성 일자"),
                                             fieldWithPath("data.[].modifiedAt").type(JsonFieldType.STRING).description("요청 수정 일자"),
                                             fieldWithPath("data.[].requestComments").type(JsonFieldType.NULL).description("댓글 정보"),
@@ -510,10 +528,12 @@ public class RequestControllerRestDocsTest {
                             "thumbnail1",
                             "displayName1",
                             0L,
+                            2L,
                             "imgUrl1",
                             null,
                             createdAt,
-                            modifiedAt);
+                            modifiedAt,
+                            null);
             RequestDto.Response response2 =
                     new RequestDto.Response(2L, "talkUrl2",
                             "title2",
@@ -524,10 +544,12 @@ public class RequestControllerRestDocsTest {
                             "thumbnail2",
                             "displayName2",
                             0L,
+                            2L,
                             "imgUrl2",
                             null,
                             createdAt,
-                            modifiedAt);
+                            modifiedAt,
+                            null);
 
             List<RequestDto.Response> responseList = new ArrayList<>();
             responseList.add(response1);
@@ -567,7 +589,7 @@ public class RequestControllerRestDocsTest {
                     requestParameters(
                             parameterWithName("page").description("페이지 번호"),
                             parameterWithName("size").description("페이지 사이즈"),
-                            parameterWithName("sort").description("정렬 기준[createdAt,desc]")
+                            parameterWithName("sort").description("정렬 기준[createdAt,desc], 댓글 많은 순은 [commentCount,desc]")
                     ),
                     // response body
                     responseFields(
@@ -585,6 +607,7 @@ public class RequestControllerRestDocsTest {
                                     fieldWithPath("data.[].imgUrl").type(JsonFieldType.STRING).description("회원 닉네임"),
                                     fieldWithPath("data.[].displayName").type(JsonFieldType.STRING).description("회원 닉네임"),
                                     fieldWithPath("data.[].view").type(JsonFieldType.NUMBER).description("요청 조회수"),
+                                    fieldWithPath("data.[].commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                     fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("요청 생성 일자"),
                                     fieldWithPath("data.[].modifiedAt").type(JsonFieldType.STRING).description("요청 수정 일자"),
                                     fieldWithPath("data.[].requestComments").type(JsonFieldType.NULL).description("댓글 정보"),
@@ -621,10 +644,12 @@ public class RequestControllerRestDocsTest {
                             "thumbnail1",
                             "displayName1",
                             0L,
+                            2L,
                             "imgUrl1",
                             null,
                             createdAt,
-                            modifiedAt);
+                            modifiedAt,
+                            null);
             RequestDto.Response response2 =
                     new RequestDto.Response(2L, "talkUrl2",
                             "title2",
@@ -635,10 +660,12 @@ public class RequestControllerRestDocsTest {
                             "thumbnail2",
                             "displayName2",
                             0L,
+                            2L,
                             "imgUrl2",
                             null,
                             createdAt,
-                            modifiedAt);
+                            modifiedAt,
+                            null);
 
             List<RequestDto.Response> responseList = new ArrayList<>();
             responseList.add(response1);
@@ -696,6 +723,7 @@ public class RequestControllerRestDocsTest {
                                             fieldWithPath("data.[].thumbnail").type(JsonFieldType.STRING).description("책 이미지"),
                                             fieldWithPath("data.[].displayName").type(JsonFieldType.STRING).description("회원 닉네임"),
                                             fieldWithPath("data.[].view").type(JsonFieldType.NUMBER).description("요청 조회수"),
+                                            fieldWithPath("data.[].commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                             fieldWithPath("data.[].imgUrl").type(JsonFieldType.STRING).description("회원 프로필 이미지"),
                                             fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("요청 생성 일자"),
                                             fieldWithPath("data.[].modifiedAt").type(JsonFieldType.STRING).description("요청 수정 일자"),
@@ -743,4 +771,43 @@ public class RequestControllerRestDocsTest {
 
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("요청글과 매칭된 나눔글 조회")
+    public void getRequestMatchesTest() throws Exception {
+        long requestId = 1L;
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<MatchDto.Response> matches = List.of(
+                new MatchDto.Response(3L, "title3", "bookTitle", "author", "publisher", "thumbnail", "displayName3", createdAt),
+                new MatchDto.Response(2L, "title2", "bookTitle", "author", "publisher2", "thumbnail", "displayName2", createdAt));
+
+        given(requestService.findMatchingBorrows(Mockito.anyLong())).willReturn(matches);
+
+        ResultActions actions = mockMvc.perform(
+                get(BASE_URL + "/{request-id}/matches", requestId)
+                        .accept(MediaType.APPLICATION_JSON));
+
+        actions.andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(3L))
+                .andDo(document(
+                        "get-request-matches",
+                        getResponsePreProcessor(),
+                        pathParameters(
+                                parameterWithName("request-id").description("요청 식별자")
+                        ),
+                        responseFields(
+                                List.of(
+                                        fieldWithPath("data").type(JsonFieldType.ARRAY).description("매칭된 나눔글 (출판사가 같은 글, 최신 글 순)"),
+                                        fieldWithPath("data.[].id").type(JsonFieldType.NUMBER).description("나눔글 식별자"),
+                                        fieldWithPath("data.[].title").type(JsonFieldType.STRING).description("나눔글 제목"),
+                                        fieldWithPath("data.[].bookTitle").type(JsonFieldType.STRING).description("책 제목"),
+                                        fieldWithPath("data.[].author").type(JsonFieldType.STRING).description("책 저자"),
+                                        fieldWithPath("data.[].publisher").type(JsonFieldType.STRING).description("책 출판사"),
+                                        fieldWithPath("data.[].thumbnail").type(JsonFieldType.STRING).description("책 이미지"),
+                                        fieldWithPath("data.[].displayName").type(JsonFieldType.STRING).description("작성자 닉네임"),
+                                        fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("생성 일자")
+                                )
+                        )
+                ));
+    }
 }
@@ -0,0 +1,124 @@
+package com.book.village.server.global;
+
+import com.book.village.server.global.controller.QueryStatisticsController;
+import com.book.village.server.global.query.QueryStatistics;
+import com.book.village.server.global.query.QueryStatisticsDto;
+import com.book.village.server.global.utils.GenerateMockToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.book.village.server.util.ApiDocumentUtils.getRequestPreProcessor;
+import static com.book.village.server.util.ApiDocumentUtils.getResponsePreProcessor;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(QueryStatisticsController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+@AutoConfigureRestDocs
+public class QueryStatisticsRestDocsTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private QueryStatistics queryStatistics;
+
+    private static final String url = "/v1/admin/queries";
+
+    @Test
+    @DisplayName("SQL 실행 통계 조회")
+    @WithMockUser(roles = "ADMIN")
+    public void getQueriesTest() throws Exception {
+        String sql = "select book0_.book_id as book_id1_0_ from book book0_ where book0_.isbn=?";
+        given(queryStatistics.getSlowQueryThresholdMillis()).willReturn(200L);
+        given(queryStatistics.findStatements(Mockito.anyInt())).willReturn(List.of(
+                new QueryStatisticsDto.Statement(sql, 42L, 84.5, 2.01, 12.3, 42L)));
+        given(queryStatistics.findSlowQueries()).willReturn(List.of(
+                new QueryStatisticsDto.SlowQuery(sql, 312.4, 1L, "BookController#getBook", "GET /v1/books/1",
+                        LocalDateTime.now())));
+
+        ResultActions actions =
+                mockMvc.perform(
+                        get(url)
+                                .param("size", "20")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .headers(GenerateMockToken.getMockHeaderToken())
+                );
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.statements[0].calls").value(42))
+                .andExpect(jsonPath("$.data.slowQueries[0].handler").value("BookController#getBook"))
+                .andDo(document("get-query-statistics",
+                        getRequestPreProcessor(),
+                        getResponsePreProcessor(),
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer Token (관리자)")
+                        ),
+                        requestParameters(
+                                parameterWithName("size").description("누적 실행 시간 상위 SQL 개수 (기본 20)")
+                        ),
+                        responseFields(
+                                fieldWithPath("data.slowQueryThresholdMillis").type(JsonFieldType.NUMBER).description("느린 쿼리 기준 (ms)"),
+                                fieldWithPath("data.statements[].sql").type(JsonFieldType.STRING).description("SQL"),
+                                fieldWithPath("data.statements[].calls").type(JsonFieldType.NUMBER).description("실행 횟수"),
+                                fieldWithPath("data.statements[].totalMillis").type(JsonFieldType.NUMBER).description("누적 실행 시간 (ms)"),
+                                fieldWithPath("data.statements[].avgMillis").type(JsonFieldType.NUMBER).description("평균 실행 시간 (ms)"),
+                                fieldWithPath("data.statements[].maxMillis").type(JsonFieldType.NUMBER).description("최대 실행 시간 (ms)"),
+                                fieldWithPath("data.statements[].rows").type(JsonFieldType.NUMBER).description("조회/변경된 누적 행 수"),
+                                fieldWithPath("data.slowQueries[].sql").type(JsonFieldType.STRING).description("SQL"),
+                                fieldWithPath("data.slowQueries[].elapsedMillis").type(JsonFieldType.NUMBER).description("실행 시간 (ms)"),
+                                fieldWithPath("data.slowQueries[].rows").type(JsonFieldType.NUMBER).description("조회/변경된 행 수"),
+                                fieldWithPath("data.slowQueries[].handler").type(JsonFieldType.STRING).description("실행한 컨트롤러 메서드"),
+                                fieldWithPath("data.slowQueries[].request").type(JsonFieldType.STRING).description("HTTP 요청"),
+                                fieldWithPath("data.slowQueries[].occurredAt").type(JsonFieldType.STRING).description("발생 시각")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("SQL 실행 통계 초기화")
+    @WithMockUser(roles = "ADMIN")
+    public void resetQueriesTest() throws Exception {
+        ResultActions actions =
+                mockMvc.perform(
+                        delete(url)
+                                .with(csrf())
+                                .headers(GenerateMockToken.getMockHeaderToken())
+                );
+        actions
+                .andExpect(status().isNoContent())
+                .andDo(document("delete-query-statistics",
+                        getRequestPreProcessor(),
+                        getResponsePreProcessor(),
+                        requestHeaders(
+                                headerWithName("Authorization").description("Bearer Token (관리자)")
+                        )
+                ));
+        verify(queryStatistics).reset();
+    }
+}
@@ -0,0 +1,192 @@
+package com.book.village.server.global.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class ResponseCacheFilterTest {
+    // min-compress-size (512) 보다 긴 JSON
+    private static final String BODY = "{\"data\":\"" + "book".repeat(200) + "\"}";
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private ResponseCache responseCache;
+    private ResponseCacheFilter filter;
+    // 컨트롤러까지 간 횟수
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        ObjectProvider<MeterRegistry> meterRegistry = mock(ObjectProvider.class);
+        responseCache = new ResponseCache(redisTemplate, "response-cache", Duration.ofSeconds(30), 1000, 512, meterRegistry);
+        responseCache.markSubscribed();
+        filter = new ResponseCacheFilter(responseCache);
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                calls.incrementAndGet();
+                resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                resp.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        }, filter).doFilter(request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+
+    @Test
+    @DisplayName("비로그인 GET 은 두 번째부터 캐시에서 내려준다")
+    void anonymousGetTest() throws Exception {
+        MockHttpServletResponse first = perform(get("/v1/borrows"));
+        MockHttpServletResponse second = perform(get("/v1/borrows"));
+
+        assertThat(calls).hasValue(1);
+        assertThat(second.getContentAsString()).isEqualTo(BODY).isEqualTo(first.getContentAsString());
+        assertThat(second.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(second.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    @DisplayName("GET 이 아니거나 첫 페이지가 아니면 캐시하지 않는다")
+    void notCachedTest() throws Exception {
+        perform(new MockHttpServletRequest("POST", "/v1/borrows"));
+        perform(new MockHttpServletRequest("POST", "/v1/borrows"));
+        MockHttpServletRequest secondPage = get("/v1/borrows");
+        secondPage.setParameter("page", "1");
+        perform(secondPage);
+        perform(secondPage);
+        MockHttpServletRequest search = get("/v1/borrows");
+        search.setParameter("bookTitle", "java");
+        perform(search);
+        perform(search);
+
+        assertThat(calls).hasValue(6);
+    }
+
+    @Test
+    @DisplayName("Authorization 헤더가 있는 요청은 캐시를 읽지도 쓰지도 않는다")
+    void authenticatedTest() throws Exception {
+        MockHttpServletRequest authenticated = get("/v1/borrows");
+        authenticated.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        perform(authenticated);
+        perform(authenticated);
+        assertThat(calls).hasValue(2);
+
+        // 로그인 응답이 저장되지 않았으므로 비로그인 요청도 컨트롤러까지 간다.
+        perform(get("/v1/borrows"));
+        assertThat(calls).hasValue(3);
+
+        // 비로그인 응답이 저장된 뒤에도 로그인 요청은 캐시를 쓰지 않는다.
+        perform(authenticated);
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 에 gzip 이 있을 때만 gzip 본문을 내려준다")
+    void gzipTest() throws Exception {
+        perform(get("/v1/books/1"));
+
+        MockHttpServletRequest gzip = get("/v1/books/1");
+        gzip.addHeader(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8");
+        MockHttpServletResponse gzipped = perform(gzip);
+        assertThat(gzipped.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gunzip(gzipped.getContentAsByteArray())).isEqualTo(BODY);
+        assertThat(gzipped.getContentLength()).isEqualTo(gzipped.getContentAsByteArray().length);
+
+        MockHttpServletRequest refused = get("/v1/books/1");
+        refused.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+        MockHttpServletResponse plain = perform(refused);
+        assertThat(plain.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(plain.getContentAsString()).isEqualTo(BODY);
+
+        assertThat(perform(get("/v1/books/1")).getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("영역을 비우면 그 영역의 응답만 다시 만든다")
+    void evictTest() throws Exception {
+        perform(get("/v1/borrows"));
+        perform(get("/v1/requests"));
+        perform(get("/v1/books/1"));
+
+        responseCache.evict(ResponseCache.BORROWS);
+        perform(get("/v1/borrows"));
+        perform(get("/v1/requests"));
+        perform(get("/v1/books/1"));
+        assertThat(calls).hasValue(4);
+        verify(redisTemplate).convertAndSend("response-cache", ResponseCache.BORROWS);
+
+        // 다른 서버에서 온 비우기
+        responseCache.onMessage(new DefaultMessage(
+                "response-cache".getBytes(StandardCharsets.UTF_8), ResponseCache.REQUESTS.getBytes(StandardCharsets.UTF_8)), null);
+        perform(get("/v1/requests"));
+        assertThat(calls).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("도서 전체 비우기는 모든 도서 영역을 비운다")
+    void evictBooksTest() throws Exception {
+        perform(get("/v1/books/1"));
+        perform(get("/v1/books/2"));
+        perform(get("/v1/borrows"));
+
+        responseCache.evict(ResponseCache.BOOKS);
+        perform(get("/v1/books/1"));
+        perform(get("/v1/books/2"));
+        perform(get("/v1/borrows"));
+
+        assertThat(calls).hasValue(5);
+        verify(redisTemplate).convertAndSend(eq("response-cache"), anyString());
+    }
+
+    @Test
+    @DisplayName("응답을 만드는 사이에 비워지면 그 응답은 저장하지 않는다")
+    void evictWhileBuildingTest() {
+        long version = responseCache.version();
+        responseCache.evict(ResponseCache.BORROWS);
+        responseCache.put("/v1/borrows?", ResponseCache.BORROWS, MediaType.APPLICATION_JSON_VALUE,
+                BODY.getBytes(StandardCharsets.UTF_8), version);
+
+        assertThat(responseCache.get("/v1/borrows?")).isNull();
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return StreamUtils.copyToString(in, StandardCharsets.UTF_8);
+        }
+    }
+}
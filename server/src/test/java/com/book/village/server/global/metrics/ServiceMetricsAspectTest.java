@@ -0,0 +1,86 @@
+package com.book.village.server.global.metrics;
+
+import com.book.village.server.global.exception.CustomLogicException;
+import com.book.village.server.global.exception.ExceptionCode;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ServiceMetricsAspectTest {
+    private SimpleMeterRegistry meterRegistry;
+    private SampleService sampleService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        sampleService = factory.getProxy();
+    }
+
+    private Timer timer(String method, String outcome) {
+        return meterRegistry.find(ServiceMetricsAspect.METRIC_NAME)
+                .tags("class", "SampleService", "method", method, "outcome", outcome)
+                .timer();
+    }
+
+    @Test
+    @DisplayName("성공한 호출은 SUCCESS 로 기록한다")
+    void successTest() {
+        assertThat(sampleService.find(1L)).isEqualTo("book-1");
+        assertThat(sampleService.find(2L)).isEqualTo("book-2");
+
+        assertThat(timer("find", "SUCCESS").count()).isEqualTo(2);
+        assertThat(timer("find", "ERROR").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("예외는 ERROR 로 기록하고 그대로 던진다")
+    void errorTest() {
+        assertThatThrownBy(() -> sampleService.fail())
+                .isInstanceOf(CustomLogicException.class);
+
+        assertThat(timer("fail", "ERROR").count()).isEqualTo(1);
+        assertThat(timer("fail", "SUCCESS").count()).isZero();
+        assertThat(timer("fail", "ERROR").totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("@Service 가 아닌 클래스는 기록하지 않는다")
+    void notServiceTest() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleHelper());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        SampleHelper helper = factory.getProxy();
+
+        helper.help();
+
+        assertThat(meterRegistry.find(ServiceMetricsAspect.METRIC_NAME).timers()).isEmpty();
+    }
+
+    @Service
+    public static class SampleService {
+        public String find(Long id) {
+            return "book-" + id;
+        }
+
+        public void fail() {
+            throw new CustomLogicException(ExceptionCode.BOOK_NOT_FOUND);
+        }
+    }
+
+    public static class SampleHelper {
+        public void help() {
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.book.village.server.global.ratelimit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimitFilterTest {
+    private final RateLimiter rateLimiter = rateLimiter();
+
+    // write: member 1 개 / ip 2 개, 1 초에 하나 채움
+    private static RateLimiter rateLimiter() {
+        RateLimitProperties properties = new RateLimitProperties();
+        RateLimitProperties.Group group = new RateLimitProperties.Group();
+        group.setMethods(List.of("POST"));
+        group.setPatterns(List.of("/v1/**"));
+        group.setMember(limit(1));
+        group.setIp(limit(2));
+        properties.getGroups().put("write", group);
+        return new RateLimiter(properties, null, null);
+    }
+
+    private static RateLimitProperties.Limit limit(long capacity) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPerSecond(1);
+        return limit;
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static MockHttpServletResponse post(RateLimitFilter filter, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/borrows");
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    // 보안 필터 순서대로 client -> member 를 거친다.
+    private MockHttpServletResponse postThroughBoth() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+            }
+        }, RateLimitFilter.client(rateLimiter), RateLimitFilter.member(rateLimiter))
+                .doFilter(new MockHttpServletRequest("POST", "/v1/borrows"), response);
+        return response;
+    }
+
+    @Test
+    @DisplayName("IP 한도를 넘으면 429 와 Retry-After")
+    void clientLimitTest() throws Exception {
+        RateLimitFilter filter = RateLimitFilter.client(rateLimiter);
+
+        assertThat(post(filter, "203.0.113.1").getStatus()).isEqualTo(200);
+        assertThat(post(filter, "203.0.113.1").getStatus()).isEqualTo(200);
+        MockHttpServletResponse rejected = post(filter, "203.0.113.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(rejected.getContentAsString()).contains("\"status\":429");
+        // 다른 클라이언트는 영향이 없다.
+        assertThat(post(filter, "203.0.113.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("회원 한도는 로그인한 요청에만 적용된다")
+    void memberLimitTest() throws Exception {
+        RateLimitFilter filter = RateLimitFilter.member(rateLimiter);
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        assertThat(post(filter, "203.0.113.1").getStatus()).isEqualTo(200);
+        assertThat(post(filter, "203.0.113.1").getStatus()).isEqualTo(200);
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "a@b.com", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+        assertThat(post(filter, "203.0.113.1").getStatus()).isEqualTo(200);
+        assertThat(post(filter, "203.0.113.2").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("client, member 필터는 한 요청에서 둘 다 돈다")
+    void bothFiltersTest() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "a@b.com", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+        MockHttpServletResponse response = postThroughBoth();
+        MockHttpServletResponse second = postThroughBoth();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        // 두 번째 요청은 IP 한도 (2) 안이지만 회원 한도 (1) 를 넘는다.
+        assertThat(second.getStatus()).isEqualTo(429);
+    }
+}
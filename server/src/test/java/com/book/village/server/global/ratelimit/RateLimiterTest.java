@@ -0,0 +1,93 @@
+package com.book.village.server.global.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimiterTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // search: member 3 개 / ip 2 개, 초당 10 개 (100ms 에 하나) 채움
+    private RateLimiter rateLimiter() {
+        RateLimitProperties properties = new RateLimitProperties();
+        RateLimitProperties.Group group = new RateLimitProperties.Group();
+        group.setMethods(List.of("get"));
+        group.setPatterns(List.of("/v1/borrows/search"));
+        group.setMember(limit(3, 10));
+        group.setIp(limit(2, 10));
+        properties.getGroups().put("search", group);
+        return new RateLimiter(properties, null, meterRegistry);
+    }
+
+    private static RateLimitProperties.Limit limit(long capacity, double refillPerSecond) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPerSecond(refillPerSecond);
+        return limit;
+    }
+
+    @Test
+    @DisplayName("capacity 만큼 한 번에 통과하고 그 다음은 기다릴 시간을 돌려준다")
+    void burstTest() {
+        RateLimiter rateLimiter = rateLimiter();
+
+        assertThat(rateLimiter.tryAcquire("GET", "/v1/borrows/search", "10.0.0.1")).isZero();
+        assertThat(rateLimiter.tryAcquire("GET", "/v1/borrows/search", "10.0.0.1")).isZero();
+        assertThat(rateLimiter.tryAcquire("GET", "/v1/borrows/search", "10.0.0.1")).isBetween(1L, 100L);
+        assertThat(meterRegistry.get(RateLimiter.REJECTED_METRIC_NAME).tag("group", "search").tag("scope", "ip").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기다린 만큼 다시 채워진다")
+    void refillTest() throws InterruptedException {
+        RateLimiter rateLimiter = rateLimiter();
+        for (int i = 0; i < 3; i++) rateLimiter.tryAcquireMember("GET", "/v1/borrows/search", "a@b.com");
+        long waitMillis = rateLimiter.tryAcquireMember("GET", "/v1/borrows/search", "a@b.com");
+        assertThat(waitMillis).isBetween(1L, 100L);
+
+        Thread.sleep(waitMillis + 20);
+
+        assertThat(rateLimiter.tryAcquireMember("GET", "/v1/borrows/search", "a@b.com")).isZero();
+        assertThat(rateLimiter.tryAcquireMember("GET", "/v1/borrows/search", "a@b.com")).isPositive();
+    }
+
+    @Test
+    @DisplayName("bucket 은 IP, 회원마다 따로다")
+    void bucketPerKeyTest() {
+        RateLimiter rateLimiter = rateLimiter();
+        for (int i = 0; i < 2; i++) rateLimiter.tryAcquire("GET", "/v1/borrows/search", "10.0.0.1");
+
+        assertThat(rateLimiter.tryAcquire("GET", "/v1/borrows/search", "10.0.0.1")).isPositive();
+        assertThat(rateLimiter.tryAcquire("GET", "/v1/borrows/search", "10.0.0.2")).isZero();
+        assertThat(rateLimiter.tryAcquireMember("GET", "/v1/borrows/search", "a@b.com")).isZero();
+    }
+
+    @Test
+    @DisplayName("그룹에 맞지 않는 요청은 제한하지 않는다")
+    void unmatchedTest() {
+        RateLimiter rateLimiter = rateLimiter();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimiter.tryAcquire("POST", "/v1/borrows/search", "10.0.0.1")).isZero();
+            assertThat(rateLimiter.tryAcquire("GET", "/v1/borrows", "10.0.0.1")).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("가득 찬 bucket 은 sweep 에서 지운다")
+    void sweepTest() throws InterruptedException {
+        RateLimiter rateLimiter = rateLimiter();
+        rateLimiter.tryAcquire("GET", "/v1/borrows/search", "10.0.0.1");
+        assertThat(meterRegistry.get("rate.limit.buckets").gauge().value()).isEqualTo(1);
+
+        Thread.sleep(150);
+        rateLimiter.sweep();
+
+        assertThat(meterRegistry.get("rate.limit.buckets").gauge().value()).isZero();
+    }
+}
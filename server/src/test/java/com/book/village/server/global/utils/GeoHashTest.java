@@ -0,0 +1,128 @@
+package com.book.village.server.global.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class GeoHashTest {
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    @Test
+    @DisplayName("알려진 좌표의 geohash")
+    void encodeTest() {
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHash.encode(37.5665, 126.9780, 6)).isEqualTo("wydm9q");
+    }
+
+    @Test
+    @DisplayName("거리 (서울 - 부산)")
+    void distanceTest() {
+        assertThat(GeoHash.distanceKm(37.5665, 126.9780, 35.1796, 129.0756)).isCloseTo(325, within(5.0));
+        assertThat(GeoHash.distanceKm(37.5665, 126.9780, 37.5665, 126.9780)).isZero();
+    }
+
+    @Test
+    @DisplayName("반경 경계에 있는 점도 covering cell 안에 있다")
+    void radiusEdgeTest() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            double latitude = -60 + random.nextDouble() * 120;
+            double longitude = -180 + random.nextDouble() * 360;
+            double radiusKm = 0.1 + random.nextDouble() * 50;
+            assertCovered(latitude, longitude, radiusKm);
+        }
+    }
+
+    @Test
+    @DisplayName("중심이 cell 경계 바로 옆이면 경계 너머 cell 도 포함한다")
+    void cellBoundaryTest() {
+        double radiusKm = 3;
+        int precision = GeoHash.precisionFor(37.5, radiusKm);
+        double width = GeoHash.cellWidth(precision);
+        double height = GeoHash.cellHeight(precision);
+        // 127 도 근처의 cell 경계 (경도/위도 모두)
+        double boundaryLng = Math.floor(127.0 / width) * width;
+        double boundaryLat = Math.floor(37.5 / height) * height;
+
+        for (double offset : new double[]{1e-7, -1e-7}) {
+            double latitude = boundaryLat + offset;
+            double longitude = boundaryLng + offset;
+            List<String> cells = GeoHash.coveringCells(latitude, longitude, radiusKm);
+
+            assertThat(cells).hasSize(9).doesNotHaveDuplicates();
+            assertThat(cells).contains(GeoHash.encode(latitude, longitude, precision));
+            // 경계 건너편 점
+            assertThat(cells).contains(GeoHash.encode(latitude, longitude - offset * 2, precision));
+            assertCovered(latitude, longitude, radiusKm);
+        }
+    }
+
+    @Test
+    @DisplayName("날짜 변경선을 넘는 반경")
+    void antimeridianTest() {
+        double latitude = 10;
+        double longitude = 179.999;
+        double radiusKm = 5;
+        List<String> cells = GeoHash.coveringCells(latitude, longitude, radiusKm);
+
+        assertThat(cells).contains(GeoHash.encode(latitude, -179.999, GeoHash.precisionFor(latitude, radiusKm)));
+        assertCovered(latitude, longitude, radiusKm);
+    }
+
+    @Test
+    @DisplayName("극 근처에서도 cell 을 만든다")
+    void poleTest() {
+        List<String> cells = GeoHash.coveringCells(89.9999, 0, 10);
+
+        assertThat(cells).isNotEmpty().doesNotHaveDuplicates();
+        assertThat(cells).allSatisfy(cell -> assertThat(cell).hasSize(GeoHash.precisionFor(89.9999, 10)));
+    }
+
+    @Test
+    @DisplayName("cell 한 변은 반경 이상이다")
+    void precisionTest() {
+        for (double radiusKm : new double[]{0.05, 0.5, 1, 5, 20, 100}) {
+            int precision = GeoHash.precisionFor(37.5, radiusKm);
+            double kmPerDegree = Math.PI * EARTH_RADIUS_KM / 180;
+
+            assertThat(GeoHash.cellHeight(precision) * kmPerDegree).isGreaterThanOrEqualTo(radiusKm);
+            assertThat(GeoHash.cellWidth(precision) * kmPerDegree * Math.cos(Math.toRadians(37.5))).isGreaterThanOrEqualTo(radiusKm);
+            if (precision < GeoHash.MAX_PRECISION) {
+                // 한 단계 더 잘게 나누면 반경보다 작아진다 (가장 긴 precision)
+                assertThat(GeoHash.cellHeight(precision + 1) * kmPerDegree < radiusKm
+                        || GeoHash.cellWidth(precision + 1) * kmPerDegree * Math.cos(Math.toRadians(37.5)) < radiusKm).isTrue();
+            }
+        }
+    }
+
+    // 중심에서 반경 바로 안쪽의 16 방향 점이 모두 covering cell 에 들어가는지
+    private static void assertCovered(double latitude, double longitude, double radiusKm) {
+        List<String> cells = GeoHash.coveringCells(latitude, longitude, radiusKm);
+        int precision = GeoHash.precisionFor(latitude, radiusKm);
+        for (int bearing = 0; bearing < 360; bearing += 360 / 16) {
+            double[] point = destination(latitude, longitude, bearing, radiusKm * 0.999);
+            assertThat(GeoHash.distanceKm(latitude, longitude, point[0], point[1])).isLessThanOrEqualTo(radiusKm);
+            assertThat(cells)
+                    .as("center (%f, %f) radius %f bearing %d", latitude, longitude, radiusKm, bearing)
+                    .contains(GeoHash.encode(point[0], point[1], precision));
+        }
+    }
+
+    // 대원 위에서 bearing 방향으로 distanceKm 간 점
+    private static double[] destination(double latitude, double longitude, double bearing, double distanceKm) {
+        double angular = distanceKm / EARTH_RADIUS_KM;
+        double lat1 = Math.toRadians(latitude);
+        double lng1 = Math.toRadians(longitude);
+        double theta = Math.toRadians(bearing);
+        double lat2 = Math.asin(Math.sin(lat1) * Math.cos(angular) + Math.cos(lat1) * Math.sin(angular) * Math.cos(theta));
+        double lng2 = lng1 + Math.atan2(Math.sin(theta) * Math.sin(angular) * Math.cos(lat1),
+                Math.cos(angular) - Math.sin(lat1) * Math.sin(lat2));
+        double lng = (Math.toDegrees(lng2) + 540) % 360 - 180;
+        return new double[]{Math.toDegrees(lat2), lng};
+    }
+}
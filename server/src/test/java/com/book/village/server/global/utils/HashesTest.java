@@ -0,0 +1,26 @@
+package com.book.village.server.global.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HashesTest {
+
+    @Test
+    @DisplayName("sha256Hex 는 UTF-8 바이트의 sha256 을 소문자 hex 64 자로 돌려준다")
+    void sha256Hex() {
+        assertThat(Hashes.sha256Hex("abc"))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+        assertThat(Hashes.sha256Hex("책마을")).hasSize(64)
+                .isEqualTo(Hashes.hex(Hashes.sha256().digest("책마을".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    @DisplayName("hex 는 음수 byte 도 두 자리로 쓴다")
+    void hex() {
+        assertThat(Hashes.hex(new byte[]{0x00, 0x0f, (byte) 0xa0, (byte) 0xff})).isEqualTo("000fa0ff");
+    }
+}
@@ -0,0 +1,175 @@
+package com.book.village.server.global.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RequestCoalescerTest {
+    private static final int CALLERS = 16;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+    private final List<Set<Long>> loads = new CopyOnWriteArrayList<>();
+    // 첫 조회를 붙잡아 두어 뒤에 온 요청이 모이게 한다.
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    // 첫 조회는 release 까지 멈춘다. 값은 "v" + id
+    private Function<Set<Long>, Map<Long, String>> loader(RuntimeException failure) {
+        return ids -> {
+            loads.add(ids);
+            if (loads.size() == 1) await(release);
+            else if (failure != null) throw failure;
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> "v" + id));
+        };
+    }
+
+    private Future<String> call(RequestCoalescer<Long, String> coalescer, long id) {
+        return executor.submit(() -> {
+            threads.add(Thread.currentThread());
+            return coalescer.get(id);
+        });
+    }
+
+    // 첫 조회를 붙잡은 뒤 CALLERS 개의 요청이 모두 batch 에 들어가 기다릴 때까지
+    private List<Future<String>> contended(RequestCoalescer<Long, String> coalescer) throws InterruptedException {
+        Future<String> first = call(coalescer, 0);
+        waitUntil(() -> loads.size() == 1);
+        List<Future<String>> futures = new ArrayList<>();
+        futures.add(first);
+        for (long id = 1; id <= CALLERS; id++) futures.add(call(coalescer, id));
+        waitUntil(() -> threads.size() == CALLERS + 1 && threads.stream().allMatch(thread ->
+                thread.getState() == Thread.State.WAITING || thread.getState() == Thread.State.TIMED_WAITING));
+        return futures;
+    }
+
+    @Test
+    @DisplayName("돌고 있는 조회가 없으면 window 를 기다리지 않는다")
+    void uncontendedTest() {
+        RequestCoalescer<Long, String> coalescer = new RequestCoalescer<>(
+                ids -> ids.stream().collect(Collectors.toMap(id -> id, id -> "v" + id)), Duration.ofSeconds(10), 100);
+
+        long start = System.nanoTime();
+        for (long id = 0; id < 100; id++) assertThat(coalescer.get(id)).isEqualTo("v" + id);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("조회가 도는 동안 온 요청은 한 번의 조회로 모이고 각자 자기 결과를 받는다")
+    void coalesceTest() throws Exception {
+        RequestCoalescer<Long, String> coalescer = new RequestCoalescer<>(loader(null), Duration.ofSeconds(10), 100);
+        List<Future<String>> futures = contended(coalescer);
+        // 같은 id 를 두 번 부른 요청도 같은 조회에 들어간다.
+        futures.add(call(coalescer, 1));
+        waitUntil(() -> threads.size() == CALLERS + 2 && threads.get(CALLERS + 1).getState() == Thread.State.WAITING);
+
+        long start = System.nanoTime();
+        release.countDown();
+        for (int i = 0; i <= CALLERS; i++) assertThat(futures.get(i).get(5, TimeUnit.SECONDS)).isEqualTo("v" + i);
+        assertThat(futures.get(CALLERS + 1).get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+
+        assertThat(loads).hasSize(2);
+        assertThat(loads.get(1)).hasSize(CALLERS).doesNotContain(0L);
+        // 앞 조회가 끝나면 window (10s) 를 다 기다리지 않는다.
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("loader 가 실패하면 모인 요청 모두가 같은 예외를 받는다")
+    void failureTest() throws Exception {
+        IllegalStateException failure = new IllegalStateException("load failed");
+        RequestCoalescer<Long, String> coalescer = new RequestCoalescer<>(loader(failure), Duration.ofSeconds(10), 100);
+        List<Future<String>> futures = contended(coalescer);
+
+        release.countDown();
+
+        assertThat(futures.get(0).get(5, TimeUnit.SECONDS)).isEqualTo("v0");
+        for (Future<String> future : futures.subList(1, futures.size())) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .getCause().isSameAs(failure);
+        }
+        assertThat(loads).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("앞 조회가 길어지면 window 가 지난 뒤 조회한다")
+    void windowTest() throws Exception {
+        RequestCoalescer<Long, String> coalescer = new RequestCoalescer<>(loader(null), Duration.ofMillis(50), 100);
+        Future<String> first = call(coalescer, 0);
+        waitUntil(() -> loads.size() == 1);
+
+        assertThat(call(coalescer, 1).get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+        assertThat(first.isDone()).isFalse();
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("v0");
+    }
+
+    @Test
+    @DisplayName("batch 는 max-size 를 넘지 않는다")
+    void maxSizeTest() throws Exception {
+        RequestCoalescer<Long, String> coalescer = new RequestCoalescer<>(loader(null), Duration.ofSeconds(10), 4);
+        Future<String> first = call(coalescer, 0);
+        waitUntil(() -> loads.size() == 1);
+        List<Future<String>> futures = new ArrayList<>();
+        for (long id = 1; id <= CALLERS; id++) futures.add(call(coalescer, id));
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        for (int i = 0; i < CALLERS; i++) assertThat(futures.get(i).get(5, TimeUnit.SECONDS)).isEqualTo("v" + (i + 1));
+
+        Set<Long> loaded = new HashSet<>();
+        for (Set<Long> ids : loads.subList(1, loads.size())) {
+            assertThat(ids).hasSizeLessThanOrEqualTo(4);
+            loaded.addAll(ids);
+        }
+        assertThat(loaded).hasSize(CALLERS);
+    }
+
+    private static void waitUntil(Check check) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!check.done()) {
+            if (System.nanoTime() > deadline) throw new AssertionError("timed out");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Check {
+        boolean done();
+    }
+}
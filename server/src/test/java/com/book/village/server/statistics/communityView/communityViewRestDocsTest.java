@@ -70,10 +70,12 @@ public class communityViewRestDocsTest {
                 "content1",
                 "displayName1",
                 1L,
+                2L,
                 "imgUrl1",
                 null,
                 createdAt1,
-                createdAt1
+                createdAt1,
+                null
         );
         CommunityDto.Response response2 = new CommunityDto.Response(
                 2L,
@@ -82,10 +84,12 @@ public class communityViewRestDocsTest {
                 "content2",
                 "displayName2",
                 1L,
+                2L,
                 "imgUrl2",
                 null,
                 createdAt2,
-                createdAt2
+                createdAt2,
+                null
         );
 
         List<CommunityDto.Response> responseList = new ArrayList<>();
@@ -99,6 +103,7 @@ public class communityViewRestDocsTest {
                 "content1",
                 "displayName1",
                 1L,
+                2L,
                 new Member(),
                 null));
         list.add(new Community(
@@ -108,6 +113,7 @@ public class communityViewRestDocsTest {
                 "content2",
                 "displayName2",
                 1L,
+                2L,
                 new Member(),
                 null));
 
@@ -149,6 +155,7 @@ public class communityViewRestDocsTest {
                                         fieldWithPath("data.[].content").type(JsonFieldType.STRING).description("내용"),
                                         fieldWithPath("data.[].displayName").type(JsonFieldType.STRING).description("작성자"),
                                         fieldWithPath("data.[].view").type(JsonFieldType.NUMBER).description("조회수"),
+                                        fieldWithPath("data.[].commentCount").type(JsonFieldType.NUMBER).description("댓글 수"),
                                         fieldWithPath("data.[].imgUrl").type(JsonFieldType.STRING).description("작성자 프로필 이미지"),
                                         fieldWithPath("data.[].createdAt").type(JsonFieldType.STRING).description("생성 일자"),
                                         fieldWithPath("data.[].modifiedAt").type(JsonFieldType.STRING).description("수정 일자"),
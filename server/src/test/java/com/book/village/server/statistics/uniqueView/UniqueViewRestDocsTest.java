@@ -0,0 +1,96 @@
+package com.book.village.server.statistics.uniqueView;
+
+import com.book.village.server.domain.statistics.controller.StatisticsController;
+import com.book.village.server.domain.statistics.dto.StatisticsDto;
+import com.book.village.server.domain.statistics.service.UniqueViewService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.book.village.server.util.ApiDocumentUtils.getResponsePreProcessor;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(StatisticsController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+@AutoConfigureRestDocs
+public class UniqueViewRestDocsTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UniqueViewService uniqueViewService;
+
+    private static final String url = "/v1/statistics/unique-views";
+
+    @Test
+    @DisplayName("글 순 방문자 수 조회")
+    @WithMockUser
+    public void getUniqueViewsTest() throws Exception {
+        LocalDate today = LocalDate.now();
+        StatisticsDto.UniqueViews uniqueViews = new StatisticsDto.UniqueViews(
+                StatisticsDto.PostType.BORROW,
+                1L,
+                StatisticsDto.Period.WEEK,
+                today.minusDays(6L),
+                today,
+                42L
+        );
+
+        given(uniqueViewService.count(StatisticsDto.PostType.BORROW, 1L, StatisticsDto.Period.WEEK)).willReturn(uniqueViews);
+
+        ResultActions actions =
+                mockMvc.perform(
+                        get(url)
+                                .param("postType", "BORROW")
+                                .param("postId", "1")
+                                .param("period", "WEEK")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .with(csrf())
+                );
+        actions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.uniqueViews").value(42L))
+                .andDo(document("statistics-unique-views",
+                        getResponsePreProcessor(),
+                        requestParameters(
+                                parameterWithName("postType").description("글 종류[BORROW, REQUEST, COMMUNITY]"),
+                                parameterWithName("postId").description("글 식별자"),
+                                parameterWithName("period").description("기간[DAY, WEEK, MONTH, TOTAL] (기본 TOTAL)").optional(),
+                                parameterWithName("_csrf").description("csrf")
+                        ),
+                        // response body
+                        responseFields(
+                                List.of(
+                                        fieldWithPath("data").type(JsonFieldType.OBJECT).description("결과 데이터"),
+                                        fieldWithPath("data.postType").type(JsonFieldType.STRING).description("글 종류"),
+                                        fieldWithPath("data.postId").type(JsonFieldType.NUMBER).description("글 식별자"),
+                                        fieldWithPath("data.period").type(JsonFieldType.STRING).description("기간"),
+                                        fieldWithPath("data.from").type(JsonFieldType.STRING).description("집계 시작일 (TOTAL 이면 null)").optional(),
+                                        fieldWithPath("data.to").type(JsonFieldType.STRING).description("집계 종료일 (오늘)"),
+                                        fieldWithPath("data.uniqueViews").type(JsonFieldType.NUMBER).description("순 방문자 수 (HyperLogLog 추정값, 오차 약 1%)")
+                                )
+                        )
+                ));
+    }
+}
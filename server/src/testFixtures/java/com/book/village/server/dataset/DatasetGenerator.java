@@ -0,0 +1,411 @@
+package com.book.village.server.dataset;
+
+import com.book.village.server.global.utils.GeoHash;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * V1__init.sql 스키마에 배치 JDBC 로 대량의 데이터를 넣는다 (H2, MySQL).
+ * 같은 seed 와 spec 이면 항상 같은 데이터가 만들어지므로 벤치마크와 부하 테스트가 같은 fixture 를 공유할 수 있다.
+ * 외래 키를 조회 없이 채우기 위해 id 를 직접 지정하고, 끝난 뒤 H2 의 identity 를 다음 값으로 옮긴다.
+ * 서비스가 함께 맞추는 값 (글의 comment_count, 회원 위치와 borrow_location) 도 같은 규칙으로 채운다.
+ *
+ * ./gradlew generateDataset -Ddataset.url=jdbc:mysql://localhost:3306/bookvillage?rewriteBatchedStatements=true -Ddataset.scale=0.1
+ */
+public class DatasetGenerator {
+    private static final int BATCH_SIZE = 1_000;
+    private static final int BATCHES_PER_COMMIT = 10;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2022, 1, 1, 0, 0);
+    private static final long SPAN_SECONDS = 2L * 365 * 24 * 60 * 60;
+    private static final String BOOK_THUMBNAIL = "https://dimg.donga.com/wps/NEWS/IMAGE/2011/11/17/41939226.1.jpg";
+    private static final String MEMBER_IMG_URL = "https://img.icons8.com/windows/32/null/user-male-circle.png";
+    // LocationService.GEOHASH_PRECISION 과 같아야 한다.
+    private static final int GEOHASH_PRECISION = 9;
+    // 나눔 가능한 글의 위치는 작성자 위치를 따른다 (LocationService, LocationBackfill).
+    private static final String INSERT_BORROW_LOCATIONS =
+            "insert into borrow_location (borrow_id, geohash, latitude, longitude)" +
+            " select b.borrow_id, m.geohash, m.latitude, m.longitude from borrow b join member m on b.member_id = m.member_id" +
+            " where b.borrow_id > ? and b.borrow_id <= ? and b.borrow_whthr = true and m.geohash is not null";
+
+    private final DataSource dataSource;
+    private final DatasetSpec spec;
+    private final long seed;
+    private final DatasetReport report = new DatasetReport();
+
+    public DatasetGenerator(DataSource dataSource, DatasetSpec spec, long seed) {
+        this.dataSource = dataSource;
+        this.spec = spec;
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        double scale = Double.parseDouble(System.getProperty("dataset.scale", "1.0"));
+        double zipf = Double.parseDouble(System.getProperty("dataset.zipf", "1.0"));
+        long seed = Long.getLong("dataset.seed", 42L);
+
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setJdbcUrl(System.getProperty("dataset.url", "jdbc:h2:file:./build/dataset/bookvillage"));
+            dataSource.setUsername(System.getProperty("dataset.username", "sa"));
+            dataSource.setPassword(System.getProperty("dataset.password", ""));
+            Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+
+            System.out.printf("dataset: url=%s scale=%s zipf=%s seed=%d%n", dataSource.getJdbcUrl(), scale, zipf, seed);
+            new DatasetGenerator(dataSource, DatasetSpec.scaled(scale, zipf), seed).generate().print();
+        }
+    }
+
+    public DatasetReport generate() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                verifyEmpty(connection);
+                insertMembers(connection);
+                insertBooksAndRates(connection);
+                insertBorrows(connection);
+                insertBorrowLocations(connection);
+                insertRequests(connection);
+                insertCommunities(connection);
+                restartIdentities(connection);
+                connection.commit();
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+        return report;
+    }
+
+    // 회원 열 명 중 한 명은 주소가 없다. 주소가 있는 회원은 몇몇 시/군/구에 몰리고 RegionGeocoder 와 같은 좌표를 쓴다.
+    private void insertMembers(Connection connection) throws SQLException {
+        SplittableRandom random = random(1);
+        SplittableRandom locationRandom = random(10);
+        List<String[]> regions = regions();
+        ZipfSampler regionPopularity = new ZipfSampler(regions.size(), spec.getZipfExponent());
+        long count = spec.getMembers();
+        insert(connection, "member",
+                "insert into member (member_id, created_at, modified_at, address, display_name, email, geohash, img_key, latitude, longitude, member_status, name, phone_number) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                count, (ps, id) -> {
+                    Timestamp createdAt = createdAt(id, count);
+                    String[] region = locationRandom.nextInt(10) == 0 ? null
+                            : regions.get((int) regionPopularity.next(locationRandom) - 1);
+                    ps.setLong(1, id);
+                    ps.setTimestamp(2, createdAt);
+                    ps.setTimestamp(3, createdAt);
+                    ps.setString(4, region == null ? "" : region[0] + " " + region[2]);
+                    ps.setString(5, KoreanText.displayName(id));
+                    Double latitude = region == null ? null : Double.valueOf(region[3]);
+                    Double longitude = region == null ? null : Double.valueOf(region[4]);
+                    ps.setString(6, "member" + id + "@bookvillage.kr");
+                    ps.setString(7, region == null ? null : GeoHash.encode(latitude, longitude, GEOHASH_PRECISION));
+                    ps.setString(8, MEMBER_IMG_URL);
+                    ps.setObject(9, latitude, Types.DOUBLE);
+                    ps.setObject(10, longitude, Types.DOUBLE);
+                    ps.setString(11, "MEMBER_ACTIVE");
+                    ps.setString(12, KoreanText.personName(random));
+                    ps.setString(13, String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000)));
+                });
+        insert(connection, "member_roles", "insert into member_roles (member_member_id, roles) values (?, ?)",
+                count, (ps, id) -> {
+                    ps.setLong(1, id);
+                    ps.setString(2, "USER");
+                });
+    }
+
+    // 평점 집계가 book 행과 맞도록 같은 seed 로 평점을 두 번 만든다 (집계 -> book insert -> rate insert).
+    private void insertBooksAndRates(Connection connection) throws SQLException {
+        long books = spec.getBooks();
+        long[] totalRates = new long[(int) books + 1];
+        long[] rateCounts = new long[(int) books + 1];
+        ZipfSampler bookPopularity = new ZipfSampler(books, spec.getZipfExponent());
+        ZipfSampler memberActivity = new ZipfSampler(spec.getMembers(), spec.getZipfExponent());
+
+        SplittableRandom aggregateRandom = random(3);
+        for (long id = 1; id <= spec.getRates(); id++) {
+            int bookId = (int) bookPopularity.next(aggregateRandom);
+            memberActivity.next(aggregateRandom);
+            totalRates[bookId] += rating(aggregateRandom);
+            rateCounts[bookId]++;
+            KoreanText.review(aggregateRandom);
+        }
+
+        insert(connection, "book",
+                "insert into book (book_id, created_at, modified_at, author, avg_rate, book_title, isbn, publisher, rate_count, thumbnail_key, total_rate) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                books, (ps, id) -> {
+                    SplittableRandom bookRandom = bookRandom(id);
+                    Timestamp createdAt = createdAt(id, books);
+                    long count = rateCounts[(int) id];
+                    ps.setLong(1, id);
+                    ps.setTimestamp(2, createdAt);
+                    ps.setTimestamp(3, createdAt);
+                    ps.setString(4, KoreanText.personName(bookRandom));
+                    ps.setDouble(5, count == 0 ? 0.0 : (double) totalRates[(int) id] / count);
+                    ps.setString(6, KoreanText.bookTitle(bookRandom));
+                    ps.setString(7, KoreanText.isbn(id));
+                    ps.setString(8, KoreanText.publisher(bookRandom));
+                    ps.setLong(9, count);
+                    ps.setString(10, BOOK_THUMBNAIL);
+                    ps.setLong(11, totalRates[(int) id]);
+                });
+
+        SplittableRandom random = random(3);
+        long rates = spec.getRates();
+        insert(connection, "rate",
+                "insert into rate (rate_id, created_at, modified_at, content, display_name, rating, book_id, member_id) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                rates, (ps, id) -> {
+                    long bookId = bookPopularity.next(random);
+                    long memberId = memberActivity.next(random);
+                    long rating = rating(random);
+                    Timestamp createdAt = createdAt(id, rates);
+                    ps.setLong(1, id);
+                    ps.setTimestamp(2, createdAt);
+                    ps.setTimestamp(3, createdAt);
+                    ps.setString(4, KoreanText.review(random));
+                    ps.setString(5, KoreanText.displayName(memberId));
+                    ps.setLong(6, rating);
+                    ps.setLong(7, bookId);
+                    ps.setLong(8, memberId);
+                });
+    }
+
+    private void insertBorrows(Connection connection) throws SQLException {
+        insertPosts(connection, "borrow",
+                "insert into borrow (borrow_id, created_at, modified_at, author, book_title, borrow_whthr, comment_count, content, display_name, publisher, talk_url, thumbnail_key, title, view, member_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                spec.getBorrows(), 4, true, commentCounts(spec.getBorrowComments(), spec.getBorrows(), 5));
+        insertComments(connection, "borrow_comment",
+                "insert into borrow_comment (borrow_comment_id, created_at, modified_at, content, display_name, borrow_id, member_id) values (?, ?, ?, ?, ?, ?, ?)",
+                spec.getBorrowComments(), spec.getBorrows(), 5);
+    }
+
+    private void insertRequests(Connection connection) throws SQLException {
+        insertPosts(connection, "request",
+                "insert into request (request_id, created_at, modified_at, author, book_title, comment_count, content, display_name, publisher, talk_url, thumbnail_key, title, view, member_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                spec.getRequests(), 6, false, commentCounts(spec.getRequestComments(), spec.getRequests(), 7));
+        insertComments(connection, "request_comment",
+                "insert into request_comment (request_comment_id, created_at, modified_at, content, display_name, request_id, member_id) values (?, ?, ?, ?, ?, ?, ?)",
+                spec.getRequestComments(), spec.getRequests(), 7);
+    }
+
+    private void insertCommunities(Connection connection) throws SQLException {
+        SplittableRandom random = random(8);
+        ZipfSampler memberActivity = new ZipfSampler(spec.getMembers(), spec.getZipfExponent());
+        long count = spec.getCommunities();
+        int[] commentCounts = commentCounts(spec.getCommunityComments(), count, 9);
+        insert(connection, "community",
+                "insert into community (community_id, created_at, modified_at, comment_count, content, display_name, title, type, view, member_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                count, (ps, id) -> {
+                    long memberId = memberActivity.next(random);
+                    Timestamp createdAt = createdAt(id, count);
+                    ps.setLong(1, id);
+                    ps.setTimestamp(2, createdAt);
+                    ps.setTimestamp(3, createdAt);
+                    ps.setLong(4, commentCounts[(int) id]);
+                    ps.setString(5, KoreanText.paragraph(random, 2 + random.nextInt(4)));
+                    ps.setString(6, KoreanText.displayName(memberId));
+                    ps.setString(7, KoreanText.postTitle(random));
+                    ps.setString(8, KoreanText.communityType(random));
+                    ps.setLong(9, view(random));
+                    ps.setLong(10, memberId);
+                });
+        insertComments(connection, "community_comment",
+                "insert into community_comment (community_comment_id, created_at, modified_at, content, display_name, community_id, member_id) values (?, ?, ?, ?, ?, ?, ?)",
+                spec.getCommunityComments(), count, 9);
+    }
+
+    // borrow, request 는 book_id 없이 책 정보를 복사해 둔다. 인기 있는 책일수록 글이 많다.
+    private void insertPosts(Connection connection, String table, String sql, long count, int stream,
+                             boolean borrow, int[] commentCounts) throws SQLException {
+        SplittableRandom random = random(stream);
+        ZipfSampler bookPopularity = new ZipfSampler(spec.getBooks(), spec.getZipfExponent());
+        ZipfSampler memberActivity = new ZipfSampler(spec.getMembers(), spec.getZipfExponent());
+        insert(connection, table, sql, count, (ps, id) -> {
+            long bookId = bookPopularity.next(random);
+            long memberId = memberActivity.next(random);
+            SplittableRandom bookRandom = bookRandom(bookId);
+            String author = KoreanText.personName(bookRandom);
+            String bookTitle = KoreanText.bookTitle(bookRandom);
+            String publisher = KoreanText.publisher(bookRandom);
+            Timestamp createdAt = createdAt(id, count);
+            int i = 1;
+            ps.setLong(i++, id);
+            ps.setTimestamp(i++, createdAt);
+            ps.setTimestamp(i++, createdAt);
+            ps.setString(i++, author);
+            ps.setString(i++, bookTitle);
+            if (borrow) ps.setBoolean(i++, random.nextInt(4) != 0);
+            ps.setLong(i++, commentCounts[(int) id]);
+            ps.setString(i++, KoreanText.paragraph(random, 1 + random.nextInt(3)));
+            ps.setString(i++, KoreanText.displayName(memberId));
+            ps.setString(i++, publisher);
+            ps.setString(i++, "https://open.kakao.com/o/s" + Long.toString(id, 36));
+            ps.setString(i++, BOOK_THUMBNAIL);
+            ps.setString(i++, borrow ? KoreanText.borrowTitle(random, bookTitle) : KoreanText.requestTitle(random, bookTitle));
+            ps.setLong(i++, view(random));
+            ps.setLong(i, memberId);
+        });
+    }
+
+    // 글의 comment_count 가 댓글 행과 맞도록 insertComments 와 같은 seed 로 댓글이 달릴 글을 먼저 뽑아 센다.
+    private int[] commentCounts(long count, long posts, int stream) {
+        SplittableRandom random = random(stream);
+        ZipfSampler postPopularity = new ZipfSampler(posts, spec.getZipfExponent());
+        ZipfSampler memberActivity = new ZipfSampler(spec.getMembers(), spec.getZipfExponent());
+        int[] counts = new int[(int) posts + 1];
+        for (long id = 1; id <= count; id++) {
+            counts[(int) postPopularity.next(random)]++;
+            memberActivity.next(random);
+            KoreanText.comment(random);
+        }
+        return counts;
+    }
+
+    // borrow_id 범위마다 한 번의 insert ... select 로 채우고 커밋한다.
+    private void insertBorrowLocations(Connection connection) throws SQLException {
+        long start = System.nanoTime();
+        long rows = 0;
+        long range = (long) BATCH_SIZE * BATCHES_PER_COMMIT;
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_BORROW_LOCATIONS)) {
+            for (long from = 0; from < spec.getBorrows(); from += range) {
+                ps.setLong(1, from);
+                ps.setLong(2, from + range);
+                rows += ps.executeUpdate();
+                connection.commit();
+            }
+        }
+        report.add("borrow_location", rows, System.nanoTime() - start);
+    }
+
+    // 댓글은 인기 글에 몰린다.
+    private void insertComments(Connection connection, String table, String sql, long count, long posts,
+                                int stream) throws SQLException {
+        SplittableRandom random = random(stream);
+        ZipfSampler postPopularity = new ZipfSampler(posts, spec.getZipfExponent());
+        ZipfSampler memberActivity = new ZipfSampler(spec.getMembers(), spec.getZipfExponent());
+        insert(connection, table, sql, count, (ps, id) -> {
+            long postId = postPopularity.next(random);
+            long memberId = memberActivity.next(random);
+            Timestamp createdAt = createdAt(id, count);
+            ps.setLong(1, id);
+            ps.setTimestamp(2, createdAt);
+            ps.setTimestamp(3, createdAt);
+            ps.setString(4, KoreanText.comment(random));
+            ps.setString(5, KoreanText.displayName(memberId));
+            ps.setLong(6, postId);
+            ps.setLong(7, memberId);
+        });
+    }
+
+    private void insert(Connection connection, String table, String sql, long count, RowBinder binder)
+            throws SQLException {
+        long start = System.nanoTime();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (long id = 1; id <= count; id++) {
+                binder.bind(ps, id);
+                ps.addBatch();
+                if (id % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                    if (id % (BATCH_SIZE * BATCHES_PER_COMMIT) == 0) connection.commit();
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        }
+        report.add(table, count, System.nanoTime() - start);
+    }
+
+    private void verifyEmpty(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select count(*) from member")) {
+            resultSet.next();
+            if (resultSet.getLong(1) > 0) {
+                throw new IllegalStateException("dataset 은 빈 스키마에만 생성할 수 있습니다 (member " + resultSet.getLong(1) + "건)");
+            }
+        }
+    }
+
+    // MySQL 의 auto_increment 는 직접 넣은 id 다음으로 자동으로 옮겨지지만 H2 identity 는 그대로다.
+    private void restartIdentities(Connection connection) throws SQLException {
+        if (!connection.getMetaData().getDatabaseProductName().toLowerCase().contains("h2")) return;
+        String[][] identities = {
+                {"member", "member_id", String.valueOf(spec.getMembers())},
+                {"book", "book_id", String.valueOf(spec.getBooks())},
+                {"rate", "rate_id", String.valueOf(spec.getRates())},
+                {"borrow", "borrow_id", String.valueOf(spec.getBorrows())},
+                {"borrow_comment", "borrow_comment_id", String.valueOf(spec.getBorrowComments())},
+                {"request", "request_id", String.valueOf(spec.getRequests())},
+                {"request_comment", "request_comment_id", String.valueOf(spec.getRequestComments())},
+                {"community", "community_id", String.valueOf(spec.getCommunities())},
+                {"community_comment", "community_comment_id", String.valueOf(spec.getCommunityComments())}};
+        try (Statement statement = connection.createStatement()) {
+            for (String[] identity : identities) {
+                statement.execute("alter table " + identity[0] + " alter column " + identity[1]
+                        + " restart with " + (Long.parseLong(identity[2]) + 1));
+            }
+        }
+    }
+
+    // regions.csv 의 시/군/구 행 (sido, aliases, sigungu, latitude, longitude). 시/도 대표 행은 뺀다.
+    private static List<String[]> regions() {
+        List<String[]> regions = new ArrayList<>();
+        InputStream table = DatasetGenerator.class.getClassLoader().getResourceAsStream("region/regions.csv");
+        if (table == null) throw new IllegalStateException("region/regions.csv 가 classpath 에 없습니다");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(table, StandardCharsets.UTF_8))) {
+            String line;
+            boolean header = true;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                if (header) {
+                    header = false;
+                    continue;
+                }
+                String[] columns = line.split(",", -1);
+                if (!columns[2].isEmpty()) regions.add(columns);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return regions;
+    }
+
+    private SplittableRandom random(int stream) {
+        return new SplittableRandom(seed * 1_000_003L + stream);
+    }
+
+    // 책 정보는 id 만으로 다시 만들 수 있어야 borrow/request 에 같은 제목을 복사할 수 있다.
+    private SplittableRandom bookRandom(long bookId) {
+        return new SplittableRandom(seed * 31 + bookId * 0x9E3779B97F4A7C15L);
+    }
+
+    private static Timestamp createdAt(long id, long count) {
+        return Timestamp.valueOf(EPOCH.plusSeconds(SPAN_SECONDS * id / (count + 1)));
+    }
+
+    // 조회수는 대부분 작고 일부만 크다.
+    private static long view(SplittableRandom random) {
+        double u = random.nextDouble();
+        return (long) (u * u * u * 2_000);
+    }
+
+    // 3 ~ 5 점에 몰리는 평점
+    private static long rating(SplittableRandom random) {
+        int roll = random.nextInt(10);
+        return roll < 1 ? 1 : roll < 2 ? 2 : roll < 4 ? 3 : roll < 7 ? 4 : 5;
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, long id) throws SQLException;
+    }
+}
@@ -0,0 +1,37 @@
+package com.book.village.server.dataset;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 테이블별 생성 행 수와 처리량
+public class DatasetReport {
+    private final Map<String, long[]> tables = new LinkedHashMap<>();
+
+    void add(String table, long rows, long elapsedNanos) {
+        tables.put(table, new long[]{rows, elapsedNanos});
+    }
+
+    public long getRows(String table) {
+        long[] stats = tables.get(table);
+        return stats == null ? 0 : stats[0];
+    }
+
+    public long getTotalRows() {
+        return tables.values().stream().mapToLong(stats -> stats[0]).sum();
+    }
+
+    public long getTotalNanos() {
+        return tables.values().stream().mapToLong(stats -> stats[1]).sum();
+    }
+
+    public void print() {
+        System.out.printf("%-20s %12s %10s %12s%n", "table", "rows", "seconds", "rows/s");
+        tables.forEach((table, stats) -> printRow(table, stats[0], stats[1]));
+        printRow("TOTAL", getTotalRows(), getTotalNanos());
+    }
+
+    private static void printRow(String table, long rows, long nanos) {
+        double seconds = nanos / 1e9;
+        System.out.printf("%-20s %12d %10.1f %12.0f%n", table, rows, seconds, seconds == 0 ? 0 : rows / seconds);
+    }
+}
@@ -0,0 +1,92 @@
+package com.book.village.server.dataset;
+
+// 테이블별 생성 행 수. scale 1.0 은 수백만 건 규모이고, 테스트/벤치마크는 0.001 ~ 0.01 정도로 줄여 쓴다.
+public class DatasetSpec {
+    private final long members;
+    private final long books;
+    private final long borrows;
+    private final long borrowComments;
+    private final long requests;
+    private final long requestComments;
+    private final long communities;
+    private final long communityComments;
+    private final long rates;
+    private final double zipfExponent;
+
+    public DatasetSpec(long members, long books, long borrows, long borrowComments, long requests,
+                       long requestComments, long communities, long communityComments, long rates,
+                       double zipfExponent) {
+        this.members = members;
+        this.books = books;
+        this.borrows = borrows;
+        this.borrowComments = borrowComments;
+        this.requests = requests;
+        this.requestComments = requestComments;
+        this.communities = communities;
+        this.communityComments = communityComments;
+        this.rates = rates;
+        this.zipfExponent = zipfExponent;
+    }
+
+    public static DatasetSpec scaled(double scale) {
+        return scaled(scale, 1.0);
+    }
+
+    public static DatasetSpec scaled(double scale, double zipfExponent) {
+        return new DatasetSpec(
+                count(50_000, scale),
+                count(300_000, scale),
+                count(2_000_000, scale),
+                count(4_000_000, scale),
+                count(1_000_000, scale),
+                count(2_000_000, scale),
+                count(1_000_000, scale),
+                count(3_000_000, scale),
+                count(1_500_000, scale),
+                zipfExponent);
+    }
+
+    private static long count(long base, double scale) {
+        return Math.max(1, Math.round(base * scale));
+    }
+
+    public long getMembers() {
+        return members;
+    }
+
+    public long getBooks() {
+        return books;
+    }
+
+    public long getBorrows() {
+        return borrows;
+    }
+
+    public long getBorrowComments() {
+        return borrowComments;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getRequestComments() {
+        return requestComments;
+    }
+
+    public long getCommunities() {
+        return communities;
+    }
+
+    public long getCommunityComments() {
+        return communityComments;
+    }
+
+    public long getRates() {
+        return rates;
+    }
+
+    public double getZipfExponent() {
+        return zipfExponent;
+    }
+}
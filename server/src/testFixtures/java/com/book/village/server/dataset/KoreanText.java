@@ -0,0 +1,89 @@
+package com.book.village.server.dataset;
+
+import com.book.village.server.domain.book.utils.IsbnUtils;
+
+import java.util.SplittableRandom;
+
+// 데이터셋용 한국어 문장, 이름, 도서 정보, ISBN
+public class KoreanText {
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+    private static final String[] GIVEN_NAME_SYLLABLES = {"민", "서", "지", "현", "우", "준", "하", "윤", "도", "예", "은", "수", "진", "영", "아", "재", "유", "연"};
+    private static final String[] NICKNAMES = {"책벌레", "독서왕", "책마을", "페이지", "책갈피", "새벽독서", "문학소년", "문학소녀", "활자중독", "서재지기"};
+    private static final String[] ADJECTIVES = {"작은", "푸른", "오래된", "조용한", "따뜻한", "낯선", "마지막", "보통의", "눈부신", "느린", "아름다운", "잃어버린"};
+    private static final String[] NOUNS = {"정원", "바다", "도시", "기억", "여름", "편지", "서점", "우주", "계절", "골목", "고양이", "시간", "숲", "철학", "경제", "역사"};
+    private static final String[] SUFFIXES = {"", "", "", " 이야기", "의 온도", " 수업", "에 대하여", "을 걷다", " 안내서"};
+    private static final String[] PUBLISHERS = {"창비", "문학동네", "민음사", "위즈덤하우스", "김영사", "한빛미디어", "은행나무", "다산북스", "열린책들", "쌤앤파커스", "알에이치코리아", "웅진지식하우스"};
+    private static final String[] CONDITIONS = {"상태 좋습니다.", "밑줄이 조금 있어요.", "거의 새 책이에요.", "표지에 약간 흠집이 있습니다.", "한 번 읽었습니다."};
+    private static final String[] PLACES = {"강남역", "홍대입구역", "잠실역", "신촌역", "서면역", "동성로", "판교역", "수원역"};
+    private static final String[] SENTENCES = {
+            "요즘 읽은 책 중에 가장 기억에 남아요.", "같이 읽고 이야기 나눌 분 찾습니다.", "추천 부탁드립니다.",
+            "주말마다 도서관에서 읽고 있어요.", "생각보다 술술 읽혀서 좋았습니다.", "중간부터 조금 어려웠어요.",
+            "번역이 매끄러워서 읽기 편했습니다.", "비슷한 책 있으면 알려주세요.", "출퇴근길에 읽기 좋아요.",
+            "두 번째 읽으니 또 다르게 느껴지네요.", "스터디 모집합니다. 매주 한 챕터씩 읽어요."};
+    private static final String[] COMMENTS = {"저 관심 있어요!", "혹시 아직 가능할까요?", "좋은 글 감사합니다.", "저도 이 책 좋아해요.",
+            "연락드렸습니다.", "추천 감사합니다!", "공감합니다.", "다음에 또 올려주세요."};
+    private static final String[] REVIEWS = {"인생 책입니다.", "기대보다 좋았어요.", "무난했어요.", "호불호가 갈릴 것 같아요.",
+            "끝까지 읽기 힘들었어요.", "문장이 아름답습니다.", "선물하기 좋은 책이에요."};
+    private static final String[] COMMUNITY_TYPES = {"free", "free", "free", "study", "study", "recommend", "recommend", "notice"};
+
+    private KoreanText() {
+    }
+
+    public static String personName(SplittableRandom random) {
+        return pick(random, SURNAMES) + pick(random, GIVEN_NAME_SYLLABLES) + pick(random, GIVEN_NAME_SYLLABLES);
+    }
+
+    // display_name 은 unique, varchar(20)
+    public static String displayName(long memberId) {
+        return NICKNAMES[(int) (memberId % NICKNAMES.length)] + memberId;
+    }
+
+    public static String bookTitle(SplittableRandom random) {
+        return pick(random, ADJECTIVES) + " " + pick(random, NOUNS) + pick(random, SUFFIXES);
+    }
+
+    public static String publisher(SplittableRandom random) {
+        return pick(random, PUBLISHERS);
+    }
+
+    // 979-11 (대한민국) + book id 7자리 + 체크 숫자. book id 가 다르면 isbn 도 다르다.
+    public static String isbn(long bookId) {
+        String first12 = String.format("97911%07d", bookId % 10_000_000L);
+        return first12 + IsbnUtils.isbn13CheckDigit(first12);
+    }
+
+    public static String borrowTitle(SplittableRandom random, String bookTitle) {
+        return "[나눔] " + bookTitle + " " + pick(random, PLACES) + " 직거래";
+    }
+
+    public static String requestTitle(SplittableRandom random, String bookTitle) {
+        return "[구해요] " + bookTitle + " 빌려주실 분";
+    }
+
+    public static String postTitle(SplittableRandom random) {
+        return pick(random, ADJECTIVES) + " " + pick(random, NOUNS) + "에 대한 생각";
+    }
+
+    public static String paragraph(SplittableRandom random, int sentences) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(pick(random, CONDITIONS));
+        for (int i = 0; i < sentences; i++) builder.append(' ').append(pick(random, SENTENCES));
+        return builder.toString();
+    }
+
+    public static String comment(SplittableRandom random) {
+        return pick(random, COMMENTS);
+    }
+
+    public static String review(SplittableRandom random) {
+        return pick(random, REVIEWS);
+    }
+
+    public static String communityType(SplittableRandom random) {
+        return pick(random, COMMUNITY_TYPES);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,35 @@
+package com.book.village.server.dataset;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 1..n 중 하나를 Zipf(s) 분포로 뽑는다. 순위 r 의 확률은 1/r^s 에 비례한다.
+ * 인기 순위가 id 순서와 겹치지 않도록 순위를 곱셈 순열로 id 에 흩뿌린다.
+ */
+public class ZipfSampler {
+    private static final long[] SHUFFLE_PRIMES = {1_000_003L, 999_983L, 104_729L};
+
+    private final long n;
+    private final double[] cdf;
+    private final long multiplier;
+
+    public ZipfSampler(long n, double exponent) {
+        if (n <= 0 || n > Integer.MAX_VALUE) throw new IllegalArgumentException("n: " + n);
+        this.n = n;
+        this.cdf = new double[(int) n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cdf[rank - 1] = sum;
+        }
+        for (int i = 0; i < cdf.length; i++) cdf[i] /= sum;
+        this.multiplier = Arrays.stream(SHUFFLE_PRIMES).filter(p -> n % p != 0).findFirst().orElse(1L);
+    }
+
+    public long next(SplittableRandom random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        int rank = index >= 0 ? index : Math.min(-index - 1, cdf.length - 1);
+        return 1 + (rank * multiplier) % n;
+    }
+}
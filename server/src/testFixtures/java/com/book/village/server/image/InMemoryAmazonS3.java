@@ -0,0 +1,302 @@
+package com.book.village.server.image;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.*;
+import com.amazonaws.util.IOUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// AwsS3Service (TransferManager 포함), PresignedUploadService 가 쓰는 메서드만 구현한 프로세스 내 S3. 나머지는 AbstractAmazonS3 가 UnsupportedOperationException.
+// latency 를 주면 요청마다 그만큼 기다려 네트워크 왕복을 흉내낸다 (부하 테스트, 벤치마크용).
+public class InMemoryAmazonS3 extends AbstractAmazonS3 {
+    private final String baseUrl;
+    private final long latencyNanos;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, MultipartUploadState> multipartUploads = new ConcurrentHashMap<>();
+
+    public InMemoryAmazonS3(String baseUrl) {
+        this(baseUrl, Duration.ZERO);
+    }
+
+    public InMemoryAmazonS3(String baseUrl, Duration latency) {
+        this.baseUrl = baseUrl;
+        this.latencyNanos = latency.toNanos();
+    }
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        byte[] content = read(request.getInputStream());
+        simulateLatency();
+        ObjectMetadata metadata = request.getMetadata() == null ? new ObjectMetadata() : request.getMetadata();
+        metadata.setContentLength(content.length);
+        objects.put(key(request.getBucketName(), request.getKey()), new StoredObject(content, metadata));
+        return new PutObjectResult();
+    }
+
+    @Override
+    public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+        simulateLatency();
+        String uploadId = UUID.randomUUID().toString();
+        ObjectMetadata metadata = request.getObjectMetadata() == null ? new ObjectMetadata() : request.getObjectMetadata();
+        multipartUploads.put(uploadId, new MultipartUploadState(metadata));
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        result.setUploadId(uploadId);
+        return result;
+    }
+
+    @Override
+    public UploadPartResult uploadPart(UploadPartRequest request) {
+        MultipartUploadState state = findUpload(request.getUploadId());
+        byte[] part = read(request.getInputStream(), request.getPartSize());
+        simulateLatency();
+        state.parts.put(request.getPartNumber(), part);
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag(Integer.toHexString(Arrays.hashCode(part)));
+        return result;
+    }
+
+    @Override
+    public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        MultipartUploadState state = multipartUploads.remove(request.getUploadId());
+        if (state == null) throw noSuchUpload();
+        simulateLatency();
+        int length = state.parts.values().stream().mapToInt(part -> part.length).sum();
+        byte[] content = new byte[length];
+        int offset = 0;
+        for (byte[] part : state.parts.values()) {
+            System.arraycopy(part, 0, content, offset, part.length);
+            offset += part.length;
+        }
+        state.metadata.setContentLength(length);
+        objects.put(key(request.getBucketName(), request.getKey()), new StoredObject(content, state.metadata));
+        CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        return result;
+    }
+
+    @Override
+    public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+        multipartUploads.remove(request.getUploadId());
+    }
+
+    @Override
+    public URL getUrl(String bucketName, String key) {
+        try {
+            return new URL(baseUrl + "/" + bucketName + "/" + key);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    // 서명 대신 만료 시각과 content-type 만 query 로 담는다. putPresigned 가 클라이언트의 PUT 을 흉내낸다.
+    @Override
+    public URL generatePresignedUrl(GeneratePresignedUrlRequest request) {
+        StringBuilder url = new StringBuilder(getUrl(request.getBucketName(), request.getKey()).toString())
+                .append("?X-Amz-Method=").append(request.getMethod())
+                .append("&X-Amz-Expires-At=").append(request.getExpiration().getTime());
+        if (request.getContentType() != null) url.append("&Content-Type=").append(encode(request.getContentType()));
+        request.getRequestParameters().forEach((name, value) -> url.append('&').append(name).append('=').append(encode(value)));
+        try {
+            return new URL(url.toString());
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public void putPresigned(URL presignedUrl, byte[] content, String contentType) {
+        Map<String, String> query = new HashMap<>();
+        for (String pair : presignedUrl.getQuery().split("&")) {
+            int index = pair.indexOf('=');
+            query.put(pair.substring(0, index), URLDecoder.decode(pair.substring(index + 1), StandardCharsets.UTF_8));
+        }
+        if (!"PUT".equals(query.get("X-Amz-Method")) || System.currentTimeMillis() > Long.parseLong(query.get("X-Amz-Expires-At"))) {
+            throw accessDenied("Request has expired");
+        }
+        if (query.containsKey("Content-Type") && !query.get("Content-Type").equals(contentType)) {
+            throw accessDenied("The request signature we calculated does not match the signature you provided.");
+        }
+        String path = presignedUrl.getPath().substring(URI.create(baseUrl).getPath().length() + 1);
+        int slash = path.indexOf('/');
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(content.length);
+        simulateLatency();
+        objects.put(key(path.substring(0, slash), path.substring(slash + 1)), new StoredObject(content, metadata));
+    }
+
+    @Override
+    public boolean doesObjectExist(String bucketName, String objectName) {
+        return objects.containsKey(key(bucketName, objectName));
+    }
+
+    @Override
+    public S3Object getObject(String bucketName, String key) {
+        StoredObject stored = find(bucketName, key);
+        S3Object object = new S3Object();
+        object.setBucketName(bucketName);
+        object.setKey(key);
+        object.setObjectMetadata(stored.metadata);
+        object.setObjectContent(new ByteArrayInputStream(stored.content));
+        return object;
+    }
+
+    @Override
+    public ObjectMetadata getObjectMetadata(String bucketName, String key) {
+        return find(bucketName, key).metadata;
+    }
+
+    @Override
+    public void deleteObject(String bucketName, String key) {
+        objects.remove(key(bucketName, key));
+    }
+
+    @Override
+    public void deleteObject(DeleteObjectRequest request) {
+        deleteObject(request.getBucketName(), request.getKey());
+    }
+
+    @Override
+    public DeleteObjectsResult deleteObjects(DeleteObjectsRequest request) {
+        simulateLatency();
+        List<DeleteObjectsResult.DeletedObject> deleted = new ArrayList<>();
+        for (DeleteObjectsRequest.KeyVersion keyVersion : request.getKeys()) {
+            objects.remove(key(request.getBucketName(), keyVersion.getKey()));
+            DeleteObjectsResult.DeletedObject deletedObject = new DeleteObjectsResult.DeletedObject();
+            deletedObject.setKey(keyVersion.getKey());
+            deleted.add(deletedObject);
+        }
+        return new DeleteObjectsResult(request.getQuiet() ? List.of() : deleted);
+    }
+
+    @Override
+    public void shutdown() {
+    }
+
+    public int size() {
+        return objects.size();
+    }
+
+    public void clear() {
+        objects.clear();
+        multipartUploads.clear();
+    }
+
+    public int pendingMultipartUploads() {
+        return multipartUploads.size();
+    }
+
+    private void simulateLatency() {
+        if (latencyNanos <= 0) return;
+        try {
+            Thread.sleep(latencyNanos / 1_000_000, (int) (latencyNanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("interrupted", e);
+        }
+    }
+
+    private static byte[] read(InputStream stream) {
+        try (InputStream inputStream = stream) {
+            return IOUtils.toByteArray(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // part 스트림은 원본 스트림의 일부를 감싼 것이라 닫지 않는다.
+    private static byte[] read(InputStream inputStream, long size) {
+        try {
+            byte[] part = new byte[Math.toIntExact(size)];
+            int offset = 0;
+            while (offset < part.length) {
+                int read = inputStream.read(part, offset, part.length - offset);
+                if (read < 0) break;
+                offset += read;
+            }
+            return offset == part.length ? part : Arrays.copyOf(part, offset);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MultipartUploadState findUpload(String uploadId) {
+        MultipartUploadState state = multipartUploads.get(uploadId);
+        if (state == null) throw noSuchUpload();
+        return state;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static AmazonS3Exception accessDenied(String message) {
+        AmazonS3Exception exception = new AmazonS3Exception(message);
+        exception.setStatusCode(403);
+        exception.setErrorCode("AccessDenied");
+        return exception;
+    }
+
+    private static AmazonS3Exception noSuchUpload() {
+        AmazonS3Exception exception = new AmazonS3Exception("The specified upload does not exist.");
+        exception.setStatusCode(404);
+        exception.setErrorCode("NoSuchUpload");
+        return exception;
+    }
+
+    private StoredObject find(String bucketName, String key) {
+        StoredObject stored = objects.get(key(bucketName, key));
+        if (stored == null) {
+            AmazonS3Exception exception = new AmazonS3Exception("The specified key does not exist.");
+            exception.setStatusCode(404);
+            exception.setErrorCode("NoSuchKey");
+            throw exception;
+        }
+        return stored;
+    }
+
+    private static String key(String bucketName, String key) {
+        return bucketName + "/" + key;
+    }
+
+    private static class MultipartUploadState {
+        private final ObjectMetadata metadata;
+        private final Map<Integer, byte[]> parts = new ConcurrentSkipListMap<>();
+
+        private MultipartUploadState(ObjectMetadata metadata) {
+            this.metadata = metadata;
+        }
+    }
+
+    private static class StoredObject {
+        private final byte[] content;
+        private final ObjectMetadata metadata;
+
+        private StoredObject(byte[] content, ObjectMetadata metadata) {
+            this.content = content;
+            this.metadata = metadata;
+        }
+    }
+}